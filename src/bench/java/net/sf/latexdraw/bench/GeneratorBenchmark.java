@@ -0,0 +1,126 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.Drawing;
+import net.sf.latexdraw.model.api.shape.Point;
+import net.sf.latexdraw.model.api.shape.Shape;
+import net.sf.latexdraw.parser.svg.SVGDocument;
+import net.sf.latexdraw.parser.svg.SVGElement;
+import net.sf.latexdraw.service.LaTeXDataService;
+import net.sf.latexdraw.service.PreferencesService;
+import net.sf.latexdraw.view.ViewsSynchroniserHandler;
+import net.sf.latexdraw.view.jfx.ViewFactory;
+import net.sf.latexdraw.view.pst.PSTCodeGenerator;
+import net.sf.latexdraw.view.pst.PSTViewsFactory;
+import net.sf.latexdraw.view.svg.SVGDocumentGenerator;
+import net.sf.latexdraw.view.svg.SVGShapesFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.w3c.dom.NodeList;
+
+/**
+ * Benchmarks the code generators (PST, SVG) and the SVG parsing of synthetic drawings.
+ */
+public class GeneratorBenchmark extends LatexdrawBenchmark {
+	@Param({"10", "100"})
+	public int nbPerKind;
+
+	private Drawing drawing;
+	private PSTCodeGenerator pstGenerator;
+	private SVGShapesFactory svgFactory;
+	private File svgFile;
+
+	@Setup
+	public void setUp() throws IOException {
+		startJavaFX();
+		final SyntheticDrawings gen = new SyntheticDrawings(SEED);
+		final List<Shape> shapes = gen.createShapes(nbPerKind);
+		shapes.add(gen.createFreehand(10_000));
+		shapes.add(gen.createDeepGroup(20, 5));
+		drawing = SyntheticDrawings.createDrawing(shapes);
+
+		final ViewsSynchroniserHandler handler = new ViewsSynchroniserHandler() {
+			@Override
+			public Point getTopRightDrawingPoint() {
+				return ShapeFactory.INST.createPoint(2200d, 0d);
+			}
+
+			@Override
+			public Point getBottomLeftDrawingPoint() {
+				return ShapeFactory.INST.createPoint(0d, 2200d);
+			}
+
+			@Override
+			public Point getOriginDrawingPoint() {
+				return ShapeFactory.INST.createPoint();
+			}
+
+			@Override
+			public int getPPCDrawing() {
+				return Shape.PPC;
+			}
+		};
+
+		pstGenerator = new PSTCodeGenerator(drawing, handler, new PSTViewsFactory(new PreferencesService().getBundle()), new LaTeXDataService());
+		svgFactory = new SVGShapesFactory(new ViewFactory(new LaTeXDataService()));
+		svgFile = File.createTempFile("latexdrawBench", ".svg"); //NON-NLS
+		toSVG().saveSVGDocument(svgFile.getPath());
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(svgFile.toPath());
+	}
+
+	@Benchmark
+	public String generatePSTCode() {
+		return pstGenerator.getDrawingCode();
+	}
+
+	@Benchmark
+	public SVGDocument generateSVG() {
+		return toSVG();
+	}
+
+	@Benchmark
+	public SVGDocument parseSVGDocument() throws IOException {
+		return new SVGDocument(svgFile.toURI());
+	}
+
+	@Benchmark
+	public List<Shape> loadSVGShapes() throws IOException {
+		final NodeList elts = new SVGDocument(svgFile.toURI()).getDocumentElement().getChildNodes();
+		return IntStream.range(0, elts.getLength())
+			.mapToObj(i -> elts.item(i))
+			.filter(node -> node instanceof SVGElement)
+			.map(node -> svgFactory.createShape((SVGElement) node))
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Creates the SVG document of the drawing, as SVGDocumentGenerator does when saving it.
+	 */
+	private SVGDocument toSVG() {
+		return SVGDocumentGenerator.createSVGDocument(svgFactory, drawing.getShapes(), drawing.getShapes(), () -> { });
+	}
+}
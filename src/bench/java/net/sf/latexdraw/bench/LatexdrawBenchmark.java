@@ -0,0 +1,61 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.bench;
+
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The common configuration of the LaTeXDraw benchmarks.
+ * The forked JVMs run JavaFX headless (Monocle, software rendering) so that the benchmarks can run on a plain Linux box.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {
+	"-Xmx2g", //NON-NLS
+	"-Dglass.platform=Monocle", //NON-NLS
+	"-Dmonocle.platform=Headless", //NON-NLS
+	"-Dheadless.geometry=1280x1024-32", //NON-NLS
+	"-Dprism.order=sw", //NON-NLS
+	"-Djava.awt.headless=true" //NON-NLS
+})
+public abstract class LatexdrawBenchmark {
+	private static boolean fxStarted;
+
+	/** The seed used to generate the synthetic drawings. */
+	protected static final long SEED = 20201019L;
+
+	/**
+	 * Starts the JavaFX toolkit if not already started.
+	 * Required by the benchmarks that create JavaFX nodes (fonts, texts, etc.).
+	 */
+	protected static synchronized void startJavaFX() {
+		if(!fxStarted) {
+			try {
+				Platform.startup(() -> { });
+			}catch(final IllegalStateException ignored) {
+				// Already started.
+			}
+			fxStarted = true;
+		}
+	}
+}
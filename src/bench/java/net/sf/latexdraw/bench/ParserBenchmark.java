@@ -0,0 +1,73 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.sf.latexdraw.parser.ps.PSFunctionParser;
+import net.sf.latexdraw.parser.svg.SVGParserUtils;
+import net.sf.latexdraw.parser.svg.path.SVGPathSeg;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the parsers of SVG paths and of PostScript functions.
+ */
+public class ParserBenchmark extends LatexdrawBenchmark {
+	@Param({"1000", "50000"})
+	public int pathSize;
+
+	private String svgPath;
+	private PSFunctionParser psParser;
+
+	@Setup
+	public void setUp() {
+		final Random random = new Random(SEED);
+		final StringBuilder path = new StringBuilder("M 0 0"); //NON-NLS
+
+		for(int i = 0; i < pathSize; i++) {
+			switch(i % 3) {
+				case 0 -> path.append(" L ").append(random.nextDouble() * 500d).append(' ').append(random.nextDouble() * 500d); //NON-NLS
+				case 1 -> path.append(" C ").append(random.nextDouble() * 500d).append(',').append(random.nextDouble() * 500d).append(' ') //NON-NLS
+					.append(random.nextDouble() * 500d).append(',').append(random.nextDouble() * 500d).append(' ')
+					.append(random.nextDouble() * 500d).append(',').append(random.nextDouble() * 500d);
+				default -> path.append(" l ").append(random.nextDouble() * 10d).append(' ').append(random.nextDouble() * 10d); //NON-NLS
+			}
+		}
+		path.append(" Z"); //NON-NLS
+		svgPath = path.toString();
+		psParser = new PSFunctionParser("x 2 mul sin x 3 exp add x abs 1 add div"); //NON-NLS
+	}
+
+	@Benchmark
+	public List<SVGPathSeg> parseSVGPath() {
+		final List<SVGPathSeg> segs = new ArrayList<>(pathSize + 2);
+		SVGParserUtils.INSTANCE.parseSVGPath(svgPath, segs::add);
+		return segs;
+	}
+
+	@Benchmark
+	public void parsePSFunction(final Blackhole bh) {
+		bh.consume(new PSFunctionParser("x 2 mul sin x 3 exp add x abs 1 add div")); //NON-NLS
+	}
+
+	@Benchmark
+	public double evaluatePSFunction() {
+		double sum = 0d;
+		for(double x = 0d; x < 100d; x += 0.1) {
+			sum += psParser.getY(x);
+		}
+		return sum;
+	}
+}
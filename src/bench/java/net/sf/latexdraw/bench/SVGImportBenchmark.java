@@ -0,0 +1,118 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import net.sf.latexdraw.parser.svg.SVGAttributes;
+import net.sf.latexdraw.parser.svg.SVGCircleElement;
+import net.sf.latexdraw.parser.svg.SVGDocument;
+import net.sf.latexdraw.parser.svg.SVGParserUtils;
+import net.sf.latexdraw.parser.svg.SVGRectElement;
+import net.sf.latexdraw.parser.svg.SVGTransformList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Benchmarks the import of a large SVG document whose elements all have transformations, lengths with units, and url references:
+ * the parsing of the document (transformation lists) and the reading of the geometry of its elements (lengths, references).
+ */
+public class SVGImportBenchmark extends LatexdrawBenchmark {
+	@Param({"50000"})
+	public int nbElements;
+
+	private File svgFile;
+	private SVGDocument document;
+	private String[] transformations;
+	private String[] lengths;
+
+	@Setup
+	public void setUp() throws IOException {
+		final Random random = new Random(SEED);
+		final StringBuilder svg = new StringBuilder(nbElements * 160);
+		transformations = new String[nbElements];
+		lengths = new String[nbElements];
+
+		svg.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<svg xmlns=\"http://www.w3.org/2000/svg\">\n"); //NON-NLS
+
+		for(int i = 0; i < nbElements; i++) {
+			transformations[i] = "translate(" + random.nextDouble() * 500d + ',' + random.nextDouble() * 500d + ") rotate(" + //NON-NLS
+				random.nextDouble() * 360d + ' ' + random.nextDouble() * 10d + ' ' + random.nextDouble() * 10d + ") scale(" + //NON-NLS
+				random.nextDouble() * 2d + ')';
+			lengths[i] = random.nextDouble() * 100d + (i % 2 == 0 ? "mm" : "pt"); //NON-NLS
+
+			if(i % 2 == 0) {
+				svg.append("<rect x=\"").append(lengths[i]).append("\" y=\"").append(random.nextDouble() * 100d).append("cm\" width=\"") //NON-NLS
+					.append(random.nextDouble() * 100d).append("\" height=\"").append(random.nextDouble() * 100d).append("px\""); //NON-NLS
+			}else {
+				svg.append("<circle cx=\"").append(lengths[i]).append("\" cy=\"").append(random.nextDouble() * 100d) //NON-NLS
+					.append("in\" r=\"").append(random.nextDouble() * 10d + 1d).append('"'); //NON-NLS
+			}
+			svg.append(" fill=\"url(#grad").append(i % 10).append(")\" transform=\"").append(transformations[i]).append("\"/>\n"); //NON-NLS
+		}
+
+		svg.append("</svg>\n"); //NON-NLS
+		svgFile = File.createTempFile("latexdrawImportBench", ".svg"); //NON-NLS
+		Files.writeString(svgFile.toPath(), svg);
+		document = new SVGDocument(svgFile.toURI());
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(svgFile.toPath());
+	}
+
+	@Benchmark
+	public SVGDocument parseSVGDocument() throws IOException {
+		return new SVGDocument(svgFile.toURI());
+	}
+
+	@Benchmark
+	public double readGeometry(final Blackhole bh) {
+		final NodeList elts = document.getDocumentElement().getChildNodes();
+		double sum = 0d;
+
+		for(int i = 0, size = elts.getLength(); i < size; i++) {
+			final Node node = elts.item(i);
+			if(node instanceof SVGRectElement) {
+				final SVGRectElement rect = (SVGRectElement) node;
+				sum += rect.getX() + rect.getY() + rect.getWidth() + rect.getHeight();
+				bh.consume(SVGParserUtils.INSTANCE.parseURIRerefence(rect.getAttribute(SVGAttributes.SVG_FILL)));
+			}else if(node instanceof SVGCircleElement) {
+				final SVGCircleElement circle = (SVGCircleElement) node;
+				sum += circle.getCx() + circle.getCy() + circle.getR();
+				bh.consume(SVGParserUtils.INSTANCE.parseURIRerefence(circle.getAttribute(SVGAttributes.SVG_FILL)));
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public void parseTransformations(final Blackhole bh) {
+		for(final String transformation : transformations) {
+			bh.consume(new SVGTransformList(transformation));
+		}
+	}
+
+	@Benchmark
+	public void parseLengths(final Blackhole bh) {
+		for(final String length : lengths) {
+			bh.consume(SVGParserUtils.INSTANCE.parseLength(length));
+		}
+	}
+}
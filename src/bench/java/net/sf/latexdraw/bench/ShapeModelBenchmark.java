@@ -0,0 +1,75 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.bench;
+
+import java.util.List;
+import java.util.Optional;
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.Group;
+import net.sf.latexdraw.model.api.shape.Point;
+import net.sf.latexdraw.model.api.shape.Shape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmarks model operations: duplication and bounds of shapes.
+ */
+public class ShapeModelBenchmark extends LatexdrawBenchmark {
+	@Param({"10", "100"})
+	public int nbPerKind;
+
+	@Param({"10000"})
+	public int freehandSize;
+
+	private List<Shape> shapes;
+	private Shape freehand;
+	private Group deepGroup;
+
+	@Setup
+	public void setUp() {
+		final SyntheticDrawings gen = new SyntheticDrawings(SEED);
+		shapes = gen.createShapes(nbPerKind);
+		freehand = gen.createFreehand(freehandSize);
+		deepGroup = gen.createDeepGroup(20, nbPerKind);
+	}
+
+	@Benchmark
+	public int duplicateShapes() {
+		int nb = 0;
+		for(final Shape sh : shapes) {
+			final Optional<Shape> dup = ShapeFactory.INST.duplicate(sh);
+			nb += dup.isPresent() ? 1 : 0;
+		}
+		return nb;
+	}
+
+	@Benchmark
+	public Optional<Shape> duplicateLargeFreehand() {
+		return ShapeFactory.INST.duplicate(freehand);
+	}
+
+	@Benchmark
+	public Optional<Group> duplicateDeepGroup() {
+		return ShapeFactory.INST.duplicate(deepGroup);
+	}
+
+	@Benchmark
+	public Point boundsLargeFreehand() {
+		freehand.getTopLeftPoint();
+		return freehand.getBottomRightPoint();
+	}
+
+	@Benchmark
+	public Point gravityCentreDeepGroup() {
+		return deepGroup.getGravityCentre();
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.Drawing;
+import net.sf.latexdraw.model.api.shape.Group;
+import net.sf.latexdraw.model.api.shape.Point;
+import net.sf.latexdraw.model.api.shape.Shape;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generates synthetic drawings for the benchmarks.
+ * The generation is seeded so that two runs (or two releases) benchmark the same drawings.
+ */
+public final class SyntheticDrawings {
+	/** The shape types a drawing can be made of. Pictures are not generated as they require an image file. */
+	public enum ShapeKind {
+		RECTANGLE, SQUARE, ELLIPSE, CIRCLE, TRIANGLE, RHOMBUS, CIRCLE_ARC, POLYGON, POLYLINE, BEZIER_CURVE, FREEHAND, DOT, TEXT, GRID, AXES, PLOT
+	}
+
+	private final Random random;
+
+	/**
+	 * @param seed The seed of the random generator.
+	 */
+	public SyntheticDrawings(final long seed) {
+		super();
+		random = new Random(seed);
+	}
+
+	private Point randomPoint() {
+		return ShapeFactory.INST.createPoint(random.nextDouble() * 2000d, random.nextDouble() * 2000d);
+	}
+
+	private List<Point> randomPoints(final int nb) {
+		return IntStream.range(0, nb).mapToObj(i -> randomPoint()).collect(Collectors.toList());
+	}
+
+	/**
+	 * Creates a shape of the given kind.
+	 * @param kind The kind of the shape to create.
+	 * @return The created shape.
+	 */
+	public @NotNull Shape createShape(final @NotNull ShapeKind kind) {
+		final Point pt = randomPoint();
+		final double size = 10d + random.nextDouble() * 200d;
+
+		return switch(kind) {
+			case RECTANGLE -> ShapeFactory.INST.createRectangle(pt, size, size / 2d);
+			case SQUARE -> ShapeFactory.INST.createSquare(pt, size);
+			case ELLIPSE -> ShapeFactory.INST.createEllipse(pt, ShapeFactory.INST.createPoint(pt.getX() + size, pt.getY() + size / 2d));
+			case CIRCLE -> ShapeFactory.INST.createCircle(pt, size);
+			case TRIANGLE -> ShapeFactory.INST.createTriangle(pt, size, size);
+			case RHOMBUS -> ShapeFactory.INST.createRhombus(pt, size, size);
+			case CIRCLE_ARC -> ShapeFactory.INST.createCircleArc(pt, size);
+			case POLYGON -> ShapeFactory.INST.createPolygon(randomPoints(10));
+			case POLYLINE -> ShapeFactory.INST.createPolyline(randomPoints(10));
+			case BEZIER_CURVE -> ShapeFactory.INST.createBezierCurve(randomPoints(10));
+			case FREEHAND -> createFreehand(50);
+			case DOT -> ShapeFactory.INST.createDot(pt);
+			case TEXT -> ShapeFactory.INST.createText(pt, "$x_" + random.nextInt(100) + "$"); //NON-NLS
+			case GRID -> ShapeFactory.INST.createGrid(pt);
+			case AXES -> ShapeFactory.INST.createAxes(pt);
+			case PLOT -> ShapeFactory.INST.createPlot(pt, 0d, 10d, "x 2 mul sin", false); //NON-NLS
+		};
+	}
+
+	/**
+	 * @param nbPerKind The number of shapes of each kind.
+	 * @param kinds The kinds of shapes to create.
+	 * @return nbPerKind shapes of each of the given kinds.
+	 */
+	public @NotNull List<Shape> createShapes(final int nbPerKind, final @NotNull List<ShapeKind> kinds) {
+		final List<Shape> shapes = new ArrayList<>(nbPerKind * kinds.size());
+		kinds.forEach(kind -> IntStream.range(0, nbPerKind).forEach(i -> shapes.add(createShape(kind))));
+		return shapes;
+	}
+
+	/**
+	 * @param nbPerKind The number of shapes of each kind.
+	 * @return nbPerKind shapes of each kind of shape.
+	 */
+	public @NotNull List<Shape> createShapes(final int nbPerKind) {
+		return createShapes(nbPerKind, List.of(ShapeKind.values()));
+	}
+
+	/**
+	 * @param nbPoints The number of points of the freehand.
+	 * @return A freehand that looks like a handwritten stroke (successive points are close).
+	 */
+	public @NotNull Shape createFreehand(final int nbPoints) {
+		final List<Point> pts = new ArrayList<>(nbPoints);
+		double x = random.nextDouble() * 2000d;
+		double y = random.nextDouble() * 2000d;
+
+		for(int i = 0; i < nbPoints; i++) {
+			x += random.nextDouble() * 4d - 2d;
+			y += random.nextDouble() * 4d - 2d;
+			pts.add(ShapeFactory.INST.createPoint(x, y));
+		}
+
+		return ShapeFactory.INST.createFreeHand(pts);
+	}
+
+	/**
+	 * @param depth The number of nested groups.
+	 * @param nbPerLevel The number of (non-group) shapes of each level.
+	 * @return A group that contains nested groups.
+	 */
+	public @NotNull Group createDeepGroup(final int depth, final int nbPerLevel) {
+		final Group root = ShapeFactory.INST.createGroup();
+		Group current = root;
+
+		for(int i = 0; i < depth; i++) {
+			final Group sub = ShapeFactory.INST.createGroup();
+			createShapes(nbPerLevel, List.of(ShapeKind.RECTANGLE, ShapeKind.POLYLINE)).forEach(current::addShape);
+			current.addShape(sub);
+			current = sub;
+		}
+
+		return root;
+	}
+
+	/**
+	 * @param shapes The shapes to add to the drawing.
+	 * @return A drawing that contains the given shapes.
+	 */
+	public static @NotNull Drawing createDrawing(final @NotNull List<? extends Shape> shapes) {
+		final Drawing drawing = ShapeFactory.INST.createDrawing();
+		shapes.forEach(drawing::addShape);
+		return drawing;
+	}
+}
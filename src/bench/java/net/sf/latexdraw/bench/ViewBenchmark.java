@@ -0,0 +1,72 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sf.latexdraw.model.api.shape.Shape;
+import net.sf.latexdraw.service.LaTeXDataService;
+import net.sf.latexdraw.view.jfx.ViewFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmarks the creation of the JavaFX views of shapes.
+ * Texts are not considered since their views compile LaTeX code.
+ */
+public class ViewBenchmark extends LatexdrawBenchmark {
+	@Param({"10", "100"})
+	public int nbPerKind;
+
+	private List<Shape> shapes;
+	private Shape freehand;
+	private Shape deepGroup;
+	private ViewFactory viewFactory;
+
+	@Setup
+	public void setUp() {
+		startJavaFX();
+		final SyntheticDrawings gen = new SyntheticDrawings(SEED);
+		final List<SyntheticDrawings.ShapeKind> kinds = new ArrayList<>(List.of(SyntheticDrawings.ShapeKind.values()));
+		kinds.remove(SyntheticDrawings.ShapeKind.TEXT);
+		shapes = gen.createShapes(nbPerKind, kinds);
+		freehand = gen.createFreehand(10_000);
+		deepGroup = gen.createDeepGroup(20, nbPerKind);
+		viewFactory = new ViewFactory(new LaTeXDataService());
+	}
+
+	private int createAndFlush(final Shape sh) {
+		return viewFactory.createView(sh).map(view -> {
+			view.flush();
+			return 1;
+		}).orElse(0);
+	}
+
+	@Benchmark
+	public int createViews() {
+		int nb = 0;
+		for(final Shape sh : shapes) {
+			nb += createAndFlush(sh);
+		}
+		return nb;
+	}
+
+	@Benchmark
+	public int createLargeFreehandView() {
+		return createAndFlush(freehand);
+	}
+
+	@Benchmark
+	public int createDeepGroupView() {
+		return createAndFlush(deepGroup);
+	}
+}
@@ -38,6 +38,7 @@ import javafx.stage.StageStyle;
 import javafx.stage.WindowEvent;
 import javafx.util.BuilderFactory;
 import javafx.util.Duration;
+import net.sf.latexdraw.command.UndoMemoryBudget;
 import net.sf.latexdraw.instrument.PreferencesSetter;
 import net.sf.latexdraw.instrument.StatusBarController;
 import net.sf.latexdraw.instrument.TabSelector;
@@ -45,6 +46,7 @@ import net.sf.latexdraw.model.api.shape.Drawing;
 import net.sf.latexdraw.service.PreferencesService;
 import net.sf.latexdraw.util.BadaboomCollector;
 import net.sf.latexdraw.util.Injector;
+import net.sf.latexdraw.util.PerfMetrics;
 import net.sf.latexdraw.util.VersionChecker;
 import net.sf.latexdraw.view.jfx.Canvas;
 
@@ -56,7 +58,8 @@ public class LaTeXDraw extends JfxUI {
 	public static final String LABEL_APP = "LaTeXDraw"; //NON-NLS
 
 	static {
-		UndoCollector.getInstance().setSizeMax(30);
+		// The undo history is bounded by the memory its commands retain rather than by a number of commands.
+		new UndoMemoryBudget(UndoCollector.getInstance()).install();
 		CommandsRegistry.getInstance().setSizeMax(30);
 	}
 
@@ -111,6 +114,8 @@ public class LaTeXDraw extends JfxUI {
 
 	@Override
 	public void start(final Stage stage) {
+		// The start-up report: 'startup.*' for the whole start-up, 'inject.*' for each injected class, 'fxml.*' for each loaded FXML document.
+		final PerfMetrics.Timing startupTiming = PerfMetrics.INSTANCE.start("startup.total"); //NON-NLS
 		final Task<Void> task = new Task<>() {
 			@Override
 			protected Void call() throws IOException {
@@ -120,7 +125,9 @@ public class LaTeXDraw extends JfxUI {
 				Platform.runLater(() -> {
 					mainStage = new Stage(StageStyle.DECORATED);
 					mainStage.setIconified(true);
-					injector = new LatexdrawInjector(LaTeXDraw.this);
+					try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("startup.injector")) { //NON-NLS
+						injector = new LatexdrawInjector(LaTeXDraw.this);
+					}
 					latch.countDown();
 				});
 
@@ -135,8 +142,12 @@ public class LaTeXDraw extends JfxUI {
 				final PreferencesService prefs = injector.getInstance(PreferencesService.class);
 				prefs.readPreferences();
 
-				final Parent root = FXMLLoader.load(getClass().getResource("/fxml/UI.fxml"), prefs.getBundle(), //NON-NLS
-					injector.getInstance(BuilderFactory.class), cl -> injector.getInstance(cl));
+				// Parsed out of the JFX thread. Most of the instruments are lazy singletons created here as FXML controllers.
+				final Parent root;
+				try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("fxml.UI.fxml")) { //NON-NLS
+					root = FXMLLoader.load(getClass().getResource("/fxml/UI.fxml"), prefs.getBundle(), //NON-NLS
+						injector.getInstance(BuilderFactory.class), cl -> injector.getInstance(cl));
+				}
 				updateProgress(0.6, 1d);
 				final Scene scene = new Scene(root);
 				updateProgress(0.7, 1d);
@@ -162,6 +173,7 @@ public class LaTeXDraw extends JfxUI {
 						new Thread(new VersionChecker(injector.getInstance(StatusBarController.class), prefs.getBundle())).start();
 					}
 					setModified(false);
+					startupTiming.close();
 				});
 				return null;
 			}
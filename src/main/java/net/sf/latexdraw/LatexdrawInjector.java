@@ -33,6 +33,7 @@ import net.sf.latexdraw.instrument.FileLoaderSaver;
 import net.sf.latexdraw.instrument.Hand;
 import net.sf.latexdraw.instrument.Helper;
 import net.sf.latexdraw.instrument.MetaShapeCustomiser;
+import net.sf.latexdraw.instrument.MetricsController;
 import net.sf.latexdraw.instrument.Pencil;
 import net.sf.latexdraw.instrument.PreferencesSetter;
 import net.sf.latexdraw.instrument.ShapeArcCustomiser;
@@ -65,6 +66,7 @@ import net.sf.latexdraw.instrument.Zoomer;
 import net.sf.latexdraw.model.api.shape.Drawing;
 import net.sf.latexdraw.service.EditingService;
 import net.sf.latexdraw.service.LaTeXDataService;
+import net.sf.latexdraw.service.PSTImportService;
 import net.sf.latexdraw.service.PreferencesService;
 import net.sf.latexdraw.util.Injector;
 import net.sf.latexdraw.view.ViewsSynchroniserHandler;
@@ -78,6 +80,10 @@ import net.sf.latexdraw.view.svg.SVGDocumentGenerator;
 import net.sf.latexdraw.view.svg.SVGShapesFactory;
 
 /**
+ * The injector of the app.
+ * The services, the factories, the canvas and the instruments that work on it without being an FXML controller are eagerly created.
+ * The FXML controllers and the dialogue boxes are lazy singletons: they are created while loading their FXML document (out of the JFX thread)
+ * or when first used.
  * @author Arnaud Blouin
  */
 public class LatexdrawInjector extends Injector {
@@ -99,63 +105,65 @@ public class LatexdrawInjector extends Injector {
 		bindToInstance(BuilderFactory.class, new LatexdrawBuilderFactory(this));
 		bindAsEagerSingleton(LaTeXDataService.class);
 		bindAsEagerSingleton(PreferencesService.class);
-		bindAsEagerSingleton(BadaboomController.class);
+		bindAsLazySingleton(BadaboomController.class);
+		bindAsLazySingleton(MetricsController.class);
 		bindAsEagerSingleton(EditingService.class);
 		bindWithCommand(ResourceBundle.class, PreferencesService.class, pref -> pref.getBundle());
 		bindAsEagerSingleton(ViewFactory.class);
 		bindAsEagerSingleton(PSTViewsFactory.class);
 		bindAsEagerSingleton(SVGShapesFactory.class);
-		bindAsEagerSingleton(ExceptionsManager.class);
-		bindAsEagerSingleton(ShortcutsController.class);
+		bindAsLazySingleton(PSTImportService.class);
+		bindAsLazySingleton(ExceptionsManager.class);
+		bindAsLazySingleton(ShortcutsController.class);
 		bindWithCommand(HostServices.class, Application.class, fxApp -> fxApp.getHostServices());
-		bindAsEagerSingleton(StatusBarController.class);
-		bindAsEagerSingleton(AboutController.class);
+		bindAsLazySingleton(StatusBarController.class);
+		bindAsLazySingleton(AboutController.class);
 		bindAsEagerSingleton(Canvas.class);
 		bindWithCommand(MagneticGrid.class, Canvas.class, canvas -> canvas.getMagneticGrid());
 		bindAsEagerSingleton(CanvasController.class);
 		bindWithCommand(Drawing.class, Canvas.class, canvas -> canvas.getDrawing());
 		bindWithCommand(ViewsSynchroniserHandler.class, Canvas.class, canvas -> canvas);
 		bindAsEagerSingleton(SVGDocumentGenerator.class);
-		bindAsEagerSingleton(Zoomer.class);
-		bindAsEagerSingleton(UndoRedoManager.class);
+		bindAsLazySingleton(Zoomer.class);
+		bindAsLazySingleton(UndoRedoManager.class);
 		bindAsEagerSingleton(PSTCodeGenerator.class);
 		bindWithCommand(LaTeXGenerator.class, PSTCodeGenerator.class, gen -> gen);
-		bindAsEagerSingleton(CodePanelController.class);
-		bindAsEagerSingleton(DrawingPropertiesCustomiser.class);
-		bindAsEagerSingleton(TemplateManager.class);
-		bindAsEagerSingleton(CodeInserter.class);
-		bindAsEagerSingleton(CopierCutterPaster.class);
-		bindAsEagerSingleton(Exporter.class);
-		bindAsEagerSingleton(PreferencesSetter.class);
-		bindAsEagerSingleton(FileLoaderSaver.class);
-		bindAsEagerSingleton(Helper.class);
+		bindAsLazySingleton(CodePanelController.class);
+		bindAsLazySingleton(DrawingPropertiesCustomiser.class);
+		bindAsLazySingleton(TemplateManager.class);
+		bindAsLazySingleton(CodeInserter.class);
+		bindAsLazySingleton(CopierCutterPaster.class);
+		bindAsLazySingleton(Exporter.class);
+		bindAsLazySingleton(PreferencesSetter.class);
+		bindAsLazySingleton(FileLoaderSaver.class);
+		bindAsLazySingleton(Helper.class);
 		bindAsEagerSingleton(TextSetter.class);
 		bindAsEagerSingleton(Pencil.class);
 		bindAsEagerSingleton(Hand.class);
-		bindAsEagerSingleton(ShapeArcCustomiser.class);
-		bindAsEagerSingleton(ShapeArrowCustomiser.class);
-		bindAsEagerSingleton(ShapeAxesCustomiser.class);
-		bindAsEagerSingleton(ShapeBorderCustomiser.class);
-		bindAsEagerSingleton(ShapeCoordDimCustomiser.class);
-		bindAsEagerSingleton(ShapeDeleter.class);
-		bindAsEagerSingleton(ShapeDotCustomiser.class);
-		bindAsEagerSingleton(ShapeDoubleBorderCustomiser.class);
-		bindAsEagerSingleton(ShapeFillingCustomiser.class);
-		bindAsEagerSingleton(ShapeFreeHandCustomiser.class);
-		bindAsEagerSingleton(ShapeGridCustomiser.class);
-		bindAsEagerSingleton(ShapeGrouper.class);
-		bindAsEagerSingleton(ShapeGridTransformer.class);
-		bindAsEagerSingleton(ShapePlotCustomiser.class);
-		bindAsEagerSingleton(ShapePositioner.class);
-		bindAsEagerSingleton(ShapeRotationCustomiser.class);
-		bindAsEagerSingleton(ShapeShadowCustomiser.class);
-		bindAsEagerSingleton(ShapeStdGridCustomiser.class);
-		bindAsEagerSingleton(ShapeTextCustomiser.class);
-		bindAsEagerSingleton(ShapeTransformer.class);
-		bindAsEagerSingleton(MetaShapeCustomiser.class);
+		bindAsLazySingleton(ShapeArcCustomiser.class);
+		bindAsLazySingleton(ShapeArrowCustomiser.class);
+		bindAsLazySingleton(ShapeAxesCustomiser.class);
+		bindAsLazySingleton(ShapeBorderCustomiser.class);
+		bindAsLazySingleton(ShapeCoordDimCustomiser.class);
+		bindAsLazySingleton(ShapeDeleter.class);
+		bindAsLazySingleton(ShapeDotCustomiser.class);
+		bindAsLazySingleton(ShapeDoubleBorderCustomiser.class);
+		bindAsLazySingleton(ShapeFillingCustomiser.class);
+		bindAsLazySingleton(ShapeFreeHandCustomiser.class);
+		bindAsLazySingleton(ShapeGridCustomiser.class);
+		bindAsLazySingleton(ShapeGrouper.class);
+		bindAsLazySingleton(ShapeGridTransformer.class);
+		bindAsLazySingleton(ShapePlotCustomiser.class);
+		bindAsLazySingleton(ShapePositioner.class);
+		bindAsLazySingleton(ShapeRotationCustomiser.class);
+		bindAsLazySingleton(ShapeShadowCustomiser.class);
+		bindAsLazySingleton(ShapeStdGridCustomiser.class);
+		bindAsLazySingleton(ShapeTextCustomiser.class);
+		bindAsLazySingleton(ShapeTransformer.class);
+		bindAsLazySingleton(MetaShapeCustomiser.class);
 		bindAsEagerSingleton(Border.class);
-		bindAsEagerSingleton(FacadeCanvasController.class);
-		bindAsEagerSingleton(EditingSelector.class);
-		bindAsEagerSingleton(TabSelector.class);
+		bindAsLazySingleton(FacadeCanvasController.class);
+		bindAsLazySingleton(EditingSelector.class);
+		bindAsLazySingleton(TabSelector.class);
 	}
 }
@@ -11,24 +11,16 @@
 package net.sf.latexdraw.command;
 
 import io.github.interacto.command.CommandImpl;
-import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
-import javafx.embed.swing.SwingFXUtils;
-import javafx.geometry.Bounds;
-import javafx.scene.Group;
-import javafx.scene.SnapshotParameters;
-import javafx.scene.image.WritableImage;
-import javafx.scene.paint.Color;
-import javafx.scene.transform.Scale;
 import javafx.stage.FileChooser;
-import javax.imageio.ImageIO;
 import net.sf.latexdraw.util.BadaboomCollector;
+import net.sf.latexdraw.util.PerfMetrics;
 import net.sf.latexdraw.view.jfx.Canvas;
+import net.sf.latexdraw.view.jfx.TiledSnapshot;
 import net.sf.latexdraw.view.pst.PSTCodeGenerator;
 import org.jetbrains.annotations.NotNull;
 
@@ -37,6 +29,11 @@ import org.jetbrains.annotations.NotNull;
  * @author Arnaud Blouin
  */
 public class Export extends CommandImpl {
+	/** The resolution of the drawing views (one JavaFX unit is one pixel at 96 DPI). */
+	public static final double SCREEN_DPI = 96d;
+	/** The default resolution of exported pictures: three times the screen resolution. */
+	public static final int DEFAULT_DPI = 288;
+
 	/** The format with which the drawing must be exported. */
 	private final @NotNull ExportFormat format;
 
@@ -52,16 +49,29 @@ public class Export extends CommandImpl {
 	/** The PST generator to use. */
 	private final @NotNull PSTCodeGenerator pstGen;
 
+	/** The resolution (in DPI) of the exported pictures. */
+	private final int dpi;
+
 	/**
-	 * Creates the command.
+	 * Creates the command. Pictures are exported at the default resolution.
 	 */
 	public Export(final @NotNull Canvas canvas, final @NotNull PSTCodeGenerator pstGen, final @NotNull ExportFormat format,
 				final @NotNull FileChooser dialogueBox) {
+		this(canvas, pstGen, format, dialogueBox, DEFAULT_DPI);
+	}
+
+	/**
+	 * Creates the command.
+	 * @param dpi The resolution (in DPI) of the exported pictures. If not strictly positive, the default resolution is used.
+	 */
+	public Export(final @NotNull Canvas canvas, final @NotNull PSTCodeGenerator pstGen, final @NotNull ExportFormat format,
+				final @NotNull FileChooser dialogueBox, final int dpi) {
 		super();
 		this.canvas = canvas;
 		this.pstGen = pstGen;
 		this.format = format;
 		this.dialogueBox = dialogueBox;
+		this.dpi = dpi > 0 ? dpi : DEFAULT_DPI;
 		exported = false;
 	}
 
@@ -86,14 +96,16 @@ public class Export extends CommandImpl {
 	}
 
 	private boolean export(final @NotNull File file) {
-		return switch(format) {
-			case BMP -> exportAsPicture(file, "bmp", false); //NON-NLS
-			case EPS_LATEX -> exportAsEPS(file);
-			case JPG -> exportAsPicture(file, "jpg", false); //NON-NLS
-			case PDF -> exportAsPDF(file);
-			case PNG -> exportAsPicture(file, "png", true); //NON-NLS
-			case TEX -> exportAsPST(file);
-		};
+		try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("export." + format.name())) { //NON-NLS
+			return switch(format) {
+				case BMP -> exportAsPicture(file, "bmp", false); //NON-NLS
+				case EPS_LATEX -> exportAsEPS(file);
+				case JPG -> exportAsPicture(file, "jpg", false); //NON-NLS
+				case PDF -> exportAsPDF(file);
+				case PNG -> exportAsPicture(file, "png", true); //NON-NLS
+				case TEX -> exportAsPST(file);
+			};
+		}
 	}
 
 
@@ -109,26 +121,21 @@ public class Export extends CommandImpl {
 	 * @return true if the picture was well created.
 	 */
 	private boolean exportAsPicture(final @NotNull File file, final @NotNull String format, final boolean alpha) {
-		BufferedImage rendImage = createRenderedImage();
-		boolean success = false;
-
-		if(!alpha) {
-			final BufferedImage copy = new BufferedImage(rendImage.getWidth(), rendImage.getHeight(), BufferedImage.TYPE_INT_RGB);
-			final Graphics2D g2d = copy.createGraphics();
-			g2d.drawImage(rendImage, 0, 0, null);
-			g2d.dispose();
-			rendImage.flush();
-			rendImage = copy;
-		}
+		// The views of large drawings only exist close to the viewport and their geometries may be computed in the background:
+		// the whole drawing, with its final geometries, is required here.
+		canvas.setAllViewsRequired(true);
+		// The drawing is rendered tile by tile while the encoder writes the picture.
+		final TiledSnapshot snapshot = new TiledSnapshot(canvas.getViews(), dpi / SCREEN_DPI, alpha, TiledSnapshot.DEFAULT_TILE_SIZE);
 
 		try {
-			ImageIO.write(rendImage, format, file);
-			success = true;
+			snapshot.write(format, file);
+			return true;
 		}catch(final IOException ex) {
 			BadaboomCollector.INSTANCE.add(ex);
+			return false;
+		}finally {
+			canvas.setAllViewsRequired(false);
 		}
-		rendImage.flush();
-		return success;
 	}
 
 
@@ -191,22 +198,4 @@ public class Export extends CommandImpl {
 		}
 		return ok;
 	}
-
-
-	/**
-	 * @return A writable image that contains given views (not null).
-	 */
-	private @NotNull BufferedImage createRenderedImage() {
-		final Group views = canvas.getViews();
-		final Bounds bounds = views.getBoundsInParent();
-		final double scale = 3d;
-		final WritableImage img = new WritableImage((int) (bounds.getWidth() * scale), (int) (bounds.getHeight() * scale));
-		final SnapshotParameters snapshotParameters = new SnapshotParameters();
-
-		snapshotParameters.setFill(Color.WHITE);
-		snapshotParameters.setTransform(new Scale(scale, scale));
-
-		views.snapshot(snapshotParameters, img);
-		return SwingFXUtils.fromFXImage(img, null);
-	}
 }
@@ -20,12 +20,8 @@ import net.sf.latexdraw.model.api.shape.Drawing;
 import net.sf.latexdraw.model.api.shape.Group;
 import net.sf.latexdraw.model.api.shape.Point;
 import net.sf.latexdraw.model.api.shape.Shape;
-import net.sf.latexdraw.parser.pst.PSTContext;
 import net.sf.latexdraw.parser.pst.PSTLatexdrawListener;
-import net.sf.latexdraw.parser.pst.PSTLexer;
-import net.sf.latexdraw.parser.pst.PSTParser;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
+import net.sf.latexdraw.parser.pst.PSTParsers;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -60,10 +56,7 @@ public class InsertPSTCode extends DrawingCmdImpl implements Undoable, Modifying
 	@Override
 	protected void doCmdBody() {
 		final PSTLatexdrawListener listener = new PSTLatexdrawListener();
-		final PSTLexer lexer = new PSTLexer(CharStreams.fromString(code));
-		final PSTParser parser = new PSTParser(new CommonTokenStream(lexer));
-		parser.addParseListener(listener);
-		parser.pstCode(new PSTContext());
+		PSTParsers.INSTANCE.parse(code, listener, null);
 
 		final Group group = ShapeFactory.INST.createGroup();
 		group.getShapes().addAll(listener.flatShapes());
@@ -80,8 +73,6 @@ public class InsertPSTCode extends DrawingCmdImpl implements Undoable, Modifying
 
 			statusBar.setText(lang.getString("codeConverted"));
 		}
-		parser.getInterpreter().clearDFA();
-		lexer.getInterpreter().clearDFA();
 	}
 
 	@Override
@@ -0,0 +1,74 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.command;
+
+import java.util.Collection;
+import javafx.scene.image.Image;
+import net.sf.latexdraw.model.api.shape.Group;
+import net.sf.latexdraw.model.api.shape.Picture;
+import net.sf.latexdraw.model.api.shape.Shape;
+import net.sf.latexdraw.model.api.shape.Text;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Implemented by undoable commands to report an estimation of the memory their memento retains.
+ * This estimation is used to bound the undo history by retained bytes rather than by a number of commands.
+ * @author Arnaud Blouin
+ */
+public interface MementoFootprint {
+	/** The estimated footprint (in bytes) of a command that does not report its memento. */
+	long DEFAULT_FOOTPRINT = 256L;
+	/** The estimated footprint (in bytes) of a shape, its points and properties excluded. */
+	long SHAPE_FOOTPRINT = 1024L;
+	/** The estimated footprint (in bytes) of a point. */
+	long POINT_FOOTPRINT = 48L;
+	/** The estimated footprint (in bytes) of a reference stored in a collection. */
+	long REF_FOOTPRINT = 16L;
+
+	/**
+	 * @return The estimated number of bytes retained by the memento of the command.
+	 */
+	long getMementoFootprint();
+
+	/**
+	 * @param shapes The shapes retained by a memento.
+	 * @return The estimated number of bytes retained by the given shapes.
+	 */
+	static long estimateFootprint(final @NotNull Collection<? extends Shape> shapes) {
+		return shapes.stream().mapToLong(sh -> REF_FOOTPRINT + estimateFootprint(sh)).sum();
+	}
+
+	/**
+	 * @param shape The shape retained by a memento.
+	 * @return The estimated number of bytes retained by the given shape.
+	 */
+	static long estimateFootprint(final @NotNull Shape shape) {
+		if(shape instanceof Group) {
+			return SHAPE_FOOTPRINT + estimateFootprint(((Group) shape).getShapes());
+		}
+
+		long size = SHAPE_FOOTPRINT + shape.getNbPoints() * (POINT_FOOTPRINT + REF_FOOTPRINT);
+
+		if(shape instanceof Text) {
+			size += 2L * ((Text) shape).getText().length();
+		}
+
+		if(shape instanceof Picture) {
+			final Image image = ((Picture) shape).getImage();
+			if(image != null) {
+				// Images are stored as 32 bits ARGB pixels.
+				size += 4L * (long) image.getWidth() * (long) image.getHeight();
+			}
+		}
+
+		return size;
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.command;
+
+import io.github.interacto.undo.UndoCollector;
+import io.github.interacto.undo.Undoable;
+import io.reactivex.disposables.Disposable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bounds the undo history of an undo collector by the estimated number of bytes its mementos retain
+ * (see MementoFootprint) instead of a fixed number of commands: small edits get a deep history
+ * while big mementos (deleted pictures, freehands, etc.) make the oldest commands leave the history sooner.
+ * @author Arnaud Blouin
+ */
+public final class UndoMemoryBudget {
+	/** The default number of bytes the undo history can retain. */
+	public static final long DEFAULT_BUDGET = 64L * 1024L * 1024L;
+	/** The default minimal number of commands kept in the undo history, whatever their footprint. */
+	public static final int DEFAULT_MIN_DEPTH = 5;
+	/** The default maximal number of commands kept in the undo history. */
+	public static final int DEFAULT_MAX_DEPTH = 1000;
+
+	private final @NotNull UndoCollector collector;
+	private final long budget;
+	private final int minDepth;
+	private final int maxDepth;
+	private @Nullable Disposable disposable;
+	/** The commands of the undo history, the most recent first, as known at the latest update. */
+	private final @NotNull Deque<Undoable> tracked;
+	/** The footprints of the tracked commands. */
+	private final @NotNull Map<Undoable, Long> footprints;
+	/** The sum of the footprints of the tracked commands. */
+	private long retainedSize;
+
+	/**
+	 * Creates a budget with the default values.
+	 * @param collector The undo collector to bound.
+	 */
+	public UndoMemoryBudget(final @NotNull UndoCollector collector) {
+		this(collector, DEFAULT_BUDGET, DEFAULT_MIN_DEPTH, DEFAULT_MAX_DEPTH);
+	}
+
+	/**
+	 * Creates a budget.
+	 * @param collector The undo collector to bound.
+	 * @param budget The number of bytes the undo history can retain.
+	 * @param minDepth The minimal number of commands kept in the undo history, whatever their footprint.
+	 * @param maxDepth The maximal number of commands kept in the undo history.
+	 * @throws IllegalArgumentException If the parameters are not consistent.
+	 */
+	public UndoMemoryBudget(final @NotNull UndoCollector collector, final long budget, final int minDepth, final int maxDepth) {
+		super();
+		if(budget < 0L || minDepth < 0 || maxDepth < minDepth) {
+			throw new IllegalArgumentException("Invalid undo budget: " + budget + ", " + minDepth + ", " + maxDepth); //NON-NLS
+		}
+		this.collector = collector;
+		this.budget = budget;
+		this.minDepth = minDepth;
+		this.maxDepth = maxDepth;
+		tracked = new ArrayDeque<>();
+		footprints = new IdentityHashMap<>();
+		retainedSize = 0L;
+	}
+
+	/**
+	 * Starts bounding the undo history of the collector.
+	 */
+	public void install() {
+		uninstall();
+		collector.setSizeMax(maxDepth);
+		reset();
+		disposable = collector.undos().subscribe(undoable -> trim());
+	}
+
+	/**
+	 * Stops bounding the undo history of the collector.
+	 */
+	public void uninstall() {
+		if(disposable != null) {
+			disposable.dispose();
+			disposable = null;
+		}
+	}
+
+	/**
+	 * Removes the oldest commands of the undo history while the history exceeds the budget.
+	 * The most recent commands (at least minDepth) are always kept.
+	 */
+	public void trim() {
+		update();
+
+		long retained = retainedSize;
+		int kept = tracked.size();
+		final Iterator<Undoable> oldest = tracked.descendingIterator();
+
+		while(kept > minDepth && retained > budget) {
+			retained -= footprints.get(oldest.next());
+			kept--;
+		}
+
+		if(kept < tracked.size()) {
+			// Reducing the maximal size removes the oldest commands.
+			collector.setSizeMax(kept);
+			collector.setSizeMax(maxDepth);
+			update();
+		}
+	}
+
+	/**
+	 * @return The estimated number of bytes retained by the undo history.
+	 */
+	public long getRetainedSize() {
+		update();
+		return retainedSize;
+	}
+
+	/**
+	 * Updates the tracked commands and their total footprint after a change of the undo history.
+	 * The undo collector notifies each change: a command added (or redone) at the head of the history,
+	 * a command undone from its head, or the oldest commands removed from its tail.
+	 */
+	private void update() {
+		final Deque<Undoable> undos = collector.getUndo();
+		final Undoable head = undos.peekFirst();
+
+		if(head == null) {
+			tracked.clear();
+			footprints.clear();
+			retainedSize = 0L;
+			return;
+		}
+
+		if(footprints.containsKey(head)) {
+			// The undone commands left the head of the history
+			while(tracked.peekFirst() != head) {
+				forget(tracked.removeFirst());
+			}
+		}else {
+			track(head, true);
+		}
+
+		// The oldest commands left the tail of the history
+		while(tracked.size() > undos.size()) {
+			forget(tracked.removeLast());
+		}
+
+		if(tracked.size() != undos.size()) {
+			// Not a single change: all the history is analysed again
+			reset();
+		}
+	}
+
+	/**
+	 * Tracks all the commands of the undo history.
+	 */
+	private void reset() {
+		tracked.clear();
+		footprints.clear();
+		retainedSize = 0L;
+		collector.getUndo().forEach(undoable -> track(undoable, false));
+	}
+
+	private void track(final @NotNull Undoable undoable, final boolean mostRecent) {
+		final long footprint = getFootprint(undoable);
+		if(mostRecent) {
+			tracked.addFirst(undoable);
+		}else {
+			tracked.addLast(undoable);
+		}
+		footprints.put(undoable, footprint);
+		retainedSize += footprint;
+	}
+
+	private void forget(final @NotNull Undoable undoable) {
+		final Long footprint = footprints.remove(undoable);
+		if(footprint != null) {
+			retainedSize -= footprint;
+		}
+	}
+
+	/**
+	 * @param undoable The undoable object to analyse.
+	 * @return The estimated number of bytes retained by the given undoable object.
+	 */
+	public static long getFootprint(final @NotNull Undoable undoable) {
+		if(undoable instanceof MementoFootprint) {
+			return ((MementoFootprint) undoable).getMementoFootprint();
+		}
+		return MementoFootprint.DEFAULT_FOOTPRINT;
+	}
+}
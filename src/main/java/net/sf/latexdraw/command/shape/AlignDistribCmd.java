@@ -43,7 +43,7 @@ abstract class AlignDistribCmd extends ShapeCmdImpl<Group> implements Undoable,
 	public void undo() {
 		final IntegerProperty pos = new SimpleIntegerProperty(0);
 
-		shape.getShapes().forEach(sh -> {
+		shape.runInTransaction(() -> shape.getShapes().forEach(sh -> {
 			// Reusing the old position.
 			final Point pt = sh.getTopLeftPoint();
 			final Point oldPt = oldPositions.get(pos.get());
@@ -51,7 +51,7 @@ abstract class AlignDistribCmd extends ShapeCmdImpl<Group> implements Undoable,
 				sh.translate(oldPt.getX() - pt.getX(), oldPt.getY() - pt.getY());
 			}
 			pos.set(pos.get() + 1);
-		});
+		}));
 		shape.setModified(true);
 	}
 
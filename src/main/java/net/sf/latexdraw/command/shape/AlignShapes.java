@@ -198,14 +198,16 @@ public class AlignShapes extends AlignDistribCmd {
 
 	@Override
 	public void redo() {
-		switch(alignment) {
-			case LEFT -> alignLeft();
-			case RIGHT -> alignRight();
-			case TOP -> alignTop();
-			case BOTTOM -> alignBottom();
-			case MID_HORIZ -> alignMidHoriz();
-			case MID_VERT -> alignMidVert();
-		}
+		shape.runInTransaction(() -> {
+			switch(alignment) {
+				case LEFT -> alignLeft();
+				case RIGHT -> alignRight();
+				case TOP -> alignTop();
+				case BOTTOM -> alignBottom();
+				case MID_HORIZ -> alignMidHoriz();
+				case MID_VERT -> alignMidVert();
+			}
+		});
 
 		shape.setModified(true);
 	}
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.ResourceBundle;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import net.sf.latexdraw.command.MementoFootprint;
 import net.sf.latexdraw.command.Modifying;
 import net.sf.latexdraw.model.api.shape.Shape;
 import org.jetbrains.annotations.NotNull;
@@ -24,7 +25,7 @@ import org.jetbrains.annotations.NotNull;
  * This command cuts the selected shapes.
  * @author Arnaud Blouin
  */
-public class CutShapes extends CopyShapes implements Undoable, Modifying {
+public class CutShapes extends CopyShapes implements Undoable, Modifying, MementoFootprint {
 	/** The index of the cut shapes. */
 	private List<Integer> positionShapes;
 
@@ -70,4 +71,12 @@ public class CutShapes extends CopyShapes implements Undoable, Modifying {
 	public @NotNull String getUndoName(final @NotNull ResourceBundle bundle) {
 		return bundle.getString("cut");
 	}
+
+	@Override
+	public long getMementoFootprint() {
+		if(copiedShapes == null || positionShapes == null) {
+			return DEFAULT_FOOTPRINT;
+		}
+		return DEFAULT_FOOTPRINT + positionShapes.size() * REF_FOOTPRINT + MementoFootprint.estimateFootprint(copiedShapes);
+	}
 }
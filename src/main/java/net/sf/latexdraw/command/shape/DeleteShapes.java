@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.ResourceBundle;
 import java.util.stream.Collectors;
 import net.sf.latexdraw.command.DrawingCmdImpl;
+import net.sf.latexdraw.command.MementoFootprint;
 import net.sf.latexdraw.command.Modifying;
 import net.sf.latexdraw.model.api.shape.Drawing;
 import net.sf.latexdraw.model.api.shape.Shape;
@@ -25,7 +26,7 @@ import org.jetbrains.annotations.NotNull;
  * This command removes shapes from a drawing.
  * @author Arnaud Blouin
  */
-public class DeleteShapes extends DrawingCmdImpl implements Undoable, Modifying {
+public class DeleteShapes extends DrawingCmdImpl implements Undoable, Modifying, MementoFootprint {
 	/** The index of the deleted shapes into the original list. */
 	private @NotNull List<Integer> positionShapes;
 	/** The shapes to handle. */
@@ -80,4 +81,9 @@ public class DeleteShapes extends DrawingCmdImpl implements Undoable, Modifying
 	public @NotNull String getUndoName(final @NotNull ResourceBundle bundle) {
 		return bundle.getString("delete");
 	}
+
+	@Override
+	public long getMementoFootprint() {
+		return DEFAULT_FOOTPRINT + positionShapes.size() * REF_FOOTPRINT + MementoFootprint.estimateFootprint(shapes);
+	}
 }
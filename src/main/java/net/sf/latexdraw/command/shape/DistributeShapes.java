@@ -135,11 +135,13 @@ public class DistributeShapes extends AlignDistribCmd {
 
 	@Override
 	public void redo() {
-		if(distribution == Distribution.HORIZ_EQ || distribution == Distribution.VERT_EQ) {
-			distributeEq();
-		}else {
-			distributeNotEq();
-		}
+		shape.runInTransaction(() -> {
+			if(distribution == Distribution.HORIZ_EQ || distribution == Distribution.VERT_EQ) {
+				distributeEq();
+			}else {
+				distributeNotEq();
+			}
+		});
 		shape.setModified(true);
 	}
 
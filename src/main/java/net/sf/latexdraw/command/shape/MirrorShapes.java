@@ -14,6 +14,7 @@ import io.github.interacto.undo.Undoable;
 import java.util.ResourceBundle;
 import net.sf.latexdraw.command.Modifying;
 import net.sf.latexdraw.command.ShapeCmdImpl;
+import net.sf.latexdraw.model.ModelTransaction;
 import net.sf.latexdraw.model.api.shape.Shape;
 import org.jetbrains.annotations.NotNull;
 
@@ -38,11 +39,13 @@ public class MirrorShapes extends ShapeCmdImpl<Shape> implements Undoable, Modif
 	}
 
 	private void doMirror() {
-		if(horizontally) {
-			shape.mirrorHorizontal(shape.getGravityCentre().getX());
-		}else {
-			shape.mirrorVertical(shape.getGravityCentre().getY());
-		}
+		ModelTransaction.INST.run(() -> {
+			if(horizontally) {
+				shape.mirrorHorizontal(shape.getGravityCentre().getX());
+			}else {
+				shape.mirrorVertical(shape.getGravityCentre().getY());
+			}
+		});
 	}
 
 	@Override
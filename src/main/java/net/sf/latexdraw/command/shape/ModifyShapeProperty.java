@@ -15,6 +15,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import net.sf.latexdraw.command.MementoFootprint;
 import net.sf.latexdraw.command.Modifying;
 import net.sf.latexdraw.model.api.shape.Group;
 import org.jetbrains.annotations.NotNull;
@@ -24,12 +25,14 @@ import org.jetbrains.annotations.Nullable;
  * This command modifies a shape property of the given shape.
  * @author Arnaud Blouin
  */
-public class ModifyShapeProperty<T> extends ShapePropertyCmd<T> implements Undoable, Modifying {
+public class ModifyShapeProperty<T> extends ShapePropertyCmd<T> implements Undoable, Modifying, MementoFootprint {
 	/** The shape to modify. */
 	private final @NotNull Group shapes;
 
 	/** The old value of the property. */
 	private @NotNull List<Optional<T>> oldValue;
+	/** True if the old value is shared by all the shapes and is stored only once. */
+	private boolean sharedOldValue;
 
 	public ModifyShapeProperty(final @NotNull ShapeProperties<T> property, final @NotNull Group shapes, final @Nullable T value) {
 		super(property, value);
@@ -39,12 +42,15 @@ public class ModifyShapeProperty<T> extends ShapePropertyCmd<T> implements Undoa
 
 	@Override
 	protected void createMemento() {
-		oldValue = property.getPropertyValues(shapes);
+		final List<Optional<T>> values = property.getPropertyValues(shapes);
+		// Shapes often share the same value: a single value is then stored instead of one value per shape.
+		sharedOldValue = values.size() > 1 && values.stream().distinct().count() == 1L;
+		oldValue = sharedOldValue ? Collections.nCopies(values.size(), values.get(0)) : values;
 	}
 
 	@Override
 	public void undo() {
-		property.setPropertyValueList(shapes, oldValue);
+		shapes.runInTransaction(() -> property.setPropertyValueList(shapes, oldValue));
 		shapes.setModified(true);
 	}
 
@@ -63,11 +69,19 @@ public class ModifyShapeProperty<T> extends ShapePropertyCmd<T> implements Undoa
 
 	@Override
 	protected void applyValue() {
-		property.setPropertyValue(shapes, value);
+		shapes.runInTransaction(() -> property.setPropertyValue(shapes, value));
 		shapes.setModified(true);
 	}
 
 
+	@Override
+	public long getMementoFootprint() {
+		if(sharedOldValue) {
+			return DEFAULT_FOOTPRINT + REF_FOOTPRINT;
+		}
+		return DEFAULT_FOOTPRINT + oldValue.size() * 2L * REF_FOOTPRINT;
+	}
+
 	public @NotNull Group getShapes() {
 		return shapes;
 	}
@@ -15,6 +15,7 @@ import java.util.ResourceBundle;
 import net.sf.latexdraw.command.Modifying;
 import net.sf.latexdraw.command.ShapeCmdImpl;
 import net.sf.latexdraw.model.MathUtils;
+import net.sf.latexdraw.model.ModelTransaction;
 import net.sf.latexdraw.model.api.shape.Point;
 import net.sf.latexdraw.model.api.shape.Shape;
 import org.jetbrains.annotations.NotNull;
@@ -62,7 +63,7 @@ public class RotateShapes extends ShapeCmdImpl<Shape> implements Undoable, Modif
 	 * @param angleIncrement The increment to add to the rotation angle of the shape.
 	 */
 	private void rotateShapes(final double angleIncrement) {
-		shape.addToRotationAngle(gc, angleIncrement);
+		ModelTransaction.INST.run(() -> shape.addToRotationAngle(gc, angleIncrement));
 	}
 
 	@Override
@@ -18,7 +18,6 @@ import net.sf.latexdraw.command.ShapeCmdImpl;
 import net.sf.latexdraw.model.MathUtils;
 import net.sf.latexdraw.model.api.shape.Drawing;
 import net.sf.latexdraw.model.api.shape.Group;
-import net.sf.latexdraw.model.api.shape.Point;
 import net.sf.latexdraw.model.api.shape.Position;
 import org.jetbrains.annotations.NotNull;
 
@@ -79,35 +78,29 @@ public class ScaleShapes extends ShapeCmdImpl<Group> implements Undoable, Modify
 	@Override
 	protected void createMemento() {
 		mementoModified = drawing.isModified();
-		final Point br = shape.getBottomRightPoint();
-		final Point tl = shape.getTopLeftPoint();
-		oldWidth = br.getX() - tl.getX();
-		oldHeight = br.getY() - tl.getY();
-		updateBound(tl, br);
+		shape.fillBounds(bound);
+		oldWidth = bound.getWidth();
+		oldHeight = bound.getHeight();
 	}
 
 	@Override
 	protected void doCmdBody() {
-		shape.scale(scaledWidth(newX), scaledHeight(newY), refPosition, bound);
+		shape.runInTransaction(() -> shape.scale(scaledWidth(newX), scaledHeight(newY), refPosition, bound));
 		drawing.setModified(true);
-		updateBound(shape.getTopLeftPoint(), shape.getBottomRightPoint());
-	}
-
-	private void updateBound(final @NotNull Point tl, final @NotNull Point br) {
-		bound.setFrameFromDiagonal(tl.getX(), tl.getY(), br.getX(), br.getY());
+		shape.fillBounds(bound);
 	}
 
 	@Override
 	public void undo() {
-		shape.scale(oldWidth, oldHeight, refPosition, bound);
+		shape.runInTransaction(() -> shape.scale(oldWidth, oldHeight, refPosition, bound));
 		drawing.setModified(mementoModified);
-		updateBound(shape.getTopLeftPoint(), shape.getBottomRightPoint());
+		shape.fillBounds(bound);
 	}
 
 	@Override
 	public void setShape(final @NotNull Group sh) {
 		super.setShape(sh);
-		updateBound(sh.getTopLeftPoint(), sh.getBottomRightPoint());
+		sh.fillBounds(bound);
 	}
 
 	private double scaledHeight(final double y) {
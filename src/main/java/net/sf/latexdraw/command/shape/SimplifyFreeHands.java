@@ -0,0 +1,201 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.command.shape;
+
+import io.github.interacto.undo.Undoable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.sf.latexdraw.command.MementoFootprint;
+import net.sf.latexdraw.command.Modifying;
+import net.sf.latexdraw.command.ShapeCmdImpl;
+import net.sf.latexdraw.model.MathUtils;
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.Freehand;
+import net.sf.latexdraw.model.api.shape.Group;
+import net.sf.latexdraw.model.api.shape.Point;
+import net.sf.latexdraw.model.api.shape.Shape;
+import net.sf.latexdraw.view.CurveGeometryKernel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This command reduces the number of points of the freehand shapes of a group: their points are optionally
+ * resampled uniformly and then simplified using the Douglas-Peucker algorithm. The freehand shapes are
+ * processed in parallel.
+ * @author Arnaud Blouin
+ */
+public class SimplifyFreeHands extends ShapeCmdImpl<Group> implements Undoable, Modifying, MementoFootprint {
+	/** The maximal distance (in mm) between a simplified freehand shape and the original one. */
+	private final double tolerance;
+	/** The distance (in mm) between two resampled points. 0: no resampling. */
+	private final double resamplingStep;
+	/** The simplified freehand shapes. */
+	private @NotNull List<Freehand> freehands;
+	/** The points of the freehand shapes before the simplification. */
+	private @NotNull List<List<Point>> oldPoints;
+	/** The points of the freehand shapes after the simplification. */
+	private @NotNull List<List<Point>> newPoints;
+	private boolean mementoModified;
+
+
+	/**
+	 * @param gp The shapes to simplify. Only the freehand shapes are considered.
+	 * @param tolerance The maximal distance (in mm) between a simplified freehand shape and the original one.
+	 * @param resamplingStep The distance (in mm) between two resampled points. 0: no resampling.
+	 */
+	public SimplifyFreeHands(final @NotNull Group gp, final double tolerance, final double resamplingStep) {
+		super(gp);
+		this.tolerance = tolerance;
+		this.resamplingStep = resamplingStep;
+		freehands = Collections.emptyList();
+		oldPoints = Collections.emptyList();
+		newPoints = Collections.emptyList();
+	}
+
+	private static @NotNull List<Freehand> getFreehands(final @NotNull Group gp) {
+		return gp.getShapes().stream().filter(sh -> sh instanceof Freehand).map(sh -> (Freehand) sh).collect(Collectors.toList());
+	}
+
+	/**
+	 * @param mm A distance in mm.
+	 * @return The distance in the coordinate system of the shapes.
+	 */
+	private static double toShapeUnit(final double mm) {
+		return mm / 10d * Shape.PPC;
+	}
+
+	@Override
+	public boolean canDo() {
+		return MathUtils.INST.isValidCoord(tolerance) && MathUtils.INST.isValidCoord(resamplingStep) && tolerance >= 0d && resamplingStep >= 0d &&
+			(tolerance > 0d || resamplingStep > 0d) && shape.getShapes().stream().anyMatch(sh -> sh instanceof Freehand);
+	}
+
+	@Override
+	protected void createMemento() {
+		mementoModified = shape.isModified();
+		freehands = getFreehands(shape);
+		oldPoints = freehands.stream().map(fh -> List.copyOf(fh.getPoints())).collect(Collectors.toList());
+	}
+
+	@Override
+	protected void doCmdBody() {
+		// The model is only read and modified by the current thread: the coordinates are copied into
+		// primitive arrays, simplified in parallel, and the produced points are then set in the shapes.
+		final double tol = toShapeUnit(tolerance);
+		final double step = toShapeUnit(resamplingStep);
+		final List<double[]> coords = oldPoints.stream().map(pts -> CurveGeometryKernel.toCoordinates(pts)).collect(Collectors.toList());
+		final List<double[]> simplified = coords.parallelStream()
+			.map(xy -> simplify(xy, tol, step))
+			.collect(Collectors.toList());
+
+		newPoints = IntStream.range(0, oldPoints.size())
+			.mapToObj(i -> Arrays.equals(coords.get(i), simplified.get(i)) ? oldPoints.get(i) : toPoints(simplified.get(i)))
+			.collect(Collectors.toList());
+
+		setPoints(newPoints);
+		shape.setModified(true);
+	}
+
+	/**
+	 * @return The coordinates of the simplified points.
+	 */
+	private static @NotNull double[] simplify(final @NotNull double[] xy, final double tol, final double step) {
+		final double[] resampled = CurveGeometryKernel.INST.resample(xy, step);
+		final int[] kept = CurveGeometryKernel.INST.simplify(resampled, tol);
+
+		if(kept.length * 2 == resampled.length) {
+			return resampled;
+		}
+
+		final double[] result = new double[kept.length * 2];
+		for(int i = 0; i < kept.length; i++) {
+			result[i * 2] = resampled[kept[i] * 2];
+			result[i * 2 + 1] = resampled[kept[i] * 2 + 1];
+		}
+		return result;
+	}
+
+	/**
+	 * @return The points corresponding to the given coordinates.
+	 */
+	private static @NotNull List<Point> toPoints(final @NotNull double[] xy) {
+		final List<Point> pts = new ArrayList<>(xy.length / 2);
+		for(int i = 0; i < xy.length; i += 2) {
+			pts.add(ShapeFactory.INST.createPoint(xy[i], xy[i + 1]));
+		}
+		return pts;
+	}
+
+	private void setPoints(final @NotNull List<List<Point>> pts) {
+		for(int i = 0, size = freehands.size(); i < size; i++) {
+			freehands.get(i).setPoints(pts.get(i));
+		}
+	}
+
+	@Override
+	public boolean hadEffect() {
+		return super.hadEffect() && IntStream.range(0, newPoints.size()).anyMatch(i -> newPoints.get(i) != oldPoints.get(i));
+	}
+
+	@Override
+	public void undo() {
+		setPoints(oldPoints);
+		shape.setModified(mementoModified);
+	}
+
+	@Override
+	public void redo() {
+		setPoints(newPoints);
+		shape.setModified(true);
+	}
+
+	@Override
+	public @NotNull String getUndoName(final @NotNull ResourceBundle bundle) {
+		return bundle.getString("simplifyFreehands");
+	}
+
+	@Override
+	public long getMementoFootprint() {
+		return DEFAULT_FOOTPRINT + (getNbPointsBefore() + getNbPointsAfter()) * (POINT_FOOTPRINT + REF_FOOTPRINT);
+	}
+
+	/**
+	 * @return The number of points of the freehand shapes before the simplification.
+	 */
+	public int getNbPointsBefore() {
+		return oldPoints.stream().mapToInt(pts -> pts.size()).sum();
+	}
+
+	/**
+	 * @return The number of points of the freehand shapes after the simplification.
+	 */
+	public int getNbPointsAfter() {
+		return newPoints.stream().mapToInt(pts -> pts.size()).sum();
+	}
+
+	/**
+	 * @return The maximal distance (in mm) between a simplified freehand shape and the original one.
+	 */
+	public double getTolerance() {
+		return tolerance;
+	}
+
+	/**
+	 * @return The distance (in mm) between two resampled points. 0: no resampling.
+	 */
+	public double getResamplingStep() {
+		return resamplingStep;
+	}
+}
@@ -93,6 +93,20 @@ public class TranslateShapes extends ShapeCmdImpl<Group> implements Undoable, Mo
 		return bundle.getString("translation");
 	}
 
+	/**
+	 * @return The x vector translation.
+	 */
+	public double getTx() {
+		return tx;
+	}
+
+	/**
+	 * @return The y vector translation.
+	 */
+	public double getTy() {
+		return ty;
+	}
+
 	/**
 	 * @param theTx The x vector translation.
 	 * @param theTy The y vector translation.
@@ -19,9 +19,9 @@ import org.jetbrains.annotations.NotNull;
  * A handler for moving control points (for Bézier curves).
  * @author Arnaud BLOUIN
  */
-public class CtrlPointHandler extends Ellipse implements Handler {
+public class CtrlPointHandler extends Ellipse implements PointHandler {
 	/** The control point to move. */
-	private final @NotNull Point point;
+	private @NotNull Point point;
 
 	/**
 	 * Creates the handler.
@@ -29,13 +29,18 @@ public class CtrlPointHandler extends Ellipse implements Handler {
 	 */
 	public CtrlPointHandler(final @NotNull Point pt) {
 		super();
-		point = pt;
 		setRadiusX(DEFAULT_SIZE / 2d);
 		setRadiusY(DEFAULT_SIZE / 2d);
-		translateXProperty().bind(Bindings.createDoubleBinding(() -> pt.getX() - DEFAULT_SIZE / 2d, pt.xProperty()));
-		translateYProperty().bind(Bindings.createDoubleBinding(() -> pt.getY() - DEFAULT_SIZE / 2d, pt.yProperty()));
+		point = pt;
 		setStroke(null);
 		setFill(DEFAULT_COLOR);
+		bindToPoint();
+	}
+
+	private void bindToPoint() {
+		final Point pt = point;
+		translateXProperty().bind(Bindings.createDoubleBinding(() -> pt.getX() - DEFAULT_SIZE / 2d, pt.xProperty()));
+		translateYProperty().bind(Bindings.createDoubleBinding(() -> pt.getY() - DEFAULT_SIZE / 2d, pt.yProperty()));
 	}
 
 	@Override
@@ -47,7 +52,15 @@ public class CtrlPointHandler extends Ellipse implements Handler {
 	/**
 	 * @return The control point controlled by the handler.
 	 */
+	@Override
 	public @NotNull Point getPoint() {
 		return point;
 	}
+
+	@Override
+	public void setPoint(final @NotNull Point pt) {
+		flush();
+		point = pt;
+		bindToPoint();
+	}
 }
@@ -19,22 +19,27 @@ import org.jetbrains.annotations.NotNull;
  * A handler that moves a point of a shape.
  * @author Arnaud BLOUIN
  */
-public class MovePtHandler extends Rectangle implements Handler {
+public class MovePtHandler extends Rectangle implements PointHandler {
 	/** The point moved by the handler. */
-	private final @NotNull Point point;
+	private @NotNull Point point;
 
 	/**
 	 * The constructor by default.
 	 */
 	public MovePtHandler(final @NotNull Point pt) {
 		super();
-		point = pt;
 		setWidth(DEFAULT_SIZE);
 		setHeight(DEFAULT_SIZE);
-		translateXProperty().bind(Bindings.createDoubleBinding(() -> pt.getX() - DEFAULT_SIZE / 2d, pt.xProperty()));
-		translateYProperty().bind(Bindings.createDoubleBinding(() -> pt.getY() - DEFAULT_SIZE / 2d, pt.yProperty()));
+		point = pt;
 		setStroke(null);
 		setFill(DEFAULT_COLOR);
+		bindToPoint();
+	}
+
+	private void bindToPoint() {
+		final Point pt = point;
+		translateXProperty().bind(Bindings.createDoubleBinding(() -> pt.getX() - DEFAULT_SIZE / 2d, pt.xProperty()));
+		translateYProperty().bind(Bindings.createDoubleBinding(() -> pt.getY() - DEFAULT_SIZE / 2d, pt.yProperty()));
 	}
 
 	@Override
@@ -46,7 +51,15 @@ public class MovePtHandler extends Rectangle implements Handler {
 	/**
 	 * @return The point controlled by the handler.
 	 */
+	@Override
 	public @NotNull Point getPoint() {
 		return point;
 	}
+
+	@Override
+	public void setPoint(final @NotNull Point pt) {
+		flush();
+		point = pt;
+		bindToPoint();
+	}
 }
@@ -0,0 +1,32 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.handler;
+
+import net.sf.latexdraw.model.api.shape.Point;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The API for the handlers that manipulate a point of a shape.
+ * Such handlers can be bound to another point so that they can be pooled.
+ * @author Arnaud BLOUIN
+ */
+public interface PointHandler extends Handler {
+	/**
+	 * @return The point controlled by the handler.
+	 */
+	@NotNull Point getPoint();
+
+	/**
+	 * Binds the handler to the given point.
+	 * @param pt The new point to control.
+	 */
+	void setPoint(final @NotNull Point pt);
+}
@@ -56,7 +56,11 @@ public class BadaboomController extends JfxInstrument implements Initializable {
 	@Override
 	public void initialize(final URL location, final ResourceBundle resources) {
 		final ObservableList<TableColumn<Throwable, ?>> cols = table.getColumns();
-		((TableColumn<Throwable, String>) cols.get(0)).setCellValueFactory(cell -> new ReadOnlyStringWrapper(cell.getValue().toString()));
+		((TableColumn<Throwable, String>) cols.get(0)).setCellValueFactory(cell -> {
+			// Repeated errors are listed once, with their number of occurrences
+			final int occurrences = BadaboomCollector.INSTANCE.getOccurrences(cell.getValue());
+			return new ReadOnlyStringWrapper(occurrences > 1 ? cell.getValue() + " (x" + occurrences + ')' : cell.getValue().toString()); //NON-NLS
+		});
 		((TableColumn<Throwable, String>) cols.get(1)).setCellValueFactory(cell -> new ReadOnlyStringWrapper(cell.getValue().getMessage()));
 		((TableColumn<Throwable, String>) cols.get(2)).setCellValueFactory(cell -> {
 			final StackTraceElement[] stackTrace = cell.getValue().getStackTrace();
@@ -11,12 +11,19 @@
 package net.sf.latexdraw.instrument;
 
 import io.github.interacto.jfx.interaction.library.DnD;
+import io.reactivex.rxjavafx.observables.JavaFxObservable;
+import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
 import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -32,8 +39,8 @@ import net.sf.latexdraw.command.shape.ScaleShapes;
 import net.sf.latexdraw.command.shape.ShapeProperties;
 import net.sf.latexdraw.handler.ArcAngleHandler;
 import net.sf.latexdraw.handler.CtrlPointHandler;
-import net.sf.latexdraw.handler.Handler;
 import net.sf.latexdraw.handler.MovePtHandler;
+import net.sf.latexdraw.handler.PointHandler;
 import net.sf.latexdraw.handler.RotationHandler;
 import net.sf.latexdraw.handler.ScaleHandler;
 import net.sf.latexdraw.model.ShapeFactory;
@@ -46,6 +53,7 @@ import net.sf.latexdraw.model.api.shape.ModifiablePointsShape;
 import net.sf.latexdraw.model.api.shape.Point;
 import net.sf.latexdraw.model.api.shape.Position;
 import net.sf.latexdraw.model.api.shape.Shape;
+import net.sf.latexdraw.util.BadaboomCollector;
 import net.sf.latexdraw.util.Inject;
 import net.sf.latexdraw.view.jfx.Canvas;
 import net.sf.latexdraw.view.jfx.MagneticGrid;
@@ -70,6 +78,12 @@ public class Border extends CanvasInstrument implements Initializable {
 	final ArcAngleHandler arcHandlerEnd;
 	/** The handler that rotates shapes. */
 	RotationHandler rotHandler;
+	/** The unused handlers that move points, kept for later reuse. */
+	private final @NotNull Deque<MovePtHandler> mvPtHandlersPool;
+	/** The unused handlers that move control points, kept for later reuse. */
+	private final @NotNull Deque<CtrlPointHandler> ctrlPtHandlersPool;
+	/** True: the points of the selected shape are too numerous and only some of them have a handler. */
+	private boolean sampledPtHandlers;
 
 	private final @NotNull ShapeCoordDimCustomiser coordDimCustomiser;
 
@@ -83,6 +97,9 @@ public class Border extends CanvasInstrument implements Initializable {
 		arcHandlerStart = new ArcAngleHandler(true);
 		arcHandlerEnd = new ArcAngleHandler(false);
 		scaleHandlers = FXCollections.observableArrayList();
+		mvPtHandlersPool = new ArrayDeque<>();
+		ctrlPtHandlersPool = new ArrayDeque<>();
+		sampledPtHandlers = false;
 	}
 
 
@@ -131,6 +148,7 @@ public class Border extends CanvasInstrument implements Initializable {
 
 	private void updatePointsHandlers() {
 		final Group selection = canvas.getDrawing().getSelection();
+		sampledPtHandlers = false;
 
 		if(selection.size() == 1) {
 			selection.getShapeAt(0).ifPresent(sh -> {
@@ -156,30 +174,59 @@ public class Border extends CanvasInstrument implements Initializable {
 
 	private void updateMvPtHandlers(final Shape selectedShape) {
 		if(selectedShape instanceof ModifiablePointsShape) {
-			initialisePointHandler(mvPtHandlers, pt -> new MovePtHandler(pt), selectedShape.getPoints());
+			initialisePointHandler(mvPtHandlers, mvPtHandlersPool, pt -> new MovePtHandler(pt), selectedShape.getPoints());
 		}
 	}
 
 	private void updateCtrlPtHandlers(final Shape selectedShape) {
 		if(selectedShape instanceof BezierCurve) {
 			final BezierCurve pts = (BezierCurve) selectedShape;
-			initialisePointHandler(ctrlPt1Handlers, pt -> new CtrlPointHandler(pt), pts.getFirstCtrlPts());
-			initialisePointHandler(ctrlPt2Handlers, pt -> new CtrlPointHandler(pt), pts.getSecondCtrlPts());
+			initialisePointHandler(ctrlPt1Handlers, ctrlPtHandlersPool, pt -> new CtrlPointHandler(pt), pts.getFirstCtrlPts());
+			initialisePointHandler(ctrlPt2Handlers, ctrlPtHandlersPool, pt -> new CtrlPointHandler(pt), pts.getSecondCtrlPts());
 		}
 	}
 
-	private <T extends Node & Handler> void initialisePointHandler(final List<T> handlers, final Function<Point, T> supplier, final List<Point> pts) {
-		handlers.forEach(handler -> {
-			canvas.removeFromWidgetLayer(handler);
-			handler.flush();
-		});
-		handlers.clear();
-
-		pts.forEach(pt -> {
-			final T handler = supplier.apply(pt);
-			canvas.addToWidgetLayer(handler);
-			handlers.add(handler);
-		});
+	/**
+	 * Binds the handlers to the given points. Current handlers are rebound to the new points instead of being recreated;
+	 * the unused ones go to the pool. Shapes with many points only get handlers for some of their visible points.
+	 */
+	private <T extends Node & PointHandler> void initialisePointHandler(final List<T> handlers, final Deque<T> pool, final Function<Point, T> supplier,
+						final List<Point> pts) {
+		final List<Point> handledPts = PointHandlerSampler.sample(pts, canvas.getVisibleDrawingBounds());
+		final int nbReused = Math.min(handlers.size(), handledPts.size());
+
+		sampledPtHandlers |= PointHandlerSampler.isSampled(pts);
+
+		for(int i = 0; i < nbReused; i++) {
+			handlers.get(i).setPoint(handledPts.get(i));
+			handlers.get(i).setVisible(true);
+		}
+
+		if(handlers.size() > nbReused) {
+			// Removing the unused handlers at once
+			final List<T> unused = new ArrayList<>(handlers.subList(nbReused, handlers.size()));
+			handlers.subList(nbReused, handlers.size()).clear();
+			canvas.removeAllFromWidgetLayer(unused);
+			unused.forEach(handler -> {
+				handler.flush();
+				if(pool.size() < PointHandlerSampler.MAX_HANDLERS) {
+					pool.push(handler);
+				}
+			});
+		}else {
+			// Adding the missing handlers at once
+			final List<T> added = handledPts.subList(nbReused, handledPts.size()).stream().map(pt -> {
+				final T handler = pool.poll();
+				if(handler == null) {
+					return supplier.apply(pt);
+				}
+				handler.setPoint(pt);
+				handler.setVisible(true);
+				return handler;
+			}).collect(Collectors.toList());
+			canvas.addAllToWidgetLayer(added);
+			handlers.addAll(added);
+		}
 	}
 
 	private void configureMovePointBinding() {
@@ -208,6 +255,13 @@ public class Border extends CanvasInstrument implements Initializable {
 
 	@Override
 	protected void configureBindings() {
+		// Scrolling or zooming changes the visible points: the handlers of shapes with many points must be updated.
+		disposables.add(JavaFxObservable.valuesOf(canvas.localToSceneTransformProperty())
+			.throttleLast(50, TimeUnit.MILLISECONDS)
+			.observeOn(JavaFxScheduler.platform())
+			.filter(tr -> sampledPtHandlers && isActivated())
+			.subscribe(tr -> updatePointsHandlers(), ex -> BadaboomCollector.INSTANCE.add(ex)));
+
 		configureDnD2ScaleBinding();
 
 		configureMovePointBinding();
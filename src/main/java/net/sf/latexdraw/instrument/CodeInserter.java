@@ -31,18 +31,16 @@ import javafx.stage.StageStyle;
 import javafx.util.BuilderFactory;
 import net.sf.latexdraw.command.InsertPSTCode;
 import net.sf.latexdraw.model.api.shape.Drawing;
-import net.sf.latexdraw.parser.pst.PSTContext;
 import net.sf.latexdraw.parser.pst.PSTLatexdrawListener;
-import net.sf.latexdraw.parser.pst.PSTLexer;
 import net.sf.latexdraw.parser.pst.PSTParser;
+import net.sf.latexdraw.parser.pst.PSTParsers;
 import net.sf.latexdraw.util.BadaboomCollector;
 import net.sf.latexdraw.util.Inject;
 import net.sf.latexdraw.util.Injector;
+import net.sf.latexdraw.util.PerfMetrics;
 import net.sf.latexdraw.util.SystemUtils;
 import org.antlr.v4.runtime.ANTLRErrorListener;
 import org.antlr.v4.runtime.BaseErrorListener;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -131,14 +129,7 @@ public final class CodeInserter extends JfxInstrument implements Initializable {
 		// On each text change, the code is parsed and errors reported.
 		text.textProperty().addListener((observable, oldValue, newValue) -> {
 			errorLog.setText("");
-			final PSTLexer lexer = new PSTLexer(CharStreams.fromString(newValue));
-			lexer.addErrorListener(errorListener);
-			final PSTParser parser = new PSTParser(new CommonTokenStream(lexer));
-			parser.addParseListener(listener);
-			parser.addErrorListener(errorListener);
-			parser.pstCode(new PSTContext());
-			parser.getInterpreter().clearDFA();
-			lexer.getInterpreter().clearDFA();
+			PSTParsers.INSTANCE.parse(newValue, listener, errorListener);
 		});
 	}
 
@@ -146,7 +137,7 @@ public final class CodeInserter extends JfxInstrument implements Initializable {
 	/** @return The created latexdraw dialogue box. */
 	@NotNull Optional<Stage> getInsertCodeDialogue() {
 		if(codeInserterDialogue == null) {
-			try {
+			try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("fxml.InsertCode.fxml")) { //NON-NLS
 				// The FXML file only loaded only when this method is called: this JFX controller is created by
 				// the app injector and lives as a singleton. A call to this function loads the FXML.
 				final Parent root = FXMLLoader.load(getClass().getResource("/fxml/InsertCode.fxml"), lang, //NON-NLS
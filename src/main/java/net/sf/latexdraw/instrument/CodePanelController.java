@@ -10,6 +10,9 @@
  */
 package net.sf.latexdraw.instrument;
 
+import io.github.interacto.command.CommandsRegistry;
+import io.github.interacto.command.library.Redo;
+import io.github.interacto.command.library.Undo;
 import java.net.URL;
 import java.util.Objects;
 import java.util.ResourceBundle;
@@ -17,6 +20,8 @@ import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Tab;
 import javafx.scene.control.TextArea;
+import net.sf.latexdraw.command.Modifying;
+import net.sf.latexdraw.util.BadaboomCollector;
 import net.sf.latexdraw.util.Inject;
 import net.sf.latexdraw.view.jfx.Canvas;
 import net.sf.latexdraw.view.jfx.MagneticGrid;
@@ -41,7 +46,37 @@ public class CodePanelController extends CanvasInstrument implements Initializab
 
 	@Override
 	public void initialize(final URL location, final ResourceBundle resources) {
-		tabPST.selectedProperty().addListener(evt -> codeArea.setText(pstGenerator.getDrawingCode()));
+		tabPST.selectedProperty().addListener(evt -> updateCode());
+		// The displayed code follows the modifications of the drawing while the code tab is selected
+		addDisposable(CommandsRegistry.getInstance().commands()
+			.filter(c -> tabPST.isSelected() && (c instanceof Modifying || c instanceof Undo || c instanceof Redo))
+			.subscribe(c -> updateCode(), ex -> BadaboomCollector.INSTANCE.add(ex)));
+	}
+
+	/**
+	 * Updates the code area. The shape code is memoised by the generator, and only the
+	 * fragment of text that differs from the displayed code is replaced.
+	 */
+	void updateCode() {
+		final String code = pstGenerator.getDrawingCode();
+		final String current = codeArea.getText();
+		final int maxLength = Math.min(code.length(), current.length());
+		int start = 0;
+
+		while(start < maxLength && code.charAt(start) == current.charAt(start)) {
+			start++;
+		}
+
+		if(start == code.length() && start == current.length()) {
+			return;
+		}
+
+		int end = 0;
+		while(end < maxLength - start && code.charAt(code.length() - 1 - end) == current.charAt(current.length() - 1 - end)) {
+			end++;
+		}
+
+		codeArea.replaceText(start, current.length() - end, code.substring(start, code.length() - end));
 	}
 
 	@Override
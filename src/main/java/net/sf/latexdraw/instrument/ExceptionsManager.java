@@ -29,6 +29,7 @@ import javafx.util.BuilderFactory;
 import net.sf.latexdraw.util.BadaboomCollector;
 import net.sf.latexdraw.util.Inject;
 import net.sf.latexdraw.util.Injector;
+import net.sf.latexdraw.util.PerfMetrics;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -56,7 +57,7 @@ public final class ExceptionsManager extends JfxInstrument implements Initializa
 	 */
 	public Stage getStageEx() {
 		if(stageEx == null) {
-			try {
+			try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("fxml.Badaboom.fxml")) { //NON-NLS
 				final Parent root = FXMLLoader.load(getClass().getResource("/fxml/Badaboom.fxml"), lang, //NON-NLS
 					injector.getInstance(BuilderFactory.class), cl -> injector.getInstance(cl));
 				final Scene scene = new Scene(root);
@@ -147,7 +147,8 @@ public class Exporter extends JfxInstrument implements Initializable {
 			.end(() -> statusBar.getLabel().setText(prefs.getBundle().getString("exportOK")));
 
 		bindingFragment
-			.toProduce(i -> new Export(canvas, pstGen, (ExportFormat) i.getWidget().getUserData(), getExportDialog((ExportFormat) i.getWidget().getUserData())))
+			.toProduce(i -> new Export(canvas, pstGen, (ExportFormat) i.getWidget().getUserData(), getExportDialog((ExportFormat) i.getWidget().getUserData()),
+				prefs.getExportDPI()))
 			.on(menuItemBMP, menuItemEPSLatex, menuItemJPG, menuItemPDF, menuItemPNG, menuItemPST)
 			.when(i -> i.getWidget().getUserData() instanceof ExportFormat)
 			.bind();
@@ -188,6 +188,8 @@ public class Hand extends CanvasInstrument implements Flushable {
 
 	/**
 	 * A DnD on a shape view allows to translate the underlying shape.
+	 * While dragging, only the views are moved (see Canvas::setSelectionTranslation):
+	 * the shapes are translated once, when the DnD ends.
 	 */
 	private void bindDnDTranslate() {
 		nodeBinder()
@@ -198,16 +200,18 @@ public class Hand extends CanvasInstrument implements Flushable {
 				final Point startPt = grid.getTransformedPointToGrid(i.getSrcScenePoint());
 				final Point endPt = grid.getTransformedPointToGrid(i.getTgtScenePoint());
 				c.setT((endPt.getX() - startPt.getX()) / canvas.getZoom(), (endPt.getY() - startPt.getY()) / canvas.getZoom());
-				canvas.update();
+				canvas.setSelectionTranslation(c.getTx(), c.getTy());
 			})
 			.when(i -> i.getButton() == MouseButton.PRIMARY && !canvas.getDrawing().getSelection().isEmpty())
-			.continuousExecution()
 			.first((i, c) -> {
 				i.getSrcObject().ifPresent(node -> node.requestFocus());
 				canvas.setCursor(Cursor.MOVE);
 			})
-			.endOrCancel(i -> canvas.setCursor(Cursor.DEFAULT))
-			.cancel(i -> canvas.update())
+			.endOrCancel(i -> {
+				canvas.clearSelectionTranslation();
+				canvas.setCursor(Cursor.DEFAULT);
+				canvas.update();
+			})
 			.strictStart()
 			.bind();
 	}
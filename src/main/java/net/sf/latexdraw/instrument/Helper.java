@@ -29,6 +29,7 @@ import javafx.util.BuilderFactory;
 import net.sf.latexdraw.util.BadaboomCollector;
 import net.sf.latexdraw.util.Inject;
 import net.sf.latexdraw.util.Injector;
+import net.sf.latexdraw.util.PerfMetrics;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -50,6 +51,10 @@ public final class Helper extends JfxInstrument implements Initializable {
 	private Stage aboutFrame;
 	/** The shortcut dialogue box. */
 	private Stage shortcutFrame;
+	/** This menu item shows the performance metrics panel. */
+	@FXML private MenuItem metricsItem;
+	/** The performance metrics dialogue box. */
+	private Stage metricsFrame;
 	@FXML private MenuItem manuelItem;
 	private final @NotNull HostServices services;
 	private final @NotNull ResourceBundle lang;
@@ -78,6 +83,10 @@ public final class Helper extends JfxInstrument implements Initializable {
 			.on(shortcutItem)
 			.bind();
 
+		Bindings.menuItem2OpenStage(this::getMetricsFrame, true, this)
+			.on(metricsItem)
+			.bind();
+
 		Bindings.menuItem2OpenWebPage("https://github.com/arnobl/latexdraw/wiki/Manual#how-to-report-a-bug", services, this) //NON-NLS
 			.on(reportBugItem)
 			.bind();
@@ -98,7 +107,7 @@ public final class Helper extends JfxInstrument implements Initializable {
 	/** @return The created latexdraw dialogue box. */
 	Stage getAboutFrame() {
 		if(aboutFrame == null) {
-			try {
+			try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("fxml.About.fxml")) { //NON-NLS
 				final Parent root = FXMLLoader.load(getClass().getResource("/fxml/About.fxml"), lang, //NON-NLS
 					injector.getInstance(BuilderFactory.class), cl -> injector.getInstance(cl));
 				final Scene scene = new Scene(root);
@@ -116,7 +125,7 @@ public final class Helper extends JfxInstrument implements Initializable {
 	/** @return The created shortcut dialogue box. */
 	Stage getShortcutsFrame() {
 		if(shortcutFrame == null) {
-			try {
+			try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("fxml.Shortcuts.fxml")) { //NON-NLS
 				final Parent root = FXMLLoader.load(getClass().getResource("/fxml/Shortcuts.fxml"), lang, //NON-NLS
 					injector.getInstance(BuilderFactory.class), cl -> injector.getInstance(cl));
 				final Scene scene = new Scene(root);
@@ -130,4 +139,22 @@ public final class Helper extends JfxInstrument implements Initializable {
 		}
 		return shortcutFrame;
 	}
+
+	/** @return The created performance metrics dialogue box. */
+	Stage getMetricsFrame() {
+		if(metricsFrame == null) {
+			try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("fxml.Metrics.fxml")) { //NON-NLS
+				final Parent root = FXMLLoader.load(getClass().getResource("/fxml/Metrics.fxml"), lang, //NON-NLS
+					injector.getInstance(BuilderFactory.class), cl -> injector.getInstance(cl));
+				final Scene scene = new Scene(root);
+				metricsFrame = new Stage(StageStyle.UTILITY);
+				metricsFrame.setTitle(lang.getString("perfMetrics"));
+				metricsFrame.setScene(scene);
+				metricsFrame.centerOnScreen();
+			}catch(final IOException ex) {
+				BadaboomCollector.INSTANCE.add(ex);
+			}
+		}
+		return metricsFrame;
+	}
 }
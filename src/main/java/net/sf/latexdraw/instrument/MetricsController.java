@@ -0,0 +1,130 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.instrument;
+
+import io.github.interacto.jfx.instrument.JfxInstrument;
+import io.github.interacto.jfx.interaction.library.ButtonPressed;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.stage.FileChooser;
+import net.sf.latexdraw.util.BadaboomCollector;
+import net.sf.latexdraw.util.PerfMetrics;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The controller of the performance metrics frame.
+ * @author Arnaud Blouin
+ */
+public class MetricsController extends JfxInstrument implements Initializable {
+	@FXML private TableView<PerfMetrics.Metric> table;
+	@FXML private TableColumn<PerfMetrics.Metric, String> nameCol;
+	@FXML private TableColumn<PerfMetrics.Metric, String> kindCol;
+	@FXML private TableColumn<PerfMetrics.Metric, String> countCol;
+	@FXML private TableColumn<PerfMetrics.Metric, String> meanCol;
+	@FXML private TableColumn<PerfMetrics.Metric, String> p95Col;
+	@FXML private TableColumn<PerfMetrics.Metric, String> maxCol;
+	@FXML private CheckBox enabled;
+	@FXML private Button refresh;
+	@FXML private Button clear;
+	@FXML private Button export;
+	private FileChooser fileChooser;
+
+	/**
+	 * Creates the controller.
+	 */
+	public MetricsController() {
+		super();
+	}
+
+	@Override
+	protected void configureBindings() {
+		anonCmdBinder(this::refreshMetrics)
+			.usingInteraction(ButtonPressed::new)
+			.on(refresh)
+			.bind();
+
+		anonCmdBinder(() -> {
+			PerfMetrics.INSTANCE.clear();
+			refreshMetrics();
+		})
+			.usingInteraction(ButtonPressed::new)
+			.on(clear)
+			.bind();
+
+		anonCmdBinder(() -> {
+			final File file = getFileChooser().showSaveDialog(null);
+			if(file != null) {
+				try {
+					PerfMetrics.INSTANCE.exportJSON(file.toPath());
+				}catch(final IOException ex) {
+					BadaboomCollector.INSTANCE.add(ex);
+				}
+			}
+		})
+			.usingInteraction(ButtonPressed::new)
+			.on(export)
+			.bind();
+	}
+
+	@Override
+	public void initialize(final URL location, final ResourceBundle resources) {
+		nameCol.setCellValueFactory(cell -> new ReadOnlyStringWrapper(cell.getValue().getName()));
+		kindCol.setCellValueFactory(cell -> new ReadOnlyStringWrapper(cell.getValue().getKind().name()));
+		countCol.setCellValueFactory(cell -> new ReadOnlyStringWrapper(String.valueOf(cell.getValue().getCount())));
+		meanCol.setCellValueFactory(cell ->
+			new ReadOnlyStringWrapper(formatValue(cell.getValue(), Math.round(cell.getValue().getMean()))));
+		p95Col.setCellValueFactory(cell ->
+			new ReadOnlyStringWrapper(formatValue(cell.getValue(), cell.getValue().getPercentile(0.95))));
+		maxCol.setCellValueFactory(cell ->
+			new ReadOnlyStringWrapper(formatValue(cell.getValue(), cell.getValue().getMax())));
+		table.getColumns().forEach(col -> col.prefWidthProperty().bind(table.widthProperty().divide(table.getColumns().size())));
+
+		enabled.setSelected(PerfMetrics.INSTANCE.isEnabled());
+		enabled.selectedProperty().addListener((observable, oldValue, newValue) -> PerfMetrics.INSTANCE.setEnabled(newValue));
+		refreshMetrics();
+		setActivated(true);
+	}
+
+	/**
+	 * Reloads the metrics displayed in the table.
+	 */
+	void refreshMetrics() {
+		table.getItems().setAll(PerfMetrics.INSTANCE.getMetrics());
+	}
+
+	/**
+	 * @return The metric value as text: timer values are expressed in milliseconds.
+	 */
+	private static @NotNull String formatValue(final @NotNull PerfMetrics.Metric metric, final long value) {
+		if(metric.getKind() == PerfMetrics.Metric.Kind.TIMER) {
+			return String.format("%.3f ms", value / (double) TimeUnit.MILLISECONDS.toNanos(1L)); //NON-NLS
+		}
+		return String.valueOf(value);
+	}
+
+	private @NotNull FileChooser getFileChooser() {
+		if(fileChooser == null) {
+			fileChooser = new FileChooser();
+			fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("JSON", "*.json")); //NON-NLS
+		}
+		return fileChooser;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.instrument;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javafx.geometry.Bounds;
+import net.sf.latexdraw.handler.Handler;
+import net.sf.latexdraw.model.api.shape.Point;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Selects the points of a shape that deserve a handler: shapes with many points (freehand, large polylines, etc.)
+ * only get handlers for their points visible in the viewport, thinned so that handlers do not overlap.
+ * Thinning relies on a grid index of the points (one handler per grid cell at most).
+ * @author Arnaud Blouin
+ */
+final class PointHandlerSampler {
+	/** Below this number of points, all the points of a shape get a handler. */
+	static final int LOD_THRESHOLD = 500;
+	/** The maximal number of handlers created for a shape with many points. */
+	static final int MAX_HANDLERS = 500;
+
+	private PointHandlerSampler() {
+		super();
+	}
+
+	/**
+	 * @param pts The points of the shape.
+	 * @return True if the points are too numerous to all get a handler.
+	 */
+	static boolean isSampled(final @NotNull List<Point> pts) {
+		return pts.size() > LOD_THRESHOLD;
+	}
+
+	/**
+	 * Selects the points that will get a handler.
+	 * @param pts The points of the shape.
+	 * @param visibleBounds The visible part of the drawing, if known.
+	 * @return The selected points, in their original order. All the points if they are not too numerous.
+	 */
+	static @NotNull List<Point> sample(final @NotNull List<Point> pts, final @NotNull Optional<Bounds> visibleBounds) {
+		if(!isSampled(pts)) {
+			return pts;
+		}
+
+		final List<Point> visiblePts = visibleBounds
+			.map(bounds -> pts.stream().filter(pt -> bounds.contains(pt.getX(), pt.getY())).collect(Collectors.toList()))
+			.orElse(pts);
+
+		// Handlers closer than their size overlap: a single handler per cell of that size.
+		double cellSize = Handler.DEFAULT_SIZE;
+		List<Point> sampled = thin(visiblePts, cellSize);
+		while(sampled.size() > MAX_HANDLERS) {
+			cellSize *= 2d;
+			sampled = thin(visiblePts, cellSize);
+		}
+		return sampled;
+	}
+
+	private static @NotNull List<Point> thin(final @NotNull List<Point> pts, final double cellSize) {
+		final Set<Long> cells = new HashSet<>();
+		final List<Point> sampled = new ArrayList<>();
+
+		for(final Point pt : pts) {
+			final long cellX = (long) Math.floor(pt.getX() / cellSize);
+			final long cellY = (long) Math.floor(pt.getY() / cellSize);
+			if(cells.add((cellX << 32) ^ (cellY & 0xFFFFFFFFL))) {
+				sampled.add(pt);
+			}
+		}
+		return sampled;
+	}
+}
@@ -56,6 +56,8 @@ public class PreferencesSetter extends JfxInstrument implements Initializable {
 	@FXML protected ComboBox<Locale> langList;
 	/** The field used to modifies the gap of the customised grid. */
 	@FXML protected Spinner<Integer> magneticGridGap;
+	/** The widget used to define the resolution of the exported pictures. */
+	@FXML protected Spinner<Integer> exportDPIField;
 	/** The widget used to defines the number of recent file to keep in memory. */
 	@FXML protected Spinner<Integer> nbRecentFilesField;
 	/** Contains the different possible kind of grids. */
@@ -68,6 +70,7 @@ public class PreferencesSetter extends JfxInstrument implements Initializable {
 	/** to avoid GC'd */
 	private ObjectProperty<Integer> gridGapProp;
 	private ObjectProperty<Integer> recentFilesNb;
+	private ObjectProperty<Integer> exportDPIProp;
 
 	@Inject
 	public PreferencesSetter(final PreferencesService prefsService) {
@@ -95,6 +98,9 @@ public class PreferencesSetter extends JfxInstrument implements Initializable {
 		nbRecentFilesField.getValueFactory().valueProperty().bindBidirectional(recentFilesNb);
 		magneticGridGap.getValueFactory().valueProperty().bindBidirectional(gridGapProp);
 
+		exportDPIProp = prefsService.exportDPIProperty().asObject();
+		exportDPIField.getValueFactory().valueProperty().bindBidirectional(exportDPIProp);
+
 		unitChoice.valueProperty().bindBidirectional(prefsService.unitProperty());
 
 		styleList.valueProperty().bindBidirectional(prefsService.gridStyleProperty());
@@ -151,7 +157,8 @@ public class PreferencesSetter extends JfxInstrument implements Initializable {
 	 * @return True if a new version must be checked.
 	 */
 	public boolean isVersionCheckEnable() {
-		return checkNewVersion != null && checkNewVersion.isSelected();
+		// Not read from the widget: the preferences tab is loaded on its first display.
+		return prefsService.checkVersionProperty().get();
 	}
 
 	/**
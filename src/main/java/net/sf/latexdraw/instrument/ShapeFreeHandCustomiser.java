@@ -10,16 +10,20 @@
  */
 package net.sf.latexdraw.instrument;
 
+import io.github.interacto.command.CommandsRegistry;
 import java.net.URL;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.ResourceBundle;
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
 import javafx.scene.control.Spinner;
 import javafx.scene.control.TitledPane;
 import javafx.scene.image.Image;
 import net.sf.latexdraw.command.shape.ShapeProperties;
+import net.sf.latexdraw.command.shape.SimplifyFreeHands;
 import net.sf.latexdraw.model.api.property.FreeHandProp;
 import net.sf.latexdraw.model.api.shape.Drawing;
 import net.sf.latexdraw.model.api.shape.FreeHandStyle;
@@ -39,6 +43,16 @@ public class ShapeFreeHandCustomiser extends ShapePropertyCustomiser implements
 	/** The gap to consider between the points. */
 	@FXML private Spinner<Integer> gapPoints;
 	@FXML private TitledPane mainPane;
+	/** The tolerance (in mm) of the simplification of the selected freehand shapes. */
+	@FXML private Spinner<Double> simplifyTolerance;
+	/** The distance (in mm) between the resampled points. 0: no resampling. */
+	@FXML private Spinner<Double> resamplingStep;
+	@FXML private Button simplifyButton;
+	/** Shows the number of points before and after the latest simplification. */
+	@FXML private Label nbPointsLabel;
+	@FXML private Label toleranceLabel;
+	@FXML private Label resamplingLabel;
+	private ResourceBundle lang;
 
 	@Inject
 	public ShapeFreeHandCustomiser(final Hand hand, final Pencil pencil, final Canvas canvas, final Drawing drawing, final EditingService editing) {
@@ -48,7 +62,13 @@ public class ShapeFreeHandCustomiser extends ShapePropertyCustomiser implements
 	@Override
 	public void initialize(final URL location, final ResourceBundle resources) {
 		super.initialize(location, resources);
+		lang = resources;
 		mainPane.managedProperty().bind(mainPane.visibleProperty());
+		addDisposable(CommandsRegistry.getInstance().commands().subscribe(cmd -> {
+			if(cmd instanceof SimplifyFreeHands) {
+				showNbPoints((SimplifyFreeHands) cmd);
+			}
+		}));
 
 		final Map<FreeHandStyle, Image> cache = new EnumMap<>(FreeHandStyle.class);
 		cache.put(FreeHandStyle.LINES, new Image("/res/freehand/line.png")); //NON-NLS
@@ -62,11 +82,29 @@ public class ShapeFreeHandCustomiser extends ShapePropertyCustomiser implements
 			setActivated(true);
 			freeHandType.getSelectionModel().select(shape.getType());
 			gapPoints.getValueFactory().setValue(shape.getInterval());
+			setSimplificationVisible(hand.isActivated());
 		}else {
 			setActivated(false);
 		}
 	}
 
+	/**
+	 * The simplification concerns the selected shapes: it is not available for the pencil.
+	 */
+	private void setSimplificationVisible(final boolean visible) {
+		simplifyTolerance.setVisible(visible);
+		resamplingStep.setVisible(visible);
+		simplifyButton.setVisible(visible);
+		nbPointsLabel.setVisible(visible);
+		toleranceLabel.setVisible(visible);
+		resamplingLabel.setVisible(visible);
+	}
+
+	private void showNbPoints(final SimplifyFreeHands cmd) {
+		final String text = cmd.getNbPointsBefore() + " \u2192 " + cmd.getNbPointsAfter(); //NON-NLS
+		nbPointsLabel.setText(lang == null ? text : lang.getString("nbPoints") + ' ' + text);
+	}
+
 	@Override
 	protected void setWidgetsVisible(final boolean visible) {
 		mainPane.setVisible(visible);
@@ -76,5 +114,13 @@ public class ShapeFreeHandCustomiser extends ShapePropertyCustomiser implements
 	protected void configureBindings() {
 		addComboPropBinding(freeHandType, ShapeProperties.FREEHAND_STYLE);
 		addSpinnerPropBinding(gapPoints, ShapeProperties.FREEHAND_INTERVAL);
+
+		buttonBinder()
+			.toProduce(() -> new SimplifyFreeHands(canvas.getDrawing().getSelection().duplicateDeep(false), simplifyTolerance.getValue(),
+				resamplingStep.getValue()))
+			.on(simplifyButton)
+			.when(handActiv)
+			.end(() -> update())
+			.bind();
 	}
 }
@@ -12,17 +12,24 @@ package net.sf.latexdraw.instrument;
 
 import io.github.interacto.jfx.command.ActivateInactivateInstruments;
 import io.github.interacto.jfx.instrument.JfxInstrument;
+import java.io.IOException;
 import java.net.URL;
 import java.util.Objects;
 import java.util.ResourceBundle;
 import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
 import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.shape.Rectangle;
+import javafx.util.BuilderFactory;
+import net.sf.latexdraw.util.BadaboomCollector;
 import net.sf.latexdraw.util.Inject;
+import net.sf.latexdraw.util.Injector;
+import net.sf.latexdraw.util.PerfMetrics;
 import net.sf.latexdraw.view.jfx.Canvas;
 import org.jetbrains.annotations.NotNull;
 
@@ -35,6 +42,8 @@ public class TabSelector extends JfxInstrument implements Initializable {
 	@FXML private TabPane tabPane;
 	@FXML private ScrollPane scrollPane;
 	@FXML private Pane canvasPane;
+	/** The preferences tab. Its content is loaded on its first selection. */
+	@FXML private Tab prefTab;
 	private final @NotNull EditingSelector selector;
 	private final @NotNull CopierCutterPaster paster;
 	private final @NotNull UndoRedoManager undo;
@@ -44,11 +53,14 @@ public class TabSelector extends JfxInstrument implements Initializable {
 	private final @NotNull MetaShapeCustomiser meta;
 	private final @NotNull Canvas canvas;
 	private final @NotNull PreferencesSetter prefSetter;
+	private final @NotNull Injector injector;
 
 	@Inject
 	public TabSelector(final EditingSelector selector, final CopierCutterPaster paster, final UndoRedoManager undo, final Zoomer zoomer,
-		final ShapeDeleter deleter, final TextSetter textSetter, final MetaShapeCustomiser meta, final Canvas canvas, final PreferencesSetter prefSetter) {
+		final ShapeDeleter deleter, final TextSetter textSetter, final MetaShapeCustomiser meta, final Canvas canvas, final PreferencesSetter prefSetter,
+		final Injector injector) {
 		super();
+		this.injector = Objects.requireNonNull(injector);
 		this.selector = Objects.requireNonNull(selector);
 		this.paster = Objects.requireNonNull(paster);
 		this.undo = Objects.requireNonNull(undo);
@@ -106,6 +118,23 @@ public class TabSelector extends JfxInstrument implements Initializable {
 		scrollPane.setVvalue(0.4);
 	}
 
+	/**
+	 * Loads the content of the preferences tab if not already done.
+	 * This tab is not visible at start-up so that its loading is deferred to its first selection.
+	 */
+	void loadPreferencesTab() {
+		if(prefTab.getContent() != null) {
+			return;
+		}
+
+		try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("fxml.Preferences.fxml")) { //NON-NLS
+			prefTab.setContent(FXMLLoader.load(getClass().getResource("/fxml/Preferences.fxml"), injector.getInstance(ResourceBundle.class), //NON-NLS
+				injector.getInstance(BuilderFactory.class), cl -> injector.getInstance(cl)));
+		}catch(final IOException ex) {
+			BadaboomCollector.INSTANCE.add(ex);
+		}
+	}
+
 	@Override
 	protected void configureBindings() {
 		tabBinder()
@@ -134,6 +163,8 @@ public class TabSelector extends JfxInstrument implements Initializable {
 					if(i.getWidget().getSelectionModel().getSelectedIndex() == 1) {
 						c.addInstrumentToInactivate(prefSetter);
 					}else {
+						// The widgets of the preferences setter must exist before activating it.
+						loadPreferencesTab();
 						c.addInstrumentToActivate(prefSetter);
 					}
 				}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A singleton that batches model mutations.
+ * While a transaction is running, the views of the shapes do not recompute their costly parts (strokes, fillings, shadow)
+ * on each property change: they register a deferred update instead. The deferred updates are run once,
+ * when the outermost transaction is committed. Transactions can be nested and are confined to the thread that runs them.
+ * @author Arnaud Blouin
+ */
+public final class ModelTransaction {
+	public static final @NotNull ModelTransaction INST = new ModelTransaction();
+
+	private final @NotNull ThreadLocal<State> state;
+
+	private ModelTransaction() {
+		super();
+		state = ThreadLocal.withInitial(() -> new State());
+	}
+
+	/**
+	 * Starts a transaction. Each call must be followed by a call to commit.
+	 */
+	public void begin() {
+		state.get().depth++;
+	}
+
+	/**
+	 * Ends a transaction. When the outermost transaction ends, the deferred updates are run (once per key).
+	 * @throws IllegalStateException If no transaction is running.
+	 */
+	public void commit() {
+		final State current = state.get();
+		if(current.depth == 0) {
+			throw new IllegalStateException("No transaction to commit"); //NON-NLS
+		}
+		current.depth--;
+		// The updates may themselves modify the model, so a new list of updates is used while running them.
+		while(current.depth == 0 && !current.updates.isEmpty()) {
+			final Map<Object, Runnable> updates = current.updates;
+			current.updates = new LinkedHashMap<>();
+			updates.values().forEach(Runnable::run);
+		}
+	}
+
+	/**
+	 * Runs the given model mutations in a transaction.
+	 * @param mutations The mutations to run.
+	 */
+	public void run(final @NotNull Runnable mutations) {
+		begin();
+		try {
+			mutations.run();
+		}finally {
+			commit();
+		}
+	}
+
+	/**
+	 * @return True if a transaction is running in the current thread.
+	 */
+	public boolean isRunning() {
+		return state.get().depth > 0;
+	}
+
+	/**
+	 * Defers an update until the end of the current transaction.
+	 * @param key The object that owns the update (e.g. a view). An owner has at most one pending update.
+	 * @param update The update to run at commit.
+	 * @return False if no transaction is running: the update is not registered and the caller should run it directly.
+	 */
+	public boolean defer(final @NotNull Object key, final @NotNull Runnable update) {
+		final State current = state.get();
+		if(current.depth == 0) {
+			return false;
+		}
+		current.updates.putIfAbsent(key, update);
+		return true;
+	}
+
+	private static final class State {
+		int depth;
+		@NotNull Map<Object, Runnable> updates = new LinkedHashMap<>();
+	}
+}
@@ -12,6 +12,7 @@ package net.sf.latexdraw.model.api.property;
 
 import java.util.Optional;
 import javafx.beans.property.ListProperty;
+import net.sf.latexdraw.model.ModelTransaction;
 import net.sf.latexdraw.model.api.shape.Shape;
 import org.jetbrains.annotations.NotNull;
 
@@ -82,4 +83,13 @@ public interface SetShapesProp {
 	 * @return The shapes of the drawing.
 	 */
 	@NotNull ListProperty<Shape> getShapes();
+
+	/**
+	 * Modifies the shapes in a single transaction: the views of the shapes are updated once,
+	 * when all the given mutations are done (see ModelTransaction).
+	 * @param mutations The modifications of the shapes.
+	 */
+	default void runInTransaction(final @NotNull Runnable mutations) {
+		ModelTransaction.INST.run(mutations);
+	}
 }
@@ -73,4 +73,15 @@ public interface Color {
 	void setO(final double opacity);
 
 	@NotNull Color newColorWithOpacity(final double opacity);
+
+	/**
+	 * Packs the colour into a single int with 8 bits per channel (red in the highest byte, opacity in the lowest).
+	 * Two colours equal within the tolerance of equals share the same packed value in most cases,
+	 * so this value can be used as a hash key for colour lookups.
+	 * @return The packed RGBA value.
+	 */
+	default int toPackedRGBA() {
+		return (int) Math.round(getR() * 255d) << 24 | (int) Math.round(getG() * 255d) << 16 |
+			(int) Math.round(getB() * 255d) << 8 | (int) Math.round(getO() * 255d);
+	}
 }
@@ -10,8 +10,10 @@
  */
 package net.sf.latexdraw.model.api.shape;
 
+import java.util.List;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.collections.ObservableList;
 import net.sf.latexdraw.model.api.property.FreeHandProp;
 import org.jetbrains.annotations.NotNull;
 
@@ -30,6 +32,19 @@ public interface Freehand extends FreeHandProp, SingleShape, Closable {
 	 */
 	@NotNull IntegerProperty intervalProperty();
 
+	/**
+	 * @return The points of the freehand shape. The list cannot be modified but can be observed:
+	 * it notifies its listeners when the points are replaced (see setPoints).
+	 */
+	@Override
+	@NotNull ObservableList<Point> getPoints();
+
+	/**
+	 * Replaces the points of the freehand shape (for instance by simplified ones).
+	 * @param pts The new points.
+	 */
+	void setPoints(final @NotNull List<Point> pts);
+
 	@NotNull
 	@Override
 	Freehand duplicate();
@@ -128,6 +128,18 @@ public interface Shape extends Modifiable {
 	 */
 	@NotNull Point getBottomLeftPoint();
 
+	/**
+	 * Sets the given rectangle to the bounds of the shape, as defined by getTopLeftPoint and getBottomRightPoint.
+	 * Allows callers to reuse a rectangle to get the bounds as primitive values (getMinX, getMaxY, etc.).
+	 * Shapes may cache their bounds to not allocate anything.
+	 * @param bounds The rectangle to set.
+	 */
+	default void fillBounds(final @NotNull Rectangle2D bounds) {
+		final Point tl = getTopLeftPoint();
+		final Point br = getBottomRightPoint();
+		bounds.setFrameFromDiagonal(tl.getX(), tl.getY(), br.getX(), br.getY());
+	}
+
 	/**
 	 * @return The top left point of the shape. It takes account
 	 * of the thickness, the rotation angle, the double border, or any
@@ -85,4 +85,10 @@ public interface SingleShape extends Shape {
 	@NotNull ObjectProperty<Color> hatchingsColProperty();
 
 	@NotNull ReadOnlyBooleanProperty showPointProperty();
+
+	/**
+	 * @return A counter increased each time a point of the shape is added, removed, or moved.
+	 * Views may use it to cache what they compute from the points.
+	 */
+	long getPointsVersion();
 }
@@ -137,6 +137,11 @@ class DotImpl extends PositionShapeBase implements Dot {
 		}
 	}
 
+	@Override
+	protected boolean isBoundedByPoints() {
+		return false;
+	}
+
 	@Override
 	public @NotNull Point getBottomLeftPoint() {
 		final Point tl = ShapeFactory.INST.createPoint();
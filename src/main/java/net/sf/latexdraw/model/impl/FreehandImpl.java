@@ -113,6 +113,11 @@ class FreehandImpl extends ShapeBase implements Freehand {
 		return interval;
 	}
 
+	@Override
+	public void setPoints(final @NotNull List<Point> pts) {
+		points.setAll(pts);
+	}
+
 	@Override
 	public boolean isLineStylable() {
 		return true;
@@ -83,6 +83,12 @@ abstract class GridBase extends PositionShapeBase implements StandardGrid {
 	}
 
 
+	@Override
+	protected boolean isBoundedByPoints() {
+		return false;
+	}
+
+
 	@Override
 	public @NotNull Point getBottomRightPoint() {
 		final Point pos = getPosition();
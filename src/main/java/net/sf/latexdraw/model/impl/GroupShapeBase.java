@@ -459,14 +459,50 @@ interface GroupShapeBase extends Group {
 
 	@Override
 	default @NotNull Point getGravityCentre() {
-		return isEmpty() ? ShapeFactory.INST.createPoint() : getTopLeftPoint().getMiddlePoint(getBottomRightPoint());
+		if(isEmpty()) {
+			return ShapeFactory.INST.createPoint();
+		}
+		final Rectangle2D bounds = new Rectangle2D.Double();
+		fillBounds(bounds);
+		return ShapeFactory.INST.createPoint(bounds.getCenterX(), bounds.getCenterY());
+	}
+
+	/**
+	 * Aggregates the bounds of the shapes of the group. Each shape provides its own (possibly cached) bounds
+	 * so that the points of the shapes are not walked through.
+	 * @param bounds The rectangle to set. NaN values if the group is empty.
+	 */
+	@Override
+	default void fillBounds(final @NotNull Rectangle2D bounds) {
+		final ObservableList<Shape> shapes = getShapes();
+
+		if(shapes.isEmpty()) {
+			bounds.setRect(Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+			return;
+		}
+
+		shapes.get(0).fillBounds(bounds);
+		double minX = bounds.getMinX();
+		double minY = bounds.getMinY();
+		double maxX = bounds.getMaxX();
+		double maxY = bounds.getMaxY();
+
+		for(int i = 1, size = shapes.size(); i < size; i++) {
+			shapes.get(i).fillBounds(bounds);
+			minX = Math.min(minX, bounds.getMinX());
+			minY = Math.min(minY, bounds.getMinY());
+			maxX = Math.max(maxX, bounds.getMaxX());
+			maxY = Math.max(maxY, bounds.getMaxY());
+		}
+
+		bounds.setFrameFromDiagonal(minX, minY, maxX, maxY);
 	}
 
 	@Override
 	default @NotNull Point getBottomRightPoint() {
-		return getShapes().parallelStream().map(sh -> sh.getBottomRightPoint()).
-			reduce((p1, p2) -> ShapeFactory.INST.createPoint(Math.max(p1.getX(), p2.getX()), Math.max(p1.getY(), p2.getY()))).
-			orElseGet(() -> ShapeFactory.INST.createPoint(Double.NaN, Double.NaN));
+		final Rectangle2D bounds = new Rectangle2D.Double();
+		fillBounds(bounds);
+		return ShapeFactory.INST.createPoint(bounds.getMaxX(), bounds.getMaxY());
 	}
 
 	@Override
@@ -478,9 +514,9 @@ interface GroupShapeBase extends Group {
 
 	@Override
 	default @NotNull Point getTopLeftPoint() {
-		return getShapes().parallelStream().map(sh -> sh.getTopLeftPoint()).
-			reduce((p1, p2) -> ShapeFactory.INST.createPoint(Math.min(p1.getX(), p2.getX()), Math.min(p1.getY(), p2.getY()))).
-			orElseGet(() -> ShapeFactory.INST.createPoint(Double.NaN, Double.NaN));
+		final Rectangle2D bounds = new Rectangle2D.Double();
+		fillBounds(bounds);
+		return ShapeFactory.INST.createPoint(bounds.getMinX(), bounds.getMinY());
 	}
 
 	@Override
@@ -136,6 +136,13 @@ class PictureImpl extends PositionShapeBase implements Picture {
 	}
 
 
+	@Override
+	protected boolean isBoundedByPoints() {
+		// The only point of a picture is its position: the bounds are given by the size of the image.
+		return false;
+	}
+
+
 	@Override
 	public @NotNull Point getTopRightPoint() {
 		final Point pos = getPtAt(0);
@@ -176,6 +176,11 @@ class PlotImpl extends PositionShapeBase implements Plot {
 		return (getPlotMaxX() - getPlotMinX()) / (getNbPlottedPoints() - 1);
 	}
 
+	@Override
+	protected boolean isBoundedByPoints() {
+		return false;
+	}
+
 	@Override
 	public @NotNull Point getTopLeftPoint() {
 		final double step = getPlottingStep();
@@ -11,9 +11,8 @@
 package net.sf.latexdraw.model.impl;
 
 import java.awt.geom.Rectangle2D;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
@@ -21,6 +20,9 @@ import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import net.sf.latexdraw.model.MathUtils;
 import net.sf.latexdraw.model.ShapeFactory;
 import net.sf.latexdraw.model.api.shape.BorderPos;
@@ -119,11 +121,23 @@ abstract class ShapeBase implements SingleShape {
 	protected final @NotNull ObjectProperty<BorderPos> bordersPosition;
 
 	/** The points of the shape. */
-	protected final @NotNull List<Point> points;
+	protected final @NotNull ObservableList<Point> points;
+
+	/** The read-only view of the points given to the callers. */
+	private final @NotNull ObservableList<Point> unmodifiablePoints;
 
 	/** Defined if the shape has been modified. */
 	protected boolean modified;
 
+	/** The cached bounds of the points (min x, min y, max x, max y). Null when outdated. */
+	private double[] pointsBounds;
+
+	/** Flushes the cached bounds when a point moves. */
+	private final @NotNull InvalidationListener pointsBoundsInvalidator;
+
+	/** Increased each time a point is added, removed, or moved. */
+	private long pointsVersion;
+
 	/**
 	 * The second default constructor
 	 */
@@ -156,7 +170,87 @@ abstract class ShapeBase implements SingleShape {
 		gradColEnd = new SimpleObjectProperty<>(PSTricksConstants.DEFAULT_GRADIENT_END_COLOR);
 		gradMidPt = new SimpleDoubleProperty(PSTricksConstants.DEFAULT_GRADIENT_MID_POINT);
 		showPts = new SimpleBooleanProperty(false);
-		points = new ArrayList<>();
+		pointsBounds = null;
+		pointsVersion = 0L;
+		pointsBoundsInvalidator = obs -> invalidatePoints();
+		final ObservableList<Point> pts = FXCollections.observableArrayList();
+		pts.addListener((ListChangeListener<Point>) change -> {
+			while(change.next()) {
+				change.getRemoved().forEach(pt -> {
+					pt.xProperty().removeListener(pointsBoundsInvalidator);
+					pt.yProperty().removeListener(pointsBoundsInvalidator);
+				});
+				change.getAddedSubList().forEach(pt -> {
+					pt.xProperty().addListener(pointsBoundsInvalidator);
+					pt.yProperty().addListener(pointsBoundsInvalidator);
+				});
+			}
+			invalidatePoints();
+		});
+		points = pts;
+		unmodifiablePoints = FXCollections.unmodifiableObservableList(pts);
+	}
+
+	private void invalidatePoints() {
+		pointsBounds = null;
+		pointsVersion++;
+	}
+
+	@Override
+	public long getPointsVersion() {
+		return pointsVersion;
+	}
+
+	/**
+	 * @return True if the bounds of the shape are the bounds of its points.
+	 * Shapes computing their bounds from other parameters must return false
+	 * (and override getTopLeftPoint, getBottomRightPoint, etc.).
+	 */
+	protected boolean isBoundedByPoints() {
+		return true;
+	}
+
+	/**
+	 * @return The bounds of the points: min x, min y, max x, max y. Computed once and cached until a point changes.
+	 * The array must not be modified.
+	 */
+	private double[] getPointsBounds() {
+		double[] bounds = pointsBounds;
+
+		if(bounds == null) {
+			bounds = new double[4];
+
+			if(!points.isEmpty()) {
+				final Point first = points.get(0);
+				bounds[0] = first.getX();
+				bounds[1] = first.getY();
+				bounds[2] = bounds[0];
+				bounds[3] = bounds[1];
+
+				for(int i = 1, size = points.size(); i < size; i++) {
+					final Point pt = points.get(i);
+					final double x = pt.getX();
+					final double y = pt.getY();
+					bounds[0] = Math.min(bounds[0], x);
+					bounds[1] = Math.min(bounds[1], y);
+					bounds[2] = Math.max(bounds[2], x);
+					bounds[3] = Math.max(bounds[3], y);
+				}
+			}
+			pointsBounds = bounds;
+		}
+
+		return bounds;
+	}
+
+	@Override
+	public void fillBounds(final @NotNull Rectangle2D bounds) {
+		if(isBoundedByPoints()) {
+			final double[] pts = getPointsBounds();
+			bounds.setFrameFromDiagonal(pts[0], pts[1], pts[2], pts[3]);
+		}else {
+			SingleShape.super.fillBounds(bounds);
+		}
 	}
 
 	@Override
@@ -302,7 +396,14 @@ abstract class ShapeBase implements SingleShape {
 
 	@Override
 	public @NotNull Point getGravityCentre() {
-		return points.isEmpty() ? ShapeFactory.INST.createPoint() : getTopLeftPoint().getMiddlePoint(getBottomRightPoint());
+		if(points.isEmpty()) {
+			return ShapeFactory.INST.createPoint();
+		}
+		if(isBoundedByPoints()) {
+			final double[] bounds = getPointsBounds();
+			return ShapeFactory.INST.createPoint((bounds[0] + bounds[2]) / 2d, (bounds[1] + bounds[3]) / 2d);
+		}
+		return getTopLeftPoint().getMiddlePoint(getBottomRightPoint());
 	}
 
 	@Override
@@ -341,8 +442,8 @@ abstract class ShapeBase implements SingleShape {
 	}
 
 	@Override
-	public @NotNull List<Point> getPoints() {
-		return Collections.unmodifiableList(points);
+	public @NotNull ObservableList<Point> getPoints() {
+		return unmodifiablePoints;
 	}
 
 	@Override
@@ -685,30 +786,26 @@ abstract class ShapeBase implements SingleShape {
 
 	@Override
 	public @NotNull Point getBottomRightPoint() {
-		return getNbPoints() == 1 ? ShapeFactory.INST.createPoint(getPtAt(0)) :
-			points.stream().reduce((p1, p2) -> ShapeFactory.INST.createPoint(Math.max(p1.getX(), p2.getX()), Math.max(p1.getY(), p2.getY()))).
-				orElseGet(() -> ShapeFactory.INST.createPoint());
+		final double[] bounds = getPointsBounds();
+		return ShapeFactory.INST.createPoint(bounds[2], bounds[3]);
 	}
 
 	@Override
 	public @NotNull Point getBottomLeftPoint() {
-		return getNbPoints() == 1 ? ShapeFactory.INST.createPoint(getPtAt(0)) :
-			points.stream().reduce((p1, p2) -> ShapeFactory.INST.createPoint(Math.min(p1.getX(), p2.getX()), Math.max(p1.getY(), p2.getY()))).
-				orElseGet(() -> ShapeFactory.INST.createPoint());
+		final double[] bounds = getPointsBounds();
+		return ShapeFactory.INST.createPoint(bounds[0], bounds[3]);
 	}
 
 	@Override
 	public @NotNull Point getTopLeftPoint() {
-		return getNbPoints() == 1 ? ShapeFactory.INST.createPoint(getPtAt(0)) :
-			points.stream().reduce((p1, p2) -> ShapeFactory.INST.createPoint(Math.min(p1.getX(), p2.getX()), Math.min(p1.getY(), p2.getY()))).
-				orElseGet(() -> ShapeFactory.INST.createPoint());
+		final double[] bounds = getPointsBounds();
+		return ShapeFactory.INST.createPoint(bounds[0], bounds[1]);
 	}
 
 	@Override
 	public @NotNull Point getTopRightPoint() {
-		return getNbPoints() == 1 ? ShapeFactory.INST.createPoint(getPtAt(0)) :
-			points.stream().reduce((p1, p2) -> ShapeFactory.INST.createPoint(Math.max(p1.getX(), p2.getX()), Math.min(p1.getY(), p2.getY()))).
-				orElseGet(() -> ShapeFactory.INST.createPoint());
+		final double[] bounds = getPointsBounds();
+		return ShapeFactory.INST.createPoint(bounds[2], bounds[1]);
 	}
 
 	@Override
@@ -787,11 +884,19 @@ abstract class ShapeBase implements SingleShape {
 
 	@Override
 	public double getHeight() {
+		if(isBoundedByPoints()) {
+			final double[] bounds = getPointsBounds();
+			return bounds[3] - bounds[1];
+		}
 		return Math.abs(getBottomLeftPoint().getY() - getTopLeftPoint().getY());
 	}
 
 	@Override
 	public double getWidth() {
+		if(isBoundedByPoints()) {
+			final double[] bounds = getPointsBounds();
+			return bounds[2] - bounds[0];
+		}
 		return Math.abs(getTopRightPoint().getX() - getTopLeftPoint().getX());
 	}
 
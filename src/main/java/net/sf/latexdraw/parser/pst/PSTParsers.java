@@ -0,0 +1,162 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.parser.pst;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import net.sf.latexdraw.util.PerfMetrics;
+import net.sf.latexdraw.util.Tuple;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parses PST code with lexers and parsers reused by their thread.
+ * The DFA cache of ANTLR is shared by all the PST lexers and parsers: it is kept warm between two parsings
+ * and is only cleared when its number of states exceeds a bound.
+ * @author Arnaud Blouin
+ */
+public final class PSTParsers {
+	/** The singleton. */
+	public static final @NotNull PSTParsers INSTANCE = new PSTParsers();
+
+	/** The default maximal number of DFA states (lexer and parser) kept in the cache. */
+	public static final int DEFAULT_MAX_DFA_STATES = 200_000;
+
+	/** PST code that uses the most common commands, used to warm up the DFA cache. */
+	private static final String WARM_UP_CODE = "\\psset{unit=1cm,linewidth=0.02}\n\\begin{pspicture}(-1,-1)(5,5)\n" + //NON-NLS
+		"\\psline[linewidth=0.04,linecolor=blue,linestyle=dashed,arrows=->](0,0)(1,1)(2,0)\n" + //NON-NLS
+		"\\psframe[fillstyle=solid,fillcolor=red,framearc=0.2](0,0)(2,1)\n\\pscircle[doubleline=true](1,1){0.5}\n" + //NON-NLS
+		"\\psellipse[shadow=true](1,1)(1,0.5)\n\\psdots[dotstyle=*,dotsize=0.1](1,1)(2,2)\n\\pspolygon[hatchangle=45](0,0)(1,1)(2,0)\n" + //NON-NLS
+		"\\psbezier(0,0)(1,1)(2,1)(3,0)\n\\psarc(0,0){1}{0}{90}\n\\pswedge(0,0){1}{0}{90}\n\\psgrid[subgriddiv=2](0,0)(0,0)(2,2)\n" + //NON-NLS
+		"\\psaxes[Dx=1,Dy=1](0,0)(2,2)\n\\rput(1,1){\\textcolor{red}{text}}\n\\pscustom{\\moveto(0,0)\\lineto(1,1)\\curveto(1,2)(2,2)(2,1)\\closepath}\n" + //NON-NLS
+		"\\end{pspicture}"; //NON-NLS
+
+	/** The lexer and parser of each thread. */
+	private final @NotNull ThreadLocal<Tuple<PSTLexer, PSTParser>> parsers;
+	/** Parsings (read) cannot be done while the DFA cache is cleared (write). */
+	private final @NotNull ReadWriteLock dfaLock;
+	private volatile int maxDFAStates;
+
+	private PSTParsers() {
+		super();
+		maxDFAStates = DEFAULT_MAX_DFA_STATES;
+		dfaLock = new ReentrantReadWriteLock();
+		parsers = ThreadLocal.withInitial(() -> {
+			final PSTLexer lexer = new PSTLexer(CharStreams.fromString("")); //NON-NLS
+			return new Tuple<>(lexer, new PSTParser(new CommonTokenStream(lexer)));
+		});
+	}
+
+	/**
+	 * Parses the given PST code with the lexer and the parser of the current thread.
+	 * @param code The code to parse.
+	 * @param listener The listener that converts the code into shapes.
+	 * @param errorListener The listener of the syntax errors. If null, the errors are printed in the console.
+	 */
+	public void parse(final @NotNull String code, final @NotNull PSTLatexdrawListener listener, final @Nullable ANTLRErrorListener errorListener) {
+		final Tuple<PSTLexer, PSTParser> pair = parsers.get();
+		final PSTLexer lexer = pair.a;
+		final PSTParser parser = pair.b;
+		final ANTLRErrorListener errListener = errorListener == null ? ConsoleErrorListener.INSTANCE : errorListener;
+
+		dfaLock.readLock().lock();
+		try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("pst.parse")) { //NON-NLS
+			lexer.setInputStream(CharStreams.fromString(code));
+			lexer.removeErrorListeners();
+			lexer.addErrorListener(errListener);
+			parser.setTokenStream(new CommonTokenStream(lexer));
+			parser.removeErrorListeners();
+			parser.addErrorListener(errListener);
+			parser.addParseListener(listener);
+			parser.pstCode(new PSTContext());
+		}finally {
+			// The reused lexer and parser must not retain the parsed code and its listeners.
+			parser.removeParseListeners();
+			parser.removeErrorListeners();
+			lexer.removeErrorListeners();
+			lexer.setInputStream(CharStreams.fromString("")); //NON-NLS
+			parser.setTokenStream(new CommonTokenStream(lexer));
+			dfaLock.readLock().unlock();
+		}
+
+		trimDFA(lexer, parser);
+	}
+
+	/**
+	 * Parses PST code that uses the most common PST commands so that the DFA cache is filled.
+	 */
+	public void warmUp() {
+		try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("pst.warmup")) { //NON-NLS
+			parse(WARM_UP_CODE, new PSTLatexdrawListener(), new BaseErrorListener());
+		}
+	}
+
+	/**
+	 * @return The current number of states in the shared DFA cache of the PST lexer and parser.
+	 */
+	public int getDFASize() {
+		final Tuple<PSTLexer, PSTParser> pair = parsers.get();
+		return countStates(pair.a.getInterpreter().decisionToDFA) + countStates(pair.b.getInterpreter().decisionToDFA);
+	}
+
+	/**
+	 * @return The maximal number of DFA states kept in the cache.
+	 */
+	public int getMaxDFAStates() {
+		return maxDFAStates;
+	}
+
+	/**
+	 * @param max The maximal number of DFA states kept in the cache. Beyond, the cache is cleared after a parsing.
+	 */
+	public void setMaxDFAStates(final int max) {
+		if(max > 0) {
+			maxDFAStates = max;
+		}
+	}
+
+	/**
+	 * Clears the DFA cache if it contains too many states.
+	 */
+	private void trimDFA(final PSTLexer lexer, final PSTParser parser) {
+		if(getDFASize() <= maxDFAStates) {
+			return;
+		}
+
+		dfaLock.writeLock().lock();
+		try {
+			// Another thread may have cleared it while waiting for the lock.
+			if(getDFASize() > maxDFAStates) {
+				parser.getInterpreter().clearDFA();
+				lexer.getInterpreter().clearDFA();
+				PerfMetrics.INSTANCE.increment("pst.dfa.clear"); //NON-NLS
+			}
+		}finally {
+			dfaLock.writeLock().unlock();
+		}
+	}
+
+	private static int countStates(final DFA[] dfas) {
+		int count = 0;
+		for(final DFA dfa : dfas) {
+			synchronized(dfa.states) {
+				count += dfa.states.size();
+			}
+		}
+		return count;
+	}
+}
@@ -12,8 +12,7 @@ package net.sf.latexdraw.parser.svg;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import net.sf.latexdraw.model.ShapeFactory;
 import net.sf.latexdraw.model.api.shape.Color;
 
@@ -312,15 +311,21 @@ public final class CSSColors {
 	/** The singleton. */
 	public static final CSSColors INSTANCE = new CSSColors();
 	private final Map<String, Color> userColours;
+	/** The names of the user colours indexed by their packed RGBA value. */
+	private final Map<Integer, String> userColourNames;
 	private final Map<String, Color> colourHashtable;
 	private final Map<Color, String> nameColourHashtable;
+	/** The names of the CSS colours indexed by their packed RGBA value. */
+	private final Map<Integer, String> packedNameColourHashtable;
 
 	private CSSColors() {
 		super();
 
 		colourHashtable = new HashMap<>();
 		nameColourHashtable = new HashMap<>();
-		userColours = new HashMap<>();
+		packedNameColourHashtable = new HashMap<>();
+		userColours = new ConcurrentHashMap<>();
+		userColourNames = new ConcurrentHashMap<>();
 
 		createColourHashTable();
 		createNameColourHashTable();
@@ -479,6 +484,7 @@ public final class CSSColors {
 
 	private void createNameColourHashTable() {
 		nameColourHashtable.clear();
+		packedNameColourHashtable.clear();
 		nameColourHashtable.put(CSS_ALICEBLUE_RGB_VALUE, CSS_ALICEBLUE_NAME);
 		nameColourHashtable.put(CSS_ANTIQUEWHITE_RGB_VALUE, CSS_ANTIQUEWHITE_NAME);
 		nameColourHashtable.put(CSS_AQUAMARINE_RGB_VALUE, CSS_AQUAMARINE_NAME);
@@ -616,6 +622,7 @@ public final class CSSColors {
 		nameColourHashtable.put(CSS_WHITE_RGB_VALUE, CSS_WHITE_NAME);
 		nameColourHashtable.put(CSS_YELLOWGREEN_RGB_VALUE, CSS_YELLOWGREEN_NAME);
 		nameColourHashtable.put(CSS_YELLOW_RGB_VALUE, CSS_YELLOW_NAME);
+		nameColourHashtable.forEach((col, name) -> packedNameColourHashtable.putIfAbsent(col.toPackedRGBA(), name));
 	}
 
 	/**
@@ -640,7 +647,11 @@ public final class CSSColors {
 			return;
 		}
 
-		userColours.put(name, col);
+		final Color previous = userColours.put(name, col);
+		if(previous != null) {
+			userColourNames.remove(previous.toPackedRGBA(), name);
+		}
+		userColourNames.put(col.toPackedRGBA(), name);
 	}
 
 
@@ -661,15 +672,17 @@ public final class CSSColors {
 			return name;
 		}
 
-		final Optional<Entry<String, Color>> opt = userColours.entrySet().stream().filter(v -> v.getValue().equals(col)).findFirst();
+		final int packed = col.toPackedRGBA();
+		final String packedName = packedNameColourHashtable.getOrDefault(packed, userColourNames.get(packed));
 
-		if(opt.isPresent()) {
-			return opt.get().getKey();
+		if(packedName != null) {
+			return packedName;
 		}
 
 		if(create) {
-			addUserColor(col, rgbToHex(col));
-			return getColorName(col, false);
+			final String hex = rgbToHex(col);
+			addUserColor(col, hex);
+			return hex;
 		}
 
 		return null;
@@ -82,6 +82,13 @@ public class SVGAttr implements Attr {
 			throw new DOMException(DOMException.SYNTAX_ERR, "A value cannot be null");
 		}
 		value = val;
+
+		if(owner instanceof SVGElement) {
+			((SVGElement) owner).invalidateComputedStyle();
+			if(name.endsWith(SVGAttributes.SVG_ID)) {
+				((SVGElement) owner).updateIdIndex();
+			}
+		}
 	}
 
 
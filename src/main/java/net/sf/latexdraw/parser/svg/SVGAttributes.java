@@ -20,6 +20,7 @@ public final class SVGAttributes {
 	}
 
 	public static final String SVG_GRADIENT_TRANSFORM = "gradientTransform"; //NON-NLS
+	public static final String SVG_PATTERN_TRANSFORM = "patternTransform"; //NON-NLS
 	public static final String SVG_X 						= "x";								//NON-NLS
 	public static final String SVG_Y 						= "y";								//NON-NLS
 	public static final String SVG_X1 						= "x1";								//NON-NLS
@@ -0,0 +1,241 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.parser.svg;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A single-pass scanner over the code of an SVG attribute value (transformation lists, lengths, etc.).
+ * It reads numbers, names, and transformation arguments in place: no regular expression and no intermediate string.
+ * A scanner is not thread-safe and must be used for a single code.
+ * @author Arnaud Blouin
+ */
+final class SVGCodeScanner {
+	/** The maximal number of arguments of a transformation (matrix). */
+	static final int MAX_ARGS = 6;
+
+	/** The powers of ten that are exactly represented as doubles. */
+	private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+		1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+	/** Beyond this number of digits, the mantissa may not be exactly represented as a double. */
+	private static final int MAX_FAST_DIGITS = 15;
+
+	private final @NotNull String code;
+	private final int length;
+	private int position;
+	/** The start and end positions of the latest read name. */
+	private int nameStart;
+	private int nameEnd;
+	/** The start position of the latest read number. */
+	private int numberStart;
+	/** The arguments of the latest read transformation. */
+	private final double[] args;
+
+	SVGCodeScanner(final @NotNull String code) {
+		super();
+		this.code = code;
+		length = code.length();
+		args = new double[MAX_ARGS];
+	}
+
+	/**
+	 * @param c The character to test.
+	 * @return True if the given character is a white space as defined by the '\s' regular expression class.
+	 */
+	private static boolean isWsp(final char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B';
+	}
+
+	private static boolean isDigit(final char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isLetter(final char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+	}
+
+	int getPosition() {
+		return position;
+	}
+
+	boolean isEnd() {
+		return position >= length;
+	}
+
+	/**
+	 * @return The current character or 0 if the end of the code is reached.
+	 */
+	char peek() {
+		return position < length ? code.charAt(position) : 0;
+	}
+
+	void skipWsp() {
+		while(position < length && isWsp(code.charAt(position))) {
+			position++;
+		}
+	}
+
+	/**
+	 * Skips white spaces, an optional comma, and white spaces.
+	 */
+	void skipCommaWsp() {
+		skipWsp();
+		if(position < length && code.charAt(position) == ',') {
+			position++;
+			skipWsp();
+		}
+	}
+
+	/**
+	 * Consumes the given character if it is the current one.
+	 * @return True if the character was consumed.
+	 */
+	boolean consume(final char c) {
+		if(position < length && code.charAt(position) == c) {
+			position++;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Consumes the given word if the code continues with it.
+	 * @return True if the word was consumed.
+	 */
+	boolean consume(final @NotNull String word) {
+		if(code.startsWith(word, position)) {
+			position += word.length();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Moves the scanner after the next occurrence of the given character, or at the end of the code.
+	 */
+	void skipPast(final char c) {
+		final int index = code.indexOf(c, position);
+		position = index < 0 ? length : index + 1;
+	}
+
+	/**
+	 * Reads a name made of ASCII letters. The name can be then tested using isName.
+	 */
+	void readName() {
+		nameStart = position;
+		while(position < length && isLetter(code.charAt(position))) {
+			position++;
+		}
+		nameEnd = position;
+	}
+
+	/**
+	 * @return True if the latest read name is the given one.
+	 */
+	boolean isName(final @NotNull String name) {
+		return nameEnd - nameStart == name.length() && code.startsWith(name, nameStart);
+	}
+
+	/**
+	 * Reads a number with the syntax '-?[0-9]*\.?[0-9]+'.
+	 * @return The read number or NaN if the code does not continue with a number (the scanner does not move in this case).
+	 */
+	double readNumber() {
+		int i = position;
+		final boolean negative = i < length && code.charAt(i) == '-';
+		if(negative) {
+			i++;
+		}
+
+		long mantissa = 0L;
+		int digits = 0;
+		int fracDigits = 0;
+
+		while(i < length && isDigit(code.charAt(i))) {
+			mantissa = mantissa * 10L + (code.charAt(i) - '0');
+			digits++;
+			i++;
+		}
+
+		if(i + 1 < length && code.charAt(i) == '.' && isDigit(code.charAt(i + 1))) {
+			i++;
+			while(i < length && isDigit(code.charAt(i))) {
+				mantissa = mantissa * 10L + (code.charAt(i) - '0');
+				digits++;
+				fracDigits++;
+				i++;
+			}
+		}
+
+		if(digits == 0) {
+			return Double.NaN;
+		}
+
+		numberStart = position;
+		position = i;
+
+		// A mantissa and a power of ten both exactly represented: a single division is correctly rounded.
+		if(digits > MAX_FAST_DIGITS || fracDigits >= POW10.length) {
+			return Double.parseDouble(code.substring(numberStart, position));
+		}
+
+		final double value = mantissa / POW10[fracDigits];
+		return negative ? -value : value;
+	}
+
+	/**
+	 * @return The code of the latest read number.
+	 */
+	@NotNull String getNumberCode() {
+		return code.substring(numberStart, position);
+	}
+
+	/**
+	 * Reads the arguments of a transformation: '(' followed by numbers separated by comma-wsp, and ')'.
+	 * @return The number of read arguments (that can be then got using getArg), or -1 if the code is not valid.
+	 */
+	int readArgs() {
+		skipWsp();
+		if(!consume('(')) {
+			return -1;
+		}
+		skipWsp();
+
+		int count = 0;
+
+		while(position < length && code.charAt(position) != ')') {
+			if(count == MAX_ARGS) {
+				return -1;
+			}
+			if(count > 0) {
+				skipCommaWsp();
+			}
+			final double value = readNumber();
+			if(Double.isNaN(value)) {
+				return -1;
+			}
+			args[count] = value;
+			count++;
+			skipWsp();
+		}
+
+		return consume(')') ? count : -1;
+	}
+
+	/**
+	 * @param index The index of the argument of the latest read transformation.
+	 * @return The argument.
+	 */
+	double getArg(final int index) {
+		return args[index];
+	}
+}
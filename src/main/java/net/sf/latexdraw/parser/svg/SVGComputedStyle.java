@@ -0,0 +1,71 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.parser.svg;
+
+import java.util.Objects;
+import net.sf.latexdraw.model.api.shape.Color;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The inherited presentation attributes of an SVG element, resolved once from the attributes of the element,
+ * its style attribute, and the computed style of its parent.
+ * Instances are immutable and cached by their element until one of its attributes or its parent changes.
+ * @author Arnaud Blouin
+ */
+final class SVGComputedStyle {
+	/** The style of the root elements' (missing) parent: the SVG default values. */
+	private static final SVGComputedStyle DEFAULT = new SVGComputedStyle(1d, SVGAttributes.SVG_VALUE_NONE,
+		SVGAttributes.SVG_LINECAP_VALUE_BUTT, CSSColors.CSS_BLACK_NAME, null);
+
+	final double strokeWidth;
+	final @NotNull String strokeDasharray;
+	final @NotNull String strokeLinecap;
+	final @NotNull String fill;
+	/** The stroke colour (opacity included) or null. Must not be given to the outside as colours are mutable. */
+	final @Nullable Color stroke;
+
+	private SVGComputedStyle(final double strokeWidth, final @NotNull String strokeDasharray, final @NotNull String strokeLinecap,
+							final @NotNull String fill, final @Nullable Color stroke) {
+		super();
+		this.strokeWidth = strokeWidth;
+		this.strokeDasharray = strokeDasharray;
+		this.strokeLinecap = strokeLinecap;
+		this.fill = fill;
+		this.stroke = stroke;
+	}
+
+	/**
+	 * Resolves the style of the given element.
+	 * @param elt The element to analyse.
+	 * @param parentStyle The computed style of the parent of the element, or null if the element has no parent.
+	 * @return The computed style of the element.
+	 */
+	static @NotNull SVGComputedStyle compute(final @NotNull SVGElement elt, final @Nullable SVGComputedStyle parentStyle) {
+		final SVGComputedStyle inherited = parentStyle == null ? DEFAULT : parentStyle;
+		final String prefix = elt.getUsablePrefix();
+		final double width = SVGParserUtils.INSTANCE.parseLength(getValue(elt, SVGAttributes.SVG_STROKE_WIDTH, prefix)).
+			map(val -> val.getValue()).orElse(inherited.strokeWidth);
+		final String dash = getValue(elt, SVGAttributes.SVG_STROKE_DASHARRAY, prefix);
+		final String cap = getValue(elt, SVGAttributes.SVG_STROKE_LINECAP, prefix);
+		final String fill = getValue(elt, SVGAttributes.SVG_FILL, prefix);
+		final Color strokeCol = CSSColors.INSTANCE.getRGBColour(getValue(elt, SVGAttributes.SVG_STROKE, prefix));
+		final Color stroke = strokeCol == null ? inherited.stroke :
+			strokeCol.newColorWithOpacity(elt.getOpacity(SVGAttributes.SVG_OPACITY, SVGAttributes.SVG_STROKE_OPACITY));
+
+		return new SVGComputedStyle(width, dash.isEmpty() ? inherited.strokeDasharray : dash, cap.isEmpty() ? inherited.strokeLinecap : cap,
+			fill.isEmpty() ? inherited.fill : fill, stroke);
+	}
+
+	private static @NotNull String getValue(final SVGElement elt, final String attrName, final String prefix) {
+		return Objects.requireNonNullElse(elt.getSVGAttribute(attrName, prefix), "");
+	}
+}
@@ -11,7 +11,10 @@
 package net.sf.latexdraw.parser.svg;
 
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -20,10 +23,14 @@ import org.w3c.dom.NodeList;
  * @author Arnaud BLOUIN
  */
 public class SVGDefsElement extends SVGElement {
+	/** The identifiers of the definitions shared by several elements, by the content of these definitions. */
+	private final @NotNull Map<String, String> sharedDefs;
+
 	/**
 	 */
 	public SVGDefsElement(final Node n, final SVGElement p) {
 		super(n, p);
+		sharedDefs = new HashMap<>();
 	}
 
 
@@ -36,6 +43,28 @@ public class SVGDefsElement extends SVGElement {
 		super();
 		ownerDocument = Objects.requireNonNull(owner);
 		setNodeName(SVGElements.SVG_DEFS);
+		sharedDefs = new HashMap<>();
+	}
+
+
+	/**
+	 * Adds a definition that can be shared by several elements: if a definition identical to the given one
+	 * has already been added using this method, the given one is dropped and the identifier of the existing one is returned.
+	 * @param def The definition to add. Must not have an identifier yet.
+	 * @param idPrefix The prefix of the identifier to give to the definition.
+	 * @return The identifier of the definition to refer to.
+	 */
+	public @NotNull String addSharedDef(final @NotNull SVGElement def, final @NotNull String idPrefix) {
+		return sharedDefs.computeIfAbsent(def.toString(), key -> {
+			int i = sharedDefs.size();
+			while(getDef(idPrefix + i) != null) {
+				i++;
+			}
+			final String id = idPrefix + i;
+			def.setAttribute(SVGAttributes.SVG_ID, id);
+			appendChild(def);
+			return id;
+		});
 	}
 
 
@@ -57,6 +86,11 @@ public class SVGDefsElement extends SVGElement {
 			return null;
 		}
 
+		if(ownerDocument != null) {
+			// The identifier index of the document gives the few candidates: no scan of the definitions.
+			return ownerDocument.getIndexedElements(id).stream().filter(elt -> elt.getParent() == this).findFirst().orElse(null);
+		}
+
 		final NodeList nl = getChildNodes();
 		SVGElement e = null;
 		Node n;
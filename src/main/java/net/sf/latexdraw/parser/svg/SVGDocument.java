@@ -17,12 +17,17 @@ import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import javax.xml.parsers.DocumentBuilder;
 import net.sf.latexdraw.util.BadaboomCollector;
 import net.sf.latexdraw.util.SystemUtils;
 import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
 import org.w3c.dom.Attr;
 import org.w3c.dom.CDATASection;
 import org.w3c.dom.Comment;
@@ -66,6 +71,11 @@ public class SVGDocument implements Document {
 	private String xmlVersion;
 	/** The encoding of the document. */
 	private String xmlEncoding;
+	/**
+	 * The elements of the document indexed by their identifier.
+	 * Elements created for the document but not (yet) attached to its tree are indexed too: the lookups check the attachment.
+	 */
+	private final Map<String, List<SVGElement>> elementsById = new HashMap<>();
 
 
 	/**
@@ -520,8 +530,38 @@ public class SVGDocument implements Document {
 	}
 
 	@Override
-	public Element getElementById(final String elementId) {
-		return null;
+	public SVGElement getElementById(final String elementId) {
+		if(elementId == null || root == null) {
+			return null;
+		}
+
+		return getIndexedElements(elementId).stream().filter(elt -> elt.getRootElement() == root).findFirst().orElse(null);
+	}
+
+
+	/**
+	 * @param id The identifier to look for.
+	 * @return The indexed elements of the document that have the given identifier. May contain elements not attached to the document tree.
+	 */
+	@NotNull List<SVGElement> getIndexedElements(final @NotNull String id) {
+		return elementsById.getOrDefault(id, List.of());
+	}
+
+
+	void indexElement(final @NotNull String id, final @NotNull SVGElement elt) {
+		elementsById.computeIfAbsent(id, key -> new ArrayList<>(1)).add(elt);
+	}
+
+
+	void unindexElement(final @NotNull String id, final @NotNull SVGElement elt) {
+		final List<SVGElement> elts = elementsById.get(id);
+
+		if(elts != null) {
+			elts.remove(elt);
+			if(elts.isEmpty()) {
+				elementsById.remove(id);
+			}
+		}
 	}
 
 	@Override
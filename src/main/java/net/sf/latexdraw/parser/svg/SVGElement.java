@@ -51,6 +51,18 @@ public abstract class SVGElement implements LElement, Cloneable {
 	/** The document containing the element. */
 	protected SVGDocument ownerDocument;
 
+	/** The cached inherited presentation attributes of the element. Null when outdated. */
+	private SVGComputedStyle computedStyle;
+
+	/** The computed style of the parent the cached computed style was resolved from. */
+	private SVGComputedStyle computedParentStyle;
+
+	/** The modification count of the attributes the cached computed style was resolved from. */
+	private int computedStyleModCount;
+
+	/** The identifier under which the element is indexed by its owner document. Null if not indexed. */
+	private @Nullable String indexedId;
+
 
 	/**
 	 * The constructor by default.
@@ -64,6 +76,10 @@ public abstract class SVGElement implements LElement, Cloneable {
 		parent = null;
 		name = null;
 		ownerDocument = null;
+		computedStyle = null;
+		computedParentStyle = null;
+		computedStyleModCount = -1;
+		indexedId = null;
 	}
 
 
@@ -189,6 +205,93 @@ public abstract class SVGElement implements LElement, Cloneable {
 			if(this.parent != null && !this.parent.children.getNodes().contains(this)) {
 				this.parent.children.getNodes().add(this);
 			}
+
+			invalidateComputedStyle();
+		}
+	}
+
+
+	/**
+	 * @return The inherited presentation attributes of the element, resolved from the computed style of its parent.
+	 * Cached until an attribute of the element or of one of its ancestors changes.
+	 * The attributes can also be modified through their list (see SVGNamedNodeMap.getAttributes): their modification count
+	 * and the computed style of the parent are checked as well.
+	 */
+	@NotNull SVGComputedStyle getComputedStyle() {
+		final SVGComputedStyle parentStyle = parent == null ? null : parent.getComputedStyle();
+
+		if(computedStyle == null || parentStyle != computedParentStyle || computedStyleModCount != attributes.getModCount()) {
+			computedStyle = SVGComputedStyle.compute(this, parentStyle);
+			computedParentStyle = parentStyle;
+			computedStyleModCount = attributes.getModCount();
+		}
+		return computedStyle;
+	}
+
+
+	/**
+	 * Updates the entry of the element in the identifier index of its owner document.
+	 * Must be called when the identifier of the element may have changed.
+	 */
+	void updateIdIndex() {
+		final String id = ownerDocument == null || getId().isEmpty() ? null : getId();
+
+		if(!Objects.equals(id, indexedId)) {
+			unindexId();
+			if(id != null) {
+				ownerDocument.indexElement(id, this);
+				indexedId = id;
+			}
+		}
+	}
+
+
+	private void unindexId() {
+		if(indexedId != null && ownerDocument != null) {
+			ownerDocument.unindexElement(indexedId, this);
+		}
+		indexedId = null;
+	}
+
+
+	/**
+	 * Indexes the identifiers of a new child and of its descendants, in the owner document of this element.
+	 */
+	private void indexIds(final @NotNull SVGElement child) {
+		if(ownerDocument == null) {
+			child.updateIdIndexes();
+		}else {
+			child.setOwnerDocument(ownerDocument);
+		}
+	}
+
+
+	/**
+	 * Indexes the identifiers of the element and of its descendants.
+	 */
+	private void updateIdIndexes() {
+		updateIdIndex();
+		children.getNodes().forEach(child -> child.updateIdIndexes());
+	}
+
+
+	/**
+	 * Removes the element and its descendants from the identifier index of the owner document.
+	 */
+	private void unindexIds() {
+		unindexId();
+		children.getNodes().forEach(child -> child.unindexIds());
+	}
+
+
+	/**
+	 * Flushes the computed style of the element and of its descendants.
+	 * A child cannot have a computed style if its parent has none, so the walk stops on outdated elements.
+	 */
+	void invalidateComputedStyle() {
+		if(computedStyle != null) {
+			computedStyle = null;
+			children.getNodes().forEach(child -> child.invalidateComputedStyle());
 		}
 	}
 
@@ -253,6 +356,8 @@ public abstract class SVGElement implements LElement, Cloneable {
 	 */
 	public void setNodeName(final String nodeName) {
 		name = nodeName;
+		invalidateComputedStyle();
+		updateIdIndex();
 	}
 
 
@@ -290,6 +395,7 @@ public abstract class SVGElement implements LElement, Cloneable {
 
 		children.getNodes().add((SVGElement) newChild);
 		((SVGElement) newChild).setParent(this);
+		indexIds((SVGElement) newChild);
 
 		return newChild;
 	}
@@ -350,8 +456,11 @@ public abstract class SVGElement implements LElement, Cloneable {
 		if(newChild != null && refChild != null) {
 			final int pos = children.getNodes().indexOf(refChild);
 
-			if(pos != -1 && newChild instanceof SVGElement) {
-				children.getNodes().add(pos, (SVGElement) newChild);
+			if(pos != -1 && newChild instanceof SVGElement && newChild != refChild) {
+				children.getNodes().remove(newChild);
+				children.getNodes().add(children.getNodes().indexOf(refChild), (SVGElement) newChild);
+				((SVGElement) newChild).setParent(this);
+				indexIds((SVGElement) newChild);
 				ok = true;
 			}
 		}
@@ -390,6 +499,14 @@ public abstract class SVGElement implements LElement, Cloneable {
 			ok = children.getNodes().remove(oldChild);
 		}
 
+		if(ok) {
+			final SVGElement removed = (SVGElement) oldChild;
+			if(removed.parent == this) {
+				removed.setParent(null);
+			}
+			removed.unindexIds();
+		}
+
 		return ok ? oldChild : null;
 	}
 
@@ -544,6 +661,11 @@ public abstract class SVGElement implements LElement, Cloneable {
 		}
 
 		attributes.setNamedItem(new SVGAttr(name, value, this));
+		invalidateComputedStyle();
+
+		if(name.endsWith(SVGAttributes.SVG_ID)) {
+			updateIdIndex();
+		}
 
 		if(SVGAttributes.SVG_TRANSFORM.equals(name)) {
 			setTransformation(value);
@@ -664,6 +786,10 @@ public abstract class SVGElement implements LElement, Cloneable {
 		try {
 			if(nameAttr != null) {
 				attributes.removeNamedItem(nameAttr);
+				invalidateComputedStyle();
+				if(nameAttr.endsWith(SVGAttributes.SVG_ID)) {
+					updateIdIndex();
+				}
 			}
 		}catch(final DOMException ex) {
 			/* Nothing to do. */
@@ -922,8 +1048,7 @@ public abstract class SVGElement implements LElement, Cloneable {
 	 * @return The stroke width of the element (if it is possible) or 1.
 	 */
 	public double getStrokeWidth() {
-		return SVGParserUtils.INSTANCE.parseLength(getSVGAttribute(SVGAttributes.SVG_STROKE_WIDTH, getUsablePrefix())).
-			map(val -> val.getValue()).orElseGet(() -> parent == null ? 1d : parent.getStrokeWidth());
+		return getComputedStyle().strokeWidth;
 	}
 
 
@@ -931,11 +1056,7 @@ public abstract class SVGElement implements LElement, Cloneable {
 	 * @return The dash array of the element (if it is possible) or null.
 	 */
 	public String getStrokeDasharray() {
-		final String dash = getSVGAttribute(SVGAttributes.SVG_STROKE_DASHARRAY, getUsablePrefix());
-		if(dash.isEmpty()) {
-			return parent == null ? SVGAttributes.SVG_VALUE_NONE : parent.getStrokeDasharray();
-		}
-		return dash;
+		return getComputedStyle().strokeDasharray;
 	}
 
 
@@ -943,11 +1064,7 @@ public abstract class SVGElement implements LElement, Cloneable {
 	 * @return The line cap of the element or its default value.
 	 */
 	public String getStrokeLinecap() {
-		final String cap = getSVGAttribute(SVGAttributes.SVG_STROKE_LINECAP, getUsablePrefix());
-		if(cap.isEmpty()) {
-			return parent == null ? SVGAttributes.SVG_LINECAP_VALUE_BUTT : parent.getStrokeLinecap();
-		}
-		return cap;
+		return getComputedStyle().strokeLinecap;
 	}
 
 
@@ -964,11 +1081,7 @@ public abstract class SVGElement implements LElement, Cloneable {
 	 * @return The fill content of the element or its default value.
 	 */
 	public String getFill() {
-		final String fill = getSVGAttribute(SVGAttributes.SVG_FILL, getUsablePrefix());
-		if(fill.isEmpty()) {
-			return parent == null ? CSSColors.CSS_BLACK_NAME : parent.getFill();
-		}
-		return fill;
+		return getComputedStyle().fill;
 	}
 
 
@@ -985,12 +1098,8 @@ public abstract class SVGElement implements LElement, Cloneable {
 	 * @return The fill content of the element (if it is possible) or null.
 	 */
 	public @NotNull Optional<Color> getStroke() {
-		final Color stroke = CSSColors.INSTANCE.getRGBColour(getSVGAttribute(SVGAttributes.SVG_STROKE, getUsablePrefix()));
-
-		if(stroke == null) {
-			return parent == null ? Optional.empty() : parent.getStroke();
-		}
-		return Optional.of(stroke.newColorWithOpacity(getOpacity(SVGAttributes.SVG_OPACITY, SVGAttributes.SVG_STROKE_OPACITY)));
+		// Colours are mutable: a copy of the cached one is returned.
+		return Optional.ofNullable(getComputedStyle().stroke).map(stroke -> stroke.newColorWithOpacity(stroke.getO()));
 	}
 
 
@@ -1046,7 +1155,11 @@ public abstract class SVGElement implements LElement, Cloneable {
 	 */
 	public void setOwnerDocument(final SVGDocument doc) {
 		if(doc != null) {
-			ownerDocument = doc;
+			if(doc != ownerDocument) {
+				unindexId();
+				ownerDocument = doc;
+			}
+			updateIdIndex();
 
 			for(int i = 0, size = children.getLength(); i < size; i++) {
 				children.item(i).setOwnerDocument(doc);
@@ -11,7 +11,9 @@
 package net.sf.latexdraw.parser.svg;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.w3c.dom.DOMException;
@@ -24,14 +26,52 @@ import org.w3c.dom.Node;
  */
 public class SVGNamedNodeMap implements NamedNodeMap {
 	/** The set of nodes. */
-	private final @NotNull List<SVGAttr> nnm;
+	private final @NotNull AttrList nnm;
+
+	/** The attributes hashed by name. Updated by the map, rebuilt lazily when the list of attributes is modified from the outside. */
+	private final @NotNull Map<String, SVGAttr> index;
+
+	/** The modification count of the list of attributes the index corresponds to. */
+	private int indexModCount;
 
 	/**
 	 * The constructor by default.
 	 */
 	public SVGNamedNodeMap() {
 		super();
-		nnm = new ArrayList<>();
+		nnm = new AttrList();
+		index = new HashMap<>();
+		indexModCount = -1;
+	}
+
+
+	/**
+	 * @return The index of the attributes, synchronised with the list of attributes.
+	 * The list can be modified from the outside (see getAttributes), so its modification count is checked.
+	 * The modifications performed by the map update the index in place (see indexed).
+	 */
+	private @NotNull Map<String, SVGAttr> getIndex() {
+		if(indexModCount != nnm.getModCount()) {
+			index.clear();
+			// As with a linear scan, the first attribute wins when a name is duplicated.
+			nnm.forEach(attr -> index.putIfAbsent(attr.getName(), attr));
+			indexModCount = nnm.getModCount();
+		}
+		return index;
+	}
+
+	/**
+	 * Marks the index as synchronised with the list of attributes, after a modification performed by the map.
+	 */
+	private void indexed() {
+		indexModCount = nnm.getModCount();
+	}
+
+	/**
+	 * @return The modification count of the list of attributes: changes when an attribute is added, removed, or replaced.
+	 */
+	int getModCount() {
+		return nnm.getModCount();
 	}
 
 	@Override
@@ -46,23 +86,7 @@ public class SVGNamedNodeMap implements NamedNodeMap {
 			return null;
 		}
 
-		int i = 0;
-		final int size = getLength();
-		boolean found = false;
-
-		while(i < size && !found) {
-			if(nnm.get(i).getName().equals(name)) {
-				found = true;
-			}else {
-				i++;
-			}
-		}
-
-		if(found) {
-			return nnm.get(i);
-		}
-
-		return null;
+		return getIndex().get(name);
 	}
 
 
@@ -78,20 +102,15 @@ public class SVGNamedNodeMap implements NamedNodeMap {
 			throw new DOMException(DOMException.NOT_FOUND_ERR, "name is null");
 		}
 
-		int i = 0;
-		final int size = getLength();
-		boolean found = false;
-
-		while(i < size && !found) {
-			if(nnm.get(i).getName().equals(name)) {
-				found = true;
-			}else {
-				i++;
-			}
-		}
+		final SVGAttr attr = getIndex().get(name);
 
-		if(found) {
-			return nnm.remove(i);
+		if(attr != null) {
+			nnm.remove(nnm.indexOf(attr));
+			index.remove(name);
+			// An attribute with the same name may have been added through the list of attributes.
+			nnm.stream().filter(other -> name.equals(other.getName())).findFirst().ifPresent(other -> index.put(name, other));
+			indexed();
+			return attr;
 		}
 
 		throw new DOMException(DOMException.NOT_FOUND_ERR, name);
@@ -104,20 +123,21 @@ public class SVGNamedNodeMap implements NamedNodeMap {
 			return null;
 		}
 
-		final Node attr = getNamedItem(node.getNodeName());
+		final SVGAttr newAttr = (SVGAttr) node;
+		final Node attr = getNamedItem(newAttr.getName());
 
 		if(attr == null) {
-			nnm.add((SVGAttr) node);
+			nnm.add(newAttr);
 		}else {
 			if(attr == node) {
 				return null;
 			}
 
-			final int index = nnm.indexOf(attr);
-			nnm.remove(attr);
-			nnm.add(index, (SVGAttr) node);
+			nnm.set(nnm.indexOf(attr), newAttr);
 		}
 
+		index.put(newAttr.getName(), newAttr);
+		indexed();
 		return attr;
 	}
 
@@ -198,4 +218,24 @@ public class SVGNamedNodeMap implements NamedNodeMap {
 	public int hashCode() {
 		return super.hashCode() ^ getLength();
 	}
+
+
+	/**
+	 * The list of attributes. Its modification count tracks replacements too, to keep the index up to date.
+	 */
+	private static final class AttrList extends ArrayList<SVGAttr> {
+		private static final long serialVersionUID = 1L;
+		/** Counted apart from modCount that must not change on replacements (list iterators would fail). */
+		private int replacements;
+
+		@Override
+		public SVGAttr set(final int index, final SVGAttr element) {
+			replacements++;
+			return super.set(index, element);
+		}
+
+		int getModCount() {
+			return modCount + replacements;
+		}
+	}
 }
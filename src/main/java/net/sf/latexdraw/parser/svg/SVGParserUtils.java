@@ -19,10 +19,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import net.sf.latexdraw.model.MathUtils;
 import net.sf.latexdraw.parser.svg.path.SVGPathSeg;
 import net.sf.latexdraw.parser.svg.path.SVGPathSegArc;
 import net.sf.latexdraw.parser.svg.path.SVGPathSegClosePath;
@@ -47,6 +44,11 @@ import org.jetbrains.annotations.NotNull;
 public final class SVGParserUtils {
 	public static final @NotNull SVGParserUtils INSTANCE = new SVGParserUtils();
 
+	/** The supported units of the lengths and their type (same order). */
+	private static final String[] LENGTH_UNITS = {"pt", "cm", "in", "px", "pc", "mm", "em", "ex"}; //NON-NLS
+	private static final SVGLength.LengthType[] LENGTH_UNIT_TYPES = {SVGLength.LengthType.PT, SVGLength.LengthType.CM, SVGLength.LengthType.IN,
+		SVGLength.LengthType.PX, SVGLength.LengthType.PC, SVGLength.LengthType.MM, SVGLength.LengthType.EM, SVGLength.LengthType.EX};
+
 	private SVGParserUtils() {
 		super();
 	}
@@ -56,13 +58,36 @@ public final class SVGParserUtils {
 	 * @return The parsed reference or an empty string if the format of the code is not valid (not "url(#ref)")
 	 */
 	public String parseURIRerefence(final @NotNull String code) {
-		final Matcher matcher = Pattern.compile("[\\s]*url\\([\\s]*#(.+?)\\)").matcher(code);
+		final SVGCodeScanner scanner = new SVGCodeScanner(code);
+		scanner.skipWsp();
 
-		if(!matcher.matches()) {
+		if(!scanner.consume("url(") || !skipWspAndConsume(scanner, '#')) { //NON-NLS
 			return "";
 		}
 
-		return matcher.group(1);
+		final int start = scanner.getPosition();
+		final int end = code.length() - 1;
+
+		if(end <= start || code.charAt(end) != ')') {
+			return "";
+		}
+
+		for(int i = start; i < end; i++) {
+			if(isLineTerminator(code.charAt(i))) {
+				return "";
+			}
+		}
+
+		return code.substring(start, end);
+	}
+
+	private static boolean skipWspAndConsume(final SVGCodeScanner scanner, final char c) {
+		scanner.skipWsp();
+		return scanner.consume(c);
+	}
+
+	private static boolean isLineTerminator(final char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
 	}
 
 	/**
@@ -70,16 +95,44 @@ public final class SVGParserUtils {
 	 * @return An SVGLength. The length is always converted in PX.
 	 */
 	public Optional<SVGLength> parseLength(final String code) {
-		final Matcher matcher = Pattern.compile("[\\s]*(" + MathUtils.INST.doubleRegex + ")[\\s]*(pt|cm|in|px|pc|mm|em|ex|%)?[\\s]*").matcher(code);
+		if(code == null) {
+			return Optional.empty();
+		}
+
+		final SVGCodeScanner scanner = new SVGCodeScanner(code);
+		scanner.skipWsp();
+		final double value = scanner.readNumber();
+
+		if(Double.isNaN(value)) {
+			return Optional.empty();
+		}
+
+		final String valueCode = scanner.getNumberCode();
+		scanner.skipWsp();
+		final SVGLength.LengthType type = readLengthUnit(scanner);
+		scanner.skipWsp();
 
-		if(!matcher.matches()) {
+		if(!scanner.isEnd()) {
 			return Optional.empty();
 		}
 
-		final double value = Double.parseDouble(matcher.group(1));
-		final SVGLength.LengthType length = matcher.group(2) == null ? SVGLength.LengthType.UNKNOWN : SVGLength.LengthType.valueOf(matcher.group(2).toUpperCase());
+		return Optional.of(new SVGLength(toUserUnit(value, type), SVGLength.LengthType.PX, valueCode));
+	}
 
-		return Optional.of(new SVGLength(toUserUnit(value, length), SVGLength.LengthType.PX, matcher.group(1)));
+	/**
+	 * Reads the optional unit of a length.
+	 * @return The read unit or UNKNOWN if there is no unit.
+	 */
+	private static SVGLength.LengthType readLengthUnit(final SVGCodeScanner scanner) {
+		if(scanner.consume('%')) {
+			return SVGLength.LengthType.PERCENTAGE;
+		}
+		for(int i = 0; i < LENGTH_UNITS.length; i++) {
+			if(scanner.consume(LENGTH_UNITS[i])) {
+				return LENGTH_UNIT_TYPES[i];
+			}
+		}
+		return SVGLength.LengthType.UNKNOWN;
 	}
 
 
@@ -32,7 +32,7 @@ public class SVGSVGElement extends SVGElement implements SVGRectParseTrait {
 			throw new IllegalArgumentException("Tags not correct");
 		}
 
-		ownerDocument = owner;
+		setOwnerDocument(owner);
 	}
 
 
@@ -12,11 +12,8 @@ package net.sf.latexdraw.parser.svg;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import net.sf.latexdraw.model.MathUtils;
-import net.sf.latexdraw.util.Tuple;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Defines an SVG transformation.
@@ -32,36 +29,83 @@ public abstract class SVGTransform {
 			return Optional.empty();
 		}
 
-		String code = transformation.replaceAll("[ \t\n\r\f]+", " "); //NON-NLS
-		code = code.replaceAll("^[ ]", ""); //NON-NLS
-		code = code.replaceAll("[ ]$", ""); //NON-NLS
-		code = code.replaceAll("[ ]?[(][ ]?", "("); //NON-NLS
-		code = code.replaceAll("[ ]?[)]", ")"); //NON-NLS
-		code = code.replaceAll("[ ]?,[ ]?", ","); //NON-NLS
+		final SVGCodeScanner scanner = new SVGCodeScanner(transformation);
+		final Optional<SVGTransform> transform = readTransformation(scanner);
+		scanner.skipWsp();
+		return scanner.isEnd() ? transform : Optional.empty();
+	}
 
-		try {
-			if(code.startsWith(SVGAttributes.SVG_TRANSFORM_ROTATE)) {
-				return Optional.of(new SVGRotateTransformation(code));
-			}
-			if(code.startsWith(SVGAttributes.SVG_TRANSFORM_SCALE)) {
-				return Optional.of(new SVGScaleTransformation(code));
-			}
-			if(code.startsWith(SVGAttributes.SVG_TRANSFORM_TRANSLATE)) {
-				return Optional.of(new SVGTranslateTransformation(code));
-			}
-			if(code.startsWith(SVGAttributes.SVG_TRANSFORM_MATRIX)) {
-				return Optional.of(new SVGMatrixTransformation(code));
-			}
-			if(code.startsWith(SVGAttributes.SVG_TRANSFORM_SKEW_X)) {
-				return Optional.of(new SVGSkewXTransformation(code));
-			}
-			if(code.startsWith(SVGAttributes.SVG_TRANSFORM_SKEW_Y)) {
-				return Optional.of(new SVGSkewYTransformation(code));
+
+	/**
+	 * Reads the next transformation of the given scanner.
+	 * If the transformation is not valid, the scanner is moved after its closing parenthesis.
+	 * @param scanner The scanner of the transformation code.
+	 * @return The read transformation or nothing if not valid.
+	 */
+	static Optional<SVGTransform> readTransformation(final @NotNull SVGCodeScanner scanner) {
+		scanner.skipWsp();
+		scanner.readName();
+		final int count = scanner.readArgs();
+
+		if(count < 0) {
+			scanner.skipPast(')');
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(createTransformation(scanner, count));
+	}
+
+
+	/**
+	 * Creates the transformation corresponding to the latest name and arguments read by the given scanner.
+	 * @return The transformation or null if the name is unknown or the number of arguments does not fit the transformation.
+	 */
+	private static @Nullable SVGTransform createTransformation(final @NotNull SVGCodeScanner scanner, final int count) {
+		if(scanner.isName(SVGAttributes.SVG_TRANSFORM_MATRIX)) {
+			return count == 6 ? new SVGMatrixTransformation(scanner.getArg(0), scanner.getArg(1), scanner.getArg(2), scanner.getArg(3),
+				scanner.getArg(4), scanner.getArg(5)) : null;
+		}
+		if(scanner.isName(SVGAttributes.SVG_TRANSFORM_TRANSLATE)) {
+			return count == 1 || count == 2 ? new SVGTranslateTransformation(scanner.getArg(0), count == 1 ? scanner.getArg(0) : scanner.getArg(1)) : null;
+		}
+		if(scanner.isName(SVGAttributes.SVG_TRANSFORM_SCALE)) {
+			return count == 1 || count == 2 ? new SVGScaleTransformation(scanner.getArg(0), count == 1 ? scanner.getArg(0) : scanner.getArg(1)) : null;
+		}
+		if(scanner.isName(SVGAttributes.SVG_TRANSFORM_ROTATE)) {
+			if(count == 1) {
+				return new SVGRotateTransformation(scanner.getArg(0));
 			}
-		}catch(final IllegalArgumentException ignored) {
+			return count == 3 ? new SVGRotateTransformation(scanner.getArg(0), scanner.getArg(1), scanner.getArg(2)) : null;
+		}
+		if(scanner.isName(SVGAttributes.SVG_TRANSFORM_SKEW_X)) {
+			return count == 1 ? new SVGSkewXTransformation(scanner.getArg(0)) : null;
+		}
+		if(scanner.isName(SVGAttributes.SVG_TRANSFORM_SKEW_Y)) {
+			return count == 1 ? new SVGSkewYTransformation(scanner.getArg(0)) : null;
+		}
+		return null;
+	}
+
+
+	/**
+	 * Parses the given code that must only contain a transformation of the given type.
+	 * @param code The code to parse.
+	 * @param type The expected type of transformation.
+	 * @return The parsed transformation.
+	 * @throws IllegalArgumentException If the code is null or is not a valid transformation of the given type.
+	 */
+	static <T extends SVGTransform> @NotNull T parseTransformation(final String code, final @NotNull Class<T> type) {
+		if(code == null) {
+			throw new IllegalArgumentException();
 		}
 
-		return Optional.empty();
+		final SVGTransform transform = createTransformationFromCode(code).orElse(null);
+
+		if(!type.isInstance(transform)) {
+			throw new IllegalArgumentException(code);
+		}
+
+		return type.cast(transform);
 	}
 
 
@@ -79,27 +123,17 @@ public abstract class SVGTransform {
 
 	public static class SVGMatrixTransformation extends SVGTransform {
 		static SVGMatrix matrixFromMatrixTransformation(final String code) {
-			if(code == null) {
-				throw new IllegalArgumentException();
-			}
-
-			final Matcher matcher = Pattern.compile("\\s*" + SVGAttributes.SVG_TRANSFORM_MATRIX + "\\s*\\(\\s*(" + MathUtils.INST.doubleRegex + //NON-NLS
-				")\\s*,?\\s*(" + MathUtils.INST.doubleRegex + ")\\s*,?\\s*(" + MathUtils.INST.doubleRegex + ")\\s*,?\\s*(" + //NON-NLS
-				MathUtils.INST.doubleRegex + ")\\s*,?\\s*(" + MathUtils.INST.doubleRegex + ")\\s*,?\\s*(" + //NON-NLS
-				MathUtils.INST.doubleRegex + ")\\s*\\)\\s*").matcher(code); //NON-NLS
-
-			if(!matcher.matches()) {
-				throw new IllegalArgumentException(code);
-			}
-
-			return new SVGMatrix(Double.parseDouble(matcher.group(1)), Double.parseDouble(matcher.group(2)), Double.parseDouble(matcher.group(3)),
-				Double.parseDouble(matcher.group(4)), Double.parseDouble(matcher.group(5)), Double.parseDouble(matcher.group(6)));
+			return parseTransformation(code, SVGMatrixTransformation.class).matrix;
 		}
 
 		SVGMatrixTransformation(final String code) {
 			super(matrixFromMatrixTransformation(code));
 		}
 
+		SVGMatrixTransformation(final double a, final double b, final double c, final double d, final double e, final double f) {
+			super(new SVGMatrix(a, b, c, d, e, f));
+		}
+
 		@Override
 		public String toString() {
 			return SVGAttributes.SVG_TRANSFORM_MATRIX + '(' + matrix + ')';
@@ -108,24 +142,7 @@ public abstract class SVGTransform {
 
 	public static class SVGTranslateTransformation extends SVGTransform {
 		static SVGMatrix matrixFromTranslateTransformation(final String code) {
-			if(code == null) {
-				throw new IllegalArgumentException();
-			}
-
-			final Matcher matcher = Pattern.compile("\\s*" + SVGAttributes.SVG_TRANSFORM_TRANSLATE + "\\s*\\(\\s*(" + MathUtils.INST.doubleRegex + //NON-NLS
-				")\\s*,?\\s*(" + MathUtils.INST.doubleRegex + ")?\\s*\\)\\s*").matcher(code); //NON-NLS
-
-			if(!matcher.matches()) {
-				throw new IllegalArgumentException(code);
-			}
-
-			final double tx = Double.parseDouble(matcher.group(1));
-
-			if(matcher.group(2) == null) {
-				return SVGMatrix.createTranslate(tx, tx);
-			}
-
-			return SVGMatrix.createTranslate(tx, Double.parseDouble(matcher.group(2)));
+			return parseTransformation(code, SVGTranslateTransformation.class).matrix;
 		}
 
 
@@ -170,24 +187,7 @@ public abstract class SVGTransform {
 
 	public static class SVGScaleTransformation extends SVGTransform {
 		static SVGMatrix matrixFromScaleTransformation(final String code) {
-			if(code == null) {
-				throw new IllegalArgumentException();
-			}
-
-			final Matcher matcher = Pattern.compile("\\s*" + SVGAttributes.SVG_TRANSFORM_SCALE + "\\s*\\(\\s*(" + MathUtils.INST.doubleRegex + //NON-NLS
-				")\\s*,?\\s*(" + MathUtils.INST.doubleRegex + ")?\\s*\\)\\s*").matcher(code); //NON-NLS
-
-			if(!matcher.matches()) {
-				throw new IllegalArgumentException(code);
-			}
-
-			final double sx = Double.parseDouble(matcher.group(1));
-
-			if(matcher.group(2) == null) {
-				return SVGMatrix.createScale(sx, sx);
-			}
-
-			return SVGMatrix.createScale(sx, Double.parseDouble(matcher.group(2)));
+			return parseTransformation(code, SVGScaleTransformation.class).matrix;
 		}
 
 
@@ -195,6 +195,10 @@ public abstract class SVGTransform {
 			super(matrixFromScaleTransformation(code));
 		}
 
+		SVGScaleTransformation(final double sx, final double sy) {
+			super(SVGMatrix.createScale(sx, sy));
+		}
+
 		/**
 		 * @return The X scale factor.
 		 */
@@ -216,28 +220,6 @@ public abstract class SVGTransform {
 	}
 
 	public static class SVGRotateTransformation extends SVGTransform {
-		static Tuple<SVGMatrix, Double> matrixfromRotateTransformation(final String code) {
-			if(code == null) {
-				throw new IllegalArgumentException();
-			}
-
-			final Matcher matcher = Pattern.compile("\\s*" + SVGAttributes.SVG_TRANSFORM_ROTATE + "\\s*\\(\\s*(" + MathUtils.INST.doubleRegex + //NON-NLS
-				")(\\s*,?\\s*(" + MathUtils.INST.doubleRegex + ")\\s*,?\\s*(" + MathUtils.INST.doubleRegex + "))?\\s*\\)\\s*").matcher(code); //NON-NLS
-
-			if(!matcher.matches()) {
-				throw new IllegalArgumentException(code);
-			}
-
-			final double angle = Double.parseDouble(matcher.group(1));
-
-			// The angle without centre point (groups 3 and 4)
-			if(matcher.group(3) == null || matcher.group(4) == null) {
-				return new Tuple<>(SVGMatrix.createRotate(Math.toRadians(angle)), angle);
-			}
-
-			return new Tuple<>(SVGMatrix.createRotate(Math.toRadians(angle), Double.parseDouble(matcher.group(3)), Double.parseDouble(matcher.group(4))), angle);
-		}
-
 		/** The angle of the rotation, in degree. */
 		private final double angle;
 
@@ -252,14 +234,27 @@ public abstract class SVGTransform {
 			this.angle = angle;
 		}
 
+		/**
+		 * Creates a rotation centred on the origin.
+		 * @param angle The angle of rotation in degree.
+		 */
+		SVGRotateTransformation(final double angle) {
+			super(SVGMatrix.createRotate(Math.toRadians(angle)));
+			this.angle = angle;
+		}
+
+		private SVGRotateTransformation(final @NotNull SVGRotateTransformation rotation) {
+			super(rotation.matrix);
+			angle = rotation.angle;
+		}
+
 		/**
 		 * Parses the given code to produce a rotate transformation.
 		 * @param code The code to parse.
 		 * @throws IllegalArgumentException If a problem occurs.
 		 */
 		SVGRotateTransformation(final String code) {
-			super(matrixfromRotateTransformation(code).a);
-			angle = matrixfromRotateTransformation(code).b;
+			this(parseTransformation(code, SVGRotateTransformation.class));
 		}
 
 		/**
@@ -290,23 +285,12 @@ public abstract class SVGTransform {
 	}
 
 	public static class SVGSkewXTransformation extends SVGTransform {
-		static double angleFromSkewXTransformation(final String code) {
-			if(code == null) {
-				throw new IllegalArgumentException();
-			}
-
-			final Matcher matcher = Pattern.compile("\\s*" + SVGAttributes.SVG_TRANSFORM_SKEW_X + "\\s*\\(\\s*(" + //NON-NLS
-				MathUtils.INST.doubleRegex + ")\\s*\\)\\s*").matcher(code); //NON-NLS
-
-			if(!matcher.matches()) {
-				throw new IllegalArgumentException(code);
-			}
-
-			return Double.parseDouble(matcher.group(1));
+		SVGSkewXTransformation(final String code) {
+			super(parseTransformation(code, SVGSkewXTransformation.class).matrix);
 		}
 
-		SVGSkewXTransformation(final String code) {
-			super(SVGMatrix.createSkewX(angleFromSkewXTransformation(code)));
+		SVGSkewXTransformation(final double angle) {
+			super(SVGMatrix.createSkewX(angle));
 		}
 
 		@Override
@@ -317,23 +301,12 @@ public abstract class SVGTransform {
 
 
 	public static class SVGSkewYTransformation extends SVGTransform {
-		static double angleFromSkewYTransformation(final String code) {
-			if(code == null) {
-				throw new IllegalArgumentException();
-			}
-
-			final Matcher matcher = Pattern.compile("\\s*" + SVGAttributes.SVG_TRANSFORM_SKEW_Y + "\\s*\\(\\s*(" + MathUtils.INST.doubleRegex + //NON-NLS
-				")\\s*\\)\\s*").matcher(code);
-
-			if(!matcher.matches()) {
-				throw new IllegalArgumentException(code);
-			}
-
-			return Double.parseDouble(matcher.group(1));
+		SVGSkewYTransformation(final String code) {
+			super(parseTransformation(code, SVGSkewYTransformation.class).matrix);
 		}
 
-		SVGSkewYTransformation(final String code) {
-			super(SVGMatrix.createSkewY(angleFromSkewYTransformation(code)));
+		SVGSkewYTransformation(final double angle) {
+			super(SVGMatrix.createSkewY(angle));
 		}
 
 		@Override
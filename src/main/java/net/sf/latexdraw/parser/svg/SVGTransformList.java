@@ -12,8 +12,6 @@ package net.sf.latexdraw.parser.svg;
 
 import java.awt.geom.Point2D;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.regex.PatternSyntaxException;
 
 /**
  * Defines a list containing SVG transformations.
@@ -57,21 +55,12 @@ public class SVGTransformList extends ArrayList<SVGTransform> {
 			return;
 		}
 
-		try {
-			String code = transformations.replaceAll("[ \t\n\r\f]+", " ");
-			code = code.replaceAll("^[ ]", "");
-			code = code.replaceAll("[ ]$", "");
-			code = code.replaceAll("[ ]?[(][ ]?", "(");
-			code = code.replaceAll("[ ]?[)]", ")");
-			code = code.replaceAll("[ ]?,[ ]?", ",");
-			code = code.replaceAll("[)][, ]?", ")_");
-
-			Arrays.stream(code.split("_")).
-				map(tran -> SVGTransform.createTransformationFromCode(tran)).
-				filter(opt -> opt.isPresent()).
-				map(opt -> opt.get()).
-				forEach(tran -> add(tran));
-		}catch(final PatternSyntaxException ignored) {
+		final SVGCodeScanner scanner = new SVGCodeScanner(transformations);
+		scanner.skipCommaWsp();
+
+		while(!scanner.isEnd()) {
+			SVGTransform.readTransformation(scanner).ifPresent(tran -> add(tran));
+			scanner.skipCommaWsp();
 		}
 	}
 
@@ -16,6 +16,7 @@ import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import net.sf.latexdraw.util.Flushable;
 import net.sf.latexdraw.util.OperatingSystem;
@@ -85,6 +86,13 @@ public class LaTeXDataService implements Modifiable, Flushable {
 		return packages.getValue();
 	}
 
+	/**
+	 * @return The property of the packages.
+	 */
+	public @NotNull ReadOnlyObjectProperty<String> packagesProperty() {
+		return packages;
+	}
+
 	/**
 	 * @return the scale of the drawing.
 	 */
@@ -0,0 +1,406 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.service;
+
+import java.io.IOException;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.Drawing;
+import net.sf.latexdraw.parser.pst.PSTLatexdrawListener;
+import net.sf.latexdraw.parser.pst.PSTParser;
+import net.sf.latexdraw.parser.pst.PSTParsers;
+import net.sf.latexdraw.util.BadaboomCollector;
+import net.sf.latexdraw.util.Flushable;
+import net.sf.latexdraw.util.Inject;
+import net.sf.latexdraw.util.PerfMetrics;
+import net.sf.latexdraw.view.svg.SVGDocumentGenerator;
+import net.sf.latexdraw.view.svg.SVGShapesFactory;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Imports PST files concurrently: each file is converted into its own drawing, that can be exported as an SVG document
+ * (the exports are sequential).
+ * The import threads reuse their PST parser and share the warmed DFA cache of the PST parsers (see PSTParsers).
+ * @author Arnaud Blouin
+ */
+public class PSTImportService implements Flushable {
+	/** The extensions of the files imported from a folder. */
+	private static final @NotNull List<String> PST_EXTENSIONS = List.of(".tex", ".pst"); //NON-NLS
+
+	private final @NotNull SVGShapesFactory svgFactory;
+	/** The import pool */
+	private final @NotNull ExecutorService importPool;
+
+	@Inject
+	public PSTImportService(final SVGShapesFactory svgFactory) {
+		super();
+		this.svgFactory = Objects.requireNonNull(svgFactory);
+		importPool = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), run -> {
+			final Thread thread = new Thread(run, "pst-import"); //NON-NLS
+			thread.setDaemon(true);
+			return thread;
+		});
+		// The DFA cache is shared by the parsers of all the threads: warming it once benefits to all the imports.
+		importPool.execute(PSTParsers.INSTANCE::warmUp);
+	}
+
+	/**
+	 * Imports the given PST files concurrently. Each file is converted into its own drawing.
+	 * @param files The PST files to import.
+	 * @return The import reports, in the order of the given files.
+	 * @throws InterruptedException If interrupted while waiting for the imports.
+	 */
+	public @NotNull List<FileImport> importFiles(final @NotNull Collection<Path> files) throws InterruptedException {
+		return runAll(files, this::importFile);
+	}
+
+	/**
+	 * Imports concurrently the PST files (.tex or .pst) of the given folder and of its sub-folders.
+	 * @param folder The folder that contains the PST files.
+	 * @return The import reports, sorted by file path.
+	 * @throws IOException If the folder cannot be browsed.
+	 * @throws InterruptedException If interrupted while waiting for the imports.
+	 */
+	public @NotNull List<FileImport> importFolder(final @NotNull Path folder) throws IOException, InterruptedException {
+		return importFiles(getPSTFiles(folder));
+	}
+
+	/**
+	 * Imports the given PST files concurrently and exports each produced drawing as an SVG document in the given folder.
+	 * The SVG documents keep the path of the PST files relative to their common folder, with the svg extension.
+	 * The extension of the PST files is kept in the name of the SVG documents when several PST files only differ by their extension
+	 * (e.g. 'fig.tex.svg' and 'fig.pst.svg').
+	 * The SVG factories are shared and not thread-safe: the drawings are exported one by one in the current thread.
+	 * @param files The PST files to import.
+	 * @param outputFolder The folder where the SVG documents are created.
+	 * @return The import reports, in the order of the given files.
+	 * @throws InterruptedException If interrupted while waiting for the imports.
+	 */
+	public @NotNull List<FileImport> importFilesAsSVG(final @NotNull Collection<Path> files, final @NotNull Path outputFolder) throws InterruptedException {
+		final List<FileImport> imports = importFiles(files);
+		final List<Path> svgPaths = getSVGPaths(imports.stream().map(FileImport::getFile).collect(Collectors.toList()));
+		final Map<Path, List<FileImport>> importsBySVGFile = IntStream.range(0, imports.size())
+			.boxed()
+			.collect(Collectors.groupingBy(i -> outputFolder.resolve(svgPaths.get(i)), LinkedHashMap::new, Collectors.mapping(imports::get, Collectors.toList())));
+
+		importsBySVGFile.forEach((svgFile, svgImports) -> {
+			if(svgImports.size() > 1) {
+				// The files that would produce the same SVG document (e.g. a file imported twice) would overwrite each other.
+				svgImports.forEach(imp -> imp.errors.add("Cannot export the SVG document " + svgFile + ": several files target it")); //NON-NLS
+			}else {
+				exportSVGInFolder(svgImports.get(0), svgFile);
+			}
+		});
+
+		return imports;
+	}
+
+	private void exportSVGInFolder(final @NotNull FileImport fileImport, final @NotNull Path svgFile) {
+		if(fileImport.isReadable()) {
+			try {
+				Files.createDirectories(svgFile.getParent());
+				exportSVG(fileImport, svgFile);
+			}catch(final IOException ex) {
+				fileImport.errors.add("Cannot create the folder of the SVG document: " + ex.getMessage()); //NON-NLS
+			}
+		}
+	}
+
+	/**
+	 * Imports a PST file in the current thread.
+	 * @param file The PST file to import.
+	 * @return The import report.
+	 */
+	public @NotNull FileImport importFile(final @NotNull Path file) {
+		final FileImport fileImport = new FileImport(file);
+		final String code;
+
+		try {
+			code = readFile(file);
+		}catch(final IOException ex) {
+			fileImport.errors.add("Cannot read the file: " + ex.getMessage()); //NON-NLS
+			return fileImport;
+		}
+
+		final ImportListener listener = new ImportListener(fileImport);
+		final long start = System.nanoTime();
+
+		try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("pst.import.file")) { //NON-NLS
+			PSTParsers.INSTANCE.parse(code, listener, new BaseErrorListener() {
+				@Override
+				public void syntaxError(final Recognizer<?, ?> recognizer, final Object offendingSymbol, final int line, final int charPositionInLine,
+										final String msg, final RecognitionException e) {
+					fileImport.errors.add("Syntax error " + line + ':' + charPositionInLine + ": " + msg); //NON-NLS
+				}
+			});
+		}
+
+		fileImport.parseTime = System.nanoTime() - start;
+		fileImport.readable = true;
+		listener.flatShapes().forEach(sh -> fileImport.drawing.addShape(sh));
+		return fileImport;
+	}
+
+	/**
+	 * Exports the drawing of an import as an SVG document.
+	 * Must not be called concurrently: the SVG factories (and their LaTeX compilation folder) are shared.
+	 * @param fileImport The import to export.
+	 * @param svgFile The SVG document to create.
+	 * @return True if the SVG document was created.
+	 */
+	public boolean exportSVG(final @NotNull FileImport fileImport, final @NotNull Path svgFile) {
+		try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("pst.import.svg")) { //NON-NLS
+			final boolean saved = SVGDocumentGenerator.createSVGDocument(svgFactory, fileImport.drawing.getShapes(), fileImport.drawing.getShapes(), () -> { })
+				.saveSVGDocument(svgFile.toString());
+			if(saved) {
+				fileImport.svgFile = svgFile;
+			}
+			return saved;
+		}
+	}
+
+	private @NotNull List<FileImport> runAll(final @NotNull Collection<Path> files, final @NotNull Function<Path, FileImport> task) throws InterruptedException {
+		final List<Path> paths = new ArrayList<>(files);
+		final List<Future<FileImport>> futures = importPool.invokeAll(paths.stream()
+			.map(file -> (Callable<FileImport>) () -> task.apply(file))
+			.collect(Collectors.toList()));
+		final List<FileImport> imports = new ArrayList<>(paths.size());
+
+		for(int i = 0, size = paths.size(); i < size; i++) {
+			try {
+				imports.add(futures.get(i).get());
+			}catch(final ExecutionException ex) {
+				// A failing file must not prevent the import of the other files.
+				BadaboomCollector.INSTANCE.add(ex.getCause());
+				final FileImport failed = new FileImport(paths.get(i));
+				failed.errors.add("Cannot import the file: " + ex.getCause()); //NON-NLS
+				imports.add(failed);
+			}
+		}
+
+		return imports;
+	}
+
+	/**
+	 * @param folder The folder to browse.
+	 * @return The PST files (.tex or .pst) of the given folder and of its sub-folders, sorted.
+	 * @throws IOException If the folder cannot be browsed.
+	 */
+	static @NotNull List<Path> getPSTFiles(final @NotNull Path folder) throws IOException {
+		try(final Stream<Path> files = Files.walk(folder)) {
+			return files
+				.filter(file -> Files.isRegularFile(file))
+				.filter(file -> PST_EXTENSIONS.stream().anyMatch(ext -> file.getFileName().toString().toLowerCase(Locale.ENGLISH).endsWith(ext)))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Reads a file in UTF-8, or in ISO-8859-1 for the legacy files that are not UTF-8 encoded.
+	 */
+	private static @NotNull String readFile(final @NotNull Path file) throws IOException {
+		try {
+			return Files.readString(file, StandardCharsets.UTF_8);
+		}catch(final MalformedInputException ex) {
+			return Files.readString(file, StandardCharsets.ISO_8859_1);
+		}
+	}
+
+	/**
+	 * @param files The imported PST files.
+	 * @return The path of the SVG document of each given PST file, relative to the output folder.
+	 */
+	static @NotNull List<Path> getSVGPaths(final @NotNull List<Path> files) {
+		final List<Path> absFiles = files.stream().map(file -> file.toAbsolutePath().normalize()).collect(Collectors.toList());
+		Path root = absFiles.isEmpty() ? null : absFiles.get(0).getParent();
+		for(final Path file : absFiles) {
+			root = getCommonFolder(root, file.getParent());
+		}
+		// The files that only differ by their extension keep it.
+		final Map<Path, Long> nbFilesByBaseName = absFiles.stream()
+			.distinct()
+			.collect(Collectors.groupingBy(file -> file.resolveSibling(getBaseName(file)), Collectors.counting()));
+		final Path folder = root;
+
+		return absFiles.stream()
+			.map(file -> {
+				final Path relative = folder == null ? file.getFileName() : folder.relativize(file);
+				final boolean keepExtension = nbFilesByBaseName.get(file.resolveSibling(getBaseName(file))) > 1L;
+				return relative.resolveSibling((keepExtension ? file.getFileName().toString() : getBaseName(file)) + ".svg"); //NON-NLS
+			})
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * @return The deepest folder that contains the two given folders, or null.
+	 */
+	private static @Nullable Path getCommonFolder(final @Nullable Path folder1, final @Nullable Path folder2) {
+		if(folder1 == null || folder2 == null) {
+			return null;
+		}
+		Path common = folder1;
+		while(common != null && !folder2.startsWith(common)) {
+			common = common.getParent();
+		}
+		return common;
+	}
+
+	private static @NotNull String getBaseName(final @NotNull Path file) {
+		final String name = file.getFileName().toString();
+		final int dot = name.lastIndexOf('.');
+		return dot > 0 ? name.substring(0, dot) : name;
+	}
+
+	@Override
+	public void flush() {
+		importPool.shutdownNow();
+	}
+
+	/**
+	 * The PST listener of an import: reports the unknown commands and the errors logged while converting the code.
+	 */
+	private static final class ImportListener extends PSTLatexdrawListener {
+		private final @NotNull FileImport fileImport;
+
+		ImportListener(final @NotNull FileImport fileImport) {
+			super();
+			this.fileImport = fileImport;
+			log.setUseParentHandlers(false);
+			log.addHandler(new Handler() {
+				@Override
+				public void publish(final LogRecord record) {
+					fileImport.errors.add(record.getMessage());
+				}
+
+				@Override
+				public void flush() {
+					// Nothing to flush
+				}
+
+				@Override
+				public void close() {
+					// Nothing to close
+				}
+			});
+		}
+
+		@Override
+		public void exitUnknowncmds(final PSTParser.UnknowncmdsContext ctx) {
+			super.exitUnknowncmds(ctx);
+			fileImport.unknownCommands.add(ctx.LATEXCMD().getText());
+		}
+	}
+
+	/**
+	 * The report of the import of a PST file.
+	 */
+	public static final class FileImport {
+		private final @NotNull Path file;
+		private final @NotNull Drawing drawing;
+		private final @NotNull List<String> unknownCommands;
+		private final @NotNull List<String> errors;
+		private long parseTime;
+		private boolean readable;
+		private @Nullable Path svgFile;
+
+		FileImport(final @NotNull Path file) {
+			super();
+			this.file = file;
+			drawing = ShapeFactory.INST.createDrawing();
+			unknownCommands = new ArrayList<>();
+			errors = new ArrayList<>();
+			readable = false;
+		}
+
+		/**
+		 * @return The imported PST file.
+		 */
+		public @NotNull Path getFile() {
+			return file;
+		}
+
+		/**
+		 * @return The drawing that contains the shapes converted from the PST file.
+		 */
+		public @NotNull Drawing getDrawing() {
+			return drawing;
+		}
+
+		/**
+		 * @return The time spent to parse and convert the PST code, in nanoseconds.
+		 */
+		public long getParseTime() {
+			return parseTime;
+		}
+
+		/**
+		 * @return The LaTeX commands not supported by the PST parser (e.g. '\psfoo'), in their order of appearance.
+		 */
+		public @NotNull List<String> getUnknownCommands() {
+			return Collections.unmodifiableList(unknownCommands);
+		}
+
+		/**
+		 * @return The syntax errors and the conversion errors.
+		 */
+		public @NotNull List<String> getErrors() {
+			return Collections.unmodifiableList(errors);
+		}
+
+		/**
+		 * @return True if the file was read and parsed (possibly with errors).
+		 */
+		public boolean isReadable() {
+			return readable;
+		}
+
+		/**
+		 * @return The SVG document produced from the drawing, if exported.
+		 */
+		public @NotNull Optional<Path> getSVGFile() {
+			return Optional.ofNullable(svgFile);
+		}
+
+		@Override
+		public String toString() {
+			return "FileImport{file=" + file + ", shapes=" + drawing.size() + ", parseTime=" + parseTime + ", unknownCommands=" + unknownCommands + //NON-NLS
+				", errors=" + errors + '}';
+		}
+	}
+}
@@ -48,6 +48,7 @@ import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
+import net.sf.latexdraw.command.Export;
 import net.sf.latexdraw.model.MathUtils;
 import net.sf.latexdraw.util.BadaboomCollector;
 import net.sf.latexdraw.util.LNamespace;
@@ -76,6 +77,8 @@ public class PreferencesService {
 	private @NotNull Optional<File> currentFolder;
 	private final @NotNull IntegerProperty nbRecentFiles;
 	private final @NotNull IntegerProperty gridGap;
+	/** The resolution (in DPI) of the exported pictures. */
+	private final @NotNull IntegerProperty exportDPI;
 	private final @NotNull BooleanProperty checkVersion;
 	private final @NotNull BooleanProperty magneticGrid;
 	private final @NotNull StringProperty pathExport;
@@ -96,6 +99,7 @@ public class PreferencesService {
 			() -> new IllegalArgumentException("Cannot read any resource bundle in this lang: " + lang.get()));
 		nbRecentFiles = new SimpleIntegerProperty(5);
 		gridGap = new SimpleIntegerProperty(10);
+		exportDPI = new SimpleIntegerProperty(Export.DEFAULT_DPI);
 		checkVersion = new SimpleBooleanProperty(true);
 		gridStyle = new SimpleObjectProperty<>(GridStyle.NONE);
 		unit = new SimpleObjectProperty<>(Unit.CM);
@@ -149,6 +153,14 @@ public class PreferencesService {
 		return gridGap;
 	}
 
+	public @NotNull IntegerProperty exportDPIProperty() {
+		return exportDPI;
+	}
+
+	public int getExportDPI() {
+		return exportDPI.get();
+	}
+
 	public boolean isMagneticGrid() {
 		return magneticGrid.get();
 	}
@@ -351,6 +363,7 @@ public class PreferencesService {
 		SystemUtils.getInstance().createElement(document, LNamespace.XML_MAGNETIC_GRID, String.valueOf(magneticGrid.get()), root);
 		SystemUtils.getInstance().createElement(document, LNamespace.XML_GRID_STYLE, gridStyle.get().name(), root);
 		SystemUtils.getInstance().createElement(document, LNamespace.XML_GRID_GAP, String.valueOf(gridGap.get()), root);
+		SystemUtils.getInstance().createElement(document, LNamespace.XML_EXPORT_DPI, String.valueOf(exportDPI.get()), root);
 		SystemUtils.getInstance().createElement(document, LNamespace.XML_LATEX_INCLUDES, includes.get(), root);
 		final Element recent = document.createElement(LNamespace.XML_RECENT_FILES);
 		root.appendChild(recent);
@@ -415,6 +428,8 @@ public class PreferencesService {
 
 		MathUtils.INST.parseInt(prefMap.getOrDefault(LNamespace.XML_GRID_GAP, noElt).getTextContent()).ifPresent(gap -> gridGap.set(gap));
 
+		MathUtils.INST.parseInt(prefMap.getOrDefault(LNamespace.XML_EXPORT_DPI, noElt).getTextContent()).ifPresent(dpi -> exportDPI.set(dpi));
+
 		final String magnet = prefMap.getOrDefault(LNamespace.XML_MAGNETIC_GRID, noElt).getTextContent();
 		if(magnet != null) {
 			magneticGrid.setValue(Boolean.valueOf(magnet));
@@ -11,8 +11,21 @@
 package net.sf.latexdraw.util;
 
 import io.github.interacto.error.ErrorCatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javafx.application.Platform;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.ReadOnlyListProperty;
 import javafx.beans.property.SimpleListProperty;
@@ -23,35 +36,197 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * An error collector.
+ * Errors can be collected from any thread: they are queued without locking, then published
+ * by batches to the errors list (bound to the UI) in the JavaFX thread, at most every PUBLICATION_DELAY ms.
+ * Repeated errors (same type and message) are collected once and counted.
+ * At most DEFAULT_CAPACITY different errors are collected: the next ones are dropped and counted.
  * @author Arnaud BLOUIN
  */
 public final class BadaboomCollector implements EventHandler<WorkerStateEvent> {
 	/** The logger that will stores the errors. */
 	private static final @NotNull Logger LOGGER = Logger.getAnonymousLogger();
+	/** The maximal number of different errors collected. */
+	static final int DEFAULT_CAPACITY = 1000;
+	/** The minimal delay (in ms) between two publications of the collected errors. */
+	static final long PUBLICATION_DELAY = 100L;
+	/** The thread that triggers the publications. */
+	private static final @NotNull ScheduledExecutorService PUBLISHER = Executors.newSingleThreadScheduledExecutor(run -> {
+		final Thread thread = new Thread(run, "badaboom-publisher"); //NON-NLS
+		thread.setDaemon(true);
+		return thread;
+	});
 	/** The singleton. */
 	public static final @NotNull BadaboomCollector INSTANCE = new BadaboomCollector();
 
 	static {
-		Thread.setDefaultUncaughtExceptionHandler((t, throwable) -> INSTANCE.errors.add(throwable));
+		Thread.setDefaultUncaughtExceptionHandler((t, throwable) -> INSTANCE.collect(throwable));
 	}
 
 	private final @NotNull ListProperty<Throwable> errors;
+	/** The errors collected but not published yet. */
+	private final @NotNull Queue<Throwable> pending;
+	/** The number of occurrences of each collected error, identified by its type and message. */
+	private final @NotNull Map<String, AtomicInteger> occurrences;
+	/** The published errors, identified by their type and message. */
+	private final @NotNull Map<String, Throwable> published;
+	/** The published errors that occurred again since the last publication. */
+	private final @NotNull Set<String> repeated;
+	private final @NotNull AtomicInteger dropped;
+	private final @NotNull AtomicBoolean publicationScheduled;
+	private final int capacity;
+	private final long delay;
 
 	/**
 	 * Creates an empty collector.
 	 */
 	@SuppressWarnings("CheckReturnValue")
 	private BadaboomCollector() {
+		this(DEFAULT_CAPACITY, PUBLICATION_DELAY);
+		ErrorCatcher.getInstance().getErrors().subscribe(ex -> collect(ex));
+	}
+
+	/**
+	 * Creates an empty collector.
+	 * @param capacity The maximal number of different errors collected.
+	 * @param delay The minimal delay (in ms) between two publications of the collected errors.
+	 * @throws IllegalArgumentException If the capacity is lower than 1 or the delay is negative.
+	 */
+	BadaboomCollector(final int capacity, final long delay) {
 		super();
+		if(capacity < 1 || delay < 0L) {
+			throw new IllegalArgumentException("Invalid capacity or delay: " + capacity + ", " + delay); //NON-NLS
+		}
+		this.capacity = capacity;
+		this.delay = delay;
 		errors = new SimpleListProperty<>(FXCollections.observableArrayList());
-		ErrorCatcher.getInstance().getErrors().subscribe(ex -> errors.add(ex));
+		pending = new ConcurrentLinkedQueue<>();
+		occurrences = new ConcurrentHashMap<>();
+		published = new ConcurrentHashMap<>();
+		repeated = ConcurrentHashMap.newKeySet();
+		dropped = new AtomicInteger();
+		publicationScheduled = new AtomicBoolean(false);
 	}
 
 	public void add(final @NotNull Throwable ex) {
-		synchronized(INSTANCE) {
-			errors.add(ex);
+		// Repeated errors are logged once
+		if(collect(ex)) {
+			LOGGER.log(Level.SEVERE, "An Exception occured.", ex); //NON-NLS
 		}
-		LOGGER.log(Level.SEVERE, "An Exception occured.", ex); //NON-NLS
+	}
+
+	/**
+	 * Queues the given error for its publication.
+	 * @return True if the error is a new one. False if it is a repeated or dropped one.
+	 */
+	private boolean collect(final Throwable ex) {
+		if(ex == null) {
+			return false;
+		}
+
+		final String key = getKey(ex);
+		final AtomicInteger counter = occurrences.get(key);
+		boolean added = false;
+
+		if(counter != null) {
+			counter.incrementAndGet();
+			repeated.add(key);
+		}else {
+			if(occurrences.size() >= capacity) {
+				if(dropped.getAndIncrement() == 0) {
+					LOGGER.log(Level.WARNING, "Too many errors: the next new errors will not be collected."); //NON-NLS
+				}
+				return false;
+			}
+			final AtomicInteger previous = occurrences.putIfAbsent(key, new AtomicInteger(1));
+			if(previous == null) {
+				pending.offer(ex);
+				added = true;
+			}else {
+				// Concurrently added by another thread
+				previous.incrementAndGet();
+				repeated.add(key);
+			}
+		}
+
+		schedulePublication();
+		return added;
+	}
+
+	/**
+	 * @return The key identifying the errors considered as the same error: same type, same message,
+	 * and thrown at the same place (many errors have no message, e.g. the null pointer exceptions).
+	 */
+	private static @NotNull String getKey(final @NotNull Throwable ex) {
+		final StackTraceElement[] trace = ex.getStackTrace();
+		return ex.getClass().getName() + ':' + ex.getMessage() + '@' + (trace.length == 0 ? "" : trace[0].toString());
+	}
+
+	/**
+	 * @return True if collected errors are waiting for their publication in the errors list.
+	 */
+	public synchronized boolean isPublicationPending() {
+		return publicationScheduled.get() || !pending.isEmpty();
+	}
+
+	private void schedulePublication() {
+		if(publicationScheduled.compareAndSet(false, true)) {
+			PUBLISHER.schedule(() -> {
+				try {
+					Platform.runLater(() -> publishPendingErrors());
+				}catch(final IllegalStateException ex) {
+					// The JavaFX toolkit is not running, so no UI uses the errors
+					publishPendingErrors();
+				}
+			}, delay, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Publishes at once the errors collected since the previous publication in the errors list.
+	 * Automatically called in the JavaFX thread. May be called to access the errors without delay.
+	 */
+	public synchronized void publishPendingErrors() {
+		publicationScheduled.set(false);
+
+		final List<Throwable> batch = new ArrayList<>();
+		Throwable ex = pending.poll();
+		while(ex != null) {
+			batch.add(ex);
+			published.put(getKey(ex), ex);
+			ex = pending.poll();
+		}
+
+		if(!batch.isEmpty()) {
+			errors.addAll(batch);
+		}
+
+		// Replacing the errors that occurred again notifies their new number of occurrences
+		repeated.removeIf(key -> {
+			final Throwable error = published.get(key);
+			if(error != null) {
+				final int index = errors.indexOf(error);
+				if(index != -1) {
+					errors.set(index, error);
+				}
+			}
+			return error != null;
+		});
+	}
+
+	/**
+	 * @param ex The error to look for.
+	 * @return The number of times the given error (or an error of the same type, with the same message, thrown at the same place) occurred.
+	 */
+	public int getOccurrences(final @NotNull Throwable ex) {
+		final AtomicInteger counter = occurrences.get(getKey(ex));
+		return counter == null ? 0 : counter.get();
+	}
+
+	/**
+	 * @return The number of new errors not collected since the capacity of the collector was reached.
+	 */
+	public int getDroppedErrors() {
+		return dropped.get();
 	}
 
 	@Override
@@ -59,10 +234,18 @@ public final class BadaboomCollector implements EventHandler<WorkerStateEvent> {
 		add(evt.getSource().getException());
 	}
 
-	public void clear() {
+	public synchronized void clear() {
+		pending.clear();
+		occurrences.clear();
+		published.clear();
+		repeated.clear();
+		dropped.set(0);
 		errors.clear();
 	}
 
+	/**
+	 * @return The published errors. Must be used in the JavaFX thread.
+	 */
 	public @NotNull ReadOnlyListProperty<Throwable> errorsProperty() {
 		return errors;
 	}
@@ -12,6 +12,7 @@ package net.sf.latexdraw.util;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -19,6 +20,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -40,6 +42,12 @@ public abstract class Injector {
 	private final Map<Class<?>, Object> instances;
 	private final Map<Class<?>, Supplier<Object>> instancesSuppliers;
 	private final Map<Class<?>, Supplier<?>> bindingsBetweenTypes;
+	/** The lazy singletons not created yet, with the constructor to use. */
+	private final Map<Class<?>, Constructor<?>> lazySingletons;
+	/** The lazy singletons being created (to detect cyclic dependencies). Guarded by lazyLock. */
+	private final Set<Class<?>> lazySingletonsInCreation;
+	/** The lock that serialises the creation of the lazy singletons. */
+	private final Object lazyLock;
 
 	/**
 	 * Creates the base injector.
@@ -51,6 +59,9 @@ public abstract class Injector {
 		instancesSuppliers = new HashMap<>();
 		bindingsBetweenTypes = new HashMap<>();
 		singletons = new HashSet<>();
+		lazySingletons = new ConcurrentHashMap<>();
+		lazySingletonsInCreation = new HashSet<>();
+		lazyLock = new Object();
 	}
 
 	/**
@@ -97,6 +108,10 @@ public abstract class Injector {
 			instance = (T) instances.get(cl);
 		}
 
+		if(instance == null && lazySingletons.containsKey(cl)) {
+			instance = getLazySingleton(cl);
+		}
+
 		return instance;
 	}
 
@@ -108,7 +123,8 @@ public abstract class Injector {
 	private boolean isConfigured(final Class<?> cl) {
 		synchronized(instances) {
 			synchronized(bindingsBetweenTypes) {
-				return cl != null && (instances.containsKey(cl) || instancesSuppliers.containsKey(cl) || bindingsBetweenTypes.containsKey(cl));
+				return cl != null && (instances.containsKey(cl) || instancesSuppliers.containsKey(cl) || bindingsBetweenTypes.containsKey(cl) ||
+					lazySingletons.containsKey(cl));
 			}
 		}
 	}
@@ -126,6 +142,88 @@ public abstract class Injector {
 		if(cl == null) {
 			return;
 		}
+
+		final T instance = newInstance(getInjectableConstructor(cl));
+
+		synchronized(singletons) {
+			singletons.add(cl);
+		}
+
+		bindToInstance(cl, instance);
+	}
+
+	/**
+	 * Configures the given class as a lazy singleton.
+	 * The class is instantiated on its first request (getInstance), then stored.
+	 * The creation is thread-safe: concurrent requests get the same instance.
+	 * @param cl The class to configure.
+	 * @param <T> The type of the singleton.
+	 * @throws NoSuchMethodException If the class has no constructor to inject.
+	 */
+	public <T> void bindAsLazySingleton(final Class<T> cl) throws NoSuchMethodException {
+		if(cl == null) {
+			return;
+		}
+
+		final Constructor<T> cons = getInjectableConstructor(cl);
+
+		synchronized(singletons) {
+			singletons.add(cl);
+		}
+
+		lazySingletons.put(cl, cons);
+	}
+
+	/**
+	 * Creates (if not already done) the lazy singleton of the given class.
+	 * @param cl The class of the lazy singleton.
+	 * @param <T> The type of the singleton.
+	 * @return The singleton or null if it cannot be created.
+	 */
+	private <T> T getLazySingleton(final Class<T> cl) {
+		synchronized(lazyLock) {
+			final Object existing;
+			synchronized(instances) {
+				existing = instances.get(cl);
+			}
+
+			// Created by another thread while waiting for the lock.
+			if(existing != null) {
+				return (T) existing;
+			}
+
+			final Constructor<T> cons = (Constructor<T>) lazySingletons.get(cl);
+
+			if(cons == null) {
+				return null;
+			}
+
+			if(!lazySingletonsInCreation.add(cl)) {
+				LOGGER.severe("Cyclic dependency while creating the lazy singleton " + cl.getTypeName()); //NON-NLS
+				return null;
+			}
+
+			try {
+				final T instance = newInstance(cons);
+				bindToInstance(cl, instance);
+				lazySingletons.remove(cl);
+				return instance;
+			}catch(final InstantiationException | IllegalAccessException | InvocationTargetException ex) {
+				LOGGER.log(Level.SEVERE, "Cannot create the lazy singleton " + cl.getTypeName(), ex); //NON-NLS
+				return null;
+			}finally {
+				lazySingletonsInCreation.remove(cl);
+			}
+		}
+	}
+
+	/**
+	 * @param cl The class to instantiate.
+	 * @param <T> The type of the class.
+	 * @return The constructor annotated with Inject or, by default, the constructor without parameter.
+	 * @throws NoSuchMethodException If no such constructor exists.
+	 */
+	private static <T> Constructor<T> getInjectableConstructor(final Class<T> cl) throws NoSuchMethodException {
 		// Getting all the constructors
 		final Constructor<T>[] cons = (Constructor<T>[]) cl.getDeclaredConstructors();
 
@@ -138,13 +236,23 @@ public abstract class Injector {
 			throw new NoSuchMethodException("Cannot find a constructor to inject for " + cl.getSimpleName());
 		}
 
-		final T instance = consInject.newInstance(Arrays.stream(consInject.getParameterTypes()).map(arg -> getInstance(arg)).toArray());
+		return consInject;
+	}
 
-		synchronized(singletons) {
-			singletons.add(cl);
+	/**
+	 * Creates an instance using the given constructor, whose parameters are injected.
+	 * The creation time (including the creation of the lazy dependencies) is measured in the metric 'inject.ClassName'.
+	 * @param cons The constructor to call.
+	 * @param <T> The type of the instance.
+	 * @return The created instance.
+	 * @throws IllegalAccessException On instantiation issues.
+	 * @throws InstantiationException On instantiation issues.
+	 * @throws InvocationTargetException On instantiation issues.
+	 */
+	private <T> T newInstance(final Constructor<T> cons) throws IllegalAccessException, InstantiationException, InvocationTargetException {
+		try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("inject." + cons.getDeclaringClass().getSimpleName())) { //NON-NLS
+			return cons.newInstance(Arrays.stream(cons.getParameterTypes()).map(arg -> getInstance(arg)).toArray());
 		}
-
-		bindToInstance(cl, instance);
 	}
 
 	/**
@@ -205,10 +313,12 @@ public abstract class Injector {
 	}
 
 	/**
-	 * @return The instances stored by the injector. Cannot be null.
+	 * @return The instances stored by the injector (the lazy singletons not created yet are not part of them). Cannot be null.
 	 */
 	public Collection<Object> getInstances() {
-		return Collections.unmodifiableCollection(instances.values());
+		synchronized(instances) {
+			return Collections.unmodifiableCollection(new ArrayList<>(instances.values()));
+		}
 	}
 
 	public void clear() {
@@ -220,5 +330,6 @@ public abstract class Injector {
 		singletons.clear();
 		instances.clear();
 		bindingsBetweenTypes.clear();
+		lazySingletons.clear();
 	}
 }
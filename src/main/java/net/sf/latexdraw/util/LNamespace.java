@@ -56,6 +56,7 @@ public final class LNamespace {
 	public static final String XML_UNIT					= "unit"; //NON-NLS
 	public static final String XML_PAGE					= "page"; //NON-NLS
 	public static final String XML_GRID_GAP				= "gridGap"; //NON-NLS
+	public static final String XML_EXPORT_DPI			= "exportDPI"; //NON-NLS
 	public static final String XML_MAGNETIC_GRID		= "magneticGrid"; //NON-NLS
 	public static final String XML_VERSION				= "version"; //NON-NLS
 	public static final String XML_POSITION 			= "position"; //NON-NLS
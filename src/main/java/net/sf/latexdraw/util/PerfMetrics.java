@@ -0,0 +1,262 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.util;
+
+import io.github.interacto.command.CommandsRegistry;
+import io.reactivex.disposables.Disposable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects performance metrics (timers, counters and histograms) on costly operations (load, save, export, LaTeX compilation, etc.).
+ * The collection is disabled by default (enable it with the system property latexdraw.metrics=true or using setEnabled).
+ * When disabled, the cost of a measure is a volatile read.
+ * @author Arnaud Blouin
+ */
+public final class PerfMetrics {
+	/** The singleton. */
+	public static final @NotNull PerfMetrics INSTANCE = new PerfMetrics();
+
+	/** The timing returned when the metrics are disabled. */
+	private static final @NotNull Timing NO_TIMING = () -> { };
+
+	private final @NotNull Map<String, Metric> metrics;
+	private volatile boolean enabled;
+	/** The subscription to the executed commands. Only active while the metrics are enabled. */
+	private @Nullable Disposable commandsSubscription;
+
+	private PerfMetrics() {
+		super();
+		metrics = new ConcurrentHashMap<>();
+		setEnabled(Boolean.getBoolean("latexdraw.metrics")); //NON-NLS
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public synchronized void setEnabled(final boolean enabled) {
+		this.enabled = enabled;
+
+		if(enabled && commandsSubscription == null) {
+			// Counting the commands executed through the command registry.
+			commandsSubscription = CommandsRegistry.getInstance().commands()
+				.subscribe(cmd -> increment("command." + cmd.getClass().getSimpleName())); //NON-NLS
+		}else if(!enabled && commandsSubscription != null) {
+			commandsSubscription.dispose();
+			commandsSubscription = null;
+		}
+	}
+
+	/**
+	 * Starts a timer. The timer must be closed to record the measure (try-with-resources).
+	 * @param name The name of the timer.
+	 * @return The started timer (a no-op timer if the metrics are disabled).
+	 */
+	public @NotNull Timing start(final @NotNull String name) {
+		if(!enabled) {
+			return NO_TIMING;
+		}
+
+		final long start = System.nanoTime();
+		return () -> getMetric(name, Metric.Kind.TIMER).record(System.nanoTime() - start);
+	}
+
+	/**
+	 * Times the given operation.
+	 * @param name The name of the timer.
+	 * @param operation The operation to time.
+	 * @param <T> The type of the result of the operation.
+	 * @return The result of the operation.
+	 */
+	public <T> T time(final @NotNull String name, final @NotNull Supplier<T> operation) {
+		try(final Timing ignored = start(name)) {
+			return operation.get();
+		}
+	}
+
+	/**
+	 * Increments a counter.
+	 * @param name The name of the counter.
+	 */
+	public void increment(final @NotNull String name) {
+		if(enabled) {
+			emit(name, Metric.Kind.COUNTER, 1L);
+		}
+	}
+
+	/**
+	 * Records a value in a histogram (e.g. a number of shapes, a size in bytes).
+	 * @param name The name of the histogram.
+	 * @param value The value to record.
+	 */
+	public void record(final @NotNull String name, final long value) {
+		if(enabled) {
+			emit(name, Metric.Kind.HISTOGRAM, value);
+		}
+	}
+
+	private void emit(final String name, final Metric.Kind kind, final long value) {
+		getMetric(name, kind).record(value);
+	}
+
+	private Metric getMetric(final String name, final Metric.Kind kind) {
+		return metrics.computeIfAbsent(name, key -> new Metric(key, kind));
+	}
+
+	/**
+	 * @return The current metrics sorted by name.
+	 */
+	public @NotNull List<Metric> getMetrics() {
+		return metrics.values().stream().sorted(Comparator.comparing(Metric::getName)).collect(Collectors.toList());
+	}
+
+	/**
+	 * Removes all the metrics.
+	 */
+	public void clear() {
+		metrics.clear();
+	}
+
+	/**
+	 * @return The current metrics as a JSON document. Durations are in nanoseconds.
+	 */
+	public @NotNull String toJSON() {
+		return getMetrics().stream().map(Metric::toJSON).collect(Collectors.joining(",\n  ", "{\"metrics\": [\n  ", "\n]}\n")); //NON-NLS
+	}
+
+	/**
+	 * Exports the current metrics as a JSON document.
+	 * @param path The file to create.
+	 * @throws IOException On IO error.
+	 */
+	public void exportJSON(final @NotNull Path path) throws IOException {
+		Files.writeString(path, toJSON(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * A started timer.
+	 */
+	@FunctionalInterface
+	public interface Timing extends AutoCloseable {
+		/**
+		 * Stops the timer and records the measure.
+		 */
+		@Override
+		void close();
+	}
+
+
+	/**
+	 * A metric: the number of recorded values, their sum, min, max and a log2 histogram of them.
+	 */
+	public static final class Metric {
+		public enum Kind {
+			TIMER, COUNTER, HISTOGRAM
+		}
+
+		private final @NotNull String name;
+		private final @NotNull Kind kind;
+		private final @NotNull LongAdder count;
+		private final @NotNull LongAdder sum;
+		private final @NotNull AtomicLong min;
+		private final @NotNull AtomicLong max;
+		/** buckets[i] counts the values v such as 2^(i-1) <= v < 2^i (bucket 0 counts the values <= 0). */
+		private final @NotNull AtomicLongArray buckets;
+
+		Metric(final @NotNull String name, final @NotNull Kind kind) {
+			super();
+			this.name = name;
+			this.kind = kind;
+			count = new LongAdder();
+			sum = new LongAdder();
+			min = new AtomicLong(Long.MAX_VALUE);
+			max = new AtomicLong(Long.MIN_VALUE);
+			buckets = new AtomicLongArray(Long.SIZE);
+		}
+
+		void record(final long value) {
+			count.increment();
+			sum.add(value);
+			min.accumulateAndGet(value, Math::min);
+			max.accumulateAndGet(value, Math::max);
+			buckets.incrementAndGet(value <= 0L ? 0 : Long.SIZE - Long.numberOfLeadingZeros(value));
+		}
+
+		public @NotNull String getName() {
+			return name;
+		}
+
+		public @NotNull Kind getKind() {
+			return kind;
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public long getSum() {
+			return sum.sum();
+		}
+
+		public long getMin() {
+			return getCount() == 0L ? 0L : min.get();
+		}
+
+		public long getMax() {
+			return getCount() == 0L ? 0L : max.get();
+		}
+
+		public double getMean() {
+			final long nb = getCount();
+			return nb == 0L ? 0d : getSum() / (double) nb;
+		}
+
+		/**
+		 * @param percentile The percentile in [0, 1].
+		 * @return An approximation of the given percentile (the upper bound of its log2 bucket, bounded by the max).
+		 */
+		public long getPercentile(final double percentile) {
+			final long nb = getCount();
+			if(nb == 0L) {
+				return 0L;
+			}
+			final long rank = (long) Math.ceil(percentile * nb);
+			long acc = 0L;
+			for(int i = 0; i < buckets.length(); i++) {
+				acc += buckets.get(i);
+				if(acc >= rank) {
+					return i == 0 ? 0L : Math.min(getMax(), i >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << i) - 1L);
+				}
+			}
+			return getMax();
+		}
+
+		@NotNull String toJSON() {
+			return "{\"name\": \"" + name.replace("\\", "\\\\").replace("\"", "\\\"") + "\", \"kind\": \"" + kind + "\", \"count\": " + getCount() + //NON-NLS
+				", \"sum\": " + getSum() + ", \"min\": " + getMin() + ", \"max\": " + getMax() + ", \"mean\": " + getMean() + //NON-NLS
+				", \"p50\": " + getPercentile(0.5) + ", \"p95\": " + getPercentile(0.95) + '}'; //NON-NLS
+		}
+	}
+}
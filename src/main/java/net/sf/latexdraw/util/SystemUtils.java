@@ -22,6 +22,8 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Optional;
@@ -103,6 +105,24 @@ public final class SystemUtils {
 		return getPathLocalUser() + File.separator + templateDir;
 	}
 
+	/**
+	 * @param text The text to digest.
+	 * @return The hexadecimal SHA-256 digest of the given text (UTF-8 encoded).
+	 */
+	public @NotNull String sha256(final @NotNull String text) {
+		try {
+			final byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)); //NON-NLS
+			final StringBuilder hex = new StringBuilder(digest.length * 2);
+			for(final byte b : digest) {
+				hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return hex.toString();
+		}catch(final NoSuchAlgorithmException ex) {
+			// SHA-256 is provided by every JRE
+			throw new IllegalStateException(ex);
+		}
+	}
+
 	/**
 	 * @return The version of the current LaTeX.
 	 */
@@ -158,7 +178,7 @@ public final class SystemUtils {
 
 		final StringBuilder log = new StringBuilder();
 
-		try {
+		try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("exec." + new File(cmd[0]).getName())) { //NON-NLS
 			final ProcessBuilder builder = new ProcessBuilder()
 				.redirectErrorStream(true)
 				.directory(tmpdir);
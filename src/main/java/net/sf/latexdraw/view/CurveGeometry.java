@@ -0,0 +1,163 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.view;
+
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A path computed from the points of a shape: a sequence of move-to, line-to, and cubic curve-to segments
+ * stored in primitive arrays. A geometry is computed once by the curve geometry kernel and then written by
+ * the JavaFX, SVG, and PST views. Geometries are immutable.
+ * @author Arnaud Blouin
+ */
+public final class CurveGeometry {
+	/** The empty geometry. */
+	public static final @NotNull CurveGeometry EMPTY = new CurveGeometry(new byte[0], new double[0], 0);
+
+	static final byte MOVE_TO = 0;
+	static final byte LINE_TO = 1;
+	static final byte CURVE_TO = 2;
+
+	/**
+	 * Receives the segments of a geometry.
+	 */
+	public interface SegmentHandler {
+		void moveTo(final double x, final double y);
+
+		void lineTo(final double x, final double y);
+
+		/**
+		 * A cubic curve from the current point to (x, y), using the control points (x1, y1) and (x2, y2).
+		 */
+		void curveTo(final double x1, final double y1, final double x2, final double y2, final double x, final double y);
+	}
+
+	/** The type of each segment. */
+	private final byte[] types;
+	/** The coordinates of the segments: two for a move-to or a line-to, six for a curve-to (the control points then the end point). */
+	private final double[] coords;
+	private final int nbSegments;
+
+
+	private CurveGeometry(final byte[] types, final double[] coords, final int nbSegments) {
+		super();
+		this.types = types;
+		this.coords = coords;
+		this.nbSegments = nbSegments;
+	}
+
+
+	/**
+	 * @return The number of segments of the geometry.
+	 */
+	public int getNbSegments() {
+		return nbSegments;
+	}
+
+
+	/**
+	 * @return True if the geometry has no segment.
+	 */
+	public boolean isEmpty() {
+		return nbSegments == 0;
+	}
+
+
+	/**
+	 * Gives the segments of the geometry, in order, to the given handler.
+	 * @param handler The handler that writes the segments.
+	 */
+	public void forEach(final @NotNull SegmentHandler handler) {
+		int c = 0;
+
+		for(int i = 0; i < nbSegments; i++) {
+			switch(types[i]) {
+				case MOVE_TO -> {
+					handler.moveTo(coords[c], coords[c + 1]);
+					c += 2;
+				}
+				case LINE_TO -> {
+					handler.lineTo(coords[c], coords[c + 1]);
+					c += 2;
+				}
+				default -> {
+					handler.curveTo(coords[c], coords[c + 1], coords[c + 2], coords[c + 3], coords[c + 4], coords[c + 5]);
+					c += 6;
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Builds a geometry segment by segment.
+	 */
+	static final class Builder {
+		private byte[] types;
+		private double[] coords;
+		private int nbSegments;
+		private int nbCoords;
+
+		/**
+		 * @param expectedSegments The expected number of segments, used to size the arrays.
+		 */
+		Builder(final int expectedSegments) {
+			super();
+			final int capacity = Math.max(1, expectedSegments);
+			types = new byte[capacity];
+			coords = new double[capacity * 6];
+			nbSegments = 0;
+			nbCoords = 0;
+		}
+
+		private void ensureCapacity() {
+			if(nbSegments == types.length) {
+				types = Arrays.copyOf(types, types.length * 2);
+			}
+			if(nbCoords + 6 > coords.length) {
+				coords = Arrays.copyOf(coords, coords.length * 2 + 6);
+			}
+		}
+
+		Builder moveTo(final double x, final double y) {
+			return add(MOVE_TO, x, y);
+		}
+
+		Builder lineTo(final double x, final double y) {
+			return add(LINE_TO, x, y);
+		}
+
+		Builder curveTo(final double x1, final double y1, final double x2, final double y2, final double x, final double y) {
+			ensureCapacity();
+			types[nbSegments++] = CURVE_TO;
+			coords[nbCoords++] = x1;
+			coords[nbCoords++] = y1;
+			coords[nbCoords++] = x2;
+			coords[nbCoords++] = y2;
+			coords[nbCoords++] = x;
+			coords[nbCoords++] = y;
+			return this;
+		}
+
+		private Builder add(final byte type, final double x, final double y) {
+			ensureCapacity();
+			types[nbSegments++] = type;
+			coords[nbCoords++] = x;
+			coords[nbCoords++] = y;
+			return this;
+		}
+
+		CurveGeometry build() {
+			return nbSegments == 0 ? EMPTY : new CurveGeometry(types, coords, nbSegments);
+		}
+	}
+}
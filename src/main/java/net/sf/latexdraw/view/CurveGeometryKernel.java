@@ -0,0 +1,399 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.view;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.IntStream;
+import net.sf.latexdraw.model.api.shape.FreeHandStyle;
+import net.sf.latexdraw.model.api.shape.Freehand;
+import net.sf.latexdraw.model.api.shape.Point;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Computes the geometry of the curves (freehand shapes, curves going through the points of plots) on primitive arrays,
+ * and simplifies or resamples polylines.
+ * The JavaFX, SVG, and PST views of a shape share the same computation: the geometry of a freehand shape is cached
+ * until its points, its interval, or its type change.
+ * @author Arnaud Blouin
+ */
+public final class CurveGeometryKernel {
+	public static final @NotNull CurveGeometryKernel INST = new CurveGeometryKernel();
+
+	/** The distance of the control points of a curve going through points, relatively to the distance between the points. */
+	private static final double CURVE_FITTING_SCALE = 0.33;
+
+	/** The geometries of the freehand shapes. Weak keys: the cache does not retain the shapes. */
+	private final @NotNull Map<Freehand, CachedGeometry> freehandCache;
+
+	private CurveGeometryKernel() {
+		super();
+		freehandCache = Collections.synchronizedMap(new WeakHashMap<>());
+	}
+
+
+	/**
+	 * @param pts The points to convert.
+	 * @return The coordinates of the given points: x0, y0, x1, y1, etc.
+	 */
+	public static @NotNull double[] toCoordinates(final @NotNull List<Point> pts) {
+		final int size = pts.size();
+		final double[] xy = new double[size * 2];
+
+		for(int i = 0; i < size; i++) {
+			final Point pt = pts.get(i);
+			xy[i * 2] = pt.getX();
+			xy[i * 2 + 1] = pt.getY();
+		}
+
+		return xy;
+	}
+
+
+	/**
+	 * @param shape The freehand shape.
+	 * @return The geometry of the given freehand shape (without the closing segment: closing the path is up to the views).
+	 * Computed once for each version of the shape.
+	 */
+	public @NotNull CurveGeometry getFreehandGeometry(final @NotNull Freehand shape) {
+		final long version = shape.getPointsVersion();
+		final int interval = shape.getInterval();
+		final FreeHandStyle type = shape.getType();
+		final CachedGeometry cached = freehandCache.get(shape);
+
+		if(cached != null && cached.version == version && cached.interval == interval && cached.type == type) {
+			return cached.geometry;
+		}
+
+		return getFreehandGeometry(shape, version, toCoordinates(shape.getPoints()), interval, type);
+	}
+
+
+	/**
+	 * Gives the geometry of a freehand shape from a snapshot of its state, so that it can be computed outside the JavaFX thread.
+	 * The geometry is shared with getFreehandGeometry(Freehand): computed once for each version of the shape.
+	 * @param shape The freehand shape (only used as the key of the cache: not read).
+	 * @param version The version of the points of the shape when the snapshot was taken.
+	 * @param xy The coordinates of the points of the shape (see toCoordinates).
+	 * @param interval The interval of the shape.
+	 * @param type The freehand type of the shape.
+	 * @return The geometry of the given freehand shape (without the closing segment).
+	 */
+	public @NotNull CurveGeometry getFreehandGeometry(final @NotNull Freehand shape, final long version, final @NotNull double[] xy,
+		final int interval, final @NotNull FreeHandStyle type) {
+		final CachedGeometry cached = freehandCache.get(shape);
+
+		if(cached != null && cached.version == version && cached.interval == interval && cached.type == type) {
+			return cached.geometry;
+		}
+
+		final CurveGeometry geometry = computeFreehandGeometry(xy, interval, type);
+		final CachedGeometry latest = freehandCache.get(shape);
+		// A geometry computed from an older snapshot must not replace a newer one
+		if(latest == null || latest.version <= version) {
+			freehandCache.put(shape, new CachedGeometry(version, interval, type, geometry));
+		}
+		return geometry;
+	}
+
+
+	/**
+	 * Computes the geometry of a freehand shape, without caching it.
+	 * @param xy The coordinates of the points of the freehand shape (x0, y0, x1, y1, etc.).
+	 * @param interval Only one point every interval is used (the last point is always used).
+	 * @param type The freehand type: a smoothed curve or lines.
+	 * @return The geometry (without the closing segment).
+	 */
+	public @NotNull CurveGeometry computeFreehandGeometry(final @NotNull double[] xy, final int interval, final @NotNull FreeHandStyle type) {
+		final int size = xy.length / 2;
+
+		if(size == 0) {
+			return CurveGeometry.EMPTY;
+		}
+
+		final int step = Math.max(1, interval);
+		final CurveGeometry.Builder builder = new CurveGeometry.Builder(size / step + 3);
+
+		if(type == FreeHandStyle.LINES) {
+			buildLines(builder, xy, size, step);
+		}else {
+			buildCurves(builder, xy, size, step);
+		}
+
+		return builder.build();
+	}
+
+
+	/**
+	 * A line to one point every interval, and to the last point.
+	 */
+	private static void buildLines(final CurveGeometry.Builder builder, final double[] xy, final int size, final int interval) {
+		int i;
+
+		builder.moveTo(xy[0], xy[1]);
+
+		for(i = interval; i < size; i += interval) {
+			builder.lineTo(xy[i * 2], xy[i * 2 + 1]);
+		}
+
+		if(i - interval < size - 1) {
+			builder.lineTo(xy[size * 2 - 2], xy[size * 2 - 1]);
+		}
+	}
+
+
+	/**
+	 * The smoothed curve: a line to the middle of the two first points, then curves from middle to middle
+	 * using the points as control points, and a last curve to the last point.
+	 */
+	private static void buildCurves(final CurveGeometry.Builder builder, final double[] xy, final int size, final int interval) {
+		final double lastx = xy[size * 2 - 2];
+		final double lasty = xy[size * 2 - 1];
+		double prevx;
+		double prevy;
+		double curx = xy[0];
+		double cury = xy[1];
+		double midx = (curx + lastx) / 2d;
+		double midy = (cury + lasty) / 2d;
+		int i;
+
+		builder.moveTo(curx, cury);
+
+		if(size > interval) {
+			prevx = curx;
+			prevy = cury;
+			curx = xy[interval * 2];
+			cury = xy[interval * 2 + 1];
+			midx = (curx + prevx) / 2d;
+			midy = (cury + prevy) / 2d;
+			builder.lineTo(midx, midy);
+		}
+
+		for(i = interval * 2; i < size; i += interval) {
+			final double x1 = (midx + curx) / 2d;
+			final double y1 = (midy + cury) / 2d;
+			prevx = curx;
+			prevy = cury;
+			curx = xy[i * 2];
+			cury = xy[i * 2 + 1];
+			midx = (curx + prevx) / 2d;
+			midy = (cury + prevy) / 2d;
+			builder.curveTo(x1, y1, (prevx + midx) / 2d, (prevy + midy) / 2d, midx, midy);
+		}
+
+		// The last point has not been used
+		if(i - interval + 1 < size) {
+			final double x1 = (midx + curx) / 2d;
+			final double y1 = (midy + cury) / 2d;
+			midx = (lastx + curx) / 2d;
+			midy = (lasty + cury) / 2d;
+			builder.curveTo(x1, y1, (curx + midx) / 2d, (cury + midy) / 2d, lastx, lasty);
+		}
+	}
+
+
+	/**
+	 * Computes the first control points of a Bézier curve going through the given points (the second control
+	 * points are the central symmetry of the first ones). The algorithm follows this definition:
+	 * https://stackoverflow.com/questions/15864441/how-to-make-a-line-curve-through-points
+	 * @param xy The coordinates of the points (x0, y0, x1, y1, etc.).
+	 * @return The coordinates of the first control points (x0, y0, x1, y1, etc.). A control point is the point itself
+	 * when the points around it are at the same position.
+	 */
+	public @NotNull double[] computeCurveFirstControlPoints(final @NotNull double[] xy) {
+		final int size = xy.length / 2;
+		final double[] ctrl = new double[size * 2];
+
+		if(size < 2) {
+			System.arraycopy(xy, 0, ctrl, 0, size * 2);
+			return ctrl;
+		}
+
+		final int last = size - 1;
+
+		ctrl[0] = xy[0] + (xy[2] - xy[0]) * CURVE_FITTING_SCALE;
+		ctrl[1] = xy[1] + (xy[3] - xy[1]) * CURVE_FITTING_SCALE;
+
+		for(int i = 1; i < last; i++) {
+			final double x0 = xy[i * 2 - 2];
+			final double y0 = xy[i * 2 - 1];
+			final double x = xy[i * 2];
+			final double y = xy[i * 2 + 1];
+			final double tx = xy[i * 2 + 2] - x0;
+			final double ty = xy[i * 2 + 3] - y0;
+			final double magnitude = Math.hypot(tx, ty);
+
+			if(magnitude > 0d) {
+				final double dist = CURVE_FITTING_SCALE * Math.hypot(x - x0, y - y0);
+				ctrl[i * 2] = x - tx / magnitude * dist;
+				ctrl[i * 2 + 1] = y - ty / magnitude * dist;
+			}else {
+				ctrl[i * 2] = x;
+				ctrl[i * 2 + 1] = y;
+			}
+		}
+
+		ctrl[last * 2] = xy[last * 2] - (xy[last * 2] - xy[last * 2 - 2]) * CURVE_FITTING_SCALE;
+		ctrl[last * 2 + 1] = xy[last * 2 + 1] - (xy[last * 2 + 1] - xy[last * 2 - 1]) * CURVE_FITTING_SCALE;
+
+		return ctrl;
+	}
+
+
+	/**
+	 * Simplifies the given polyline using the Douglas-Peucker algorithm.
+	 * @param xy The coordinates of the points of the polyline (x0, y0, x1, y1, etc.).
+	 * @param tolerance The maximal distance between the given polyline and the simplified one.
+	 * @return The indexes of the points kept, in order. The first and last points are always kept.
+	 */
+	public @NotNull int[] simplify(final @NotNull double[] xy, final double tolerance) {
+		final int size = xy.length / 2;
+
+		if(tolerance <= 0d || size < 3) {
+			return IntStream.range(0, size).toArray();
+		}
+
+		final boolean[] kept = new boolean[size];
+		final Deque<int[]> ranges = new ArrayDeque<>();
+		int nbKept = 2;
+		kept[0] = true;
+		kept[size - 1] = true;
+		ranges.push(new int[] {0, size - 1});
+
+		// Iterative to support long freehand drawings
+		while(!ranges.isEmpty()) {
+			final int[] range = ranges.pop();
+			final double x1 = xy[range[0] * 2];
+			final double y1 = xy[range[0] * 2 + 1];
+			final double x2 = xy[range[1] * 2];
+			final double y2 = xy[range[1] * 2 + 1];
+			double maxDist = -1d;
+			int farthest = -1;
+
+			for(int i = range[0] + 1; i < range[1]; i++) {
+				final double dist = getSegmentDistance(xy[i * 2], xy[i * 2 + 1], x1, y1, x2, y2);
+				if(dist > maxDist) {
+					maxDist = dist;
+					farthest = i;
+				}
+			}
+
+			if(farthest != -1 && maxDist > tolerance) {
+				kept[farthest] = true;
+				nbKept++;
+				ranges.push(new int[] {range[0], farthest});
+				ranges.push(new int[] {farthest, range[1]});
+			}
+		}
+
+		final int[] indexes = new int[nbKept];
+		for(int i = 0, j = 0; i < size; i++) {
+			if(kept[i]) {
+				indexes[j++] = i;
+			}
+		}
+		return indexes;
+	}
+
+
+	/**
+	 * @return The distance between the point (x, y) and the segment [(x1, y1), (x2, y2)].
+	 */
+	private static double getSegmentDistance(final double x, final double y, final double x1, final double y1, final double x2, final double y2) {
+		final double dx = x2 - x1;
+		final double dy = y2 - y1;
+		final double lengthSq = dx * dx + dy * dy;
+
+		if(lengthSq <= 0d) {
+			return Math.hypot(x - x1, y - y1);
+		}
+
+		final double t = Math.max(0d, Math.min(1d, ((x - x1) * dx + (y - y1) * dy) / lengthSq));
+		return Math.hypot(x - x1 - t * dx, y - y1 - t * dy);
+	}
+
+
+	/**
+	 * Resamples the given polyline: the points of the produced polyline are spaced by the given step along the polyline.
+	 * @param xy The coordinates of the points of the polyline (x0, y0, x1, y1, etc.).
+	 * @param step The distance between two resampled points.
+	 * @return The coordinates of the resampled points. The first and last points are kept.
+	 * The given array if the step is not strictly positive or if there is nothing to resample.
+	 */
+	public @NotNull double[] resample(final @NotNull double[] xy, final double step) {
+		final int size = xy.length / 2;
+
+		if(!(step > 0d) || size < 2) {
+			return xy;
+		}
+
+		double length = 0d;
+		for(int i = 1; i < size; i++) {
+			length += Math.hypot(xy[i * 2] - xy[i * 2 - 2], xy[i * 2 + 1] - xy[i * 2 - 1]);
+		}
+
+		final int nbSteps = (int) Math.ceil(length / step);
+
+		if(nbSteps < 1 || nbSteps > Integer.MAX_VALUE / 2 - 1) {
+			return xy;
+		}
+
+		final double[] resampled = new double[(nbSteps + 1) * 2];
+		// The segment being walked through and the distance from the start of the polyline to its start.
+		int seg = 1;
+		double segStart = 0d;
+		double segLength = Math.hypot(xy[2] - xy[0], xy[3] - xy[1]);
+
+		resampled[0] = xy[0];
+		resampled[1] = xy[1];
+
+		for(int i = 1; i < nbSteps; i++) {
+			final double dist = i * step;
+
+			while(seg < size - 1 && segStart + segLength < dist) {
+				segStart += segLength;
+				seg++;
+				segLength = Math.hypot(xy[seg * 2] - xy[seg * 2 - 2], xy[seg * 2 + 1] - xy[seg * 2 - 1]);
+			}
+
+			final double t = segLength > 0d ? Math.min(1d, (dist - segStart) / segLength) : 0d;
+			resampled[i * 2] = xy[seg * 2 - 2] + t * (xy[seg * 2] - xy[seg * 2 - 2]);
+			resampled[i * 2 + 1] = xy[seg * 2 - 1] + t * (xy[seg * 2 + 1] - xy[seg * 2 - 1]);
+		}
+
+		resampled[nbSteps * 2] = xy[size * 2 - 2];
+		resampled[nbSteps * 2 + 1] = xy[size * 2 - 1];
+		return resampled;
+	}
+
+
+	/**
+	 * A geometry and the state of the shape it was computed from.
+	 */
+	private static final class CachedGeometry {
+		final long version;
+		final int interval;
+		final @NotNull FreeHandStyle type;
+		final @NotNull CurveGeometry geometry;
+
+		CachedGeometry(final long version, final int interval, final @NotNull FreeHandStyle type, final @NotNull CurveGeometry geometry) {
+			super();
+			this.version = version;
+			this.interval = interval;
+			this.type = type;
+			this.geometry = geometry;
+		}
+	}
+}
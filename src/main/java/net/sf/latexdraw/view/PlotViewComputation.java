@@ -82,38 +82,16 @@ public interface PlotViewComputation {
 
 
 	default BezierCurve updateCurve(final Plot shape, final double posX, final double posY, final double minX, final double maxX, final double step) {
-		// The algorithm follows this definition:
-		// https://stackoverflow.com/questions/15864441/how-to-make-a-line-curve-through-points
-		final double scale = 0.33d;
 		final BezierCurve bc = ShapeFactory.INST.createBezierCurve(fillPoints(shape, posX, posY, minX, maxX, step));
 
 		bc.setOpened(shape.getPlotStyle() != PlotStyle.CCURVE);
 		bc.copy(shape);
-		int i = 0;
-		final int last = bc.getPoints().size() - 1;
-
-		for(final Point pt : bc.getPoints()) {
-			if(i == 0) {
-				final Point p2 = bc.getPtAt(i + 1);
-				final Point tangent = p2.substract(pt);
-				final Point q1 = pt.add(tangent.zoom(scale));
-				bc.setXFirstCtrlPt(q1.getX(), i);
-				bc.setYFirstCtrlPt(q1.getY(), i);
-			}else if(i == last) {
-				final Point p0 = bc.getPtAt(i - 1);
-				final Point tangent = pt.substract(p0);
-				final Point q0 = pt.substract(tangent.zoom(scale));
-				bc.setXFirstCtrlPt(q0.getX(), i);
-				bc.setYFirstCtrlPt(q0.getY(), i);
-			}else {
-				final Point p0 = bc.getPtAt(i - 1);
-				final Point p2 = bc.getPtAt(i + 1);
-				final Point tangent = p2.substract(p0).normalise();
-				final Point q0 = pt.substract(tangent.zoom(scale * pt.substract(p0).magnitude()));
-				bc.setXFirstCtrlPt(q0.getX(), i);
-				bc.setYFirstCtrlPt(q0.getY(), i);
-			}
-			i++;
+
+		final double[] ctrls = CurveGeometryKernel.INST.computeCurveFirstControlPoints(CurveGeometryKernel.toCoordinates(bc.getPoints()));
+
+		for(int i = 0, size = ctrls.length / 2; i < size; i++) {
+			bc.setXFirstCtrlPt(ctrls[i * 2], i);
+			bc.setYFirstCtrlPt(ctrls[i * 2 + 1], i);
 		}
 		bc.updateSecondControlPoints();
 		return bc;
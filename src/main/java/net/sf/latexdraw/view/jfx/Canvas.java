@@ -24,11 +24,14 @@ import io.reactivex.rxjavafx.schedulers.JavaFxScheduler;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javafx.application.Platform;
@@ -37,6 +40,7 @@ import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
+import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.scene.Group;
 import javafx.scene.Parent;
@@ -57,6 +61,7 @@ import net.sf.latexdraw.service.PreferencesService;
 import net.sf.latexdraw.util.BadaboomCollector;
 import net.sf.latexdraw.util.Flushable;
 import net.sf.latexdraw.util.Inject;
+import net.sf.latexdraw.util.PerfMetrics;
 import net.sf.latexdraw.util.LNamespace;
 import net.sf.latexdraw.view.ViewsSynchroniserHandler;
 import org.jetbrains.annotations.NotNull;
@@ -77,6 +82,11 @@ public class Canvas extends Pane implements Preferenciable, Modifiable, Reinitia
 	/** The origin of the drawing in the whole drawing area. */
 	public static final @NotNull Point ORIGIN = ShapeFactory.INST.createPoint(margins, margins);
 
+	/** The margin (in pixels) added around the shapes when checking whether they are close to the viewport. */
+	private static final double MATERIALISATION_MARGIN = 50d;
+	/** The default number of shapes from which only the views of the shapes close to the viewport are created. */
+	public static final int DEFAULT_VIRTUALISATION_THRESHOLD = 1000;
+
 	public static int getMargins() {
 		return margins;
 	}
@@ -109,6 +119,16 @@ public class Canvas extends Pane implements Preferenciable, Modifiable, Reinitia
 	private @NotNull Optional<ViewShape<?>> tempView;
 	private final @NotNull ViewFactory viewFactory;
 	private final @NotNull List<Disposable> disposables;
+	/** The views currently moved by an interim translation (see setSelectionTranslation). */
+	private final @NotNull List<ViewShape<?>> translatedViews;
+	/** True if some shapes of the drawing currently have no view (see updateMaterialisedViews). */
+	private boolean viewsVirtualised;
+	/** True if the views of all the shapes must exist at full detail (e.g. while exporting the drawing). */
+	private boolean allViewsRequired;
+	/** The number of shapes from which only the views of the shapes close to the viewport are created. */
+	private int virtualisationThreshold;
+	/** The level of detail of the views (see LevelOfDetail). 0: full detail. */
+	private double lowDetailTolerance;
 
 	/**
 	 * Creates the canvas.
@@ -124,6 +144,11 @@ public class Canvas extends Pane implements Preferenciable, Modifiable, Reinitia
 		page = new PageView(prefs, getOrigin());
 		magneticGrid = new MagneticGrid(this, prefs);
 		disposables = new ArrayList<>();
+		translatedViews = new ArrayList<>();
+		viewsVirtualised = false;
+		allViewsRequired = false;
+		virtualisationThreshold = DEFAULT_VIRTUALISATION_THRESHOLD;
+		lowDetailTolerance = 0d;
 
 		widgetsPane = new Group();
 		shapesPane = new Group();
@@ -175,6 +200,14 @@ public class Canvas extends Pane implements Preferenciable, Modifiable, Reinitia
 			.filter(c -> c instanceof Modifying || c instanceof Undo || c instanceof Redo)
 			.subscribe(c -> update()));
 
+		zoom.addListener((observable, oldValue, newValue) -> updateLevelOfDetail());
+
+		// Scrolling and zooming change the part of the drawing that requires views
+		disposables.add(JavaFxObservable.valuesOf(localToSceneTransformProperty())
+			.throttleLast(50, TimeUnit.MILLISECONDS)
+			.observeOn(JavaFxScheduler.platform())
+			.subscribe(next -> updateMaterialisedViews(), ex -> BadaboomCollector.INSTANCE.add(ex)));
+
 		shapesPane.setFocusTraversable(false);
 
 		prefWidthProperty().bind(Bindings.createDoubleBinding(() -> margins * 2d + prefs.getPage().getWidth() * Shape.PPC, prefs.pageProperty()));
@@ -228,7 +261,7 @@ public class Canvas extends Pane implements Preferenciable, Modifiable, Reinitia
 		if(selection.isEmpty()) {
 			selectionBorder.setVisible(false);
 		}else {
-			final Rectangle2D rec = selection.stream().map(sh -> shapesToViewMap.get(sh)).filter(vi -> vi != null).map(vi -> {
+			final Rectangle2D rec = selection.stream().map(sh -> getViewFromShape(sh).orElse(null)).filter(vi -> vi != null).map(vi -> {
 				final Bounds b = vi.getBoundsInParent();
 				return (Rectangle2D) new Rectangle2D.Double(b.getMinX(), b.getMinY(), b.getWidth(), b.getHeight());
 			}).reduce(Rectangle2D::createUnion).orElseGet(() -> new Rectangle2D.Double());
@@ -260,7 +293,40 @@ public class Canvas extends Pane implements Preferenciable, Modifiable, Reinitia
 	 * @return The selected views.
 	 */
 	public @NotNull List<ViewShape<?>> getSelectedViews() {
-		return drawing.getSelection().getShapes().stream().map(sh -> shapesToViewMap.get(sh)).collect(Collectors.toList());
+		return drawing.getSelection().getShapes().stream().map(sh -> getViewFromShape(sh).orElse(null)).collect(Collectors.toList());
+	}
+
+	/**
+	 * Moves the views of the selected shapes and the widgets (selection border, handlers) by the given vector
+	 * without modifying the model. Used as interim feedback while dragging the selection: the shapes
+	 * are translated once the drag is over, then clearSelectionTranslation must be called.
+	 * @param tx The x translation in the coordinate system of the shapes.
+	 * @param ty The y translation in the coordinate system of the shapes.
+	 */
+	public void setSelectionTranslation(final double tx, final double ty) {
+		if(translatedViews.isEmpty()) {
+			getSelectedViews().stream().filter(Objects::nonNull).forEach(translatedViews::add);
+		}
+		// The layout position is used since some views bind their translation to the model
+		translatedViews.forEach(view -> {
+			view.setLayoutX(tx);
+			view.setLayoutY(ty);
+		});
+		widgetsPane.setTranslateX(tx);
+		widgetsPane.setTranslateY(ty);
+	}
+
+	/**
+	 * Cancels the interim translation set by setSelectionTranslation.
+	 */
+	public void clearSelectionTranslation() {
+		translatedViews.forEach(view -> {
+			view.setLayoutX(0d);
+			view.setLayoutY(0d);
+		});
+		translatedViews.clear();
+		widgetsPane.setTranslateX(0d);
+		widgetsPane.setTranslateY(0d);
 	}
 
 
@@ -279,27 +345,189 @@ public class Canvas extends Pane implements Preferenciable, Modifiable, Reinitia
 
 	private void defineShapeListBindingOnAdd(final @NotNull Change<? extends Shape> evt) {
 		final List<? extends Shape> added = List.copyOf(evt.getAddedSubList());
-		Platform.runLater(() -> added.forEach(sh -> viewFactory.createView(sh).ifPresent(v -> {
-			final int index = drawing.getShapes().indexOf(sh);
-			if(index != -1) {
-				shapesToViewMap.put(sh, v);
-				if(index == drawing.size()) {
-					shapesPane.getChildren().add(v);
-				}else {
-					shapesPane.getChildren().add(index, v);
-				}
+		Platform.runLater(() -> {
+			try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("canvas.createViews")) { //NON-NLS
+				final Optional<Bounds> range = getMaterialisationRange();
+				final Set<Shape> selection = new HashSet<>(drawing.getSelection().getShapes());
+				added.forEach(sh -> {
+					// The view may have already been created by updateMaterialisedViews
+					if(shapesToViewMap.containsKey(sh)) {
+						return;
+					}
+					if(range.isPresent() && !selection.contains(sh) && !isInRange(sh, range.get())) {
+						viewsVirtualised = viewsVirtualised || drawing.getShapes().contains(sh);
+						return;
+					}
+					createView(sh).ifPresent(v -> {
+						final int index = drawing.getShapes().indexOf(sh);
+						if(index != -1) {
+							insertView(sh, v, index);
+						}
+					});
+				});
 			}
-		})));
+			PerfMetrics.INSTANCE.record("canvas.addedShapes", added.size()); //NON-NLS
+		});
 	}
 
 	private void defineShapeListBindingOnRemoved(final @NotNull Change<? extends Shape> evt) {
 		evt.getRemoved().forEach(sh -> {
 			final ViewShape<?> toRemove = shapesToViewMap.remove(sh);
-			shapesPane.getChildren().remove(toRemove);
-			toRemove.flush();
+			// Virtualised shapes have no view
+			if(toRemove != null) {
+				shapesPane.getChildren().remove(toRemove);
+				toRemove.flush();
+			}
 		});
 	}
 
+	/**
+	 * Creates the view of the given shape, at the current level of detail.
+	 */
+	private @NotNull Optional<ViewShape<?>> createView(final @NotNull Shape sh) {
+		final Optional<ViewShape<?>> view = viewFactory.createView(sh).map(v -> (ViewShape<?>) v);
+		view.ifPresent(v -> v.setLowDetailTolerance(lowDetailTolerance));
+		return view;
+	}
+
+	/**
+	 * Draws the views at a low level of detail when zoomed out, and at full detail otherwise.
+	 */
+	private void updateLevelOfDetail() {
+		final double tolerance = allViewsRequired ? 0d : LevelOfDetail.getTolerance(lowDetailTolerance, getZoom());
+		if(Double.compare(tolerance, lowDetailTolerance) != 0) {
+			lowDetailTolerance = tolerance;
+			try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("canvas.levelOfDetail")) { //NON-NLS
+				shapesToViewMap.values().forEach(v -> v.setLowDetailTolerance(tolerance));
+			}
+		}
+	}
+
+	/**
+	 * Adds the view of the given shape to the views, following the order of the shapes in the drawing.
+	 * @param sh The shape of the view.
+	 * @param view The view to add.
+	 * @param index The position of the shape in the drawing.
+	 */
+	private void insertView(final @NotNull Shape sh, final @NotNull ViewShape<?> view, final int index) {
+		shapesToViewMap.put(sh, view);
+		if(viewsVirtualised) {
+			// The position of the view is the number of the previous shapes that have a view
+			int pos = 0;
+			for(int i = 0; i < index; i++) {
+				if(shapesToViewMap.containsKey(drawing.getShapes().get(i))) {
+					pos++;
+				}
+			}
+			shapesPane.getChildren().add(Math.min(pos, shapesPane.getChildren().size()), view);
+		}else {
+			if(index == drawing.size()) {
+				shapesPane.getChildren().add(view);
+			}else {
+				shapesPane.getChildren().add(index, view);
+			}
+		}
+	}
+
+	/**
+	 * @return The part of the drawing (in the coordinate system of the shapes) whose shapes must have a view:
+	 * the visible part of the drawing extended by the size of the viewport in each direction.
+	 * Nothing if the views of all the shapes are required, that is when the drawing is small,
+	 * when the canvas is not in a scroll pane, or when requested using setAllViewsRequired.
+	 */
+	private @NotNull Optional<Bounds> getMaterialisationRange() {
+		if(allViewsRequired || drawing.size() < virtualisationThreshold) {
+			return Optional.empty();
+		}
+		return getVisibleDrawingBounds().map(b -> new BoundingBox(b.getMinX() - b.getWidth(), b.getMinY() - b.getHeight(),
+			b.getWidth() * 3d, b.getHeight() * 3d));
+	}
+
+	/**
+	 * @return True if the given shape may be drawn in the given range. The shape is approximated
+	 * by its bounding box extended by half its diagonal to cover its rotation, its thickness, its arrows, etc.
+	 */
+	private static boolean isInRange(final @NotNull Shape sh, final @NotNull Bounds range) {
+		final Point tl = sh.getTopLeftPoint();
+		final Point br = sh.getBottomRightPoint();
+		final double margin = Math.hypot(br.getX() - tl.getX(), br.getY() - tl.getY()) / 2d + MATERIALISATION_MARGIN;
+		return range.intersects(tl.getX() - margin, tl.getY() - margin, br.getX() - tl.getX() + margin * 2d, br.getY() - tl.getY() + margin * 2d);
+	}
+
+	/**
+	 * Creates the views of the shapes close to the viewport and of the selected shapes, and
+	 * releases the views of the other shapes. Only the drawings that contain at least virtualisationThreshold
+	 * shapes are concerned: the views of the shapes of smaller drawings are all created.
+	 */
+	private void updateMaterialisedViews() {
+		final Optional<Bounds> range = getMaterialisationRange();
+		if(range.isEmpty() && !viewsVirtualised) {
+			return;
+		}
+
+		try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("canvas.materialiseViews")) { //NON-NLS
+			final Set<Shape> selection = new HashSet<>(drawing.getSelection().getShapes());
+			final ObservableList<javafx.scene.Node> children = shapesPane.getChildren();
+			boolean virtualised = false;
+			int pos = 0;
+
+			for(final Shape sh : drawing.getShapes()) {
+				final ViewShape<?> view = shapesToViewMap.get(sh);
+				final boolean required = range.isEmpty() || selection.contains(sh) || isInRange(sh, range.get());
+
+				if(view == null) {
+					if(required) {
+						final Optional<ViewShape<?>> created = createView(sh);
+						if(created.isPresent()) {
+							shapesToViewMap.put(sh, created.get());
+							children.add(Math.min(pos, children.size()), created.get());
+							pos++;
+						}
+					}else {
+						virtualised = true;
+					}
+				}else {
+					if(required) {
+						pos++;
+					}else {
+						shapesToViewMap.remove(sh);
+						children.remove(view);
+						translatedViews.remove(view);
+						view.flush();
+						virtualised = true;
+					}
+				}
+			}
+			viewsVirtualised = virtualised;
+		}
+	}
+
+	/**
+	 * States whether the views of all the shapes must exist at full detail. By default, the views of large drawings
+	 * are only created for the shapes close to the viewport, and the views are simplified when zoomed out.
+	 * Operations that work on the views of the whole drawing (e.g. exporting it as a picture) must require all the views beforehand.
+	 * @param required True: the views of all the shapes are created and drawn at full detail, and their geometries being computed
+	 * in the background are completed at once. False: the views of the shapes far from the viewport can be released, and the views can be simplified.
+	 */
+	public void setAllViewsRequired(final boolean required) {
+		allViewsRequired = required;
+		updateLevelOfDetail();
+		updateMaterialisedViews();
+		if(required) {
+			shapesToViewMap.values().forEach(view -> view.completeGeometry());
+		}
+	}
+
+	/**
+	 * Sets the number of shapes from which only the views of the shapes close to the viewport are created.
+	 * @param threshold The number of shapes. Must be positive.
+	 */
+	public void setVirtualisationThreshold(final int threshold) {
+		if(threshold > 0) {
+			virtualisationThreshold = threshold;
+			updateMaterialisedViews();
+		}
+	}
 
 	/**
 	 * @return The point where the page is located.
@@ -321,6 +549,7 @@ public class Canvas extends Pane implements Preferenciable, Modifiable, Reinitia
 	}
 
 	public void update() {
+		updateMaterialisedViews();
 		updateSelectionBorders();
 	}
 
@@ -534,6 +763,35 @@ public class Canvas extends Pane implements Preferenciable, Modifiable, Reinitia
 		}
 	}
 
+	/**
+	 * Adds the given nodes to the widget layer at once.
+	 * @param nodes The nodes to add.
+	 */
+	public void addAllToWidgetLayer(final @NotNull Collection<? extends javafx.scene.Node> nodes) {
+		widgetsPane.getChildren().addAll(nodes);
+	}
+
+	/**
+	 * Removes the given nodes from the widget layer at once.
+	 * @param nodes The nodes to remove.
+	 */
+	public void removeAllFromWidgetLayer(final @NotNull Collection<? extends javafx.scene.Node> nodes) {
+		// A set makes the removal linear
+		widgetsPane.getChildren().removeAll(new HashSet<>(nodes));
+	}
+
+	/**
+	 * @return The part of the drawing currently visible in the scroll pane that contains the canvas,
+	 * in the coordinate system of the shapes. Nothing if the canvas is not in a scroll pane.
+	 */
+	public @NotNull Optional<Bounds> getVisibleDrawingBounds() {
+		final ScrollPane sp = getScrollPane();
+		if(sp == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(widgetsPane.sceneToLocal(sp.localToScene(sp.getLayoutBounds())));
+	}
+
 	/**
 	 * @return The views that the canvas contains.
 	 */
@@ -549,6 +807,16 @@ public class Canvas extends Pane implements Preferenciable, Modifiable, Reinitia
 		if(sh == null) {
 			return Optional.empty();
 		}
-		return Optional.ofNullable(shapesToViewMap.get(sh));
+		final ViewShape<?> view = shapesToViewMap.get(sh);
+		// The view of a virtualised shape is created on demand
+		if(view == null && viewsVirtualised) {
+			final int index = drawing.getShapes().indexOf(sh);
+			if(index != -1) {
+				final Optional<ViewShape<?>> created = createView(sh);
+				created.ifPresent(v -> insertView(sh, v, index));
+				return created;
+			}
+		}
+		return Optional.ofNullable(view);
 	}
 }
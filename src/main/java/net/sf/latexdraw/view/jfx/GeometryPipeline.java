@@ -0,0 +1,194 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.view.jfx;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javafx.application.Platform;
+import net.sf.latexdraw.util.BadaboomCollector;
+import net.sf.latexdraw.util.PerfMetrics;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Computes the geometry of a view (coordinates, path elements, ticks, etc.) and applies it to the view.
+ * The geometries whose estimated cost is high are computed as plain data on a background executor, from a snapshot
+ * of the model taken when the computation is requested. They are then applied in the JavaFX thread.
+ * Each request is tagged with a version: only the result of the latest request is applied, the stale results are dropped.
+ * A computation must not read the model (but its snapshot) and must not create JavaFX nodes: the nodes
+ * are created by the applier, in the JavaFX thread.
+ * @param <G> The type of the computed geometries.
+ * @author Arnaud Blouin
+ */
+final class GeometryPipeline<G> {
+	/** The estimated cost (e.g. the number of path elements) from which a geometry is computed in the background. */
+	static final double ASYNC_COST = 20_000d;
+
+	private static final @NotNull ExecutorService EXECUTOR = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), run -> {
+		final Thread thread = new Thread(run, "view-geometry"); //NON-NLS
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * A computed geometry tagged with the version of its request.
+	 */
+	private static final class Result<G> {
+		final long version;
+		final G geometry;
+
+		Result(final long version, final G geometry) {
+			super();
+			this.version = version;
+			this.geometry = geometry;
+		}
+	}
+
+	/** The name of the metrics of the pipeline. */
+	private final @NotNull String name;
+	private final @NotNull Consumer<G> applier;
+	/** The version of the latest request. */
+	private final @NotNull AtomicLong version;
+	/** The version of the latest applied (or failed) geometry. */
+	private final @NotNull AtomicLong appliedVersion;
+	/** The latest computed geometry not applied yet. */
+	private final @NotNull AtomicReference<Result<G>> pending;
+	/** The computation of the latest request computed in the background. */
+	private volatile Supplier<G> latestComputation;
+
+	/**
+	 * @param name The name of the geometry (used by the performance metrics).
+	 * @param applier Applies a computed geometry to the view. Called in the JavaFX thread when the geometry is computed in the background.
+	 */
+	GeometryPipeline(final @NotNull String name, final @NotNull Consumer<G> applier) {
+		super();
+		this.name = "view.geometry." + name; //NON-NLS
+		this.applier = applier;
+		version = new AtomicLong();
+		appliedVersion = new AtomicLong();
+		pending = new AtomicReference<>();
+		latestComputation = null;
+	}
+
+	/**
+	 * Requests a new geometry. The previous requests become stale.
+	 * @param cost The estimated cost of the computation. Under ASYNC_COST, the geometry is computed and applied at once.
+	 * @param computation Computes the geometry. Must only use data captured when calling this method.
+	 */
+	void request(final double cost, final @NotNull Supplier<G> computation) {
+		final long requested = version.incrementAndGet();
+
+		if(cost < ASYNC_COST) {
+			latestComputation = null;
+			try {
+				applier.accept(computation.get());
+			}finally {
+				markApplied(requested);
+			}
+			return;
+		}
+
+		latestComputation = computation;
+		EXECUTOR.execute(() -> {
+			if(requested != version.get()) {
+				PerfMetrics.INSTANCE.increment(name + ".stale"); //NON-NLS
+				return;
+			}
+			if(requested <= appliedVersion.get()) {
+				// Already computed and applied using complete()
+				return;
+			}
+			try {
+				publish(new Result<>(requested, PerfMetrics.INSTANCE.time(name, computation)));
+			}catch(final RuntimeException ex) {
+				BadaboomCollector.INSTANCE.add(ex);
+				// No geometry will be applied for this request: it must not stay pending.
+				markApplied(requested);
+			}
+		});
+	}
+
+	/**
+	 * Computes and applies at once the geometry of the latest request if it is still pending,
+	 * for the operations that need the final geometry of the view (e.g. exporting the drawing as a picture).
+	 * Must be called in the JavaFX thread (if the toolkit is running).
+	 */
+	void complete() {
+		final Supplier<G> computation = latestComputation;
+		final long requested = version.get();
+
+		if(computation == null || !isPending()) {
+			return;
+		}
+
+		try {
+			applier.accept(PerfMetrics.INSTANCE.time(name, computation));
+		}finally {
+			markApplied(requested);
+		}
+	}
+
+	/**
+	 * Marks the given version as applied. The applied version never goes backward.
+	 */
+	private void markApplied(final long applied) {
+		appliedVersion.accumulateAndGet(applied, Math::max);
+	}
+
+	/**
+	 * Schedules the application of the given result on the next pulse. The results computed meanwhile replace it.
+	 */
+	private void publish(final @NotNull Result<G> result) {
+		if(pending.getAndSet(result) == null) {
+			try {
+				Platform.runLater(() -> applyPending());
+			}catch(final IllegalStateException ex) {
+				// The JavaFX toolkit is not running, so no scene graph is involved
+				applyPending();
+			}
+		}
+	}
+
+	private void applyPending() {
+		final Result<G> result = pending.getAndSet(null);
+		if(result == null) {
+			return;
+		}
+		if(result.version == version.get() && result.version > appliedVersion.get()) {
+			try {
+				applier.accept(result.geometry);
+			}finally {
+				markApplied(result.version);
+			}
+		}else {
+			PerfMetrics.INSTANCE.increment(name + ".stale"); //NON-NLS
+		}
+	}
+
+	/**
+	 * @return True if the geometry of the latest request is not applied yet.
+	 */
+	boolean isPending() {
+		return appliedVersion.get() != version.get();
+	}
+
+	/**
+	 * Makes the current requests stale: their geometries will not be applied. To call when the view is flushed.
+	 */
+	void dispose() {
+		markApplied(version.incrementAndGet());
+		pending.set(null);
+		latestComputation = null;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.view.jfx;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sf.latexdraw.model.api.shape.Point;
+import net.sf.latexdraw.view.CurveGeometryKernel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The level of detail of the views of the canvas. When zoomed out, the views are drawn at a low
+ * level of detail: paths are simplified and tiny details are replaced by placeholders.
+ * The level of detail is expressed as a tolerance: the size, in the coordinate system of the shapes,
+ * of a screen pixel. A tolerance of 0 means that the views are drawn at full detail.
+ * @author Arnaud Blouin
+ */
+final class LevelOfDetail {
+	/** Below this zoom level, the views are drawn at a low level of detail. */
+	static final double LOW_DETAIL_ZOOM = 0.5;
+	/** The views are drawn at full detail again above this zoom level. The gap avoids flip-flops around LOW_DETAIL_ZOOM. */
+	static final double FULL_DETAIL_ZOOM = 0.6;
+	/** The size (in screen pixels) under which details such as dots, arrows, or labels are replaced by placeholders. */
+	static final double PLACEHOLDER_SIZE = 3d;
+
+	private LevelOfDetail() {
+		super();
+	}
+
+	/**
+	 * @param currentTolerance The current tolerance (0 for full detail).
+	 * @param zoom The new zoom level.
+	 * @return The tolerance to use at the given zoom level.
+	 */
+	static double getTolerance(final double currentTolerance, final double zoom) {
+		if(zoom <= 0d) {
+			return currentTolerance;
+		}
+		final boolean lowDetail = currentTolerance > 0d ? zoom < FULL_DETAIL_ZOOM : zoom < LOW_DETAIL_ZOOM;
+		return lowDetail ? 1d / zoom : 0d;
+	}
+
+	/**
+	 * @param size A size in the coordinate system of the shapes.
+	 * @param tolerance The level of detail.
+	 * @return True if a detail of the given size must be replaced by a placeholder.
+	 */
+	static boolean isPlaceholder(final double size, final double tolerance) {
+		return tolerance > 0d && size < tolerance * PLACEHOLDER_SIZE;
+	}
+
+	/**
+	 * Simplifies the given polyline using the Douglas-Peucker algorithm.
+	 * @param pts The points of the polyline.
+	 * @param tolerance The maximal distance between the given polyline and the simplified one.
+	 * @return The points of the polyline kept (the same instances, in the same order).
+	 * The given list if there is nothing to simplify.
+	 */
+	static @NotNull List<Point> simplify(final @NotNull List<Point> pts, final double tolerance) {
+		if(tolerance <= 0d || pts.size() < 3) {
+			return pts;
+		}
+
+		final int[] kept = CurveGeometryKernel.INST.simplify(CurveGeometryKernel.toCoordinates(pts), tolerance);
+		final List<Point> simplified = new ArrayList<>(kept.length);
+		for(final int i : kept) {
+			simplified.add(pts.get(i));
+		}
+		return simplified;
+	}
+
+	/**
+	 * Simplifies the given polyline using the Douglas-Peucker algorithm.
+	 * @param xy The coordinates of the points of the polyline (x0, y0, x1, y1, etc.).
+	 * @param tolerance The maximal distance between the given polyline and the simplified one.
+	 * @return The coordinates of the points of the polyline kept, in the same order.
+	 * The given array if there is nothing to simplify.
+	 */
+	static @NotNull double[] simplify(final @NotNull double[] xy, final double tolerance) {
+		if(tolerance <= 0d || xy.length < 6) {
+			return xy;
+		}
+
+		final int[] kept = CurveGeometryKernel.INST.simplify(xy, tolerance);
+		final double[] simplified = new double[kept.length * 2];
+		for(int i = 0; i < kept.length; i++) {
+			simplified[i * 2] = xy[kept[i] * 2];
+			simplified[i * 2 + 1] = xy[kept[i] * 2 + 1];
+		}
+		return simplified;
+	}
+}
@@ -0,0 +1,426 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.view.jfx;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.Raster;
+import java.awt.image.RenderedImage;
+import java.awt.image.SampleModel;
+import java.awt.image.WritableRaster;
+import java.io.File;
+import java.io.IOException;
+import java.util.Vector;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Scale;
+import javax.imageio.ImageIO;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A rendered image of a JavaFX node that is snapshot tile by tile, on demand, instead of in one image.
+ * The tiles are organised in strips (rows of tiles) and only the last requested strip is kept in memory.
+ * The height of the strips decreases with the width of the image so that a strip never exceeds a few tiles:
+ * image encoders that work line by line (e.g. PNG) never need the whole picture at once.
+ * Snapshots are performed in the calling thread that must be the JavaFX thread.
+ * @author Arnaud Blouin
+ */
+public final class TiledSnapshot implements RenderedImage {
+	/** The default size (in pixels) of the snapshot tiles. */
+	public static final int DEFAULT_TILE_SIZE = 1024;
+	/** The maximal number of pixels of a strip, in number of square tiles. */
+	private static final int MAX_STRIP_TILES = 8;
+
+	private final @NotNull Node node;
+	private final @NotNull SnapshotParameters params;
+	private final @NotNull ColorModel colorModel;
+	private final int tileWidth;
+	private final int tileHeight;
+	private final int width;
+	private final int height;
+	private final double originX;
+	private final double originY;
+	private final @NotNull WritableImage tile;
+	private final int[] tileBuffer;
+	private int cachedStripIndex;
+	private @Nullable WritableRaster cachedStrip;
+
+	/**
+	 * Creates a tiled snapshot of the given node.
+	 * @param node The node to snapshot.
+	 * @param scale The scale applied to the node (e.g. 3 to render a picture three times bigger than the node).
+	 * @param alpha True: the produced picture has an alpha channel.
+	 * @param tileSize The size (in pixels) of the snapshot tiles.
+	 * @throws IllegalArgumentException If the scale or the tile size is not strictly positive.
+	 */
+	public TiledSnapshot(final @NotNull Node node, final double scale, final boolean alpha, final int tileSize) {
+		super();
+		if(!(scale > 0d) || tileSize < 1) {
+			throw new IllegalArgumentException("Invalid scale or tile size: " + scale + ", " + tileSize); //NON-NLS
+		}
+		final Bounds bounds = node.getBoundsInParent();
+		this.node = node;
+		colorModel = new BufferedImage(1, 1, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB).getColorModel();
+		width = Math.max(1, (int) (bounds.getWidth() * scale));
+		height = Math.max(1, (int) (bounds.getHeight() * scale));
+		originX = bounds.getMinX() * scale;
+		originY = bounds.getMinY() * scale;
+		tileWidth = Math.min(tileSize, width);
+		// The larger the image, the lower the strips.
+		tileHeight = Math.min(height, Math.min(tileSize, Math.max(1, (int) ((long) MAX_STRIP_TILES * tileSize * tileSize / width))));
+		params = new SnapshotParameters();
+		params.setFill(Color.WHITE);
+		params.setTransform(new Scale(scale, scale));
+		tile = new WritableImage(tileWidth, tileHeight);
+		tileBuffer = new int[tileWidth * tileHeight];
+		cachedStripIndex = -1;
+	}
+
+	/**
+	 * Renders the given strip of the image, tile by tile.
+	 * @param index The index of the strip to render.
+	 * @return The raster of the strip, located at its position in the image.
+	 */
+	private @NotNull WritableRaster getStrip(final int index) {
+		if(index == cachedStripIndex && cachedStrip != null) {
+			return cachedStrip;
+		}
+
+		// Releasing the previous strip before allocating the new one.
+		cachedStrip = null;
+		final int y = index * tileHeight;
+		final int h = Math.min(tileHeight, height - y);
+		final WritableRaster strip = colorModel.createCompatibleWritableRaster(width, h).createWritableTranslatedChild(0, y);
+
+		for(int x = 0; x < width; x += tileWidth) {
+			final int w = Math.min(tileWidth, width - x);
+			params.setViewport(new Rectangle2D(originX + x, originY + y, w, h));
+			node.snapshot(params, tile);
+			tile.getPixelReader().getPixels(0, 0, w, h, PixelFormat.getIntArgbInstance(), tileBuffer, 0, w);
+			strip.setDataElements(x, y, w, h, tileBuffer);
+		}
+
+		cachedStrip = strip;
+		cachedStripIndex = index;
+		return cachedStrip;
+	}
+
+	/**
+	 * Encodes the image in the given file.
+	 * The JPEG encoder requires a single raster for the whole image: it reads the image through a raster
+	 * that renders its lines strip by strip, when the encoder asks for them.
+	 * @param format The informal name of the format (e.g. png, jpg).
+	 * @param file The file to create.
+	 * @return False if no encoder exists for the given format.
+	 * @throws IOException If an error occurs while writing.
+	 */
+	public boolean write(final @NotNull String format, final @NotNull File file) throws IOException {
+		final boolean jpeg = "jpg".equalsIgnoreCase(format) || "jpeg".equalsIgnoreCase(format); //NON-NLS
+		return ImageIO.write(jpeg ? new SingleTileImage() : this, format, file);
+	}
+
+	@Override
+	public Vector<RenderedImage> getSources() {
+		return null;
+	}
+
+	@Override
+	public Object getProperty(final String name) {
+		return java.awt.Image.UndefinedProperty;
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return null;
+	}
+
+	@Override
+	public ColorModel getColorModel() {
+		return colorModel;
+	}
+
+	@Override
+	public SampleModel getSampleModel() {
+		return colorModel.createCompatibleSampleModel(tileWidth, tileHeight);
+	}
+
+	@Override
+	public int getWidth() {
+		return width;
+	}
+
+	@Override
+	public int getHeight() {
+		return height;
+	}
+
+	@Override
+	public int getMinX() {
+		return 0;
+	}
+
+	@Override
+	public int getMinY() {
+		return 0;
+	}
+
+	@Override
+	public int getNumXTiles() {
+		return (width + tileWidth - 1) / tileWidth;
+	}
+
+	@Override
+	public int getNumYTiles() {
+		return (height + tileHeight - 1) / tileHeight;
+	}
+
+	@Override
+	public int getMinTileX() {
+		return 0;
+	}
+
+	@Override
+	public int getMinTileY() {
+		return 0;
+	}
+
+	@Override
+	public int getTileWidth() {
+		return tileWidth;
+	}
+
+	@Override
+	public int getTileHeight() {
+		return tileHeight;
+	}
+
+	@Override
+	public int getTileGridXOffset() {
+		return 0;
+	}
+
+	@Override
+	public int getTileGridYOffset() {
+		return 0;
+	}
+
+	@Override
+	public Raster getTile(final int tileX, final int tileY) {
+		final int x = tileX * tileWidth;
+		final int y = tileY * tileHeight;
+		final Raster strip = getStrip(tileY);
+		return strip.createChild(x, y, Math.min(tileWidth, width - x), strip.getHeight(), x, y, null);
+	}
+
+	@Override
+	public Raster getData() {
+		return getData(new Rectangle(0, 0, width, height));
+	}
+
+	@Override
+	public Raster getData(final Rectangle rect) {
+		final WritableRaster raster = Raster.createWritableRaster(colorModel.createCompatibleSampleModel(rect.width, rect.height), new Point(rect.x, rect.y));
+		copyData(raster);
+		return raster;
+	}
+
+	@Override
+	public WritableRaster copyData(final WritableRaster raster) {
+		final WritableRaster dest = raster == null ? colorModel.createCompatibleWritableRaster(width, height) : raster;
+		final int minY = Math.max(0, dest.getMinY());
+		final int maxY = Math.min(height, dest.getMinY() + dest.getHeight());
+
+		for(int index = minY / tileHeight; index * tileHeight < maxY; index++) {
+			// setRect copies the intersection of the strip and the destination.
+			dest.setRect(getStrip(index));
+		}
+		return dest;
+	}
+
+
+	/**
+	 * The image seen as a single tile, whose raster renders the strips on demand.
+	 */
+	private final class SingleTileImage implements RenderedImage {
+		private final @NotNull Raster raster = new StripRaster(TiledSnapshot.this, colorModel.createCompatibleSampleModel(width, 1));
+
+		@Override
+		public Vector<RenderedImage> getSources() {
+			return null;
+		}
+
+		@Override
+		public Object getProperty(final String name) {
+			return java.awt.Image.UndefinedProperty;
+		}
+
+		@Override
+		public String[] getPropertyNames() {
+			return null;
+		}
+
+		@Override
+		public ColorModel getColorModel() {
+			return colorModel;
+		}
+
+		@Override
+		public SampleModel getSampleModel() {
+			return raster.getSampleModel();
+		}
+
+		@Override
+		public int getWidth() {
+			return width;
+		}
+
+		@Override
+		public int getHeight() {
+			return height;
+		}
+
+		@Override
+		public int getMinX() {
+			return 0;
+		}
+
+		@Override
+		public int getMinY() {
+			return 0;
+		}
+
+		@Override
+		public int getNumXTiles() {
+			return 1;
+		}
+
+		@Override
+		public int getNumYTiles() {
+			return 1;
+		}
+
+		@Override
+		public int getMinTileX() {
+			return 0;
+		}
+
+		@Override
+		public int getMinTileY() {
+			return 0;
+		}
+
+		@Override
+		public int getTileWidth() {
+			return width;
+		}
+
+		@Override
+		public int getTileHeight() {
+			return height;
+		}
+
+		@Override
+		public int getTileGridXOffset() {
+			return 0;
+		}
+
+		@Override
+		public int getTileGridYOffset() {
+			return 0;
+		}
+
+		@Override
+		public Raster getTile(final int tileX, final int tileY) {
+			return raster;
+		}
+
+		@Override
+		public Raster getData() {
+			return TiledSnapshot.this.getData();
+		}
+
+		@Override
+		public Raster getData(final Rectangle rect) {
+			return TiledSnapshot.this.getData(rect);
+		}
+
+		@Override
+		public WritableRaster copyData(final WritableRaster dest) {
+			return TiledSnapshot.this.copyData(dest);
+		}
+	}
+
+
+	/**
+	 * A raster of the whole image that holds no pixel: its pixels are read from the strips of the image.
+	 * Its only data buffer is a line buffer that is never used.
+	 */
+	private static final class StripRaster extends Raster {
+		private final @NotNull TiledSnapshot image;
+
+		StripRaster(final @NotNull TiledSnapshot image, final @NotNull SampleModel lineModel) {
+			super(lineModel, lineModel.createDataBuffer(), new Rectangle(0, 0, image.width, image.height), new Point(0, 0), null);
+			this.image = image;
+		}
+
+		/**
+		 * @return The raster that contains the given region: the strip that contains it or a copy of the region.
+		 */
+		private @NotNull Raster getSource(final int x, final int y, final int w, final int h) {
+			final int index = y / image.tileHeight;
+			return index == (y + h - 1) / image.tileHeight ? image.getStrip(index) : image.getData(new Rectangle(x, y, w, h));
+		}
+
+		@Override
+		public Raster createChild(final int parentX, final int parentY, final int w, final int h, final int childMinX, final int childMinY,
+				final int[] bandList) {
+			return getSource(parentX, parentY, w, h).createChild(parentX, parentY, w, h, childMinX, childMinY, bandList);
+		}
+
+		@Override
+		public Object getDataElements(final int x, final int y, final Object outData) {
+			return getSource(x, y, 1, 1).getDataElements(x, y, outData);
+		}
+
+		@Override
+		public Object getDataElements(final int x, final int y, final int w, final int h, final Object outData) {
+			return getSource(x, y, w, h).getDataElements(x, y, w, h, outData);
+		}
+
+		@Override
+		public int[] getPixel(final int x, final int y, final int[] iArray) {
+			return getSource(x, y, 1, 1).getPixel(x, y, iArray);
+		}
+
+		@Override
+		public int[] getPixels(final int x, final int y, final int w, final int h, final int[] iArray) {
+			return getSource(x, y, w, h).getPixels(x, y, w, h, iArray);
+		}
+
+		@Override
+		public int getSample(final int x, final int y, final int b) {
+			return getSource(x, y, 1, 1).getSample(x, y, b);
+		}
+
+		@Override
+		public int[] getSamples(final int x, final int y, final int w, final int h, final int b, final int[] iArray) {
+			return getSource(x, y, w, h).getSamples(x, y, w, h, b, iArray);
+		}
+	}
+}
@@ -13,6 +13,7 @@ package net.sf.latexdraw.view.jfx;
 import java.util.Objects;
 import javafx.beans.value.ObservableDoubleValue;
 import javafx.beans.value.ObservableValue;
+import javafx.geometry.Bounds;
 import javafx.scene.Group;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Arc;
@@ -41,6 +42,8 @@ public class ViewArrow extends Group implements GenericViewArrow {
 	final Path path;
 	final Ellipse ellipse;
 	final Arc arc;
+	/** The level of detail of the arrow (see LevelOfDetail). */
+	private double lowDetailTolerance;
 
 	/**
 	 * Creates the view.
@@ -100,6 +103,25 @@ public class ViewArrow extends Group implements GenericViewArrow {
 			ellipse.getTransforms().add(rotate);
 			arc.getTransforms().add(rotate);
 		}
+
+		updateLowDetail();
+	}
+
+	/**
+	 * Sets the level of detail of the arrow.
+	 * @param tolerance The size of a screen pixel in the coordinate system of the shapes. 0: full detail.
+	 */
+	void setLowDetailTolerance(final double tolerance) {
+		lowDetailTolerance = tolerance;
+		updateLowDetail();
+	}
+
+	/**
+	 * At a low level of detail, tiny arrows are not drawn.
+	 */
+	private void updateLowDetail() {
+		final Bounds bounds = getBoundsInLocal();
+		setVisible(!LevelOfDetail.isPlaceholder(Math.max(bounds.getWidth(), bounds.getHeight()), lowDetailTolerance));
 	}
 
 	@Override
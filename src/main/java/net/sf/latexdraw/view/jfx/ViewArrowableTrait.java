@@ -108,6 +108,11 @@ abstract class ViewArrowableTrait<T extends Shape, S extends ArrowableSingleShap
 		}
 	}
 
+	@Override
+	protected void updateLowDetail() {
+		arrows.forEach(v -> v.setLowDetailTolerance(getLowDetailTolerance()));
+	}
+
 	/**
 	 * If the shape has an arrow, the corresponding point must be move (in fact clipped) to the beginning of the arrow to avoid the
 	 * line to be visible behind the arrow. To do so, a new point (for each arrow) is computed and the view is clipped.
@@ -10,11 +10,14 @@
  */
 package net.sf.latexdraw.view.jfx;
 
+import java.util.ArrayList;
 import java.util.List;
 import javafx.beans.binding.Bindings;
 import javafx.beans.value.ChangeListener;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import net.sf.latexdraw.model.ShapeFactory;
 import net.sf.latexdraw.model.api.shape.Axes;
@@ -32,6 +35,8 @@ public class ViewAxes extends ViewStdGrid<Axes> implements GenericAxes<Text> {
 	protected final ViewPolyline axesHoriz;
 	protected final ViewPolyline axesVert;
 	protected final Path pathTicks;
+	/** Computes the ticks, in the background for the axes with a lot of ticks. */
+	private final GeometryPipeline<TicksGeometry> ticksGeometry;
 	private final ChangeListener<Object> labelUpdate;
 	private final ChangeListener<Object> labelTicksUpdate;
 	private final ChangeListener<Object> fullAxesUpdate;
@@ -52,6 +57,11 @@ public class ViewAxes extends ViewStdGrid<Axes> implements GenericAxes<Text> {
 
 		framePath = new Path();
 		pathTicks = new Path();
+		ticksGeometry = new GeometryPipeline<>("axes.ticks", ticks -> { //NON-NLS
+			pathTicks.getElements().setAll(ticks.elements);
+			pathTicks.setDisable(ticks.disabled);
+			pathTicks.setFill(Color.BLACK);
+		});
 		axesHoriz = new ViewPolyline(ShapeFactory.INST.createPolyline(List.of(ShapeFactory.INST.createPoint(), ShapeFactory.INST.createPoint())), pathProducer);
 		axesVert = new ViewPolyline(ShapeFactory.INST.createPolyline(List.of(ShapeFactory.INST.createPoint(), ShapeFactory.INST.createPoint())), pathProducer);
 
@@ -117,11 +127,8 @@ public class ViewAxes extends ViewStdGrid<Axes> implements GenericAxes<Text> {
 			final double y1 = endy > 0d ? -endy * Shape.PPC : 0d;
 			final double x2 = endx > 0d ? +endx * Shape.PPC : 0d;
 
-			framePath.getElements().add(pathProducer.createMoveTo(0d, y1));
-			framePath.getElements().add(pathProducer.createLineTo(x2, y1));
-			framePath.getElements().add(pathProducer.createLineTo(x2, 0d));
-			framePath.getElements().add(pathProducer.createLineTo(0d, 0d));
-			framePath.getElements().add(pathProducer.createClosePath());
+			framePath.getElements().setAll(pathProducer.createMoveTo(0d, y1), pathProducer.createLineTo(x2, y1), pathProducer.createLineTo(x2, 0d),
+				pathProducer.createLineTo(0d, 0d), pathProducer.createClosePath());
 		}
 	}
 
@@ -135,8 +142,9 @@ public class ViewAxes extends ViewStdGrid<Axes> implements GenericAxes<Text> {
 		}
 
 		if(ticks) {
-			pathTicks.getElements().clear();
-			updatePathTicks();
+			// The ticks are computed from a copy of the model, so that they can be computed in the background.
+			final Axes axesCopy = model.duplicate();
+			ticksGeometry.request(estimateTicksCost(), () -> new TicksGeometry(axesCopy, pathProducer));
 		}
 
 		if(texts) {
@@ -144,6 +152,7 @@ public class ViewAxes extends ViewStdGrid<Axes> implements GenericAxes<Text> {
 			if(model.getLabelsDisplayed() != PlottingStyle.NONE) {
 				labels.setDisable(false);
 				updatePathLabels();
+				publishLabels();
 			}else {
 				labels.setDisable(true);
 			}
@@ -151,8 +160,33 @@ public class ViewAxes extends ViewStdGrid<Axes> implements GenericAxes<Text> {
 	}
 
 
+	/**
+	 * @return The approximate number of path elements of the ticks.
+	 */
+	private double estimateTicksCost() {
+		final double distX = model.getDistLabelsX();
+		final double distY = model.getDistLabelsY();
+		if(distX <= 0d || distY <= 0d) {
+			return 0d;
+		}
+		return 2d * ((model.getGridMaxX() - model.getGridMinX()) / distX + (model.getGridMaxY() - model.getGridMinY()) / distY);
+	}
+
+	/**
+	 * @return True if the ticks are being computed in the background.
+	 */
+	boolean isGeometryPending() {
+		return ticksGeometry.isPending();
+	}
+
+	@Override
+	void completeGeometry() {
+		ticksGeometry.complete();
+	}
+
 	@Override
 	public void flush() {
+		ticksGeometry.dispose();
 		framePath.getElements().clear();
 		pathTicks.getElements().clear();
 		model.labelsSizeProperty().removeListener(labelUpdate);
@@ -194,4 +228,55 @@ public class ViewAxes extends ViewStdGrid<Axes> implements GenericAxes<Text> {
 	public void setPathTicksFill(final Color color) {
 		pathTicks.setFill(color);
 	}
+
+
+	/**
+	 * The ticks of axes, computed from a copy of their model. Contains no JavaFX node.
+	 */
+	private static final class TicksGeometry implements GenericAxes<Text> {
+		private final Axes axes;
+		private final PathElementProducer producer;
+		final List<PathElement> elements;
+		boolean disabled;
+
+		TicksGeometry(final Axes axes, final PathElementProducer producer) {
+			super();
+			this.axes = axes;
+			this.producer = producer;
+			elements = new ArrayList<>();
+			disabled = false;
+			updatePathTicks();
+		}
+
+		@Override
+		public Axes getModel() {
+			return axes;
+		}
+
+		@Override
+		public Text createTextLabel(final String text, final double x, final double y, final Font font) {
+			// Only the ticks are computed here: the labels are created in the JavaFX thread.
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void createPathTicksMoveTo(final double x, final double y) {
+			elements.add(producer.createMoveTo(x, y));
+		}
+
+		@Override
+		public void createPathTicksLineTo(final double x, final double y) {
+			elements.add(producer.createLineTo(x, y));
+		}
+
+		@Override
+		public void disablePathTicks(final boolean disable) {
+			disabled = disable;
+		}
+
+		@Override
+		public void setPathTicksFill(final Color color) {
+			// The fill is set when the ticks are applied
+		}
+	}
 }
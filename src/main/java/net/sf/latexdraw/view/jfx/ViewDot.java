@@ -30,8 +30,12 @@ public class ViewDot extends ViewShape<Dot> {
 	final Ellipse dot;
 	final ChangeListener<Object> updateDot = (observable, oldValue, newValue) -> updateDot();
 	final ChangeListener<Object> updateStrokeFill = (observable, oldValue, newValue) -> {
-		setFill();
-		setStroke();
+		if(isPlaceholder()) {
+			setPlaceholder();
+		}else {
+			setFill();
+			setStroke();
+		}
 	};
 	protected final PathElementProducer pathProducer;
 
@@ -58,6 +62,11 @@ public class ViewDot extends ViewShape<Dot> {
 	}
 
 	private final void updateDot() {
+		if(isPlaceholder()) {
+			setPlaceholder();
+			return;
+		}
+
 		final DotStyle dotStyle = model.getDotStyle();
 
 		path.setVisible(dotStyle != DotStyle.DOT && dotStyle != DotStyle.O);
@@ -82,6 +91,27 @@ public class ViewDot extends ViewShape<Dot> {
 		}
 	}
 
+	private boolean isPlaceholder() {
+		return LevelOfDetail.isPlaceholder(model.getDiametre(), getLowDetailTolerance());
+	}
+
+	/**
+	 * At a low level of detail, tiny dots are drawn as plain discs, whatever their style.
+	 */
+	private void setPlaceholder() {
+		path.setVisible(false);
+		path.getElements().clear();
+		dot.setVisible(true);
+		setPathOLikeDot(0d);
+		dot.setFill(model.getLineColour().toJFX());
+		dot.setStroke(null);
+	}
+
+	@Override
+	protected void updateLowDetail() {
+		updateDot();
+	}
+
 	private void setPathOTime() {
 		final Point centre = model.getPosition();
 		final Point br = model.getLazyBottomRightPoint();
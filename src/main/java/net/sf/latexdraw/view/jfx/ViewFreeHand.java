@@ -10,10 +10,17 @@
  */
 package net.sf.latexdraw.view.jfx;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.scene.shape.PathElement;
+import net.sf.latexdraw.model.api.shape.FreeHandStyle;
 import net.sf.latexdraw.model.api.shape.Freehand;
 import net.sf.latexdraw.model.api.shape.Point;
+import net.sf.latexdraw.view.CurveGeometry;
+import net.sf.latexdraw.view.CurveGeometryKernel;
 
 /**
  * The JFX view of a freehand model.
@@ -21,6 +28,15 @@ import net.sf.latexdraw.model.api.shape.Point;
  */
 public class ViewFreeHand extends ViewPathShape<Freehand> {
 	private final ChangeListener<Object> update = (observable, oldValue, newValue) -> setPath();
+	/** Redraws the freehand when its points are replaced. */
+	private final ListChangeListener<Point> pointsUpdate = change -> {
+		listenLastPoint();
+		setPath();
+	};
+	/** The point whose coordinates are listened to update the view on translation. */
+	private Point lastPoint;
+	/** Computes the geometry of the freehand, in the background for the freehands with a lot of points. */
+	private final GeometryPipeline<FreehandPath> pathGeometry;
 
 
 	/**
@@ -30,12 +46,11 @@ public class ViewFreeHand extends ViewPathShape<Freehand> {
 	ViewFreeHand(final Freehand sh, final PathElementProducer pathProducer) {
 		super(sh, pathProducer);
 
-		// To update on translation. To improve.
-		if(!model.getPoints().isEmpty()) {
-			model.getPoints().get(model.getPoints().size() - 1).xProperty().addListener(update);
-			model.getPoints().get(model.getPoints().size() - 1).yProperty().addListener(update);
-		}
+		pathGeometry = new GeometryPipeline<>("freehand", this::setPathElements); //NON-NLS
+		lastPoint = null;
+		listenLastPoint();
 
+		model.getPoints().addListener(pointsUpdate);
 		model.intervalProperty().addListener(update);
 		model.typeProperty().addListener(update);
 		model.openedProperty().addListener(update);
@@ -44,125 +59,165 @@ public class ViewFreeHand extends ViewPathShape<Freehand> {
 	}
 
 
+	/**
+	 * Listens the coordinates of the last point to update the view on translation. To improve.
+	 */
+	private final void listenLastPoint() {
+		if(lastPoint != null) {
+			lastPoint.xProperty().removeListener(update);
+			lastPoint.yProperty().removeListener(update);
+		}
+
+		lastPoint = model.getPoints().isEmpty() ? null : model.getPtAt(-1);
+
+		if(lastPoint != null) {
+			lastPoint.xProperty().addListener(update);
+			lastPoint.yProperty().addListener(update);
+		}
+	}
+
+
 	private final void setPath() {
-		border.getElements().clear();
-		shadow.getElements().clear();
+		if(model.getNbPoints() < 2) {
+			pathGeometry.request(0d, () -> new FreehandPath(CurveGeometry.EMPTY, true));
+			return;
+		}
 
-		if(model.getNbPoints() > 1) {
-			switch(model.getType()) {
-				case CURVES -> setPathCurves();
-				case LINES -> setPathLines();
+		// The path is computed from a copy of the coordinates of the points, so that it can be computed in the background.
+		final double[] xy = CurveGeometryKernel.toCoordinates(model.getPoints());
+		final long version = model.getPointsVersion();
+		final int interval = model.getInterval();
+		final FreeHandStyle type = model.getType();
+		final boolean opened = model.isOpened();
+		final double tolerance = getLowDetailTolerance();
+		final Freehand shape = model;
+
+		pathGeometry.request(xy.length / 2d, () -> {
+			final CurveGeometry geometry;
+
+			if(tolerance > 0d) {
+				// At a low level of detail, the sampled points are simplified and then all used
+				geometry = CurveGeometryKernel.INST.computeFreehandGeometry(LevelOfDetail.simplify(getSampledCoordinates(xy, Math.max(1, interval)), tolerance), 1, type);
+			}else {
+				// At full detail, the geometry is shared with the SVG and PST views of the shape
+				geometry = CurveGeometryKernel.INST.getFreehandGeometry(shape, version, xy, interval, type);
 			}
 
-			if(!model.isOpened()) {
-				border.getElements().add(pathProducer.createClosePath());
-			}
+			return new FreehandPath(geometry, opened);
+		});
+	}
+
+	/**
+	 * Replaces the path elements of the view by the ones of the given geometry. Called in the JavaFX thread.
+	 */
+	private void setPathElements(final FreehandPath path) {
+		final List<PathElement> elements = new ArrayList<>(path.geometry.getNbSegments() + 1);
+		path.geometry.forEach(new PathElementsFiller(elements, pathProducer));
 
-			shadow.getElements().addAll(border.getElements());
+		if(!path.opened && !path.geometry.isEmpty()) {
+			elements.add(pathProducer.createClosePath());
 		}
+		border.getElements().setAll(elements);
+		shadow.getElements().setAll(elements);
 	}
 
 
 	/**
-	 * Fills the path of curves.
+	 * @return The coordinates of the points used to draw the freehand at full detail: one point every interval, plus the last point.
 	 */
-	private void setPathCurves() {
-		final int interval = model.getInterval();
-		final List<Point> pts = model.getPoints();
-		final int size = pts.size();
-		double prevx = pts.get(size - 1).getX();
-		double prevy = pts.get(size - 1).getY();
-		double curx = pts.get(0).getX();
-		double cury = pts.get(0).getY();
-		double midx = (curx + prevx) / 2d;
-		double midy = (cury + prevy) / 2d;
+	private static double[] getSampledCoordinates(final double[] xy, final int interval) {
+		final int size = xy.length / 2;
+		final double[] sampled = new double[(size / interval + 2) * 2];
+		int nb = 0;
 		int i;
-		double x1;
-		double x2;
-		double y1;
-		double y2;
-
-		border.getElements().add(pathProducer.createMoveTo(curx, cury));
-
-		// Starting the drawing of the shape with a line.
-		if(size > interval) {
-			prevx = curx;
-			prevy = cury;
-			curx = pts.get(interval).getX();
-			cury = pts.get(interval).getY();
-			midx = (curx + prevx) / 2d;
-			midy = (cury + prevy) / 2d;
-
-			border.getElements().add(pathProducer.createLineTo(midx, midy));
-		}
 
-		// Adding curves
-		for(i = interval * 2; i < size; i += interval) {
-			x1 = (midx + curx) / 2d;
-			y1 = (midy + cury) / 2d;
-			prevx = curx;
-			prevy = cury;
-			curx = pts.get(i).getX();
-			cury = pts.get(i).getY();
-			midx = (curx + prevx) / 2d;
-			midy = (cury + prevy) / 2d;
-			x2 = (prevx + midx) / 2d;
-			y2 = (prevy + midy) / 2d;
-
-			border.getElements().add(pathProducer.createCubicCurveTo(x1, y1, x2, y2, midx, midy));
+		for(i = 0; i < size; i += interval) {
+			sampled[nb++] = xy[i * 2];
+			sampled[nb++] = xy[i * 2 + 1];
 		}
-
-		// If it remains not used points.
-		if(i - interval + 1 < size) {
-			x1 = (midx + curx) / 2d;
-			y1 = (midy + cury) / 2d;
-			prevx = curx;
-			prevy = cury;
-			curx = pts.get(size - 1).getX();
-			cury = pts.get(size - 1).getY();
-			midx = (curx + prevx) / 2d;
-			midy = (cury + prevy) / 2d;
-			x2 = (prevx + midx) / 2d;
-			y2 = (prevy + midy) / 2d;
-
-			border.getElements().add(pathProducer.createCubicCurveTo(x1, y1, x2, y2, pts.get(size - 1).getX(), pts.get(size - 1).getY()));
+		if(i - interval < size - 1) {
+			sampled[nb++] = xy[xy.length - 2];
+			sampled[nb++] = xy[xy.length - 1];
 		}
+		return Arrays.copyOf(sampled, nb);
 	}
 
-
 	/**
-	 * Fills the path of lines.
+	 * @return True if the path is being computed in the background.
 	 */
-	private void setPathLines() {
-		final int interval = model.getInterval();
-		final List<Point> pts = model.getPoints();
-		final int size = pts.size();
-		Point pt = pts.get(0);
-		int i;
-
-		border.getElements().add(pathProducer.createMoveTo(pt.getX(), pt.getY()));
+	boolean isGeometryPending() {
+		return pathGeometry.isPending();
+	}
 
-		for(i = interval; i < size; i += interval) {
-			pt = pts.get(i);
-			border.getElements().add(pathProducer.createLineTo(pt.getX(), pt.getY()));
-		}
+	@Override
+	void completeGeometry() {
+		pathGeometry.complete();
+	}
 
-		if(i - interval < size) {
-			border.getElements().add(pathProducer.createLineTo(pts.get(size - 1).getX(), pts.get(size - 1).getY()));
-		}
+	@Override
+	protected void updateLowDetail() {
+		super.updateLowDetail();
+		setPath();
 	}
 
 	@Override
 	public void flush() {
-		if(!border.getElements().isEmpty()) {
-			model.getPoints().get(model.getPoints().size() - 1).xProperty().removeListener(update);
-			model.getPoints().get(model.getPoints().size() - 1).yProperty().removeListener(update);
+		pathGeometry.dispose();
+
+		if(lastPoint != null) {
+			lastPoint.xProperty().removeListener(update);
+			lastPoint.yProperty().removeListener(update);
+			lastPoint = null;
 		}
 
+		model.getPoints().removeListener(pointsUpdate);
 		model.intervalProperty().removeListener(update);
 		model.typeProperty().removeListener(update);
 		model.openedProperty().removeListener(update);
 
 		super.flush();
 	}
+
+	/**
+	 * The geometry of a freehand computed from a snapshot of its model.
+	 */
+	private static final class FreehandPath {
+		final CurveGeometry geometry;
+		final boolean opened;
+
+		FreehandPath(final CurveGeometry geometry, final boolean opened) {
+			super();
+			this.geometry = geometry;
+			this.opened = opened;
+		}
+	}
+
+	/**
+	 * Adds the segments of a geometry to a list of path elements.
+	 */
+	private static final class PathElementsFiller implements CurveGeometry.SegmentHandler {
+		private final List<PathElement> elements;
+		private final PathElementProducer producer;
+
+		PathElementsFiller(final List<PathElement> elements, final PathElementProducer producer) {
+			super();
+			this.elements = elements;
+			this.producer = producer;
+		}
+
+		@Override
+		public void moveTo(final double x, final double y) {
+			elements.add(producer.createMoveTo(x, y));
+		}
+
+		@Override
+		public void lineTo(final double x, final double y) {
+			elements.add(producer.createLineTo(x, y));
+		}
+
+		@Override
+		public void curveTo(final double x1, final double y1, final double x2, final double y2, final double x, final double y) {
+			elements.add(producer.createCubicCurveTo(x1, y1, x2, y2, x, y));
+		}
+	}
 }
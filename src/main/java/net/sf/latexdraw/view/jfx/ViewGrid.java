@@ -10,9 +10,10 @@
  */
 package net.sf.latexdraw.view.jfx;
 
+import java.util.ArrayList;
+import java.util.List;
 import javafx.beans.binding.Bindings;
 import javafx.beans.value.ChangeListener;
-import javafx.collections.ObservableList;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
@@ -35,6 +36,8 @@ public class ViewGrid extends ViewStdGrid<Grid> {
 	private final ChangeListener<Number> subGridUpdate;
 	private final ChangeListener<Object> gridUpdate;
 	private final ChangeListener<Object> labelUpdate;
+	private final GeometryPipeline<List<PathElement>> mainGridGeometry;
+	private final GeometryPipeline<List<PathElement>> subGridGeometry;
 
 	/**
 	 * Creates the view.
@@ -44,6 +47,8 @@ public class ViewGrid extends ViewStdGrid<Grid> {
 		super(sh, pathProducer);
 		maingrid = new Path();
 		subgrid = new Path();
+		mainGridGeometry = new GeometryPipeline<>("grid.main", elements -> maingrid.getElements().setAll(elements)); //NON-NLS
+		subGridGeometry = new GeometryPipeline<>("grid.sub", elements -> subgrid.getElements().setAll(elements)); //NON-NLS
 		mainGridLineCapUpdate = (o, formerv, newv) -> {
 			maingrid.setStrokeLineCap(newv.doubleValue() > 0d ? StrokeLineCap.ROUND : StrokeLineCap.SQUARE);
 			updatePath(true, false, false);
@@ -86,13 +91,10 @@ public class ViewGrid extends ViewStdGrid<Grid> {
 	}
 
 
-	private void updatePathMainGridDots(final double unit, final double minX, final double maxX, final double minY, final double maxY,
-										final double posX, final double posY, final double xStep, final double yStep, final double tlx,
-										final double tly, final double brx, final double bry, final double absStep) {
-		final int gridDots = model.getGridDots();
+	private void updatePathMainGridDots(final List<PathElement> elements, final int gridDots, final double unit, final double minX, final double maxX,
+										final double minY, final double maxY, final double posX, final double posY, final double xStep, final double yStep,
+										final double tlx, final double tly, final double brx, final double bry, final double absStep) {
 		final double dotStep = unit * Shape.PPC / gridDots;
-		final ObservableList<PathElement> elements = maingrid.getElements();
-
 		for(double k = minX, i = posX; k <= maxX; i += xStep, k++) {
 			for(double m = tly, n = minY; n < maxY; n++, m += absStep) {
 				for(double l = 0d, j = m; l < gridDots; l++, j += dotStep) {
@@ -116,14 +118,12 @@ public class ViewGrid extends ViewStdGrid<Grid> {
 	}
 
 
-	private final void updatePathMainGrid(final double unit, final double minX, final double maxX, final double minY, final double maxY,
-									final double posX, final double posY, final double xStep, final double yStep, final double tlx,
-									final double tly, final double brx, final double bry, final double absStep) {
-		if(model.getGridDots() > 0) {
-			updatePathMainGridDots(unit, minX, maxX, minY, maxY, posX, posY, xStep, yStep, tlx, tly, brx, bry, absStep);
+	private final void updatePathMainGrid(final List<PathElement> elements, final int gridDots, final double unit, final double minX, final double maxX,
+									final double minY, final double maxY, final double posX, final double posY, final double xStep, final double yStep,
+									final double tlx, final double tly, final double brx, final double bry, final double absStep) {
+		if(gridDots > 0) {
+			updatePathMainGridDots(elements, gridDots, unit, minX, maxX, minY, maxY, posX, posY, xStep, yStep, tlx, tly, brx, bry, absStep);
 		}else {
-			final ObservableList<PathElement> elements = maingrid.getElements();
-
 			for(double k = minX, i = posX; k <= maxX; i += xStep, k++) {
 				elements.add(pathProducer.createMoveTo(i, bry));
 				elements.add(pathProducer.createLineTo(i, tly));
@@ -137,18 +137,17 @@ public class ViewGrid extends ViewStdGrid<Grid> {
 	}
 
 
-	private final void updatePathSubGrid(final double unit, final double minX, final double maxX, final double minY, final double maxY,
-							final double posX, final double posY, final double xStep, final double yStep, final double tlx,
-							final double tly, final double brx, final double bry) {
-		final double subGridDiv = model.getSubGridDiv();
+	private final void updatePathSubGrid(final List<PathElement> elements, final double subGridDiv, final double subGridDots, final double unit, final double minX,
+							final double maxX, final double minY, final double maxY, final double posX, final double posY, final double xStep, final double yStep,
+							final double tlx, final double tly, final double brx, final double bry) {
 		final double xSubStep = xStep / subGridDiv;
 		final double ySubStep = yStep / subGridDiv;
 
-		if(model.getSubGridDots() > 0d) {
-			updatePathSubGridDots(minX, maxX, minY, maxY, xSubStep, ySubStep, tlx, tly, brx, bry, unit);
+		if(subGridDots > 0d) {
+			updatePathSubGridDots(elements, subGridDiv, subGridDots, minX, maxX, minY, maxY, xSubStep, ySubStep, tlx, tly, brx, bry, unit);
 		}else {
 			if(subGridDiv > 1d) {
-				updatePathSubGridLines(posX, posY, minX, maxX, minY, maxY, xStep, yStep, xSubStep, ySubStep, tlx, tly, brx, bry);
+				updatePathSubGridLines(elements, subGridDiv, posX, posY, minX, maxX, minY, maxY, xStep, yStep, xSubStep, ySubStep, tlx, tly, brx, bry);
 			}
 		}
 	}
@@ -156,12 +155,9 @@ public class ViewGrid extends ViewStdGrid<Grid> {
 	/**
 	 * Companion method of updatePathSubGrid
 	 */
-	private final void updatePathSubGridDots(final double minX, final double maxX, final double minY, final double maxY, final double xSubStep,
-		final double ySubStep, final double tlx, final double tly, final double brx, final double bry, final double unit) {
-		final ObservableList<PathElement> elements = subgrid.getElements();
-		final double subGridDiv = model.getSubGridDiv();
-		final double subGridDots = model.getSubGridDots();
-
+	private final void updatePathSubGridDots(final List<PathElement> elements, final double subGridDiv, final double subGridDots, final double minX, final double maxX,
+		final double minY, final double maxY, final double xSubStep, final double ySubStep, final double tlx, final double tly, final double brx, final double bry,
+		final double unit) {
 		final double dotStep = unit * Shape.PPC / (subGridDots * subGridDiv);
 		final double nbX = (maxX - minX) * subGridDiv;
 		final double nbY = (maxY - minY) * subGridDiv;
@@ -192,12 +188,9 @@ public class ViewGrid extends ViewStdGrid<Grid> {
 	/**
 	 * Companion method of updatePathSubGrid
 	 */
-	private final void updatePathSubGridLines(final double posX, final double posY, final double minX, final double maxX,
-		final double minY, final double maxY, final double xStep, final double yStep, final double xSubStep, final double ySubStep,
+	private final void updatePathSubGridLines(final List<PathElement> elements, final double subGridDiv, final double posX, final double posY, final double minX,
+		final double maxX, final double minY, final double maxY, final double xStep, final double yStep, final double xSubStep, final double ySubStep,
 		final double tlx, final double tly, final double brx, final double bry) {
-		final ObservableList<PathElement> elements = subgrid.getElements();
-		final double subGridDiv = model.getSubGridDiv();
-
 		for(double k = minX, i = posX; k < maxX; i += xStep, k++) {
 			for(double j = 0d; j <= subGridDiv; j++) {
 				elements.add(pathProducer.createMoveTo(i + xSubStep * j, bry));
@@ -271,10 +264,8 @@ public class ViewGrid extends ViewStdGrid<Grid> {
 		final double minX = model.getGridMinX();
 		final double maxX = model.getGridMaxX();
 		final double unit = model.getUnit();
-		double yStep = Shape.PPC * unit;
-		double xStep = Shape.PPC * unit;
-		xStep *= model.getGridEndX() < model.getGridStartX() ? -1d : 1d;
-		yStep *= model.getGridEndY() < model.getGridStartY() ? -1d : 1d;
+		final double xStep = Shape.PPC * unit * (model.getGridEndX() < model.getGridStartX() ? -1d : 1d);
+		final double yStep = Shape.PPC * unit * (model.getGridEndY() < model.getGridStartY() ? -1d : 1d);
 		final double posX = Math.min(model.getGridStartX(), model.getGridEndX()) * Shape.PPC * unit;
 		final double posY = -Math.min(model.getGridStartY(), model.getGridEndY()) * Shape.PPC * unit;
 		final double absStep = Math.abs(xStep);
@@ -282,19 +273,38 @@ public class ViewGrid extends ViewStdGrid<Grid> {
 		final double tlx = bounds.getMinX();
 		final double tly = bounds.getMinY();
 
+		final double brx = bounds.getMaxX();
+		final double bry = bounds.getMaxY();
+
+		// The path elements are computed off-list and then published at once
+		// to avoid one change notification per element (dotted grids may contain a lot of elements).
+		// The computations only use the values read here, so that the large grids are computed in the background.
 		if(withSubGrid) {
-			subgrid.getElements().clear();
-			updatePathSubGrid(unit, minX, maxX, minY, maxY, posX, posY, xStep, yStep, tlx, tly, bounds.getMaxX(), bounds.getMaxY());
+			final double subGridDiv = model.getSubGridDiv();
+			final double subGridDots = model.getSubGridDots();
+			final double cost = subGridDots > 0d ? Math.abs((maxX - minX) * (maxY - minY)) * subGridDiv * subGridDiv * subGridDots * 4d :
+				Math.abs(maxX - minX + maxY - minY) * (subGridDiv + 1d) * 2d;
+			subGridGeometry.request(cost, () -> {
+				final List<PathElement> elements = new ArrayList<>();
+				updatePathSubGrid(elements, subGridDiv, subGridDots, unit, minX, maxX, minY, maxY, posX, posY, xStep, yStep, tlx, tly, brx, bry);
+				return elements;
+			});
 		}
 
 		if(withMainGrid) {
-			maingrid.getElements().clear();
-			updatePathMainGrid(unit, minX, maxX, minY, maxY, posX, posY, xStep, yStep, tlx, tly, bounds.getMaxX(), bounds.getMaxY(), absStep);
+			final int gridDots = model.getGridDots();
+			final double nbCells = Math.abs((maxX - minX + 1d) * (maxY - minY + 1d));
+			mainGridGeometry.request(gridDots > 0 ? nbCells * gridDots * 4d : Math.abs(maxX - minX + maxY - minY) * 2d, () -> {
+				final List<PathElement> elements = new ArrayList<>();
+				updatePathMainGrid(elements, gridDots, unit, minX, maxX, minY, maxY, posX, posY, xStep, yStep, tlx, tly, brx, bry, absStep);
+				return elements;
+			});
 		}
 
 		if(withLabels) {
 			cleanLabels();
 			updatePathLabels(minX, maxX, minY, maxY, posX, posY, xStep, yStep, tlx, tly, absStep);
+			publishLabels();
 		}
 	}
 
@@ -315,7 +325,10 @@ public class ViewGrid extends ViewStdGrid<Grid> {
 	@Override
 	public void flush() {
 		super.flush();
+		mainGridGeometry.dispose();
+		subGridGeometry.dispose();
 		maingrid.getElements().clear();
+		subgrid.getElements().clear();
 		maingrid.strokeProperty().unbind();
 		subgrid.strokeProperty().unbind();
 		model.gridDotsProperty().removeListener(mainGridLineCapUpdate);
@@ -324,8 +337,8 @@ public class ViewGrid extends ViewStdGrid<Grid> {
 		model.gridEndYProperty().removeListener(gridUpdate);
 		model.gridStartXProperty().removeListener(gridUpdate);
 		model.gridStartYProperty().removeListener(gridUpdate);
-		model.originXProperty().removeListener(gridUpdate);
-		model.originYProperty().removeListener(gridUpdate);
+		model.originXProperty().removeListener(labelUpdate);
+		model.originYProperty().removeListener(labelUpdate);
 		model.labelsSizeProperty().removeListener(labelUpdate);
 		model.yLabelWestProperty().removeListener(labelUpdate);
 		model.xLabelSouthProperty().removeListener(labelUpdate);
@@ -336,6 +349,19 @@ public class ViewGrid extends ViewStdGrid<Grid> {
 		model.unitProperty().removeListener(gridUpdate);
 	}
 
+	@Override
+	void completeGeometry() {
+		mainGridGeometry.complete();
+		subGridGeometry.complete();
+	}
+
+	/**
+	 * @return True if the paths of the grid are being computed in the background.
+	 */
+	boolean isGeometryPending() {
+		return mainGridGeometry.isPending() || subGridGeometry.isPending();
+	}
+
 	/**
 	 * @return The JFX sub path of the grid.
 	 */
@@ -13,20 +13,29 @@ package net.sf.latexdraw.view.jfx;
 import java.util.List;
 import java.util.stream.Collectors;
 import javafx.beans.value.ChangeListener;
+import javafx.scene.shape.PathElement;
+import net.sf.latexdraw.model.api.shape.BezierCurve;
+import net.sf.latexdraw.model.api.shape.Dot;
 import net.sf.latexdraw.model.api.shape.Plot;
+import net.sf.latexdraw.model.api.shape.PlotStyle;
+import net.sf.latexdraw.model.api.shape.Point;
+import net.sf.latexdraw.model.api.shape.Polygon;
+import net.sf.latexdraw.model.api.shape.Polyline;
 import net.sf.latexdraw.view.PlotViewComputation;
 
 /**
  * The JFX view of a plot.
  * @author Arnaud Blouin
  */
-public class ViewPlot extends ViewPositionShape<Plot> implements PlotViewComputation {
+public class ViewPlot extends ViewPositionShape<Plot> {
 	private ViewPolyline lineView;
 	private ViewPolygon polygonView;
 	private ViewBezierCurve curveView;
 	private List<ViewDot> dotsView;
 	private final PathElementProducer pathProducer;
 	private final ChangeListener<Object> updatePath = (observable, oldValue, newValue) -> updatePath();
+	/** Computes the plotted shapes, in the background for the plots with a lot of points. */
+	private final GeometryPipeline<PlotGeometry> plotGeometry;
 
 	/**
 	 * Creates the view.
@@ -36,6 +45,7 @@ public class ViewPlot extends ViewPositionShape<Plot> implements PlotViewComputa
 		super(sh);
 
 		this.pathProducer = pathProducer;
+		plotGeometry = new GeometryPipeline<>("plot", geometry -> setPlottedShapes(geometry)); //NON-NLS
 		model.plotEquationProperty().addListener(updatePath);
 		model.dotDiametreProperty().addListener(updatePath);
 		model.dotStyleProperty().addListener(updatePath);
@@ -51,59 +61,70 @@ public class ViewPlot extends ViewPositionShape<Plot> implements PlotViewComputa
 	}
 
 	private final void updatePath() {
-		final double minX = model.getPlotMinX();
-		final double maxX = model.getPlotMaxX();
-		final double step = model.getPlottingStep();
+		// The plotted shapes are computed from a copy of the model, so that they can be computed in the background.
+		final Plot plot = model.duplicate();
+		final double tolerance = getLowDetailTolerance();
+		plotGeometry.request(plot.getNbPlottedPoints(), () -> new PlotGeometry(plot, tolerance, pathProducer));
+	}
 
+	/**
+	 * Replaces the sub-views of the plot by the views of the given plotted shapes.
+	 */
+	private void setPlottedShapes(final PlotGeometry geometry) {
 		getChildren().stream().filter(node -> node instanceof ViewShape<?>).forEach(vs -> ((ViewShape<?>) vs).flush());
 		getChildren().clear();
 
-		switch(model.getPlotStyle()) {
-			case LINE -> updateLine(minX, maxX, step);
-			case CURVE, CCURVE -> updateCurve(minX, maxX, step);
-			case ECURVE -> updateCurve(minX + step, maxX - step, step);
-			case DOTS -> updatePoints(minX, maxX, step);
-			case POLYGON -> updatePolygon(minX, maxX, step);
+		if(geometry.line != null) {
+			flushLine();
+			lineView = new ViewPolyline(geometry.line, pathProducer, geometry.elements);
+			lineView.setUserData(this);
+			getChildren().add(lineView);
+		}else if(geometry.curve != null) {
+			flushCurve();
+			curveView = new ViewBezierCurve(geometry.curve, pathProducer);
+			curveView.setUserData(this);
+			getChildren().add(curveView);
+		}else if(geometry.polygon != null) {
+			flushPolygon();
+			polygonView = new ViewPolygon(geometry.polygon, pathProducer, geometry.elements);
+			polygonView.setUserData(this);
+			getChildren().add(polygonView);
+		}else if(geometry.dots != null) {
+			flushDots();
+			// The nodes are created in the JavaFX thread, one by one
+			dotsView = geometry.dots.stream().map(dot -> {
+				final ViewDot viewDot = new ViewDot(dot, pathProducer);
+				viewDot.setUserData(this);
+				return viewDot;
+			}).collect(Collectors.toList());
+			getChildren().addAll(dotsView);
 		}
-	}
-
 
-	private void updatePoints(final double minX, final double maxX, final double step) {
-		flushDots();
-		dotsView = updatePoints(model, 0d, 0d, minX, maxX, step).parallelStream().map(dot -> {
-			final ViewDot viewDot = new ViewDot(dot, pathProducer);
-			viewDot.setUserData(this);
-			return viewDot;
-		}).collect(Collectors.toList());
-		getChildren().addAll(dotsView);
+		// The new sub-views must have the level of detail of the plot
+		super.updateLowDetail();
 	}
 
-	private void updatePolygon(final double minX, final double maxX, final double step) {
-		flushPolygon();
-		polygonView = new ViewPolygon(updatePolygon(model, 0d, 0d, minX, maxX, step), pathProducer);
-		polygonView.setUserData(this);
-		getChildren().add(polygonView);
+	@Override
+	protected void updateLowDetail() {
+		updatePath();
 	}
 
-
-	private void updateLine(final double minX, final double maxX, final double step) {
-		flushLine();
-		lineView = new ViewPolyline(updateLine(model, 0d, 0d, minX, maxX, step), pathProducer);
-		lineView.setUserData(this);
-		getChildren().add(lineView);
+	/**
+	 * @return True if the plotted shapes are being computed in the background.
+	 */
+	boolean isGeometryPending() {
+		return plotGeometry.isPending();
 	}
 
-
-	private void updateCurve(final double minX, final double maxX, final double step) {
-		flushCurve();
-		curveView = new ViewBezierCurve(updateCurve(model, 0d, 0d, minX, maxX, step), pathProducer);
-		curveView.setUserData(this);
-		getChildren().add(curveView);
+	@Override
+	void completeGeometry() {
+		plotGeometry.complete();
 	}
 
 	@Override
 	public void flush() {
 		super.flush();
+		plotGeometry.dispose();
 
 		model.plotEquationProperty().removeListener(updatePath);
 		model.dotDiametreProperty().removeListener(updatePath);
@@ -146,4 +167,51 @@ public class ViewPlot extends ViewPositionShape<Plot> implements PlotViewComputa
 			dotsView.clear();
 		}
 	}
+
+	/**
+	 * The shapes plotted by a plot, computed from a copy of its model. Only one of them is not null.
+	 * Contains no JavaFX node, but the path elements of the plotted line or polygon.
+	 */
+	private static final class PlotGeometry implements PlotViewComputation {
+		/** The level of detail of the view. */
+		private final double tolerance;
+		Polyline line;
+		Polygon polygon;
+		BezierCurve curve;
+		List<Dot> dots;
+		/** The path elements of the line or the polygon, so that their views do not compute them in the JavaFX thread. */
+		List<PathElement> elements;
+
+		PlotGeometry(final Plot plot, final double tolerance, final PathElementProducer pathProducer) {
+			super();
+			this.tolerance = tolerance;
+			final double minX = plot.getPlotMinX();
+			final double maxX = plot.getPlotMaxX();
+			final double step = plot.getPlottingStep();
+
+			switch(plot.getPlotStyle()) {
+				case LINE -> line = updateLine(plot, 0d, 0d, minX, maxX, step);
+				case CURVE, CCURVE -> curve = updateCurve(plot, 0d, 0d, minX, maxX, step);
+				case ECURVE -> curve = updateCurve(plot, 0d, 0d, minX + step, maxX - step, step);
+				case DOTS -> dots = updatePoints(plot, 0d, 0d, minX, maxX, step);
+				case POLYGON -> polygon = updatePolygon(plot, 0d, 0d, minX, maxX, step);
+			}
+
+			if(line != null) {
+				elements = ViewPolyPoint.createPathElements(line.getPoints(), pathProducer);
+			}else if(polygon != null) {
+				elements = ViewPolyPoint.createPathElements(polygon.getPoints(), pathProducer);
+			}
+		}
+
+		@Override
+		public List<Point> fillPoints(final Plot shape, final double posX, final double posY, final double minX, final double maxX, final double step) {
+			final List<Point> pts = PlotViewComputation.super.fillPoints(shape, posX, posY, minX, maxX, step);
+			// At a low level of detail, the plotted points are simplified. Not the dots, drawn one by one.
+			if(shape.getPlotStyle() == PlotStyle.DOTS) {
+				return pts;
+			}
+			return LevelOfDetail.simplify(pts, tolerance);
+		}
+	}
 }
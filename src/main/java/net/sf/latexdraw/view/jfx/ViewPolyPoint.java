@@ -10,13 +10,15 @@
  */
 package net.sf.latexdraw.view.jfx;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.IntStream;
-import javafx.collections.ObservableList;
 import javafx.scene.shape.LineTo;
 import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
 import net.sf.latexdraw.model.api.shape.ModifiablePointsShape;
+import net.sf.latexdraw.model.api.shape.Point;
 
 /**
  * The JFX shape view for multipoints shapes.
@@ -34,8 +36,21 @@ public abstract class ViewPolyPoint<T extends ModifiablePointsShape> extends Vie
 		initPath(dblBorder);
 	}
 
+	/**
+	 * Creates the view of a shape whose points do not change (e.g. the shapes plotted by a plot).
+	 * @param sh The model.
+	 * @param elements The path elements of the shape (not bound to its points), already computed (possibly in the background).
+	 */
+	ViewPolyPoint(final T sh, final PathElementProducer pathProducer, final List<PathElement> elements) {
+		super(sh, pathProducer);
+		// Published at once to avoid one change notification per element
+		border.getElements().setAll(elements);
+		shadow.getElements().setAll(elements);
+		dblBorder.getElements().setAll(elements);
+	}
+
 	private void initPath(final Path path) {
-		final ObservableList<PathElement> elts = path.getElements();
+		final List<PathElement> elts = new ArrayList<>(model.getNbPoints());
 		final MoveTo moveTo = pathProducer.createMoveTo(0d, 0d);
 		moveTo.xProperty().bind(model.getPtAt(0).xProperty());
 		moveTo.yProperty().bind(model.getPtAt(0).yProperty());
@@ -47,6 +62,20 @@ public abstract class ViewPolyPoint<T extends ModifiablePointsShape> extends Vie
 			lineto.yProperty().bind(model.getPtAt(i).yProperty());
 			elts.add(lineto);
 		});
+
+		path.getElements().setAll(elts);
+	}
+
+	/**
+	 * @return The path elements of the given points, not bound to them. Can be called outside the JavaFX thread.
+	 */
+	static List<PathElement> createPathElements(final List<Point> pts, final PathElementProducer pathProducer) {
+		final List<PathElement> elts = new ArrayList<>(pts.size());
+		for(int i = 0, size = pts.size(); i < size; i++) {
+			final Point pt = pts.get(i);
+			elts.add(i == 0 ? pathProducer.createMoveTo(pt.getX(), pt.getY()) : pathProducer.createLineTo(pt.getX(), pt.getY()));
+		}
+		return elts;
 	}
 
 	@Override
@@ -10,6 +10,8 @@
  */
 package net.sf.latexdraw.view.jfx;
 
+import java.util.List;
+import javafx.scene.shape.PathElement;
 import net.sf.latexdraw.model.api.shape.Polygon;
 
 /**
@@ -26,4 +28,16 @@ public class ViewPolygon extends ViewPolyPoint<Polygon> {
 		shadow.getElements().add(pathProducer.createClosePath());
 		dblBorder.getElements().add(pathProducer.createClosePath());
 	}
+
+	/**
+	 * Creates the view of a polygon whose points do not change.
+	 * @param sh The model.
+	 * @param elements The path elements of the polygon (without the closing element), already computed.
+	 */
+	ViewPolygon(final Polygon sh, final PathElementProducer pathProducer, final List<PathElement> elements) {
+		super(sh, pathProducer, elements);
+		border.getElements().add(pathProducer.createClosePath());
+		shadow.getElements().add(pathProducer.createClosePath());
+		dblBorder.getElements().add(pathProducer.createClosePath());
+	}
 }
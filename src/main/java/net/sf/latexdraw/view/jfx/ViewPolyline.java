@@ -10,6 +10,8 @@
  */
 package net.sf.latexdraw.view.jfx;
 
+import java.util.List;
+import javafx.scene.shape.PathElement;
 import net.sf.latexdraw.model.api.shape.Polyline;
 
 /**
@@ -28,4 +30,16 @@ public class ViewPolyline extends ViewPolyPoint<Polyline> {
 		getChildren().add(viewArrows);
 		viewArrows.updateAllArrows();
 	}
+
+	/**
+	 * Creates the view of a polyline whose points do not change.
+	 * @param sh The model.
+	 * @param elements The path elements of the polyline, already computed.
+	 */
+	ViewPolyline(final Polyline sh, final PathElementProducer pathProducer, final List<PathElement> elements) {
+		super(sh, pathProducer, elements);
+		viewArrows = new ViewArrowableTraitPath<>(this, pathProducer);
+		getChildren().add(viewArrows);
+		viewArrows.updateAllArrows();
+	}
 }
@@ -30,6 +30,8 @@ import net.sf.latexdraw.util.Flushable;
 public abstract class ViewShape<S extends Shape> extends Group implements Flushable {
 	/** The model of the view. */
 	protected final S model;
+	/** The level of detail of the view (see LevelOfDetail). 0: full detail. */
+	private double lowDetailTolerance;
 
 	/**
 	 * Creates the view.
@@ -73,6 +75,67 @@ public abstract class ViewShape<S extends Shape> extends Group implements Flusha
 		return shapes;
 	}
 
+	/**
+	 * Sets the level of detail of the view. Only the views of the canvas are concerned:
+	 * the views used to save or export drawings are always drawn at full detail.
+	 * @param tolerance The size of a screen pixel in the coordinate system of the shapes, used to simplify
+	 * the view. 0 (or less) to draw the view at full detail.
+	 */
+	public void setLowDetailTolerance(final double tolerance) {
+		final double tol = tolerance > 0d ? tolerance : 0d;
+		if(Double.compare(tol, lowDetailTolerance) != 0) {
+			lowDetailTolerance = tol;
+			updateLowDetail();
+		}
+	}
+
+	/**
+	 * @return The level of detail of the view. 0: full detail.
+	 */
+	public double getLowDetailTolerance() {
+		return lowDetailTolerance;
+	}
+
+	/**
+	 * Updates the view on level of detail changes. By default, forwards the level of detail to the sub-views.
+	 * Should be overridden by the views that can be simplified.
+	 */
+	protected void updateLowDetail() {
+		forwardLowDetail(this, lowDetailTolerance);
+	}
+
+	private static void forwardLowDetail(final Group gp, final double tolerance) {
+		gp.getChildren().forEach(node -> {
+			if(node instanceof ViewShape<?>) {
+				((ViewShape<?>) node).setLowDetailTolerance(tolerance);
+			}else {
+				if(node instanceof Group) {
+					forwardLowDetail((Group) node, tolerance);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes and applies at once the geometries of the view that are being computed in the background.
+	 * By default, forwards the call to the sub-views. Should be overridden by the views that compute their geometry in the background.
+	 */
+	void completeGeometry() {
+		completeGeometry(this);
+	}
+
+	private static void completeGeometry(final Group gp) {
+		gp.getChildren().forEach(node -> {
+			if(node instanceof ViewShape<?>) {
+				((ViewShape<?>) node).completeGeometry();
+			}else {
+				if(node instanceof Group) {
+					completeGeometry((Group) node);
+				}
+			}
+		});
+	}
+
 	@Override
 	public void flush() {
 		setUserData(null);
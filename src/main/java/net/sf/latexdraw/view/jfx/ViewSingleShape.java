@@ -31,6 +31,7 @@ import javafx.scene.shape.StrokeLineJoin;
 import javafx.scene.shape.StrokeType;
 import javafx.scene.transform.Rotate;
 import net.sf.latexdraw.model.MathUtils;
+import net.sf.latexdraw.model.ModelTransaction;
 import net.sf.latexdraw.model.ShapeFactory;
 import net.sf.latexdraw.model.api.shape.Color;
 import net.sf.latexdraw.model.api.shape.FillingStyle;
@@ -51,10 +52,21 @@ public abstract class ViewSingleShape<S extends SingleShape, T extends Shape> ex
 	protected final T shadow;
 	protected Rotate shapeRotation;
 
-	private final ChangeListener<?> strokesUpdateCall = (obj, oldVal, newVal) -> updateStrokes();
+	/** The parts of the view to update. Within a model transaction, these updates are done once, at commit. */
+	private boolean strokesOutdated;
+	private boolean fillOutdated;
+	private boolean shadowOutdated;
+
+	private final ChangeListener<?> strokesUpdateCall = (obj, oldVal, newVal) -> {
+		strokesOutdated = true;
+		updateOutdatedParts();
+	};
 	private final ChangeListener<?> fillUpdateCall;
 	private final ChangeListener<Boolean> shadowSetCall;
-	private final ChangeListener<Number> shadowUpdateCall = (obs, oldVal, newVal) -> updateShadowPosition();
+	private final ChangeListener<Number> shadowUpdateCall = (obs, oldVal, newVal) -> {
+		shadowOutdated = true;
+		updateOutdatedParts();
+	};
 
 
 	/**
@@ -110,7 +122,10 @@ public abstract class ViewSingleShape<S extends SingleShape, T extends Shape> ex
 		}
 
 		if(model.isFillable()) {
-			fillUpdateCall = (obs, oldVal, newVal) -> border.setFill(getFillingPaint(model.getFillingStyle()));
+			fillUpdateCall = (obs, oldVal, newVal) -> {
+				fillOutdated = true;
+				updateOutdatedParts();
+			};
 			model.fillingProperty().addListener((ChangeListener<? super FillingStyle>) fillUpdateCall);
 			model.gradColStartProperty().addListener((ChangeListener<? super Color>) fillUpdateCall);
 			model.gradColEndProperty().addListener((ChangeListener<? super Color>) fillUpdateCall);
@@ -182,6 +197,31 @@ public abstract class ViewSingleShape<S extends SingleShape, T extends Shape> ex
 	}
 
 
+	/**
+	 * Updates the outdated parts of the view, or defers this update at the end of the ongoing model transaction.
+	 */
+	private void updateOutdatedParts() {
+		if(!ModelTransaction.INST.defer(this, this::doUpdateOutdatedParts)) {
+			doUpdateOutdatedParts();
+		}
+	}
+
+	private void doUpdateOutdatedParts() {
+		if(strokesOutdated) {
+			strokesOutdated = false;
+			updateStrokes();
+		}
+		// After the strokes since they change the bounds of the filling
+		if(fillOutdated) {
+			fillOutdated = false;
+			border.setFill(getFillingPaint(model.getFillingStyle()));
+		}
+		if(shadowOutdated) {
+			shadowOutdated = false;
+			updateShadowPosition();
+		}
+	}
+
 	private final void updateShadowPosition() {
 		if(shadow != null) {
 			final Point gc = model.getGravityCentre();
@@ -200,11 +240,35 @@ public abstract class ViewSingleShape<S extends SingleShape, T extends Shape> ex
 			case NONE -> model.hasShadow() && model.shadowFillsShape() ? model.getFillingCol().toJFX() : null;
 			case GRAD -> computeGradient();
 			case PLAIN -> model.getFillingCol().toJFX();
-			case CLINES_PLAIN, HLINES_PLAIN, VLINES_PLAIN, CLINES, VLINES, HLINES -> getHatchingsFillingPaint(style);
+			case CLINES_PLAIN, HLINES_PLAIN, VLINES_PLAIN, CLINES, VLINES, HLINES -> getLowDetailTolerance() > 0d ?
+				getFlatHatchingsPaint(style) : getHatchingsFillingPaint(style);
 		};
 	}
 
 
+	/**
+	 * @return The flat colour that replaces the hatchings at a low level of detail:
+	 * the colour of the hatchings weighted by the proportion of the area they cover.
+	 */
+	private Paint getFlatHatchingsPaint(final FillingStyle style) {
+		final double coverage = model.getHatchingsWidth() / Math.max(model.getHatchingsWidth() + model.getHatchingsSep(), 1d);
+		final javafx.scene.paint.Color hatchCol = model.getHatchingsCol().toJFX();
+		if(style.isFilled()) {
+			return model.getFillingCol().toJFX().interpolate(hatchCol, coverage);
+		}
+		return hatchCol.deriveColor(0d, 1d, 1d, Math.min(1d, coverage));
+	}
+
+	@Override
+	protected void updateLowDetail() {
+		super.updateLowDetail();
+		if(model.isFillable() && model.getFillingStyle().isHatchings()) {
+			fillOutdated = true;
+			updateOutdatedParts();
+		}
+	}
+
+
 	private Paint getHatchingsFillingPaint(final FillingStyle style) {
 		final Bounds bounds = border.getBoundsInParent();
 
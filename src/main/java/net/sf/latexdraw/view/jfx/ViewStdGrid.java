@@ -10,7 +10,10 @@
  */
 package net.sf.latexdraw.view.jfx;
 
+import java.util.ArrayList;
+import java.util.List;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import net.sf.latexdraw.model.api.shape.StandardGrid;
@@ -22,6 +25,8 @@ import net.sf.latexdraw.model.api.shape.StandardGrid;
 public abstract class ViewStdGrid<T extends StandardGrid> extends ViewPositionShape<T> {
 	protected final Group labels;
 	protected final PathElementProducer pathProducer;
+	/** The labels created but not yet added to the labels group (see publishLabels). */
+	private final List<Node> pendingLabels;
 
 	/**
 	 * Creates the view.
@@ -31,6 +36,7 @@ public abstract class ViewStdGrid<T extends StandardGrid> extends ViewPositionSh
 		super(sh);
 		this.pathProducer = pathProducer;
 		labels = new Group();
+		pendingLabels = new ArrayList<>();
 		getChildren().add(labels);
 	}
 
@@ -38,11 +44,36 @@ public abstract class ViewStdGrid<T extends StandardGrid> extends ViewPositionSh
 	public Text createTextLabel(final String text, final double x, final double y, final Font font) {
 		final Text label = new Text(x, y, text);
 		label.setFont(font);
-		labels.getChildren().add(label);
+		pendingLabels.add(label);
 		return label;
 	}
 
 
+	/**
+	 * Adds at once the labels created since the previous call to the labels group.
+	 */
+	final void publishLabels() {
+		labels.getChildren().setAll(pendingLabels);
+		pendingLabels.clear();
+		updateLabelsVisibility();
+	}
+
+
+	/**
+	 * At a low level of detail, the labels too small to be read are not drawn.
+	 */
+	private void updateLabelsVisibility() {
+		labels.setVisible(!LevelOfDetail.isPlaceholder(model.getLabelsSize(), getLowDetailTolerance()));
+	}
+
+
+	@Override
+	protected void updateLowDetail() {
+		super.updateLowDetail();
+		updateLabelsVisibility();
+	}
+
+
 	final void cleanLabels() {
 		labels.getChildren().parallelStream().forEach(node -> {
 			final Text txt = (Text) node;
@@ -50,6 +81,7 @@ public abstract class ViewStdGrid<T extends StandardGrid> extends ViewPositionSh
 			txt.fontProperty().unbind();
 		});
 		labels.getChildren().clear();
+		pendingLabels.clear();
 	}
 
 
@@ -29,10 +29,12 @@ import net.sf.latexdraw.model.api.shape.Color;
 import net.sf.latexdraw.model.api.shape.Text;
 import net.sf.latexdraw.service.LaTeXDataService;
 import net.sf.latexdraw.util.OperatingSystem;
+import net.sf.latexdraw.util.PerfMetrics;
 import net.sf.latexdraw.util.SystemUtils;
 import net.sf.latexdraw.util.Triple;
 import net.sf.latexdraw.util.Tuple;
 import net.sf.latexdraw.view.latex.DviPsColors;
+import net.sf.latexdraw.view.latex.LaTeXFormatCache;
 import net.sf.latexdraw.view.pst.PSTricksConstants;
 
 /**
@@ -115,7 +117,7 @@ public class ViewText extends ViewPositionShape<Text> {
 	private final void update() {
 		text.setText(model.getText());
 		currentCompilation = latexData.getCompilationPool().submit(() -> {
-			final Tuple<Image, String> image = createImage();
+			final Tuple<Image, String> image = PerfMetrics.INSTANCE.time("text.createImage", this::createImage); //NON-NLS
 			Platform.runLater(() -> updateImageText(image));
 		});
 	}
@@ -245,8 +247,8 @@ public class ViewText extends ViewPositionShape<Text> {
 		// cannot be used with our system execution process.
 
 		// Compiling the LaTeX document.
-		Tuple<Boolean, String> res = SystemUtils.getInstance().execute(new String[] {os.getLatexBinPath(), "--halt-on-error", "--interaction=nonstopmode", //NON-NLS
-			"--output-directory=" + tmpDir.getAbsolutePath(), SystemUtils.getInstance().normalizeForLaTeX(pathTex)}, null); //NON-NLS
+		Tuple<Boolean, String> res = LaTeXFormatCache.INSTANCE.execute(new String[] {os.getLatexBinPath(), "--halt-on-error", "--interaction=nonstopmode", //NON-NLS
+			"--output-directory=" + tmpDir.getAbsolutePath(), SystemUtils.getInstance().normalizeForLaTeX(pathTex)}, doc, null); //NON-NLS
 		boolean ok = res.a;
 		log = res.b;
 
@@ -13,6 +13,8 @@ package net.sf.latexdraw.view.latex;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.sf.latexdraw.model.MathUtils;
 import net.sf.latexdraw.model.ShapeFactory;
 import net.sf.latexdraw.model.api.shape.Color;
@@ -193,27 +195,29 @@ public final class DviPsColors {
 
 	private final Map<Color, String> nameColourHT = new HashMap<>();
 
-	/** The colours defined by the user and their name. */
-	private final Map<String, Color> userColourHT = new HashMap<>();
+	/** The names of the predefined colours indexed by their packed RGBA value. */
+	private final Map<Integer, String> packedNameColourHT = new HashMap<>();
 
 	/** The colours defined by the user and their name. */
-	private final Map<Color, String> userNameColourHT = new HashMap<>();
+	private final Map<String, Color> userColourHT = new ConcurrentHashMap<>();
+
+	/** The names of the colours defined by the user indexed by their packed RGBA value. */
+	private final Map<Integer, String> userNameColourHT = new ConcurrentHashMap<>();
 
 	/** The counter is used to name the user defined colours. */
-	private int ctColours;
+	private final AtomicInteger ctColours = new AtomicInteger();
 
 
 	private DviPsColors() {
 		super();
 		createColourHashTable();
 		createNameColourHashTable();
-		ctColours = 0;
 	}
 
 	public void clearUserColours() {
 		userColourHT.clear();
 		userNameColourHT.clear();
-		ctColours = 0;
+		ctColours.set(0);
 	}
 
 	/**
@@ -388,6 +392,7 @@ public final class DviPsColors {
 		nameColourHT.put(SEPIA, N_SEPIA);
 		nameColourHT.put(BROWN, N_BROWN_2);
 		nameColourHT.put(TAN, N_TAN);
+		nameColourHT.forEach((col, name) -> packedNameColourHT.putIfAbsent(col.toPackedRGBA(), name));
 	}
 
 
@@ -412,11 +417,12 @@ public final class DviPsColors {
 		if(colour == null) {
 			return Optional.empty();
 		}
-		String name = nameColourHT.get(colour);
-		if(name == null) {
-			name = userNameColourHT.get(colour);
+		final String name = nameColourHT.get(colour);
+		if(name != null) {
+			return Optional.of(name);
 		}
-		return Optional.ofNullable(name);
+		final int packed = colour.toPackedRGBA();
+		return Optional.ofNullable(packedNameColourHT.getOrDefault(packed, userNameColourHT.get(packed)));
 	}
 
 
@@ -439,6 +445,7 @@ public final class DviPsColors {
 
 	/**
 	 * Adds a colour defined by the user.
+	 * If a user colour with the same RGBA value already exists, its name is reused instead of creating a new colour.
 	 * @param colour The colour to add.
 	 * @return The name of this colour.
 	 */
@@ -446,9 +453,11 @@ public final class DviPsColors {
 		if(colour == null) {
 			return Optional.empty();
 		}
-		final String name = generateColourName();
-		addUserColour(colour, name);
-		return Optional.of(name);
+		return Optional.of(userNameColourHT.computeIfAbsent(colour.toPackedRGBA(), packed -> {
+			final String name = generateColourName();
+			userColourHT.put(name, colour);
+			return name;
+		}));
 	}
 
 
@@ -459,8 +468,11 @@ public final class DviPsColors {
 	 */
 	public void addUserColour(final Color colour, final String name) {
 		if(colour != null && name != null && !name.isEmpty()) {
-			userColourHT.put(name, colour);
-			userNameColourHT.put(colour, name);
+			final Color previous = userColourHT.put(name, colour);
+			if(previous != null) {
+				userNameColourHT.remove(previous.toPackedRGBA(), name);
+			}
+			userNameColourHT.put(colour.toPackedRGBA(), name);
 		}
 	}
 
@@ -469,7 +481,7 @@ public final class DviPsColors {
 	 * @return A unique name for a user defined colour.
 	 */
 	private String generateColourName() {
-		return "colour" + ctColours++; //NON-NLS
+		return "colour" + ctColours.getAndIncrement(); //NON-NLS
 	}
 
 
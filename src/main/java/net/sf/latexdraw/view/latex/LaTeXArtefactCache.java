@@ -0,0 +1,131 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.view.latex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import net.sf.latexdraw.util.BadaboomCollector;
+import net.sf.latexdraw.util.PerfMetrics;
+import net.sf.latexdraw.util.SystemUtils;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Caches the compiled artefacts (PS, EPS, PDF) of LaTeX documents.
+ * An artefact is identified by a digest of the compiled document and of the versions of the tool chain.
+ * The least recently used artefacts are removed when the cache contains more than a given number of files.
+ * @author Arnaud Blouin
+ */
+public final class LaTeXArtefactCache {
+	/** The default maximal number of cached artefacts. */
+	public static final int DEFAULT_MAX_ARTEFACTS = 100;
+
+	public static final @NotNull LaTeXArtefactCache INSTANCE = new LaTeXArtefactCache(Paths.get(SystemUtils.getInstance().getPathCacheDir(), "exports"), //NON-NLS
+		() -> SystemUtils.getInstance().getLaTeXVersion() + SystemUtils.getInstance().getDVIPSVersion() + SystemUtils.getInstance().getGSVersion(),
+		DEFAULT_MAX_ARTEFACTS);
+
+	private final @NotNull Path dir;
+	private final @NotNull Supplier<String> toolchainSupplier;
+	private volatile String toolchain;
+	private final int maxArtefacts;
+
+	LaTeXArtefactCache(final @NotNull Path dir, final @NotNull Supplier<String> toolchain, final int maxArtefacts) {
+		super();
+		if(maxArtefacts < 1) {
+			throw new IllegalArgumentException("Invalid maximal number of artefacts: " + maxArtefacts); //NON-NLS
+		}
+		this.dir = dir;
+		toolchainSupplier = toolchain;
+		this.maxArtefacts = maxArtefacts;
+	}
+
+	/**
+	 * @param document The compiled document.
+	 * @return The key of the artefacts of the given document.
+	 */
+	public @NotNull String getKey(final @NotNull String document) {
+		if(toolchain == null) {
+			toolchain = toolchainSupplier.get();
+		}
+		return SystemUtils.getInstance().sha256(document + '\n' + toolchain);
+	}
+
+	/**
+	 * Copies a cached artefact to the given location.
+	 * @param key The key of the document.
+	 * @param extension The extension of the artefact (e.g. ".pdf").
+	 * @param target The file to create.
+	 * @return The created file, or nothing if the artefact is not cached.
+	 */
+	public @NotNull Optional<File> copyTo(final @NotNull String key, final @NotNull String extension, final @NotNull File target) {
+		final Path artefact = dir.resolve(key + extension);
+
+		if(!Files.isRegularFile(artefact)) {
+			PerfMetrics.INSTANCE.increment("latex.artefactCache.miss"); //NON-NLS
+			return Optional.empty();
+		}
+
+		try {
+			if(!artefact.equals(target.toPath())) {
+				Files.copy(artefact, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			// Used to identify the least recently used artefacts
+			Files.setLastModifiedTime(artefact, FileTime.fromMillis(System.currentTimeMillis()));
+			PerfMetrics.INSTANCE.increment("latex.artefactCache.hit"); //NON-NLS
+			return Optional.of(target);
+		}catch(final IOException | SecurityException ex) {
+			BadaboomCollector.INSTANCE.add(ex);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Caches a compiled artefact.
+	 * @param key The key of the document.
+	 * @param extension The extension of the artefact (e.g. ".pdf").
+	 * @param artefact The artefact to cache.
+	 */
+	public void store(final @NotNull String key, final @NotNull String extension, final @NotNull File artefact) {
+		try {
+			Files.createDirectories(dir);
+			// Copied then moved so that concurrent readers never see partial files
+			final Path tmp = Files.createTempFile(dir, key, extension + ".tmp"); //NON-NLS
+			Files.copy(artefact.toPath(), tmp, StandardCopyOption.REPLACE_EXISTING);
+			Files.move(tmp, dir.resolve(key + extension), StandardCopyOption.REPLACE_EXISTING);
+			evict();
+		}catch(final IOException | SecurityException ex) {
+			BadaboomCollector.INSTANCE.add(ex);
+		}
+	}
+
+	/**
+	 * Removes the least recently used artefacts beyond the maximal number of artefacts.
+	 */
+	private void evict() throws IOException {
+		final List<Path> artefacts;
+		try(final Stream<Path> files = Files.list(dir)) {
+			artefacts = files.filter(Files::isRegularFile)
+				.sorted(Comparator.comparing((Path file) -> file.toFile().lastModified()).reversed())
+				.collect(Collectors.toList());
+		}
+		artefacts.stream().skip(maxArtefacts).forEach(file -> SystemUtils.getInstance().removeFilePath(file));
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.view.latex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import net.sf.latexdraw.util.BadaboomCollector;
+import net.sf.latexdraw.util.OperatingSystem;
+import net.sf.latexdraw.util.PerfMetrics;
+import net.sf.latexdraw.util.SystemUtils;
+import net.sf.latexdraw.util.Tuple;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Caches precompiled LaTeX formats (mylatexformat style) of the preambles of the compiled documents.
+ * The preamble of a document is its code until the END_OF_DUMP marker (or until \begin{document}).
+ * A format is identified by a digest of the preamble and of the version of latex. A missing format is built
+ * in the background: the compilations that precede its availability are done without format.
+ * @author Arnaud Blouin
+ */
+public final class LaTeXFormatCache {
+	public static final @NotNull LaTeXFormatCache INSTANCE = new LaTeXFormatCache(Paths.get(SystemUtils.getInstance().getPathCacheDir(), "formats"), //NON-NLS
+		() -> OperatingSystem.getSystem().orElse(OperatingSystem.LINUX).getLatexBinPath(), () -> SystemUtils.getInstance().getLaTeXVersion());
+
+	/**
+	 * Ends the part of a document dumped in a format. Expands to \relax when the document is compiled without format,
+	 * so that the code that follows it (e.g. document-specific page geometry) stays in the preamble but is not dumped.
+	 */
+	public static final @NotNull String END_OF_DUMP = "\\csname endofdump\\endcsname"; //NON-NLS
+
+	private static final @NotNull String BEGIN_DOC = "\\begin{document}"; //NON-NLS
+
+	/** The messages logged by TeX engines when they cannot load a format (missing, corrupted, or built by another engine version). */
+	private static final @NotNull List<String> FORMAT_ERRORS = List.of("Fatal format file error", "I can't find the format file", //NON-NLS
+		"---! "); //NON-NLS
+
+	private final @NotNull Path formatsDir;
+	private final @NotNull Supplier<String> latexBin;
+	private final @NotNull Supplier<String> latexVersionSupplier;
+	private volatile String latexVersion;
+	/** The keys of the formats being built. */
+	private final @NotNull Set<String> building;
+	/** The keys of the formats that cannot be built, not to try again. */
+	private final @NotNull Set<String> failed;
+	private final @NotNull ExecutorService executor;
+
+	LaTeXFormatCache(final @NotNull Path formatsDir, final @NotNull Supplier<String> latexBin, final @NotNull Supplier<String> latexVersion) {
+		super();
+		this.formatsDir = formatsDir;
+		this.latexBin = latexBin;
+		latexVersionSupplier = latexVersion;
+		building = ConcurrentHashMap.newKeySet();
+		failed = ConcurrentHashMap.newKeySet();
+		executor = Executors.newSingleThreadExecutor(run -> {
+			final Thread thread = new Thread(run, "latex-format"); //NON-NLS
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * @param document The LaTeX document.
+	 * @return The preamble of the document: the code dumped in its format.
+	 */
+	static @NotNull String getPreamble(final @NotNull String document) {
+		final int endDump = document.indexOf(END_OF_DUMP);
+		if(endDump >= 0) {
+			return document.substring(0, endDump);
+		}
+		final int beginDoc = document.indexOf(BEGIN_DOC);
+		return beginDoc >= 0 ? document.substring(0, beginDoc) : document;
+	}
+
+	/**
+	 * @param preamble The preamble of a document.
+	 * @return The key of the format of this preamble.
+	 */
+	@NotNull String getKey(final @NotNull String preamble) {
+		if(latexVersion == null) {
+			latexVersion = latexVersionSupplier.get();
+		}
+		return "ldfmt" + SystemUtils.getInstance().sha256(preamble + '\n' + latexVersion); //NON-NLS
+	}
+
+	/**
+	 * @param document The document to compile.
+	 * @return The path (without extension) of the format of the document, if already built.
+	 * Otherwise, the format is built in the background and nothing is returned.
+	 */
+	public @NotNull Optional<String> getFormat(final @NotNull String document) {
+		final String preamble = getPreamble(document);
+		final String key = getKey(preamble);
+		final Path format = formatsDir.resolve(key + ".fmt"); //NON-NLS
+
+		if(Files.isRegularFile(format)) {
+			return Optional.of(formatsDir.resolve(key).toString());
+		}
+
+		prepare(key, preamble);
+		return Optional.empty();
+	}
+
+	/**
+	 * Builds in the background the format of the given document, if not already built.
+	 * @param document The document.
+	 */
+	public void prepare(final @NotNull String document) {
+		// Computing the key may require to run latex: done in the background as well
+		executor.execute(() -> {
+			final String preamble = getPreamble(document);
+			final String key = getKey(preamble);
+			if(!Files.isRegularFile(formatsDir.resolve(key + ".fmt"))) { //NON-NLS
+				prepare(key, preamble);
+			}
+		});
+	}
+
+	private void prepare(final @NotNull String key, final @NotNull String preamble) {
+		if(!failed.contains(key) && building.add(key)) {
+			executor.execute(() -> {
+				try {
+					if(!PerfMetrics.INSTANCE.time("latex.buildFormat", () -> buildFormat(key, preamble))) { //NON-NLS
+						failed.add(key);
+					}
+				}finally {
+					building.remove(key);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Dumps the format of the given preamble.
+	 * @return True if the format has been built.
+	 */
+	private boolean buildFormat(final @NotNull String key, final @NotNull String preamble) {
+		final Optional<File> optDir = SystemUtils.getInstance().createTempDir();
+		if(optDir.isEmpty()) {
+			return false;
+		}
+
+		final File tmpDir = optDir.get();
+
+		try {
+			final Path tex = tmpDir.toPath().resolve(key + ".tex"); //NON-NLS
+			Files.writeString(tex, preamble + BEGIN_DOC + SystemUtils.getInstance().eol + "\\end{document}"); //NON-NLS
+			// The shell used on MacOS would interpret the '&'
+			final String latexFmt = OperatingSystem.isMacOSX() ? "'&latex'" : "&latex"; //NON-NLS
+			final Tuple<Boolean, String> res = SystemUtils.getInstance().execute(new String[] {latexBin.get(), "-ini", "-interaction=nonstopmode", //NON-NLS
+				"-jobname=" + key, "-output-directory=" + tmpDir.getAbsolutePath(), latexFmt, "mylatexformat.ltx", //NON-NLS
+				SystemUtils.getInstance().normalizeForLaTeX(tex.toString())}, tmpDir);
+			final Path built = tmpDir.toPath().resolve(key + ".fmt"); //NON-NLS
+
+			if(!res.a || !Files.isRegularFile(built)) {
+				return false;
+			}
+
+			Files.createDirectories(formatsDir);
+			Files.move(built, formatsDir.resolve(key + ".fmt"), StandardCopyOption.REPLACE_EXISTING); //NON-NLS
+			return true;
+		}catch(final IOException | SecurityException ex) {
+			BadaboomCollector.INSTANCE.add(ex);
+			return false;
+		}finally {
+			SystemUtils.getInstance().removeDirWithContent(tmpDir.getPath());
+		}
+	}
+
+	/**
+	 * Executes a latex compilation of the given document, using the format of the document when available.
+	 * If the format cannot be loaded, the format is removed and the compilation is done again without it.
+	 * The other failures (e.g. errors in the document) are returned as they are.
+	 * @param latexCmd The latex command (the binary first, its options, then the file to compile).
+	 * @param document The compiled document.
+	 * @param tmpDir The working directory.
+	 * @return The result of the compilation and its log.
+	 */
+	public @NotNull Tuple<Boolean, String> execute(final @NotNull String[] latexCmd, final @NotNull String document, final File tmpDir) {
+		final Optional<String> format = latexCmd.length == 0 ? Optional.empty() : getFormat(document);
+
+		if(format.isEmpty()) {
+			return SystemUtils.getInstance().execute(latexCmd, tmpDir);
+		}
+
+		final List<String> cmd = new ArrayList<>(Arrays.asList(latexCmd));
+		cmd.add(1, "-fmt=" + SystemUtils.getInstance().normalizeForLaTeX(format.get())); //NON-NLS
+		final Tuple<Boolean, String> res = SystemUtils.getInstance().execute(cmd.toArray(String[]::new), tmpDir);
+
+		if(res.a || !isFormatError(res.b)) {
+			return res;
+		}
+
+		// The format is corrupted or outdated: not using it anymore.
+		SystemUtils.getInstance().removeFilePath(Paths.get(format.get() + ".fmt")); //NON-NLS
+		return SystemUtils.getInstance().execute(latexCmd, tmpDir);
+	}
+
+	/**
+	 * @param log The log of a latex compilation.
+	 * @return True if the log states that the format of the compilation cannot be loaded.
+	 */
+	static boolean isFormatError(final String log) {
+		return log != null && FORMAT_ERRORS.stream().anyMatch(msg -> log.contains(msg));
+	}
+}
@@ -22,6 +22,7 @@ import net.sf.latexdraw.model.api.shape.Drawing;
 import net.sf.latexdraw.service.LaTeXDataService;
 import net.sf.latexdraw.util.BadaboomCollector;
 import net.sf.latexdraw.util.OperatingSystem;
+import net.sf.latexdraw.util.PerfMetrics;
 import net.sf.latexdraw.util.SystemUtils;
 import net.sf.latexdraw.view.ViewsSynchroniserHandler;
 import org.jetbrains.annotations.NotNull;
@@ -72,7 +73,7 @@ public abstract class LaTeXGenerator {
 	 * @return The create file or nothing.
 	 */
 	public Optional<File> createPSFile(final String pathExportPs) {
-		return createPSFile(pathExportPs, null);
+		return PerfMetrics.INSTANCE.time("latex.createPSFile", () -> createPSFile(pathExportPs, null, getDocumentCode())); //NON-NLS
 	}
 
 
@@ -83,6 +84,19 @@ public abstract class LaTeXGenerator {
 	 * @throws SecurityException In case of problem while accessing files.
 	 */
 	public Optional<File> createEPSFile(final String pathExportEPS) {
+		return PerfMetrics.INSTANCE.time("latex.createEPSFile", () -> doCreateEPSFile(pathExportEPS)); //NON-NLS
+	}
+
+	private Optional<File> doCreateEPSFile(final String pathExportEPS) {
+		final String document = getDocumentCode();
+		final String key = LaTeXArtefactCache.INSTANCE.getKey(document);
+		final File finalFile = new File(pathExportEPS);
+		final Optional<File> cached = LaTeXArtefactCache.INSTANCE.copyTo(key, ExportFormat.EPS_LATEX.getFileExtension(), finalFile);
+
+		if(cached.isPresent()) {
+			return cached;
+		}
+
 		final Optional<File> optDir = SystemUtils.getInstance().createTempDir();
 
 		if(optDir.isEmpty()) {
@@ -91,7 +105,7 @@ public abstract class LaTeXGenerator {
 		}
 
 		final File tmpDir = optDir.get();
-		final Optional<File> optFile = createPSFile(tmpDir.getAbsolutePath() + SystemUtils.getInstance().fileSep + "tmpPSFile.ps", tmpDir); //NON-NLS
+		final Optional<File> optFile = createPSFile(tmpDir.getAbsolutePath() + SystemUtils.getInstance().fileSep + "tmpPSFile.ps", tmpDir, document); //NON-NLS
 
 		if(optFile.isEmpty()) {
 			return Optional.empty();
@@ -99,13 +113,12 @@ public abstract class LaTeXGenerator {
 
 		final File psFile = optFile.get();
 		final OperatingSystem os = OperatingSystem.getSystem().orElse(OperatingSystem.LINUX);
-		final File finalFile = new File(pathExportEPS);
 		final File fileEPS = new File(psFile.getAbsolutePath().replace(".ps", ExportFormat.EPS_LATEX.getFileExtension())); //NON-NLS
 		final String[] paramsLatex = {os.getPS2EPSBinPath(), psFile.getAbsolutePath(), fileEPS.getAbsolutePath()};
 		final String log = SystemUtils.getInstance().execute(paramsLatex, tmpDir).b;
 
 		if(!fileEPS.exists()) {
-			BadaboomCollector.INSTANCE.add(new IllegalAccessException(getDocumentCode() + SystemUtils.getInstance().eol + log));
+			BadaboomCollector.INSTANCE.add(new IllegalAccessException(document + SystemUtils.getInstance().eol + log));
 			return Optional.empty();
 		}
 
@@ -116,6 +129,7 @@ public abstract class LaTeXGenerator {
 			return Optional.empty();
 		}
 
+		LaTeXArtefactCache.INSTANCE.store(key, ExportFormat.EPS_LATEX.getFileExtension(), fileEPS);
 		SystemUtils.getInstance().removeDirWithContent(tmpDir.getPath());
 
 		return Optional.of(finalFile);
@@ -124,16 +138,24 @@ public abstract class LaTeXGenerator {
 
 	/**
 	 * Create a .ps file that corresponds to the compiled latex document containing
-	 * the pstricks drawing.
+	 * the pstricks drawing. The PS file is reused from the artefact cache when the document has already been compiled.
 	 * @param pathExportPs The path of the .ps file to create (MUST ends with .ps).
 	 * @param tmpDir The temporary directory used for the compilation.
+	 * @param document The document to compile.
 	 * @return The create file or nothing.
 	 */
-	private Optional<File> createPSFile(final String pathExportPs, final File tmpDir) {
+	private Optional<File> createPSFile(final String pathExportPs, final File tmpDir, final @NotNull String document) {
 		if(pathExportPs == null) {
 			return Optional.empty();
 		}
 
+		final String key = LaTeXArtefactCache.INSTANCE.getKey(document);
+		final Optional<File> cached = LaTeXArtefactCache.INSTANCE.copyTo(key, ".ps", new File(pathExportPs)); //NON-NLS
+
+		if(cached.isPresent()) {
+			return cached;
+		}
+
 		final int lastSep = pathExportPs.lastIndexOf(SystemUtils.getInstance().fileSep) + 1;
 		final String name = pathExportPs.substring(lastSep, pathExportPs.lastIndexOf(".ps")); //NON-NLS
 		final File tmpDir2 = tmpDir == null ? SystemUtils.getInstance().createTempDir().orElse(null) : tmpDir;
@@ -144,7 +166,7 @@ public abstract class LaTeXGenerator {
 		}
 
 		final String path = tmpDir2.getAbsolutePath() + SystemUtils.getInstance().fileSep;
-		final Optional<File> optFile = SystemUtils.getInstance().saveFile(path + name + ExportFormat.TEX.getFileExtension(), getDocumentCode());
+		final Optional<File> optFile = SystemUtils.getInstance().saveFile(path + name + ExportFormat.TEX.getFileExtension(), document);
 
 		if(optFile.isEmpty()) {
 			return Optional.empty();
@@ -161,15 +183,17 @@ public abstract class LaTeXGenerator {
 
 		final String[] paramsLatex = {os.getLatexBinPath(), "--interaction=nonstopmode", "--output-directory=" + tmpDir2.getAbsolutePath(), //NON-NLS
 			SystemUtils.getInstance().normalizeForLaTeX(texFile.getAbsolutePath())}; //NON-NLS
-		log = SystemUtils.getInstance().execute(paramsLatex, tmpDir2).b;
+		log = LaTeXFormatCache.INSTANCE.execute(paramsLatex, document, tmpDir2).b;
 
 		final String[] paramsDvi = {os.getDvipsBinPath(), "-Pdownload35", name, "-o", pathExportPs}; //NON-NLS
 		log += SystemUtils.getInstance().execute(paramsDvi, tmpDir2);
 
 		finalPS = new File(pathExportPs);
 
-		if(!finalPS.exists()) {
-			BadaboomCollector.INSTANCE.add(new IllegalAccessException(getDocumentCode() + SystemUtils.getInstance().eol + log));
+		if(finalPS.exists()) {
+			LaTeXArtefactCache.INSTANCE.store(key, ".ps", finalPS); //NON-NLS
+		}else {
+			BadaboomCollector.INSTANCE.add(new IllegalAccessException(document + SystemUtils.getInstance().eol + log));
 			finalPS = null;
 		}
 
@@ -189,10 +213,22 @@ public abstract class LaTeXGenerator {
 	 * @throws SecurityException In case of problem while accessing files.
 	 */
 	public Optional<File> createPDFFile(final String pathExportPdf) {
+		return PerfMetrics.INSTANCE.time("latex.createPDFFile", () -> doCreatePDFFile(pathExportPdf)); //NON-NLS
+	}
+
+	private Optional<File> doCreatePDFFile(final String pathExportPdf) {
 		if(pathExportPdf == null) {
 			return Optional.empty();
 		}
 
+		final String document = getDocumentCode();
+		final String key = LaTeXArtefactCache.INSTANCE.getKey(document);
+		final Optional<File> cached = LaTeXArtefactCache.INSTANCE.copyTo(key, ExportFormat.PDF.getFileExtension(), new File(pathExportPdf));
+
+		if(cached.isPresent()) {
+			return cached;
+		}
+
 		final Optional<File> optDir = SystemUtils.getInstance().createTempDir();
 
 		if(optDir.isEmpty()) {
@@ -203,11 +239,13 @@ public abstract class LaTeXGenerator {
 		final File tmpDir = optDir.get();
 		final String name = pathExportPdf.substring(pathExportPdf.lastIndexOf(SystemUtils.getInstance().fileSep) + 1, pathExportPdf.lastIndexOf(ExportFormat.PDF.getFileExtension()));
 		final File psFile;
-		final Optional<File> optFile = createPSFile(tmpDir.getAbsolutePath() + SystemUtils.getInstance().fileSep + name + ".ps"); //NON-NLS
+		// The PS file compiled for a previous EPS or PDF export of the same document is reused
+		final Optional<File> optFile = createPSFile(tmpDir.getAbsolutePath() + SystemUtils.getInstance().fileSep + name + ".ps", tmpDir, document); //NON-NLS
 
 		if(optFile.isPresent()) {
 			psFile = optFile.get();
 		}else {
+			SystemUtils.getInstance().removeDirWithContent(tmpDir.getPath());
 			return Optional.empty();
 		}
 
@@ -223,8 +261,10 @@ public abstract class LaTeXGenerator {
 
 		pdfFile = new File(pathExportPdf);
 
-		if(!pdfFile.exists()) {
-			BadaboomCollector.INSTANCE.add(new IllegalAccessException(getDocumentCode() + SystemUtils.getInstance().eol + log));
+		if(pdfFile.exists()) {
+			LaTeXArtefactCache.INSTANCE.store(key, ExportFormat.PDF.getFileExtension(), pdfFile);
+		}else {
+			BadaboomCollector.INSTANCE.add(new IllegalAccessException(document + SystemUtils.getInstance().eol + log));
 			pdfFile = null;
 		}
 
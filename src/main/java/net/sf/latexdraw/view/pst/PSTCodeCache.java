@@ -0,0 +1,260 @@
+/*
+ * This file is part of LaTeXDraw.
+ * Copyright (c) 2005-2020 Arnaud BLOUIN
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ */
+package net.sf.latexdraw.view.pst;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import net.sf.latexdraw.model.api.shape.Arc;
+import net.sf.latexdraw.model.api.shape.Arrow;
+import net.sf.latexdraw.model.api.shape.ArrowableShape;
+import net.sf.latexdraw.model.api.shape.Axes;
+import net.sf.latexdraw.model.api.shape.Closable;
+import net.sf.latexdraw.model.api.shape.ControlPointShape;
+import net.sf.latexdraw.model.api.shape.Dot;
+import net.sf.latexdraw.model.api.shape.Freehand;
+import net.sf.latexdraw.model.api.shape.Grid;
+import net.sf.latexdraw.model.api.shape.Group;
+import net.sf.latexdraw.model.api.shape.Plot;
+import net.sf.latexdraw.model.api.shape.Point;
+import net.sf.latexdraw.model.api.shape.Rectangle;
+import net.sf.latexdraw.model.api.shape.Shape;
+import net.sf.latexdraw.model.api.shape.SingleShape;
+import net.sf.latexdraw.model.api.shape.Square;
+import net.sf.latexdraw.model.api.shape.StandardGrid;
+import net.sf.latexdraw.model.api.shape.Text;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Memoises the PST views of shapes and their generated code.
+ * The cached code of a shape is invalidated when one of the properties of the shape (or of its points, arrows, sub-shapes)
+ * changes, or when the origin or the PPC used to generate the code change.
+ * @author Arnaud Blouin
+ */
+class PSTCodeCache {
+	private final @NotNull Function<Shape, Optional<? extends PSTShapeView<?>>> viewProducer;
+	private final @NotNull Map<Shape, Entry> entries;
+
+	PSTCodeCache(final @NotNull Function<Shape, Optional<? extends PSTShapeView<?>>> viewProducer) {
+		super();
+		this.viewProducer = viewProducer;
+		entries = new HashMap<>();
+	}
+
+	/**
+	 * @param shape The shape to get the PST code.
+	 * @param origin The origin of the drawing.
+	 * @param ppc The number of pixels per centimetre.
+	 * @return The PST view of the shape, with its code computed for the given origin and PPC. Nothing if the shape has no PST view.
+	 */
+	@NotNull Optional<Entry> get(final @NotNull Shape shape, final @NotNull Point origin, final float ppc) {
+		final Entry entry = entries.get(shape);
+
+		if(entry != null && entry.isValid(origin, ppc)) {
+			return Optional.of(entry);
+		}
+
+		if(entry != null) {
+			entry.dispose();
+		}
+
+		return viewProducer.apply(shape).map(view -> {
+			final Entry newEntry = new Entry(shape, view, origin, ppc);
+			entries.put(shape, newEntry);
+			return newEntry;
+		});
+	}
+
+	/**
+	 * Forgets the shapes that are not in the given collection.
+	 * @param shapes The shapes to keep.
+	 */
+	void retainAll(final @NotNull Collection<Shape> shapes) {
+		final Set<Shape> kept = new HashSet<>(shapes);
+		entries.entrySet().removeIf(entry -> {
+			if(kept.contains(entry.getKey())) {
+				return false;
+			}
+			entry.getValue().dispose();
+			return true;
+		});
+	}
+
+	/**
+	 * Forgets all the shapes.
+	 */
+	void clear() {
+		entries.values().forEach(entry -> entry.dispose());
+		entries.clear();
+	}
+
+	/**
+	 * @return The number of cached shapes.
+	 */
+	int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Gathers all the observable parts of the given shape: its properties, its lists of points,
+	 * the properties of its points, arrows, and sub-shapes.
+	 */
+	static @NotNull List<Observable> getObservables(final @NotNull Shape shape) {
+		final List<Observable> observables = new ArrayList<>();
+
+		if(shape instanceof Group) {
+			observables.add(((Group) shape).getShapes());
+			((Group) shape).getShapes().forEach(sh -> observables.addAll(getObservables(sh)));
+			return observables;
+		}
+
+		observables.add(shape.rotationAngleProperty());
+		// The points can be replaced (e.g. Freehand.setPoints) without changing their number: their lists are observed.
+		addPoints(shape.getPoints(), observables);
+
+		if(shape instanceof ControlPointShape) {
+			addPoints(((ControlPointShape) shape).getFirstCtrlPts(), observables);
+			addPoints(((ControlPointShape) shape).getSecondCtrlPts(), observables);
+		}
+		if(shape instanceof SingleShape) {
+			addSingleShapeProperties((SingleShape) shape, observables);
+		}
+		if(shape instanceof ArrowableShape) {
+			((ArrowableShape) shape).getArrows().forEach(arr -> addArrowProperties(arr, observables));
+		}
+		addSpecificProperties(shape, observables);
+		return observables;
+	}
+
+	private static void addPoints(final @NotNull List<Point> pts, final @NotNull List<Observable> observables) {
+		if(pts instanceof Observable) {
+			observables.add((Observable) pts);
+		}
+		pts.forEach(pt -> {
+			observables.add(pt.xProperty());
+			observables.add(pt.yProperty());
+		});
+	}
+
+	private static void addSingleShapeProperties(final @NotNull SingleShape sh, final @NotNull List<Observable> observables) {
+		observables.addAll(List.of(sh.thicknessProperty(), sh.linestyleProperty(), sh.borderPosProperty(), sh.lineColourProperty(),
+			sh.fillingProperty(), sh.dashSepWhiteProperty(), sh.dashSepBlackProperty(), sh.dotSepProperty(), sh.dbleBordProperty(),
+			sh.dbleBordSepProperty(), sh.dbleBordColProperty(), sh.gradColStartProperty(), sh.gradColEndProperty(), sh.fillingColProperty(),
+			sh.gradAngleProperty(), sh.gradMidPtProperty(), sh.shadowProperty(), sh.shadowColProperty(), sh.shadowAngleProperty(),
+			sh.shadowSizeProperty(), sh.hatchingsAngleProperty(), sh.hatchingsSepProperty(), sh.hatchingsWidthProperty(),
+			sh.hatchingsColProperty(), sh.showPointProperty()));
+	}
+
+	private static void addArrowProperties(final @NotNull Arrow arrow, final @NotNull List<Observable> observables) {
+		observables.addAll(List.of(arrow.styleProperty(), arrow.arrowSizeDimProperty(), arrow.arrowSizeNumProperty(), arrow.arrowLengthProperty(),
+			arrow.arrowInsetProperty(), arrow.dotSizeDimProperty(), arrow.dotSizeNumProperty(), arrow.tBarSizeDimProperty(),
+			arrow.tBarSizeNumProperty(), arrow.bracketNumProperty(), arrow.rBracketNumProperty()));
+	}
+
+	/**
+	 * Adds the properties specific to the type of the given shape.
+	 */
+	private static void addSpecificProperties(final @NotNull Shape shape, final @NotNull List<Observable> observables) {
+		if(shape instanceof Closable) {
+			observables.add(((Closable) shape).openedProperty());
+		}
+		if(shape instanceof Rectangle) {
+			observables.add(((Rectangle) shape).frameArcProperty());
+		}
+		if(shape instanceof Square) {
+			observables.add(((Square) shape).frameArcProperty());
+		}
+		if(shape instanceof Arc) {
+			final Arc arc = (Arc) shape;
+			observables.addAll(List.of(arc.arcStyleProperty(), arc.angleStartProperty(), arc.angleEndProperty()));
+		}
+		if(shape instanceof Dot) {
+			final Dot dot = (Dot) shape;
+			observables.addAll(List.of(dot.styleProperty(), dot.diametreProperty()));
+		}
+		if(shape instanceof Freehand) {
+			final Freehand fh = (Freehand) shape;
+			observables.addAll(List.of(fh.typeProperty(), fh.intervalProperty()));
+		}
+		if(shape instanceof Text) {
+			final Text text = (Text) shape;
+			observables.addAll(List.of(text.textProperty(), text.textPositionProperty()));
+		}
+		if(shape instanceof Plot) {
+			final Plot plot = (Plot) shape;
+			observables.addAll(List.of(plot.polarProperty(), plot.plotEquationProperty(), plot.plotMinXProperty(), plot.plotMaxXProperty(),
+				plot.nbPlottedPointsProperty(), plot.plotStyleProperty(), plot.dotStyleProperty(), plot.dotDiametreProperty(), plot.xScaleProperty(),
+				plot.yScaleProperty()));
+		}
+		if(shape instanceof StandardGrid) {
+			final StandardGrid grid = (StandardGrid) shape;
+			observables.addAll(List.of(grid.labelsSizeProperty(), grid.gridStartXProperty(), grid.gridStartYProperty(), grid.gridEndXProperty(),
+				grid.gridEndYProperty(), grid.originXProperty(), grid.originYProperty()));
+		}
+		if(shape instanceof Grid) {
+			final Grid grid = (Grid) shape;
+			observables.addAll(List.of(grid.gridLabelsColourProperty(), grid.gridDotsProperty(), grid.unitProperty(), grid.subGridWidthProperty(),
+				grid.subGridDotsProperty(), grid.subGridDivProperty(), grid.subGridColourProperty(), grid.gridWidthProperty(), grid.yLabelWestProperty(),
+				grid.xLabelSouthProperty()));
+		}
+		if(shape instanceof Axes) {
+			final Axes axes = (Axes) shape;
+			observables.addAll(List.of(axes.incrementXProperty(), axes.incrementYProperty(), axes.distLabelsXProperty(), axes.distLabelsYProperty(),
+				axes.labelsDisplayedProperty(), axes.showOriginProperty(), axes.ticksDisplayedProperty(), axes.ticksStyleProperty(),
+				axes.ticksSizeProperty(), axes.axesStyleProperty()));
+		}
+	}
+
+	/**
+	 * The cached PST view and code of a shape.
+	 */
+	static final class Entry {
+		final @NotNull PSTShapeView<?> view;
+		final @NotNull String code;
+		private final double originX;
+		private final double originY;
+		private final float ppc;
+		private final @NotNull List<Observable> observables;
+		private final @NotNull InvalidationListener invalidator;
+		private boolean outdated;
+
+		Entry(final @NotNull Shape shape, final @NotNull PSTShapeView<?> view, final @NotNull Point origin, final float ppc) {
+			super();
+			this.view = view;
+			originX = origin.getX();
+			originY = origin.getY();
+			this.ppc = ppc;
+			outdated = false;
+			code = view.getCode(origin, ppc);
+			invalidator = obs -> outdated = true;
+			observables = getObservables(shape);
+			observables.forEach(obs -> obs.addListener(invalidator));
+		}
+
+		boolean isValid(final @NotNull Point origin, final float otherPPC) {
+			return !outdated && Float.compare(ppc, otherPPC) == 0 &&
+				Double.compare(originX, origin.getX()) == 0 && Double.compare(originY, origin.getY()) == 0;
+		}
+
+		void dispose() {
+			observables.forEach(obs -> obs.removeListener(invalidator));
+			observables.clear();
+		}
+	}
+}
@@ -20,6 +20,7 @@ import net.sf.latexdraw.service.LaTeXDataService;
 import net.sf.latexdraw.util.Inject;
 import net.sf.latexdraw.util.SystemUtils;
 import net.sf.latexdraw.view.ViewsSynchroniserHandler;
+import net.sf.latexdraw.view.latex.LaTeXFormatCache;
 import net.sf.latexdraw.view.latex.LaTeXGenerator;
 import net.sf.latexdraw.view.latex.VerticalPosition;
 import org.jetbrains.annotations.NotNull;
@@ -38,6 +39,8 @@ public class PSTCodeGenerator extends LaTeXGenerator {
 		"\\patchcmd\\Gread@eps{\\@inputcheck#1 }{\\@inputcheck\"#1\"\\relax}{}{}" + SystemUtils.getInstance().eol + "\\makeatother" + SystemUtils.getInstance().eol; //NON-NLS
 
 	private final @NotNull PSTViewsFactory viewsFactory;
+	/** The memoised code of the shapes. */
+	private final @NotNull PSTCodeCache codeCache;
 
 	/**
 	 * Creates and initialises the generator.
@@ -46,6 +49,9 @@ public class PSTCodeGenerator extends LaTeXGenerator {
 	public PSTCodeGenerator(final Drawing drawing, final ViewsSynchroniserHandler handler, final PSTViewsFactory viewsFactory, final LaTeXDataService latexdata) {
 		super(drawing, handler, latexdata);
 		this.viewsFactory = Objects.requireNonNull(viewsFactory);
+		codeCache = new PSTCodeCache(sh -> this.viewsFactory.createView(sh));
+		// The format of the preamble is rebuilt when the packages change
+		latexdata.packagesProperty().addListener((obs, oldPkgs, newPkgs) -> LaTeXFormatCache.INSTANCE.prepare(getDumpedPreamble()));
 	}
 
 
@@ -62,11 +68,10 @@ public class PSTCodeGenerator extends LaTeXGenerator {
 			tr.setY(0d);
 		}
 
-		doc.append("\\documentclass{article}") //NON-NLS
-			.append(eol)
-			.append("\\pagestyle{empty}") //NON-NLS
-			.append(eol)
-			.append(latexdata.getPackages()) //NON-NLS
+		// The preamble is precompiled in a LaTeX format.
+		// The page geometry depends on the drawing: it comes after the end of the dumped part.
+		doc.append(getDumpedPreamble())
+			.append(LaTeXFormatCache.END_OF_DUMP)
 			.append(eol)
 			.append("\\usepackage[left=0cm,top=0cm,right=0cm,bottom=0cm,nohead,nofoot,paperwidth=") //NON-NLS
 			.append((tr.getX() - bl.getX()) / ppc * latexdata.getScale() + 0.2)
@@ -74,15 +79,6 @@ public class PSTCodeGenerator extends LaTeXGenerator {
 			.append((bl.getY() - tr.getY()) / ppc * latexdata.getScale() + 0.2)  //NON-NLS
 			.append("cm]{geometry}") //NON-NLS
 			.append(eol)
-			.append("\\usepackage[usenames,dvipsnames]{pstricks}") //NON-NLS
-			.append(eol)
-			.append("\\usepackage{epsfig}") //NON-NLS
-			.append(eol)
-			.append("\\usepackage{pst-grad}") //NON-NLS
-			.append(eol)
-			.append("\\usepackage{pst-plot}") //NON-NLS
-			.append(eol)
-			.append(packageForSpacePicture)
 			.append("\\begin{document}") //NON-NLS
 			.append(eol)
 			.append(eol)
@@ -93,6 +89,21 @@ public class PSTCodeGenerator extends LaTeXGenerator {
 		return doc.toString();
 	}
 
+	/**
+	 * @return The part of the preamble of the document that does not depend on the drawing.
+	 */
+	private @NotNull String getDumpedPreamble() {
+		final String eol = SystemUtils.getInstance().eol;
+		return "\\documentclass{article}" + eol + //NON-NLS
+			"\\pagestyle{empty}" + eol + //NON-NLS
+			latexdata.getPackages() + eol +
+			"\\usepackage[usenames,dvipsnames]{pstricks}" + eol + //NON-NLS
+			"\\usepackage{epsfig}" + eol + //NON-NLS
+			"\\usepackage{pst-grad}" + eol + //NON-NLS
+			"\\usepackage{pst-plot}" + eol + //NON-NLS
+			packageForSpacePicture;
+	}
+
 	private void commentCode(final @NotNull StringBuilder cache) {
 		if(withComments && !latexdata.getComment().isEmpty()) {
 			cache.append(latexdata.getCommentWithTag());
@@ -144,6 +155,7 @@ public class PSTCodeGenerator extends LaTeXGenerator {
 	@Override
 	public String getDrawingCode() {
 		if(drawing.isEmpty()) {
+			codeCache.clear();
 			return "";
 		}
 
@@ -181,9 +193,11 @@ public class PSTCodeGenerator extends LaTeXGenerator {
 		cache.append(MathUtils.INST.getCutNumberFloat((tl.getX() - origin.getX()) / ppc)).append(',').append(MathUtils.INST.getCutNumberFloat((origin.getY() - tl.getY()) / ppc));
 		cache.append(')').append(eol);
 
-		drawing.getShapes().forEach(shape -> viewsFactory.createView(shape).ifPresent(pstView -> {
-			shapeCode.append(pstView.getCode(origin, ppc)).append(eol);
-			final String generateColourCode = pstView.generateColourCode(addedColours);
+		codeCache.retainAll(drawing.getShapes());
+
+		drawing.getShapes().forEach(shape -> codeCache.get(shape, origin, ppc).ifPresent(entry -> {
+			shapeCode.append(entry.code).append(eol);
+			final String generateColourCode = entry.view.generateColourCode(addedColours);
 			if(!generateColourCode.isEmpty()) {
 				cache.append(generateColourCode).append(eol);
 			}
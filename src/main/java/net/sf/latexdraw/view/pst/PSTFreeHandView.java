@@ -10,10 +10,11 @@
  */
 package net.sf.latexdraw.view.pst;
 
-import java.util.List;
 import net.sf.latexdraw.model.MathUtils;
 import net.sf.latexdraw.model.api.shape.Freehand;
 import net.sf.latexdraw.model.api.shape.Point;
+import net.sf.latexdraw.view.CurveGeometry;
+import net.sf.latexdraw.view.CurveGeometryKernel;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -31,102 +32,39 @@ public class PSTFreeHandView extends PSTClassicalView<Freehand> {
 
 
 	/**
-	 * Updates the cache with the code of the freehand shape having the Curve style.
+	 * Writes the PST code of the given geometry.
 	 */
-	protected void updateCacheCurve(final @NotNull StringBuilder coord, final double originx, final double originy, final double ppc) {
-		final List<Point> pts = shape.getPoints();
-		int i;
-		final int size = shape.getNbPoints();
-		final int interval = shape.getInterval();
-		float prevx;
-		float prevy;
-		float curx = (float) pts.get(0).getX();
-		float cury = (float) pts.get(0).getY();
-		float midx = 0f;
-		float midy = 0f;
-
-		coord.append("\\moveto(").append(MathUtils.INST.getCutNumberFloat((curx - originx) / ppc)); //NON-NLS
-		coord.append(',').append(MathUtils.INST.getCutNumberFloat((originy - cury) / ppc)).append(')').append('\n');
-
-		if(pts.size() > interval) {
-			prevx = curx;
-			prevy = cury;
-			curx = (float) pts.get(interval).getX();
-			cury = (float) pts.get(interval).getY();
-			midx = (curx + prevx) / 2.0f;
-			midy = (cury + prevy) / 2.0f;
-
-			coord.append("\\lineto(").append(MathUtils.INST.getCutNumberFloat((midx - originx) / ppc)); //NON-NLS
-			coord.append(',').append(MathUtils.INST.getCutNumberFloat((originy - midy) / ppc)).append(')').append('\n');
-		}
-
-		for(i = interval * 2; i < size; i += interval) {
-			final float x1 = (midx + curx) / 2.0f;
-			final float y1 = (midy + cury) / 2.0f;
-			prevx = curx;
-			prevy = cury;
-			curx = (float) pts.get(i).getX();
-			cury = (float) pts.get(i).getY();
-			midx = (curx + prevx) / 2.0f;
-			midy = (cury + prevy) / 2.0f;
-			final float x2 = (prevx + midx) / 2.0f;
-			final float y2 = (prevy + midy) / 2.0f;
-
-			coord.append("\\curveto(").append(MathUtils.INST.getCutNumberFloat((x1 - originx) / ppc)); //NON-NLS
-			coord.append(',').append(MathUtils.INST.getCutNumberFloat((originy - y1) / ppc)).append(')').append('(');
-			coord.append(MathUtils.INST.getCutNumberFloat((x2 - originx) / ppc)).append(',');
-			coord.append(MathUtils.INST.getCutNumberFloat((originy - y2) / ppc)).append(')').append('(');
-			coord.append(MathUtils.INST.getCutNumberFloat((midx - originx) / ppc)).append(',');
-			coord.append(MathUtils.INST.getCutNumberFloat((originy - midy) / ppc)).append(')').append('\n');
-		}
-
-		if(i - interval + 1 < size) {
-			final float x1 = (midx + curx) / 2.0f;
-			final float y1 = (midy + cury) / 2.0f;
-			prevx = curx;
-			prevy = cury;
-			curx = (float) pts.get(pts.size() - 1).getX();
-			cury = (float) pts.get(pts.size() - 1).getY();
-			midx = (curx + prevx) / 2.0f;
-			midy = (cury + prevy) / 2.0f;
-			final float x2 = (prevx + midx) / 2.0f;
-			final float y2 = (prevy + midy) / 2.0f;
-
-			coord.append("\\curveto("); //NON-NLS
-			coord.append(MathUtils.INST.getCutNumberFloat((x1 - originx) / ppc)).append(',');
-			coord.append(MathUtils.INST.getCutNumberFloat((originy - y1) / ppc)).append(')').append('(');
-			coord.append(MathUtils.INST.getCutNumberFloat((x2 - originx) / ppc)).append(',');
-			coord.append(MathUtils.INST.getCutNumberFloat((originy - y2) / ppc)).append(')').append('(');
-			coord.append(MathUtils.INST.getCutNumberFloat((pts.get(pts.size() - 1).getX() - originx) / ppc)).append(',');
-			coord.append(MathUtils.INST.getCutNumberFloat((originy - pts.get(pts.size() - 1).getY()) / ppc)).append(')').append('\n');
-		}
-	}
-
-
-	/**
-	 * Updates the cache with the code of the freehand shape having the Line style.
-	 */
-	protected void updateCacheLines(final @NotNull StringBuilder coord, final double originx, final double originy, final double ppc) {
-		final List<Point> pts = shape.getPoints();
-		Point p = pts.get(0);
-		int i;
-		final int size = shape.getNbPoints();
-		final int interval = shape.getInterval();
-
-		coord.append("\\moveto(").append(MathUtils.INST.getCutNumberFloat((p.getX() - originx) / ppc)); //NON-NLS
-		coord.append(',').append(MathUtils.INST.getCutNumberFloat((originy - p.getY()) / ppc)).append(')').append('\n');
-
-		for(i = interval; i < size; i += interval) {
-			p = pts.get(i);
-			coord.append("\\lineto(").append(MathUtils.INST.getCutNumberFloat((p.getX() - originx) / ppc)); //NON-NLS
-			coord.append(',').append(MathUtils.INST.getCutNumberFloat((originy - p.getY()) / ppc)).append(')').append('\n');
-		}
-
-		if(size % interval > 0) {
-			coord.append("\\lineto(").append(MathUtils.INST.getCutNumberFloat((pts.get(pts.size() - 1).getX() - originx) / ppc)).append(//NON-NLS
-				',').append(MathUtils.INST.getCutNumberFloat((originy - pts.get(pts.size() - 1).getY()) / ppc)).append(')').append('\n');
-		}
-
+	protected void updateCacheGeometry(final @NotNull StringBuilder coord, final @NotNull CurveGeometry geometry, final double originx,
+									final double originy, final double ppc) {
+		geometry.forEach(new CurveGeometry.SegmentHandler() {
+			@Override
+			public void moveTo(final double x, final double y) {
+				coord.append("\\moveto"); //NON-NLS
+				appendCoord(x, y);
+				coord.append('\n');
+			}
+
+			@Override
+			public void lineTo(final double x, final double y) {
+				coord.append("\\lineto"); //NON-NLS
+				appendCoord(x, y);
+				coord.append('\n');
+			}
+
+			@Override
+			public void curveTo(final double x1, final double y1, final double x2, final double y2, final double x, final double y) {
+				coord.append("\\curveto"); //NON-NLS
+				appendCoord(x1, y1);
+				appendCoord(x2, y2);
+				appendCoord(x, y);
+				coord.append('\n');
+			}
+
+			private void appendCoord(final double x, final double y) {
+				coord.append('(').append(MathUtils.INST.getCutNumberFloat((x - originx) / ppc)).append(',');
+				coord.append(MathUtils.INST.getCutNumberFloat((originy - y) / ppc)).append(')');
+			}
+		});
 	}
 
 
@@ -136,10 +74,7 @@ public class PSTFreeHandView extends PSTClassicalView<Freehand> {
 		final StringBuilder rot = getRotationHeaderCode(ppc, origin);
 		final StringBuilder code = new StringBuilder();
 
-		switch(shape.getType()) {
-			case CURVES -> updateCacheCurve(coord, origin.getX(), origin.getY(), ppc);
-			case LINES -> updateCacheLines(coord, origin.getX(), origin.getY(), ppc);
-		}
+		updateCacheGeometry(coord, CurveGeometryKernel.INST.getFreehandGeometry(shape), origin.getX(), origin.getY(), ppc);
 
 		if(rot != null) {
 			code.append(rot);
@@ -13,6 +13,7 @@ package net.sf.latexdraw.view.svg;
 import io.github.interacto.jfx.instrument.JfxInstrument;
 import io.github.interacto.jfx.ui.JfxUI;
 import io.github.interacto.jfx.ui.OpenSaver;
+import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
@@ -61,6 +62,7 @@ import net.sf.latexdraw.parser.svg.SVGSVGElement;
 import net.sf.latexdraw.util.BadaboomCollector;
 import net.sf.latexdraw.util.Inject;
 import net.sf.latexdraw.util.LNamespace;
+import net.sf.latexdraw.util.PerfMetrics;
 import net.sf.latexdraw.util.SystemUtils;
 import net.sf.latexdraw.view.jfx.Canvas;
 import net.sf.latexdraw.view.jfx.ViewFactory;
@@ -94,6 +96,62 @@ public class SVGDocumentGenerator implements OpenSaver<Label> {
 		this.app = Objects.requireNonNull(app);
 	}
 
+	/**
+	 * Creates an SVG document from shapes.
+	 * @param svgFactory The factory that converts the shapes into SVG elements.
+	 * @param shapes The shapes to convert.
+	 * @param allShapes All the shapes of the drawing: the view box of the document encloses them.
+	 * @param onShapeConverted Called after the conversion of each shape.
+	 * @return The created SVG document.
+	 */
+	public static @NotNull SVGDocument createSVGDocument(final @NotNull SVGShapeProducer svgFactory, final @NotNull List<Shape> shapes,
+			final @NotNull List<Shape> allShapes, final @NotNull Runnable onShapeConverted) {
+		// Creation of the SVG document.
+		final SVGDocument doc = new SVGDocument();
+		final SVGSVGElement root = doc.getFirstChild();
+		final SVGGElement g = new SVGGElement(doc);
+		final int padding = 20;
+
+		if(!allShapes.isEmpty()) {
+			// The shapes provide their cached bounds in a reused rectangle.
+			final Rectangle2D bounds = new Rectangle2D.Double();
+			final Rectangle2D shBounds = new Rectangle2D.Double();
+			allShapes.get(0).fillBounds(bounds);
+			for(int i = 1, size = allShapes.size(); i < size; i++) {
+				allShapes.get(i).fillBounds(shBounds);
+				Rectangle2D.union(bounds, shBounds, bounds);
+			}
+
+			root.setAttribute("viewBox", MathUtils.INST.format.format(bounds.getMinX() - padding) + " " + //NON-NLS
+				MathUtils.INST.format.format(bounds.getMinY() - padding) + " " +
+				MathUtils.INST.format.format(bounds.getWidth() + padding * 2) + " " +
+				MathUtils.INST.format.format(bounds.getHeight() + padding * 2));
+		}
+
+		root.appendChild(g);
+		root.setAttribute("xmlns:" + LNamespace.LATEXDRAW_NAMESPACE, LNamespace.LATEXDRAW_NAMESPACE_URI); //NON-NLS
+		root.appendChild(new SVGDefsElement(doc));
+
+		try {
+			shapes.forEach(sh -> {
+				// For each shape an SVG element is created.
+				final SVGElement elt = svgFactory.createSVGElement(sh, doc);
+				if(elt != null) {
+					g.appendChild(elt);
+				}
+				onShapeConverted.run();
+			});
+		}catch(final IllegalArgumentException ex) {
+			BadaboomCollector.INSTANCE.add(ex);
+		}
+
+		// Setting SVG attributes to the created document.
+		root.setAttribute(SVGAttributes.SVG_VERSION, "1.1"); //NON-NLS
+		root.setAttribute(SVGAttributes.SVG_BASE_PROFILE, "full"); //NON-NLS
+
+		return doc;
+	}
+
 	@Override
 	public Task<Boolean> save(final String path, final ProgressBar progressBar, final Label statusBar) {
 		final SaveWorker sw = new SaveWorker(path, statusBar, true, false, progressBar);
@@ -233,7 +291,7 @@ public class SVGDocumentGenerator implements OpenSaver<Label> {
 
 		@Override
 		protected Boolean call() {
-			try {
+			try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("svg.insert")) { //NON-NLS
 				final SVGDocument svgDoc = new SVGDocument(new File(path).toURI());
 				final List<Shape> shapes = toLatexdraw(svgDoc, 0);
 
@@ -429,50 +487,19 @@ public class SVGDocumentGenerator implements OpenSaver<Label> {
 		 * @return The created SVG document or null.
 		 */
 		private SVGDocument toSVG(final Drawing drawing, final double incr) {
-			// Creation of the SVG document.
 			final List<Shape> shapes = onlySelection ? drawing.getSelection().getShapes() : drawing.getShapes();
-			final SVGDocument doc = new SVGDocument();
-			final SVGSVGElement root = doc.getFirstChild();
-			final SVGGElement g = new SVGGElement(doc);
-			final int padding = 20;
-			final Optional<Point> opttl = drawing.getShapes().parallelStream().map(sh -> sh.getTopLeftPoint()).
-				reduce((p1, p2) -> ShapeFactory.INST.createPoint(Math.min(p1.getX(), p2.getX()), Math.min(p1.getY(), p2.getY())));
-			final Optional<Point> optbr = drawing.getShapes().parallelStream().map(sh -> sh.getBottomRightPoint()).
-				reduce((p1, p2) -> ShapeFactory.INST.createPoint(Math.max(p1.getX(), p2.getX()), Math.max(p1.getY(), p2.getY())));
-
-			opttl.ifPresent(tl -> optbr.ifPresent(br ->
-				root.setAttribute("viewBox", MathUtils.INST.format.format(tl.getX() - padding) + " " + //NON-NLS
-					MathUtils.INST.format.format(tl.getY() - padding) + " " +
-					MathUtils.INST.format.format(br.getX() - tl.getX() + padding * 2) + " " +
-					MathUtils.INST.format.format(br.getY() - tl.getY() + padding * 2))));
-
-			root.appendChild(g);
-			root.setAttribute("xmlns:" + LNamespace.LATEXDRAW_NAMESPACE, LNamespace.LATEXDRAW_NAMESPACE_URI); //NON-NLS
-			root.appendChild(new SVGDefsElement(doc));
-
-			try {
-				shapes.forEach(sh -> {
-					// For each shape an SVG element is created.
-					final SVGElement elt = svgFactory.createSVGElement(sh, doc);
-					if(elt != null) {
-						g.appendChild(elt);
-					}
-					Platform.runLater(() -> updateProgress(getProgress() + incr, 100d));
-				});
-			}catch(final IllegalArgumentException ex) {
-				BadaboomCollector.INSTANCE.add(ex);
-			}
-
-			// Setting SVG attributes to the created document.
-			root.setAttribute(SVGAttributes.SVG_VERSION, "1.1"); //NON-NLS
-			root.setAttribute(SVGAttributes.SVG_BASE_PROFILE, "full"); //NON-NLS
-
-			return doc;
+			return createSVGDocument(svgFactory, shapes, drawing.getShapes(), () -> Platform.runLater(() -> updateProgress(getProgress() + incr, 100d)));
 		}
 
 
 		@Override
 		protected Boolean call() throws Exception {
+			try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("svg.save")) { //NON-NLS
+				return save();
+			}
+		}
+
+		private Boolean save() throws Exception {
 			super.call();
 			// Creation of the SVG document.
 			final Set<JfxInstrument> instruments = app.getInstruments();
@@ -573,7 +600,7 @@ public class SVGDocumentGenerator implements OpenSaver<Label> {
 		protected Boolean call() throws Exception {
 			super.call();
 
-			try {
+			try(final PerfMetrics.Timing ignored = PerfMetrics.INSTANCE.start("svg.load")) { //NON-NLS
 				final SVGDocument svgDoc = new SVGDocument(new File(path).toURI());
 				final Element meta = svgDoc.getDocumentElement().getMeta();
 				final Set<JfxInstrument> instruments = app.getInstruments();
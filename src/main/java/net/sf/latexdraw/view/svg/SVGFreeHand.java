@@ -29,6 +29,8 @@ import net.sf.latexdraw.parser.svg.path.SVGPathSegLineto;
 import net.sf.latexdraw.parser.svg.path.SVGPathSegList;
 import net.sf.latexdraw.parser.svg.path.SVGPathSegMoveto;
 import net.sf.latexdraw.util.LNamespace;
+import net.sf.latexdraw.view.CurveGeometry;
+import net.sf.latexdraw.view.CurveGeometryKernel;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -73,95 +75,28 @@ class SVGFreeHand extends SVGShape<Freehand> {
 	}
 
 
-	/**
-	 * Fills the given SVG path with elements corresponding to the Freehand curved path.
-	 */
-	final void getPathCurves(final SVGPathSegList path) {
-		double prevx = shape.getPtAt(-1).getX();
-		double prevy = shape.getPtAt(-1).getY();
-		double curx = shape.getPtAt(0).getX();
-		double cury = shape.getPtAt(0).getY();
-		double midx = (curx + prevx) / 2d;
-		double midy = (cury + prevy) / 2d;
-		int i;
-		final int size = shape.getNbPoints();
-		final int interval = shape.getInterval();
-
-		path.add(new SVGPathSegMoveto(curx, cury, false));
-
-		if(size > interval) {
-			prevx = curx;
-			prevy = cury;
-			curx = shape.getPtAt(interval).getX();
-			cury = shape.getPtAt(interval).getY();
-			midx = (curx + prevx) / 2d;
-			midy = (cury + prevy) / 2d;
-			path.add(new SVGPathSegLineto(midx, midy, false));
-		}
-
-		for(i = interval * 2; i < size; i += interval) {
-			final double x1 = (midx + curx) / 2d;
-			final double y1 = (midy + cury) / 2d;
-			prevx = curx;
-			prevy = cury;
-			curx = shape.getPtAt(i).getX();
-			cury = shape.getPtAt(i).getY();
-			midx = (curx + prevx) / 2d;
-			midy = (cury + prevy) / 2d;
-			final double x2 = (prevx + midx) / 2d;
-			final double y2 = (prevy + midy) / 2d;
-
-			path.add(new SVGPathSegCurvetoCubic(midx, midy, x1, y1, x2, y2, false));
-		}
-
-		if(i - interval + 1 < size) {
-			final double x1 = (midx + curx) / 2d;
-			final double y1 = (midy + cury) / 2d;
-			prevx = curx;
-			prevy = cury;
-			curx = shape.getPtAt(-1).getX();
-			cury = shape.getPtAt(-1).getY();
-			midx = (curx + prevx) / 2d;
-			midy = (cury + prevy) / 2d;
-			final double x2 = (prevx + midx) / 2d;
-			final double y2 = (prevy + midy) / 2d;
-
-			path.add(new SVGPathSegCurvetoCubic(shape.getPtAt(-1).getX(), shape.getPtAt(-1).getY(), x1, y1, x2, y2, false));
-		}
-	}
-
-
-	/**
-	 * Fills the given SVG path with elements corresponding to the Freehand lined path.
-	 */
-	final void getPathLines(final SVGPathSegList path) {
-		final Point p = shape.getPtAt(0);
-		int i;
-		final int size = shape.getNbPoints();
-		final int interval = shape.getInterval();
-
-		path.add(new SVGPathSegMoveto(p.getX(), p.getY(), false));
-
-		for(i = interval; i < size; i += interval) {
-			path.add(new SVGPathSegLineto(shape.getPtAt(i).getX(), shape.getPtAt(i).getY(), false));
-		}
-
-		if(i - interval < size) {
-			path.add(new SVGPathSegLineto(shape.getPtAt(-1).getX(), shape.getPtAt(-1).getY(), false));
-		}
-	}
-
-
 	/**
 	 * @return The path of the shape.
 	 */
 	final SVGPathSegList getPath() {
 		final SVGPathSegList path = new SVGPathSegList();
 
-		switch(shape.getType()) {
-			case CURVES -> getPathCurves(path);
-			case LINES -> getPathLines(path);
-		}
+		CurveGeometryKernel.INST.getFreehandGeometry(shape).forEach(new CurveGeometry.SegmentHandler() {
+			@Override
+			public void moveTo(final double x, final double y) {
+				path.add(new SVGPathSegMoveto(x, y, false));
+			}
+
+			@Override
+			public void lineTo(final double x, final double y) {
+				path.add(new SVGPathSegLineto(x, y, false));
+			}
+
+			@Override
+			public void curveTo(final double x1, final double y1, final double x2, final double y2, final double x, final double y) {
+				path.add(new SVGPathSegCurvetoCubic(x, y, x1, y1, x2, y2, false));
+			}
+		});
 
 		if(!shape.isOpened()) {
 			path.add(new SVGPathSegClosePath());
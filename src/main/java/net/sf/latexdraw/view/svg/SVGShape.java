@@ -23,7 +23,6 @@ import net.sf.latexdraw.model.api.shape.Color;
 import net.sf.latexdraw.model.api.shape.FillingStyle;
 import net.sf.latexdraw.model.api.shape.LineStyle;
 import net.sf.latexdraw.model.api.shape.Point;
-import net.sf.latexdraw.model.api.shape.Rectangle;
 import net.sf.latexdraw.model.api.shape.Shape;
 import net.sf.latexdraw.parser.svg.CSSColors;
 import net.sf.latexdraw.parser.svg.SVGAttributes;
@@ -69,11 +68,9 @@ abstract class SVGShape<S extends Shape> {
 		final Arrow arrow = shape.getArrowAt(arrowPos);
 
 		if(arrow.getArrowStyle() != ArrowStyle.NONE) {
-			final String arrowName = "arrow" + arrowPos + (isShadow ? "Shad-" : "-") + shape.hashCode(); //NON-NLS
-			final SVGElement arrowSVG = new SVGArrow(arrow).toSVG(doc, isShadow);
+			// Arrows having the same parameters share the same marker.
+			final String arrowName = defs.addSharedDef(new SVGArrow(arrow).toSVG(doc, isShadow), isShadow ? "arrowShad" : "arrow"); //NON-NLS
 
-			arrowSVG.setAttribute(SVGAttributes.SVG_ID, arrowName);
-			defs.appendChild(arrowSVG);
 			parent.setAttribute(arrowPos == 0 ? SVGAttributes.SVG_MARKER_START : SVGAttributes.SVG_MARKER_END, SVG_URL_TOKEN_BEGIN + arrowName + ')');
 		}
 	}
@@ -754,8 +751,6 @@ abstract class SVGShape<S extends Shape> {
 		final SVGElement grad = new SVGLinearGradientElement(doc);
 		final double gradMidPt = shape.getGradMidPt();
 		final double gradAngle = shape.getGradAngle();
-		final String id = SVGElements.SVG_LINEAR_GRADIENT + shape.hashCode();
-		grad.setAttribute(SVGAttributes.SVG_ID, id);
 
 		if(!MathUtils.INST.equalsDouble(MathUtils.INST.mod2pi(gradAngle + Math.PI / 2d), 0d)) {
 			grad.setAttribute(SVGAttributes.SVG_GRADIENT_TRANSFORM, new SVGTransform.SVGRotateTransformation(toDegrees(gradAngle) + 90d, 0.5, 0.5).toString());
@@ -780,29 +775,35 @@ abstract class SVGShape<S extends Shape> {
 		}
 
 		grad.appendChild(stop2);
-		defs.appendChild(grad);
-		root.setAttribute(SVGAttributes.SVG_FILL, SVG_URL_TOKEN_BEGIN + id + ')');
+		// Shapes having the same gradient share the same definition.
+		root.setAttribute(SVGAttributes.SVG_FILL, SVG_URL_TOKEN_BEGIN + defs.addSharedDef(grad, SVGElements.SVG_LINEAR_GRADIENT) + ')');
 	}
 
 
+	/**
+	 * Defines the hatchings as a tile of the size of one hatching period, repeated and rotated by the pattern.
+	 * Shapes having the same hatchings share the same pattern.
+	 */
 	private void setSVGHatchings(final SVGDocument doc, final SVGElement root, final boolean shadowFills) {
 		final SVGDefsElement defs = doc.getFirstChild().getDefs();
-		final String id = SVGElements.SVG_PATTERN + shape.hashCode();
 		final SVGPatternElement hatch = new SVGPatternElement(doc);
 		final SVGGElement gPath = new SVGGElement(doc);
-		final Point max = shape.getFullBottomRightPoint();
 		final SVGPathElement path = new SVGPathElement(doc);
+		final String tileSize = MathUtils.INST.format.format(shape.getHatchingsWidth() + shape.getHatchingsSep());
 
-		root.setAttribute(SVGAttributes.SVG_FILL, SVG_URL_TOKEN_BEGIN + id + ')');
 		hatch.setAttribute(LNamespace.LATEXDRAW_NAMESPACE + ':' + LNamespace.XML_TYPE, shape.getFillingStyle().getLatexToken());
 		hatch.setAttribute(LNamespace.LATEXDRAW_NAMESPACE + ':' + LNamespace.XML_ROTATION, String.valueOf(shape.getHatchingsAngle()));
 		hatch.setAttribute(LNamespace.LATEXDRAW_NAMESPACE + ':' + LNamespace.XML_SIZE, String.valueOf(shape.getHatchingsSep()));
 		hatch.setAttribute(SVGAttributes.SVG_PATTERN_UNITS, SVGAttributes.SVG_UNITS_VALUE_USR);
-		hatch.setAttribute(SVGAttributes.SVG_ID, id);
 		hatch.setAttribute(SVGAttributes.SVG_X, "0");
 		hatch.setAttribute(SVGAttributes.SVG_Y, "0");
-		hatch.setAttribute(SVGAttributes.SVG_WIDTH, String.valueOf((int) max.getX()));
-		hatch.setAttribute(SVGAttributes.SVG_HEIGHT, String.valueOf((int) max.getY()));
+		hatch.setAttribute(SVGAttributes.SVG_WIDTH, tileSize);
+		hatch.setAttribute(SVGAttributes.SVG_HEIGHT, tileSize);
+
+		if(!MathUtils.INST.equalsDouble(shape.getHatchingsAngle(), 0d)) {
+			hatch.setAttribute(SVGAttributes.SVG_PATTERN_TRANSFORM, new SVGTransform.SVGRotateTransformation(toDegrees(shape.getHatchingsAngle()), 0d, 0d).toString());
+		}
+
 		gPath.setAttribute(SVGAttributes.SVG_STROKE, CSSColors.INSTANCE.getColorName(shape.getHatchingsCol(), true));
 		gPath.setAttribute(SVGAttributes.SVG_STROKE_WIDTH, String.valueOf(shape.getHatchingsWidth()));
 		gPath.setAttribute(SVGAttributes.SVG_STROKE_DASHARRAY, SVGAttributes.SVG_VALUE_NONE);
@@ -811,7 +812,7 @@ abstract class SVGShape<S extends Shape> {
 			gPath.setAttribute(SVGAttributes.SVG_STROKE_OPACITY, MathUtils.INST.format.format(shape.getHatchingsCol().getO()));
 		}
 
-		path.setAttribute(SVGAttributes.SVG_D, getSVGHatchingsPath().toString());
+		path.setAttribute(SVGAttributes.SVG_D, getSVGHatchingsTilePath().toString());
 		gPath.appendChild(path);
 
 		// Several shapes having hatching must have their shadow filled.
@@ -824,14 +825,44 @@ abstract class SVGShape<S extends Shape> {
 			}
 
 			fill.setAttribute(SVGAttributes.SVG_STROKE, SVGAttributes.SVG_VALUE_NONE);
-			fill.setAttribute(SVGAttributes.SVG_WIDTH, String.valueOf((int) max.getX()));
-			fill.setAttribute(SVGAttributes.SVG_HEIGHT, String.valueOf((int) max.getY()));
+			fill.setAttribute(SVGAttributes.SVG_WIDTH, tileSize);
+			fill.setAttribute(SVGAttributes.SVG_HEIGHT, tileSize);
 
 			hatch.appendChild(fill);
 		}
 
-		defs.appendChild(hatch);
 		hatch.appendChild(gPath);
+		root.setAttribute(SVGAttributes.SVG_FILL, SVG_URL_TOKEN_BEGIN + defs.addSharedDef(hatch, SVGElements.SVG_PATTERN) + ')');
+	}
+
+
+	/**
+	 * @return The path of the hatchings of a pattern tile: a vertical line (vlines), an horizontal line (hlines),
+	 * or both (crosshatch), in the middle of a square tile of the size of a hatching period.
+	 * The rotation of the hatchings is done by the transformation of the pattern.
+	 */
+	final SVGPathSegList getSVGHatchingsTilePath() {
+		final SVGPathSegList path = new SVGPathSegList();
+
+		if(!shape.hasHatchings()) {
+			return path;
+		}
+
+		final double size = shape.getHatchingsWidth() + shape.getHatchingsSep();
+		final double middle = size / 2d;
+		final FillingStyle style = shape.getFillingStyle();
+
+		if(style == FillingStyle.VLINES || style == FillingStyle.VLINES_PLAIN || style == FillingStyle.CLINES || style == FillingStyle.CLINES_PLAIN) {
+			path.add(new SVGPathSegMoveto(middle, 0d, false));
+			path.add(new SVGPathSegLineto(middle, size, false));
+		}
+
+		if(style == FillingStyle.HLINES || style == FillingStyle.HLINES_PLAIN || style == FillingStyle.CLINES || style == FillingStyle.CLINES_PLAIN) {
+			path.add(new SVGPathSegMoveto(0d, middle, false));
+			path.add(new SVGPathSegLineto(size, middle, false));
+		}
+
+		return path;
 	}
 
 
@@ -894,124 +925,6 @@ abstract class SVGShape<S extends Shape> {
 		}
 	}
 
-	/**
-	 * @return The path of the hatchings of the shape.
-	 */
-	final SVGPathSegList getSVGHatchingsPath() {
-		final SVGPathSegList path = new SVGPathSegList();
-
-		if(!shape.hasHatchings()) {
-			return path;
-		}
-
-		final String hatchingStyle = shape.getFillingStyle().getLatexToken();
-		final double hatchingAngle = shape.getHatchingsAngle();
-		final Rectangle bound = ShapeFactory.INST.createRectangle(shape.getFullTopLeftPoint(), shape.getFullBottomRightPoint());
-		final double hAngle = hatchingAngle > 0 ? hatchingAngle - Math.PI / 2. : hatchingAngle + Math.PI / 2.;
-
-		switch(hatchingStyle) {
-			case PSTricksConstants.TOKEN_FILL_VLINES, PSTricksConstants.TOKEN_FILL_VLINES_F -> getSVGHatchingsPath2(path, hatchingAngle, bound);
-			case PSTricksConstants.TOKEN_FILL_HLINES, PSTricksConstants.TOKEN_FILL_HLINES_F -> getSVGHatchingsPath2(path, hAngle, bound);
-			case PSTricksConstants.TOKEN_FILL_CROSSHATCH, PSTricksConstants.TOKEN_FILL_CROSSHATCH_F -> {
-				getSVGHatchingsPath2(path, hatchingAngle, bound);
-				getSVGHatchingsPath2(path, hAngle, bound);
-			}
-		}
-
-		return path;
-	}
-
-	/**
-	 * Sub-routine of getSVGHatchingsPath2
-	 */
-	private double getAngleForSVGHacthings2(final double baseAngle) {
-		final double halphPI = Math.PI / 2d;
-		// Computing the angle.
-		if(baseAngle > 3d * halphPI) {
-			return baseAngle - Math.PI * 2d;
-		}
-		if(baseAngle > halphPI) {
-			return baseAngle - Math.PI;
-		}
-		if(baseAngle < -3d * halphPI) {
-			return baseAngle + Math.PI * 2d;
-		}
-		if(baseAngle < -halphPI) {
-			return baseAngle + Math.PI;
-		}
-		return baseAngle;
-	}
-
-	/**
-	 * Sub-routine of getSVGHatchingsPath2
-	 */
-	private void drawHatchingsNoRotation(final @NotNull SVGPathSegList path, final double val, final @NotNull Rectangle bound) {
-		final Point nw = bound.getTopLeftPoint();
-		final Point se = bound.getBottomRightPoint();
-		for(double x = nw.getX(); x < se.getX(); x += val) {
-			path.add(new SVGPathSegMoveto(x, nw.getY(), false));
-			path.add(new SVGPathSegLineto(x, se.getY(), false));
-		}
-	}
-
-	/**
-	 * Sub-routine of getSVGHatchingsPath2
-	 */
-	private void drawHatchingsRotation(final @NotNull SVGPathSegList path, final double val, final @NotNull Rectangle bound, final double angle) {
-		final Point nw = bound.getTopLeftPoint();
-		final Point se = bound.getBottomRightPoint();
-		final double incX = val / Math.cos(angle);
-		final double incY = val / Math.sin(angle);
-		final double maxX;
-		double y1;
-		double x2;
-
-		if(angle > 0d) {
-			y1 = nw.getY();
-			maxX = se.getX() + (se.getY() - Math.min(nw.getY(), 0d)) * Math.tan(angle);
-		}else {
-			y1 = se.getY();
-			maxX = se.getX() - se.getY() * Math.tan(angle);
-		}
-
-		if(incX < 0d || MathUtils.INST.equalsDouble(incX, 0d)) {
-			return;
-		}
-
-		final double x1 = nw.getX();
-		final double y2 = y1;
-		x2 = x1;
-
-		while(x2 < maxX) {
-			x2 += incX;
-			y1 += incY;
-			path.add(new SVGPathSegMoveto(x1, y1, false));
-			path.add(new SVGPathSegLineto(x2, y2, false));
-		}
-	}
-
-	private void getSVGHatchingsPath2(final @NotNull SVGPathSegList path, final double hAngle, final @NotNull Rectangle bound) {
-		final double angle = getAngleForSVGHacthings2(hAngle % (Math.PI * 2d));
-		final double val = shape.getHatchingsWidth() + shape.getHatchingsSep();
-
-		if(MathUtils.INST.equalsDouble(angle, 0d)) { // Drawing the hatchings vertically.
-			drawHatchingsNoRotation(path, val, bound);
-		}else { // Drawing the hatchings horizontally.
-			if(MathUtils.INST.equalsDouble(angle, Math.PI / 2d) || MathUtils.INST.equalsDouble(angle, -Math.PI / 2d)) {
-				final Point nw = bound.getTopLeftPoint();
-				final Point se = bound.getBottomRightPoint();
-				for(double y = nw.getY(); y < se.getY(); y += val) {
-					path.add(new SVGPathSegMoveto(nw.getX(), y, false));
-					path.add(new SVGPathSegLineto(se.getX(), y, false));
-				}
-			}else {
-				// Drawing the hatchings by rotation.
-				drawHatchingsRotation(path, val, bound, angle);
-			}
-		}
-	}
-
-
 	/**
 	 * If a figure can move its border, we have to compute the difference between the PSTricks shape and the SVG shape.
 	 * @return The gap computed with the border position, the thickness and the double boundary. Or NaN if the shape cannot move
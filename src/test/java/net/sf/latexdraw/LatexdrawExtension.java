@@ -44,6 +44,7 @@ public class LatexdrawExtension implements BeforeEachCallback, AfterEachCallback
 		CommandsRegistry.setInstance(mementoCommandsRegistry);
 		SystemUtils.setSingleton(mementoSystemUtils);
 		ErrorCatcher.setInstance(mementoCatcher);
+		BadaboomCollector.INSTANCE.publishPendingErrors();
 		ctx.getTestMethod()
 			.filter(m -> !BadaboomCollector.INSTANCE.errorsProperty().isEmpty() && !m.isAnnotationPresent(NoBadaboomCheck.class))
 			.ifPresent(m -> {
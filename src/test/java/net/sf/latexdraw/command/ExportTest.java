@@ -128,18 +128,22 @@ class ExportTest extends CommandTest<Export> {
 			() -> assertThat(cmd.hadEffect()).isFalse(),
 			() -> {
 				assertThat(cmd.hadEffect()).isFalse();
+				BadaboomCollector.INSTANCE.publishPendingErrors();
 				assertThat(BadaboomCollector.INSTANCE.errorsProperty().size()).isEqualTo(1);
 			},
 			() -> {
 				assertThat(cmd.hadEffect()).isFalse();
+				BadaboomCollector.INSTANCE.publishPendingErrors();
 				assertThat(BadaboomCollector.INSTANCE.errorsProperty().size()).isEqualTo(1);
 			},
 			() -> {
 				assertThat(cmd.hadEffect()).isFalse();
+				BadaboomCollector.INSTANCE.publishPendingErrors();
 				assertThat(BadaboomCollector.INSTANCE.errorsProperty().size()).isEqualTo(1);
 			},
 			() -> {
 				assertThat(cmd.hadEffect()).isFalse();
+				BadaboomCollector.INSTANCE.publishPendingErrors();
 				assertThat(BadaboomCollector.INSTANCE.errorsProperty().size()).isEqualTo(1);
 			}),
 			Stream.of(ExportFormat.values()).map(f -> () -> assertThat(cmd.hadEffect()).isTrue()));
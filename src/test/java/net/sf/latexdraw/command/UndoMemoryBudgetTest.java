@@ -0,0 +1,171 @@
+package net.sf.latexdraw.command;
+
+import io.github.interacto.undo.UndoCollector;
+import io.github.interacto.undo.Undoable;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.sf.latexdraw.LatexdrawExtension;
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.Freehand;
+import net.sf.latexdraw.model.api.shape.Group;
+import net.sf.latexdraw.model.api.shape.Point;
+import net.sf.latexdraw.model.api.shape.Rectangle;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(LatexdrawExtension.class)
+public class UndoMemoryBudgetTest {
+	UndoCollector collector;
+	UndoMemoryBudget budget;
+
+	@BeforeEach
+	void setUp() {
+		collector = new UndoCollector();
+		budget = new UndoMemoryBudget(collector, 1000L, 2, 10);
+		budget.install();
+	}
+
+	@AfterEach
+	void tearDown() {
+		budget.uninstall();
+	}
+
+	@Test
+	void testInvalidParameters() {
+		assertThrows(IllegalArgumentException.class, () -> new UndoMemoryBudget(collector, -1L, 2, 10));
+		assertThrows(IllegalArgumentException.class, () -> new UndoMemoryBudget(collector, 10L, -1, 10));
+		assertThrows(IllegalArgumentException.class, () -> new UndoMemoryBudget(collector, 10L, 5, 4));
+	}
+
+	@Test
+	void testInstallSetsMaxDepth() {
+		assertEquals(10, collector.getSizeMax());
+	}
+
+	@Test
+	void testSmallCommandsBoundedByMaxDepth() {
+		for(int i = 0; i < 15; i++) {
+			collector.add(new SizedUndoable(10L));
+		}
+		assertThat(collector.getUndo()).hasSize(10);
+	}
+
+	@Test
+	void testBigCommandsEvictOldestOnes() {
+		final SizedUndoable first = new SizedUndoable(400L);
+		collector.add(first);
+		collector.add(new SizedUndoable(400L));
+		collector.add(new SizedUndoable(400L));
+		assertThat(collector.getUndo()).hasSize(2);
+		assertThat(collector.getUndo()).doesNotContain(first);
+		assertEquals(10, collector.getSizeMax());
+	}
+
+	@Test
+	void testMinDepthKeptWhateverTheFootprint() {
+		collector.add(new SizedUndoable(5000L));
+		collector.add(new SizedUndoable(5000L));
+		assertThat(collector.getUndo()).hasSize(2);
+		collector.add(new SizedUndoable(5000L));
+		assertThat(collector.getUndo()).hasSize(2);
+	}
+
+	@Test
+	void testGetRetainedSize() {
+		collector.add(new SizedUndoable(100L));
+		collector.add(new SizedUndoable(200L));
+		assertEquals(300L, budget.getRetainedSize());
+	}
+
+	@Test
+	void testRetainedSizeFollowsUndoRedo() {
+		collector.add(new SizedUndoable(100L));
+		collector.add(new SizedUndoable(200L));
+		collector.undo();
+		assertEquals(100L, budget.getRetainedSize());
+		collector.redo();
+		assertEquals(300L, budget.getRetainedSize());
+		collector.clear();
+		assertEquals(0L, budget.getRetainedSize());
+	}
+
+	@Test
+	void testRetainedSizeAfterEviction() {
+		collector.add(new SizedUndoable(400L));
+		collector.add(new SizedUndoable(400L));
+		collector.add(new SizedUndoable(300L));
+		assertEquals(700L, budget.getRetainedSize());
+	}
+
+	@Test
+	void testUninstallStopsTrimming() {
+		budget.uninstall();
+		collector.add(new SizedUndoable(5000L));
+		collector.add(new SizedUndoable(5000L));
+		collector.add(new SizedUndoable(5000L));
+		assertThat(collector.getUndo()).hasSize(3);
+	}
+
+	@Test
+	void testDefaultFootprintForNotSizedUndoable() {
+		assertEquals(12L, UndoMemoryBudget.getFootprint(new SizedUndoable(12L)));
+		assertEquals(MementoFootprint.DEFAULT_FOOTPRINT, UndoMemoryBudget.getFootprint(new NotSizedUndoable()));
+	}
+
+	@Test
+	void testShapeFootprintGrowsWithPoints() {
+		final Freehand small = ShapeFactory.INST.createFreeHand(createPoints(2));
+		final Freehand big = ShapeFactory.INST.createFreeHand(createPoints(100));
+		assertThat(MementoFootprint.estimateFootprint(big)).isGreaterThan(MementoFootprint.estimateFootprint(small));
+	}
+
+	@Test
+	void testGroupFootprintIncludesItsShapes() {
+		final Rectangle rec = ShapeFactory.INST.createRectangle();
+		final Group group = ShapeFactory.INST.createGroup();
+		group.addShape(rec);
+		assertThat(MementoFootprint.estimateFootprint(group)).isGreaterThan(MementoFootprint.estimateFootprint(rec));
+	}
+
+	static List<Point> createPoints(final int nb) {
+		return IntStream.range(0, nb).mapToObj(i -> ShapeFactory.INST.createPoint(i, i)).collect(Collectors.toList());
+	}
+
+	static class SizedUndoable extends NotSizedUndoable implements MementoFootprint {
+		final long size;
+
+		SizedUndoable(final long size) {
+			super();
+			this.size = size;
+		}
+
+		@Override
+		public long getMementoFootprint() {
+			return size;
+		}
+	}
+
+	static class NotSizedUndoable implements Undoable {
+		@Override
+		public void undo() {
+		}
+
+		@Override
+		public void redo() {
+		}
+
+		@Override
+		public @NotNull String getUndoName(final @NotNull ResourceBundle bundle) {
+			return "";
+		}
+	}
+}
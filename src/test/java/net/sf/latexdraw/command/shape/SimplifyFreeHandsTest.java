@@ -0,0 +1,110 @@
+package net.sf.latexdraw.command.shape;
+
+import io.github.interacto.jfx.test.UndoableCmdTest;
+import java.util.List;
+import java.util.stream.Stream;
+import net.sf.latexdraw.LatexdrawExtension;
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.Freehand;
+import net.sf.latexdraw.model.api.shape.Group;
+import net.sf.latexdraw.model.api.shape.Point;
+import net.sf.latexdraw.service.PreferencesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("command")
+@ExtendWith(LatexdrawExtension.class)
+class SimplifyFreeHandsTest extends UndoableCmdTest<SimplifyFreeHands> {
+	Group shape;
+	Freehand fh;
+	List<Point> original;
+	List<Point> expected;
+
+	@BeforeEach
+	void setUp() {
+		bundle = new PreferencesService().getBundle();
+	}
+
+	@Override
+	protected void commonCanDoFixture() {
+		shape = ShapeFactory.INST.createGroup();
+		fh = ShapeFactory.INST.createFreeHand(List.of(
+			ShapeFactory.INST.createPoint(0, 0),
+			ShapeFactory.INST.createPoint(10, 0.1),
+			ShapeFactory.INST.createPoint(20, 0),
+			ShapeFactory.INST.createPoint(30, 0.1),
+			ShapeFactory.INST.createPoint(40, 0)));
+		original = List.copyOf(fh.getPoints());
+		shape.addShape(ShapeFactory.INST.createRectangle(ShapeFactory.INST.createPoint(10, 20), 100, 200));
+		shape.addShape(fh);
+	}
+
+	@Override
+	protected Stream<Runnable> canDoFixtures() {
+		return Stream.of(() -> {
+			// 1 mm is 5 units
+			cmd = new SimplifyFreeHands(shape, 1d, 0d);
+			expected = List.of(ShapeFactory.INST.createPoint(0, 0), ShapeFactory.INST.createPoint(40, 0));
+		}, () -> {
+			// Resampled every 15 units, along the freehand
+			cmd = new SimplifyFreeHands(shape, 0d, 3d);
+			expected = List.of(ShapeFactory.INST.createPoint(0, 0), ShapeFactory.INST.createPoint(15, 0), ShapeFactory.INST.createPoint(30, 0),
+				ShapeFactory.INST.createPoint(40, 0));
+		});
+	}
+
+	@Override
+	protected Stream<Runnable> cannotDoFixtures() {
+		return Stream.of(() -> {
+			shape = ShapeFactory.INST.createGroup();
+			shape.addShape(ShapeFactory.INST.createRectangle(ShapeFactory.INST.createPoint(10, 20), 100, 200));
+			cmd = new SimplifyFreeHands(shape, 1d, 0d);
+		}, () -> {
+			commonCanDoFixture();
+			cmd = new SimplifyFreeHands(shape, 0d, 0d);
+		}, () -> {
+			commonCanDoFixture();
+			cmd = new SimplifyFreeHands(shape, -1d, 0d);
+		}, () -> {
+			commonCanDoFixture();
+			cmd = new SimplifyFreeHands(shape, 1d, Double.NaN);
+		});
+	}
+
+	@Override
+	protected Stream<Runnable> doCheckers() {
+		return Stream.of(() -> {
+			assertThat(fh.getPoints()).hasSize(expected.size());
+			for(int i = 0; i < expected.size(); i++) {
+				assertThat(fh.getPtAt(i).equals(expected.get(i), 0.2)).isTrue();
+			}
+			assertThat(cmd.getNbPointsBefore()).isEqualTo(5);
+			assertThat(cmd.getNbPointsAfter()).isEqualTo(expected.size());
+			assertThat(shape.isModified()).isTrue();
+		});
+	}
+
+	@Override
+	protected Stream<Runnable> undoCheckers() {
+		return Stream.of(() -> {
+			assertThat(fh.getPoints()).containsExactlyElementsOf(original);
+			assertThat(shape.isModified()).isFalse();
+		});
+	}
+
+	@Test
+	void testNoEffectWhenNothingToSimplify() {
+		shape = ShapeFactory.INST.createGroup();
+		fh = ShapeFactory.INST.createFreeHand(List.of(ShapeFactory.INST.createPoint(0, 0), ShapeFactory.INST.createPoint(0, 100),
+			ShapeFactory.INST.createPoint(100, 100)));
+		shape.addShape(fh);
+		cmd = new SimplifyFreeHands(shape, 1d, 0d);
+		cmd.doIt();
+		assertThat(cmd.hadEffect()).isFalse();
+		assertThat(fh.getNbPoints()).isEqualTo(3);
+	}
+}
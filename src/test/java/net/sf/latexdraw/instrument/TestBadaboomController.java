@@ -32,7 +32,7 @@ public class TestBadaboomController extends TestLatexdrawGUI {
 	@Test
 	public void testTableNotEmpty() {
 		Platform.runLater(() -> BadaboomCollector.INSTANCE.add(new IllegalArgumentException("test")));
-		WaitForAsyncUtils.waitForFxEvents();
+		waitForErrorsPublication();
 		final TableView<?> table = find("#table");
 		assertFalse(table.getItems().isEmpty());
 	}
@@ -40,7 +40,7 @@ public class TestBadaboomController extends TestLatexdrawGUI {
 	@Test
 	public void testTableClickErrorShowsIt() {
 		Platform.runLater(() -> BadaboomCollector.INSTANCE.add(new IllegalArgumentException("test exception")));
-		WaitForAsyncUtils.waitForFxEvents();
+		waitForErrorsPublication();
 		Platform.runLater(() -> {
 			final TableView<?> table = find("#table");
 			table.getSelectionModel().select(0);
@@ -1,11 +1,14 @@
 package net.sf.latexdraw.instrument;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Arc;
 import javafx.scene.transform.Rotate;
 import javafx.stage.Stage;
 import net.sf.latexdraw.handler.Handler;
+import net.sf.latexdraw.handler.MovePtHandler;
 import net.sf.latexdraw.model.ShapeFactory;
 import net.sf.latexdraw.model.api.shape.Line;
 import net.sf.latexdraw.model.api.shape.Point;
@@ -109,6 +112,23 @@ public class TestBorder extends BaseTestCanvas {
 	}
 
 
+	@Test
+	public void testSelectShapeWithManyPointsLimitsHandlers() {
+		Cmds.of(CmdFXVoid.of(() -> canvas.getDrawing().addShape(ShapeFactory.INST.createPolyline(IntStream.range(0, 5000)
+			.mapToObj(i -> ShapeFactory.INST.createPoint(i % 100 * 3d, i / 100 * 3d))
+			.collect(Collectors.toList())))), selectAllShapes).execute();
+		assertThat(border.mvPtHandlers.size()).isBetween(1, PointHandlerSampler.MAX_HANDLERS);
+	}
+
+	@Test
+	public void testPointHandlersReusedOnSelectionChanges() {
+		Cmds.of(addLines, addBezier, () -> selectShape.execute(0)).execute();
+		final MovePtHandler handler = border.mvPtHandlers.get(0);
+		Cmds.of(() -> selectShape.execute(1)).execute();
+		assertThat(border.mvPtHandlers.get(0)).isSameAs(handler);
+		assertThat(handler.getPoint()).isSameAs(canvas.getDrawing().getShapeAt(1).orElseThrow().getPtAt(0));
+	}
+
 	@Test
 	public void testUpdateHandlersOKOnSelectionChanges() {
 		// Keep in the same test method to limit the number of GUI tests
@@ -1,9 +1,11 @@
 package net.sf.latexdraw.instrument;
 
+import io.github.interacto.undo.UndoCollector;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import javafx.geometry.Point2D;
 import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 import net.sf.latexdraw.data.ShapeData;
@@ -202,4 +204,57 @@ public class TestCanvasTranslation extends BaseTestCanvas {
 
 		assertEquals(tl, canvas.getDrawing().getShapeAt(0).orElseThrow().getTopLeftPoint());
 	}
+
+	@Test
+	public void testTranslateDoesNotModifyModelWhileDragging() {
+		Cmds.of(addRec).execute();
+		final Point tl = canvas.getDrawing().getShapeAt(0).orElseThrow().getTopLeftPoint();
+
+		Cmds.of(() -> drag(canvas.getViews().getChildren().get(0)),
+			() -> moveBy(100d, 200d)).execute();
+
+		assertEquals(tl, canvas.getDrawing().getShapeAt(0).orElseThrow().getTopLeftPoint());
+		assertEquals(100d, canvas.getViews().getChildren().get(0).getLayoutX(), 1d);
+		assertEquals(200d, canvas.getViews().getChildren().get(0).getLayoutY(), 1d);
+
+		Cmds.of(() -> release(MouseButton.PRIMARY)).execute();
+	}
+
+	@Test
+	public void testTranslateResetsViewsOnRelease() {
+		Cmds.of(addRec).execute();
+
+		Cmds.of(() -> drag(canvas.getViews().getChildren().get(0)),
+			() -> dropBy(100d, 200d)).execute();
+
+		assertEquals(0d, canvas.getViews().getChildren().get(0).getLayoutX(), 0.0001);
+		assertEquals(0d, canvas.getViews().getChildren().get(0).getLayoutY(), 0.0001);
+	}
+
+	@Test
+	public void testTranslateResetsViewsOnAbort() {
+		Cmds.of(addRec).execute();
+
+		Cmds.of(() -> drag(canvas.getViews().getChildren().get(0)),
+			() -> moveBy(100d, 200d).type(KeyCode.ESCAPE)).execute();
+
+		assertEquals(0d, canvas.getViews().getChildren().get(0).getLayoutX(), 0.0001);
+		assertEquals(0d, canvas.getViews().getChildren().get(0).getLayoutY(), 0.0001);
+	}
+
+	@Test
+	public void testTranslateProducesOneUndoableCommand() {
+		Cmds.of(addRec).execute();
+		final Point tl = canvas.getDrawing().getShapeAt(0).orElseThrow().getTopLeftPoint();
+		UndoCollector.getInstance().clear();
+
+		Cmds.of(() -> drag(canvas.getViews().getChildren().get(0)),
+			() -> moveBy(50d, 50d),
+			() -> moveBy(50d, 150d),
+			() -> release(MouseButton.PRIMARY)).execute();
+
+		assertEquals(1, UndoCollector.getInstance().getUndo().size());
+		Cmds.of(CmdFXVoid.of(() -> UndoCollector.getInstance().undo())).execute();
+		assertEquals(tl, canvas.getDrawing().getShapeAt(0).orElseThrow().getTopLeftPoint());
+	}
 }
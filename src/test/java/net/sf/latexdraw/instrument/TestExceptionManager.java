@@ -64,6 +64,7 @@ public class TestExceptionManager extends TestLatexdrawGUI {
 	@Test
 	public void testActivatedOnCrash() {
 		Cmds.of(CmdFXVoid.of(() -> BadaboomCollector.INSTANCE.add(new IllegalArgumentException()))).execute();
+		waitForErrorsPublication();
 		assertTrue(manager.isActivated());
 		assertFalse(getButton().isDisabled());
 	}
@@ -80,6 +81,7 @@ public class TestExceptionManager extends TestLatexdrawGUI {
 	@Test
 	public void testClickShowErrorStage() {
 		BadaboomCollector.INSTANCE.add(new IllegalArgumentException());
+		waitForErrorsPublication();
 		Cmds.of(() -> clickOn(getButton())).execute();
 		final AtomicBoolean visible = new AtomicBoolean(false);
 		Cmds.of(CmdFXVoid.of(() -> visible.set(manager.getStageEx().isShowing()))).execute();
@@ -33,6 +33,7 @@ public class TestHelper extends TestLatexdrawGUI {
 				bindToInstance(HostServices.class, Mockito.mock(HostServices.class));
 				bindAsEagerSingleton(ShortcutsController.class);
 				bindAsEagerSingleton(AboutController.class);
+				bindAsEagerSingleton(MetricsController.class);
 				bindAsEagerSingleton(Helper.class);
 			}
 		};
@@ -62,6 +63,15 @@ public class TestHelper extends TestLatexdrawGUI {
 		assertEquals(frame, helper.getShortcutsFrame());
 	}
 
+	@Test
+	public void testClickMetricsFrame() {
+		Cmds.of(() -> clickOn("#helpMenu").clickOn("#metricsItem")).execute();
+		final Stage frame = helper.getMetricsFrame();
+		assertTrue(frame.isShowing());
+		Cmds.of(CmdFXVoid.of(() -> helper.getMetricsFrame().close())).execute();
+		assertEquals(frame, helper.getMetricsFrame());
+	}
+
 	@Test
 	public void testClickDonateItemFrame() {
 		Cmds.of(() -> clickOn("#helpMenu").clickOn("#donateItem")).execute();
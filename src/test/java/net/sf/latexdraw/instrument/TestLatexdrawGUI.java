@@ -6,6 +6,7 @@ import io.github.interacto.jfx.ui.JfxUI;
 import io.github.interacto.undo.UndoCollector;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
@@ -36,6 +37,7 @@ import org.testfx.framework.junit.ApplicationTest;
 import org.testfx.util.WaitForAsyncUtils;
 
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public abstract class TestLatexdrawGUI extends ApplicationTest {
 	protected final CmdVoid waitFXEvents = WaitForAsyncUtils::waitForFxEvents;
@@ -62,6 +64,20 @@ public abstract class TestLatexdrawGUI extends ApplicationTest {
 		DviPsColors.INSTANCE.clearUserColours();
 	}
 
+	/**
+	 * Waits for the collected errors to be published (by batches, in the JavaFX thread).
+	 */
+	protected void waitForErrorsPublication() {
+		// The errors may be added in the JavaFX thread
+		WaitForAsyncUtils.waitForFxEvents();
+		try {
+			WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> !BadaboomCollector.INSTANCE.isPublicationPending());
+		}catch(final TimeoutException ex) {
+			fail("The errors are not published"); //NON-NLS
+		}
+		WaitForAsyncUtils.waitForFxEvents();
+	}
+
 	@Override
 	public void start(final Stage aStage) throws Exception {
 		Canvas.setMargins(20);
@@ -132,6 +148,7 @@ public abstract class TestLatexdrawGUI extends ApplicationTest {
 
 	@Test
 	public void testLaunchNoCrash() {
+		BadaboomCollector.INSTANCE.publishPendingErrors();
 		assertTrue(BadaboomCollector.INSTANCE.errorsProperty().isEmpty());
 	}
 }
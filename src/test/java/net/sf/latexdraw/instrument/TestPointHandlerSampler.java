@@ -0,0 +1,64 @@
+package net.sf.latexdraw.instrument;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javafx.geometry.BoundingBox;
+import net.sf.latexdraw.handler.Handler;
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.Point;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestPointHandlerSampler {
+	static List<Point> createPoints(final int nb, final double gap) {
+		return IntStream.range(0, nb).mapToObj(i -> ShapeFactory.INST.createPoint(i % 100 * gap, i / 100 * gap)).collect(Collectors.toList());
+	}
+
+	@Test
+	void testFewPointsNotSampled() {
+		final List<Point> pts = createPoints(PointHandlerSampler.LOD_THRESHOLD, 1d);
+		assertThat(PointHandlerSampler.isSampled(pts)).isFalse();
+		assertThat(PointHandlerSampler.sample(pts, Optional.of(new BoundingBox(0d, 0d, 1d, 1d)))).isSameAs(pts);
+	}
+
+	@Test
+	void testManyPointsSampled() {
+		assertThat(PointHandlerSampler.isSampled(createPoints(PointHandlerSampler.LOD_THRESHOLD + 1, 1d))).isTrue();
+	}
+
+	@Test
+	void testSampledPointsBounded() {
+		assertThat(PointHandlerSampler.sample(createPoints(10000, 1d), Optional.empty()).size()).isLessThanOrEqualTo(PointHandlerSampler.MAX_HANDLERS);
+	}
+
+	@Test
+	void testSampledPointsDoNotOverlap() {
+		final List<Point> sampled = PointHandlerSampler.sample(createPoints(2000, 2d), Optional.empty());
+		assertThat(sampled).isNotEmpty();
+		for(int i = 0; i < sampled.size(); i++) {
+			for(int j = i + 1; j < sampled.size(); j++) {
+				final Point p1 = sampled.get(i);
+				final Point p2 = sampled.get(j);
+				assertThat(Math.floor(p1.getX() / Handler.DEFAULT_SIZE) == Math.floor(p2.getX() / Handler.DEFAULT_SIZE) &&
+					Math.floor(p1.getY() / Handler.DEFAULT_SIZE) == Math.floor(p2.getY() / Handler.DEFAULT_SIZE)).isFalse();
+			}
+		}
+	}
+
+	@Test
+	void testOnlyVisiblePointsSampled() {
+		final List<Point> sampled = PointHandlerSampler.sample(createPoints(10000, 20d), Optional.of(new BoundingBox(0d, 0d, 100d, 100d)));
+		assertThat(sampled).isNotEmpty();
+		assertThat(sampled).allMatch(pt -> pt.getX() <= 100d && pt.getY() <= 100d);
+	}
+
+	@Test
+	void testSampledPointsKeepTheirOrder() {
+		final List<Point> pts = createPoints(1000, 20d);
+		final List<Point> sampled = PointHandlerSampler.sample(pts, Optional.empty());
+		assertThat(sampled).isSortedAccordingTo((p1, p2) -> Integer.compare(pts.indexOf(p1), pts.indexOf(p2)));
+	}
+}
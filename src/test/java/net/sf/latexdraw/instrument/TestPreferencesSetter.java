@@ -113,6 +113,14 @@ public class TestPreferencesSetter extends TestLatexdrawGUI implements FxRobotLi
 		assertEquals(6, prefs.gridGapProperty().get());
 	}
 
+	@Test
+	public void testExportDPI() {
+		Cmds.of(
+			CmdFXVoid.of(() -> prefs.exportDPIProperty().set(300)),
+			() -> incrementSpinner(setter.exportDPIField)).execute();
+		assertEquals(310, prefs.getExportDPI());
+	}
+
 	@Test
 	public void testClickChooseLoadFolder() throws NoSuchFieldException, IllegalAccessException {
 		final DirectoryChooser chooser = Mockito.mock(DirectoryChooser.class);
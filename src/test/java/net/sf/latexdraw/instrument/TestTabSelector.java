@@ -4,6 +4,7 @@ import io.github.interacto.jfx.ui.JfxUI;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ResourceBundle;
 import javafx.application.HostServices;
+import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseButton;
@@ -166,6 +167,7 @@ public class TestTabSelector extends TestLatexdrawGUI {
 			clickOn(n);
 			WaitForAsyncUtils.waitForFxEvents();
 		});
+		BadaboomCollector.INSTANCE.publishPendingErrors();
 		assertTrue(BadaboomCollector.INSTANCE.errorsProperty().isEmpty());
 	}
 
@@ -183,6 +185,21 @@ public class TestTabSelector extends TestLatexdrawGUI {
 		Mockito.verify(prefSetter, Mockito.times(1)).setActivated(true);
 	}
 
+	@Test
+	public void testPrefTabNotLoadedAtStartup() {
+		final Tab prefTab = tabPane.getTabs().stream().filter(tab -> "prefTab".equals(tab.getId())).findFirst().orElseThrow();
+		assertThat(prefTab.getContent()).isNull();
+	}
+
+	@Test
+	public void testPrefTabLoadedOnSelection() {
+		clickOn(tabPane.lookup("#prefTab"));
+		WaitForAsyncUtils.waitForFxEvents();
+		final Tab prefTab = tabPane.getTabs().stream().filter(tab -> "prefTab".equals(tab.getId())).findFirst().orElseThrow();
+		assertThat(prefTab.getContent()).isNotNull();
+		assertThat(prefTab.getContent().lookup("#langList")).isNotNull();
+	}
+
 	@Test
 	public void testClickPSTActivations() {
 		clickOn(tabPane.lookup("#tabPST"));
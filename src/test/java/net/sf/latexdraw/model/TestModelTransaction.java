@@ -0,0 +1,75 @@
+package net.sf.latexdraw.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestModelTransaction {
+	final List<String> updates = new ArrayList<>();
+
+	@Test
+	void testNotRunningByDefault() {
+		assertFalse(ModelTransaction.INST.isRunning());
+	}
+
+	@Test
+	void testDeferOutsideTransaction() {
+		assertFalse(ModelTransaction.INST.defer(this, () -> updates.add("a")));
+		assertThat(updates).isEmpty();
+	}
+
+	@Test
+	void testRunningInTransaction() {
+		ModelTransaction.INST.run(() -> assertTrue(ModelTransaction.INST.isRunning()));
+		assertFalse(ModelTransaction.INST.isRunning());
+	}
+
+	@Test
+	void testDeferredUpdatesRunAtCommit() {
+		ModelTransaction.INST.run(() -> {
+			assertTrue(ModelTransaction.INST.defer(this, () -> updates.add("a")));
+			assertThat(updates).isEmpty();
+		});
+		assertThat(updates).containsExactly("a");
+	}
+
+	@Test
+	void testDeferredUpdatesCoalescedPerKey() {
+		final Object key2 = new Object();
+		ModelTransaction.INST.run(() -> {
+			ModelTransaction.INST.defer(this, () -> updates.add("a"));
+			ModelTransaction.INST.defer(key2, () -> updates.add("b"));
+			ModelTransaction.INST.defer(this, () -> updates.add("a"));
+		});
+		assertThat(updates).containsExactly("a", "b");
+	}
+
+	@Test
+	void testNestedTransactionsCommitOnce() {
+		ModelTransaction.INST.run(() -> {
+			ModelTransaction.INST.run(() -> ModelTransaction.INST.defer(this, () -> updates.add("a")));
+			assertThat(updates).isEmpty();
+		});
+		assertThat(updates).containsExactly("a");
+	}
+
+	@Test
+	void testCommitOnException() {
+		assertThrows(IllegalArgumentException.class, () -> ModelTransaction.INST.run(() -> {
+			ModelTransaction.INST.defer(this, () -> updates.add("a"));
+			throw new IllegalArgumentException();
+		}));
+		assertFalse(ModelTransaction.INST.isRunning());
+		assertThat(updates).containsExactly("a");
+	}
+
+	@Test
+	void testCommitWithoutTransaction() {
+		assertThrows(IllegalStateException.class, () -> ModelTransaction.INST.commit());
+	}
+}
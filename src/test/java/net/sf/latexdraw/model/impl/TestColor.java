@@ -200,4 +200,19 @@ public class TestColor {
 		assertEquals(0.44d, color.getB(), 0.0001);
 		assertEquals(0.4d, color.newColorWithOpacity(0.4d).getO(), 0.0001);
 	}
+
+	@Test
+	public void testToPackedRGBA() {
+		assertEquals(0xFF00337F, ShapeFactory.INST.createColorInt(255, 0, 51, 127).toPackedRGBA());
+	}
+
+	@Test
+	public void testToPackedRGBASameForEqualColours() {
+		assertEquals(ShapeFactory.INST.createColor(0.2d, 0.33d, 0.44d).toPackedRGBA(), ShapeFactory.INST.createColor(0.2001d, 0.33d, 0.44d).toPackedRGBA());
+	}
+
+	@Test
+	public void testToPackedRGBADiffers() {
+		assertNotEquals(ShapeFactory.INST.createColor(0.2d, 0.33d, 0.44d).toPackedRGBA(), ShapeFactory.INST.createColor(0.2d, 0.33d, 0.44d, 0.5d).toPackedRGBA());
+	}
 }
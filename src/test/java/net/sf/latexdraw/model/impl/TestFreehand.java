@@ -1,11 +1,15 @@
 package net.sf.latexdraw.model.impl;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javafx.collections.ListChangeListener;
 import net.sf.latexdraw.HelperTest;
 import net.sf.latexdraw.model.ShapeFactory;
 import net.sf.latexdraw.model.api.shape.FreeHandStyle;
 import net.sf.latexdraw.model.api.shape.Circle;
 import net.sf.latexdraw.model.api.shape.Freehand;
+import net.sf.latexdraw.model.api.shape.Point;
 import net.sf.latexdraw.model.api.shape.Rectangle;
 import net.sf.latexdraw.model.api.shape.Shape;
 import org.junit.Before;
@@ -89,4 +93,39 @@ public class TestFreehand implements HelperTest {
 		assertTrue(shape.isTypeOf(Freehand.class));
 		assertTrue(shape.isTypeOf(shape.getClass()));
 	}
+
+	@Test
+	public void testSetPoints() {
+		shape.setPoints(List.of(ShapeFactory.INST.createPoint(1, 2), ShapeFactory.INST.createPoint(3, 4)));
+		assertEquals(2, shape.getNbPoints());
+		assertEquals(ShapeFactory.INST.createPoint(3, 4), shape.getPtAt(1));
+	}
+
+	@Test
+	public void testSetPointsUpdatesBounds() {
+		shape.setPoints(List.of(ShapeFactory.INST.createPoint(1, 2), ShapeFactory.INST.createPoint(3, 4)));
+		shape.setPoints(List.of(ShapeFactory.INST.createPoint(10, 20), ShapeFactory.INST.createPoint(30, 40)));
+		assertEquals(ShapeFactory.INST.createPoint(10, 20), shape.getTopLeftPoint());
+		assertEquals(ShapeFactory.INST.createPoint(30, 40), shape.getBottomRightPoint());
+	}
+
+	@Test
+	public void testSetPointsNotifies() {
+		final AtomicBoolean notified = new AtomicBoolean(false);
+		shape.getPoints().addListener((ListChangeListener<Point>) change -> notified.set(true));
+		shape.setPoints(List.of(ShapeFactory.INST.createPoint(1, 2)));
+		assertTrue(notified.get());
+	}
+
+	@Test
+	public void testSetPointsIncreasesPointsVersion() {
+		final long version = shape.getPointsVersion();
+		shape.setPoints(List.of(ShapeFactory.INST.createPoint(1, 2)));
+		assertTrue(shape.getPointsVersion() > version);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testGetPointsUnmodifiable() {
+		shape.getPoints().add(ShapeFactory.INST.createPoint());
+	}
 }
@@ -1,5 +1,6 @@
 package net.sf.latexdraw.model.impl;
 
+import java.awt.geom.Rectangle2D;
 import java.util.Collections;
 import net.sf.latexdraw.HelperTest;
 import net.sf.latexdraw.data.ShapeData;
@@ -187,6 +188,38 @@ public class TestGroup implements HelperTest {
 		assertEquals(sh1.getTopLeftPoint(), shape.getTopLeftPoint());
 	}
 
+	@Test
+	public void testFillBounds() {
+		shape.addShape(ShapeFactory.INST.createRectangle(ShapeFactory.INST.createPoint(10d, 20d), ShapeFactory.INST.createPoint(30d, 40d)));
+		shape.addShape(ShapeFactory.INST.createRectangle(ShapeFactory.INST.createPoint(-5d, 25d), ShapeFactory.INST.createPoint(15d, 60d)));
+		final Rectangle2D bounds = new Rectangle2D.Double();
+		shape.fillBounds(bounds);
+		assertEqualsDouble(-5d, bounds.getMinX());
+		assertEqualsDouble(20d, bounds.getMinY());
+		assertEqualsDouble(30d, bounds.getMaxX());
+		assertEqualsDouble(60d, bounds.getMaxY());
+	}
+
+	@Test
+	public void testFillBoundsUpdatedOnShapeMoved() {
+		final Rectangle rec = ShapeFactory.INST.createRectangle(ShapeFactory.INST.createPoint(10d, 20d), ShapeFactory.INST.createPoint(30d, 40d));
+		shape.addShape(rec);
+		final Rectangle2D bounds = new Rectangle2D.Double();
+		shape.fillBounds(bounds);
+		rec.translate(100d, 0d);
+		shape.fillBounds(bounds);
+		assertEqualsDouble(110d, bounds.getMinX());
+		assertEqualsDouble(130d, bounds.getMaxX());
+	}
+
+	@Test
+	public void testFillBoundsKO() {
+		final Rectangle2D bounds = new Rectangle2D.Double();
+		shape.fillBounds(bounds);
+		assertTrue(Double.isNaN(bounds.getMinX()));
+		assertTrue(Double.isNaN(bounds.getMaxY()));
+	}
+
 	@Test
 	public void testGetTopLeftPointKO() {
 		assertTrue(Double.isNaN(shape.getTopLeftPoint().getX()));
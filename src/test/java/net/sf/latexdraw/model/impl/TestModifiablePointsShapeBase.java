@@ -1,5 +1,6 @@
 package net.sf.latexdraw.model.impl;
 
+import java.awt.geom.Rectangle2D;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
@@ -131,6 +132,36 @@ public class TestModifiablePointsShapeBase implements HelperTest {
 		assertEqualsDouble(2d, shape.getBottomLeftPoint().getY());
 	}
 
+	@Theory
+	public void testFillBounds(@ModifPtShapeData(x = {0d, 2d, 2d, 0d}, y = {0d, 0d, 3d, 3d}) final ModifiablePointsShape shape) {
+		final Rectangle2D bounds = new Rectangle2D.Double();
+		shape.fillBounds(bounds);
+		assertEqualsDouble(0d, bounds.getMinX());
+		assertEqualsDouble(0d, bounds.getMinY());
+		assertEqualsDouble(2d, bounds.getMaxX());
+		assertEqualsDouble(3d, bounds.getMaxY());
+	}
+
+	@Theory
+	public void testBoundsUpdatedOnPointMoved(@ModifPtShapeData(x = {0d, 2d, 2d, 0d}, y = {0d, 0d, 2d, 2d}) final ModifiablePointsShape shape) {
+		assertEqualsDouble(2d, shape.getBottomRightPoint().getX());
+		shape.setPoint(10d, 20d, 2);
+		assertEqualsDouble(10d, shape.getBottomRightPoint().getX());
+		assertEqualsDouble(20d, shape.getBottomRightPoint().getY());
+		assertEqualsDouble(10d, shape.getWidth());
+		assertEqualsDouble(20d, shape.getHeight());
+	}
+
+	@Theory
+	public void testBoundsUpdatedOnTranslate(@ModifPtShapeData(x = {0d, 2d, 2d, 0d}, y = {0d, 0d, 2d, 2d}) final ModifiablePointsShape shape) {
+		assertEqualsDouble(1d, shape.getGravityCentre().getX());
+		shape.translate(5d, -3d);
+		assertEqualsDouble(6d, shape.getGravityCentre().getX());
+		assertEqualsDouble(-2d, shape.getGravityCentre().getY());
+		assertEqualsDouble(5d, shape.getTopLeftPoint().getX());
+		assertEqualsDouble(-3d, shape.getTopLeftPoint().getY());
+	}
+
 	@Retention(RetentionPolicy.RUNTIME)
 	@ParametersSuppliedBy(ModifPtShapeSupplier.class)
 	@Target(PARAMETER)
@@ -1,5 +1,6 @@
 package net.sf.latexdraw.model.impl;
 
+import java.awt.geom.Rectangle2D;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -163,6 +164,25 @@ public class TestPicture {
 		assertEquals(shape.getPosition().getY(), pt.getY(), 0.001);
 	}
 
+	@Test
+	void testGetGravityCentreUsesImageSize() {
+		shape.setPosition(10d, 20d);
+		final Point gc = shape.getGravityCentre();
+		assertEquals(10d + shape.getImage().getWidth() / 2d, gc.getX(), 0.001);
+		assertEquals(20d + shape.getImage().getHeight() / 2d, gc.getY(), 0.001);
+	}
+
+	@Test
+	void testFillBoundsUsesImageSize() {
+		final Rectangle2D bounds = new Rectangle2D.Double();
+		shape.setPosition(10d, 20d);
+		shape.fillBounds(bounds);
+		assertEquals(10d, bounds.getX(), 0.001);
+		assertEquals(20d, bounds.getY(), 0.001);
+		assertEquals(shape.getImage().getWidth(), bounds.getWidth(), 0.001);
+		assertEquals(shape.getImage().getHeight(), bounds.getHeight(), 0.001);
+	}
+
 	@Test
 	public void testMirrorHorizontal() {
 		final Point pos = ShapeFactory.INST.createPoint(shape.getPosition());
@@ -2,6 +2,7 @@ package net.sf.latexdraw.parser;
 
 import net.sf.latexdraw.LatexdrawExtension;
 import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.Color;
 import net.sf.latexdraw.parser.svg.CSSColors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -384,4 +385,30 @@ public class TestCssColor {
 	void testSVGRGBtoRGBOK3() {
 		assertEquals(CSSColors.CSS_BLUE_RGB_VALUE, CSSColors.INSTANCE.getRGBColour("rgb(	  0% ,	0%    ,  100%  )"));
 	}
+
+	@Test
+	void testGetColorNameCreatedIsHexa() {
+		assertEquals("#050201", CSSColors.INSTANCE.getColorName(ShapeFactory.INST.createColorInt(5, 2, 1), true));
+	}
+
+	@Test
+	void testGetColorNameCreatedFoundAgain() {
+		final String name = CSSColors.INSTANCE.getColorName(ShapeFactory.INST.createColorInt(6, 2, 1), true);
+		assertEquals(name, CSSColors.INSTANCE.getColorName(ShapeFactory.INST.createColorInt(6, 2, 1), false));
+	}
+
+	@Test
+	void testGetColorNameNotSameValuesButEquals() {
+		final Color col = ShapeFactory.INST.createColor(CSSColors.CSS_AZURE_RGB_VALUE.getR() - 0.0001, CSSColors.CSS_AZURE_RGB_VALUE.getG(),
+			CSSColors.CSS_AZURE_RGB_VALUE.getB());
+		assertEquals(CSSColors.CSS_AZURE_NAME, CSSColors.INSTANCE.getColorName(col, false));
+	}
+
+	@Test
+	void testAddUserColorReplacedNotFoundAnymore() {
+		CSSColors.INSTANCE.addUserColor(ShapeFactory.INST.createColorInt(7, 2, 1), "testReplacedColour");
+		CSSColors.INSTANCE.addUserColor(ShapeFactory.INST.createColorInt(8, 2, 1), "testReplacedColour");
+		assertNull(CSSColors.INSTANCE.getColorName(ShapeFactory.INST.createColorInt(7, 2, 1), false));
+		assertEquals("testReplacedColour", CSSColors.INSTANCE.getColorName(ShapeFactory.INST.createColorInt(8, 2, 1), false));
+	}
 }
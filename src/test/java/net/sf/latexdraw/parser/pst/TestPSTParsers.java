@@ -0,0 +1,99 @@
+package net.sf.latexdraw.parser.pst;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.sf.latexdraw.LatexdrawExtension;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(LatexdrawExtension.class)
+public class TestPSTParsers {
+	@AfterEach
+	void tearDown() {
+		PSTParsers.INSTANCE.setMaxDFAStates(PSTParsers.DEFAULT_MAX_DFA_STATES);
+	}
+
+	List<?> parse(final String code) {
+		final PSTLatexdrawListener listener = new TestPSTParser.ErrorPSTLatexdrawListener();
+		PSTParsers.INSTANCE.parse(code, listener, new TestPSTParser.ErrorListener());
+		return listener.flatShapes();
+	}
+
+	@Test
+	void testParseReusedParser() {
+		assertThat(parse("\\psframe(0,0)(2,2)\\pscircle(1,1){1}")).hasSize(2);
+		assertThat(parse("\\psline(0,0)(2,2)")).hasSize(1);
+	}
+
+	@Test
+	void testListenerNotNotifiedByNextParsing() {
+		final PSTLatexdrawListener listener = new PSTLatexdrawListener();
+		PSTParsers.INSTANCE.parse("\\psframe(0,0)(2,2)", listener, null);
+		parse("\\psline(0,0)(2,2)\\psline(0,0)(2,2)");
+		assertThat(listener.flatShapes()).hasSize(1);
+	}
+
+	@Test
+	void testSyntaxErrorsReported() {
+		final int[] errors = {0};
+		// The block is not closed: the grammar requires the closing brace
+		PSTParsers.INSTANCE.parse("{\\psframe(0,0)(2,2)", new PSTLatexdrawListener(), new BaseErrorListener() {
+			@Override
+			public void syntaxError(final Recognizer<?, ?> recognizer, final Object offendingSymbol, final int line, final int charPositionInLine,
+				final String msg, final RecognitionException e) {
+				errors[0]++;
+			}
+		});
+		assertThat(errors[0]).isPositive();
+	}
+
+	@Test
+	void testDFAKeptWarm() {
+		PSTParsers.INSTANCE.warmUp();
+		assertThat(PSTParsers.INSTANCE.getDFASize()).isPositive();
+		parse("\\psellipse(1,1)(2,1)");
+		assertThat(PSTParsers.INSTANCE.getDFASize()).isPositive();
+	}
+
+	@Test
+	void testDFABounded() {
+		PSTParsers.INSTANCE.setMaxDFAStates(1);
+		parse("\\psellipse(1,1)(2,1)\\psframe(0,0)(2,2)");
+		assertThat(PSTParsers.INSTANCE.getDFASize()).isLessThanOrEqualTo(1);
+	}
+
+	@Test
+	void testSetMaxDFAStatesNotPositive() {
+		PSTParsers.INSTANCE.setMaxDFAStates(0);
+		assertThat(PSTParsers.INSTANCE.getMaxDFAStates()).isEqualTo(PSTParsers.DEFAULT_MAX_DFA_STATES);
+	}
+
+	@Test
+	void testConcurrentParsings() throws InterruptedException, ExecutionException {
+		PSTParsers.INSTANCE.setMaxDFAStates(50);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<Callable<Integer>> tasks = IntStream.range(0, 40)
+				.mapToObj(i -> (Callable<Integer>) () -> parse("\\psframe(0,0)(2,2)\\psline(0,0)(2,2)".repeat(i % 5 + 1)).size())
+				.collect(Collectors.toList());
+			final List<Future<Integer>> results = executor.invokeAll(tasks);
+			for(int i = 0; i < results.size(); i++) {
+				assertThat(results.get(i).get()).isEqualTo((i % 5 + 1) * 2);
+			}
+		}finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package net.sf.latexdraw.parser.svg;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestSVGCodeScanner {
+	@ParameterizedTest
+	@ValueSource(strings = {"0", "-0", "1", "-1.5", ".5", "-.25", "123.456", "0.1", "0.3", "1234567890.0987654321", "12345678901234567890", "3.14159265358979323846"})
+	void testReadNumberSameAsParseDouble(final String code) {
+		final SVGCodeScanner scanner = new SVGCodeScanner(code);
+		assertEquals(Double.parseDouble(code), scanner.readNumber());
+		assertTrue(scanner.isEnd());
+		assertEquals(code, scanner.getNumberCode());
+	}
+
+	@Test
+	void testReadNumberRandomSameAsParseDouble() {
+		final Random random = new Random(1L);
+		for(int i = 0; i < 10_000; i++) {
+			final String code = String.format("%.6f", random.nextDouble() * 1000d - 500d).replace(',', '.'); //NON-NLS
+			assertEquals(Double.parseDouble(code), new SVGCodeScanner(code).readNumber(), code);
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "-", ".", "a", "-.", " 1"})
+	void testReadNumberKO(final String code) {
+		final SVGCodeScanner scanner = new SVGCodeScanner(code);
+		assertTrue(Double.isNaN(scanner.readNumber()));
+		assertEquals(0, scanner.getPosition());
+	}
+
+	@Test
+	void testReadNumberStopsAtDotWithoutDigit() {
+		final SVGCodeScanner scanner = new SVGCodeScanner("1.)");
+		assertEquals(1d, scanner.readNumber());
+		assertEquals('.', scanner.peek());
+	}
+
+	@Test
+	void testReadNumberSequence() {
+		final SVGCodeScanner scanner = new SVGCodeScanner("1-2.5.5");
+		assertEquals(1d, scanner.readNumber());
+		assertEquals(-2.5, scanner.readNumber());
+		assertEquals(0.5, scanner.readNumber());
+		assertTrue(scanner.isEnd());
+	}
+
+	@Test
+	void testSkipCommaWsp() {
+		final SVGCodeScanner scanner = new SVGCodeScanner(" \t,\n 1");
+		scanner.skipCommaWsp();
+		assertEquals('1', scanner.peek());
+	}
+
+	@Test
+	void testSkipCommaWspOnlyOneComma() {
+		final SVGCodeScanner scanner = new SVGCodeScanner(" , ,1");
+		scanner.skipCommaWsp();
+		assertEquals(',', scanner.peek());
+	}
+
+	@Test
+	void testReadName() {
+		final SVGCodeScanner scanner = new SVGCodeScanner("skewX(1)");
+		scanner.readName();
+		assertTrue(scanner.isName(SVGAttributes.SVG_TRANSFORM_SKEW_X));
+		assertFalse(scanner.isName(SVGAttributes.SVG_TRANSFORM_SKEW_Y));
+		assertFalse(scanner.isName("skew"));
+		assertEquals('(', scanner.peek());
+	}
+
+	@Test
+	void testReadArgs() {
+		final SVGCodeScanner scanner = new SVGCodeScanner(" ( 1,2 3 , 4\t5\n-6 ) ");
+		assertEquals(6, scanner.readArgs());
+		assertEquals(1d, scanner.getArg(0));
+		assertEquals(-6d, scanner.getArg(5));
+		assertEquals(' ', scanner.peek());
+	}
+
+	@Test
+	void testReadArgsEmpty() {
+		assertEquals(0, new SVGCodeScanner("()").readArgs());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "1)", "(1", "(1,)", "(,1)", "(1 a)", "(1 2 3 4 5 6 7)", "(1,,2)"})
+	void testReadArgsKO(final String code) {
+		assertEquals(-1, new SVGCodeScanner(code).readArgs());
+	}
+
+	@Test
+	void testSkipPast() {
+		final SVGCodeScanner scanner = new SVGCodeScanner("foo(1) bar");
+		scanner.skipPast(')');
+		assertEquals(' ', scanner.peek());
+		scanner.skipPast(')');
+		assertTrue(scanner.isEnd());
+	}
+
+	@Test
+	void testConsumeWord() {
+		final SVGCodeScanner scanner = new SVGCodeScanner("url(#a)");
+		assertFalse(scanner.consume("uri("));
+		assertTrue(scanner.consume("url("));
+		assertEquals('#', scanner.peek());
+	}
+}
@@ -0,0 +1,121 @@
+package net.sf.latexdraw.parser.svg;
+
+import net.sf.latexdraw.LatexdrawExtension;
+import net.sf.latexdraw.model.api.shape.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(LatexdrawExtension.class)
+public class TestSVGComputedStyle {
+	SVGDocument doc;
+	SVGElement group;
+	SVGElement elt;
+
+	@BeforeEach
+	void setUp() {
+		doc = new SVGDocument();
+		group = (SVGElement) doc.createElement("g");
+		elt = (SVGElement) doc.createElement("rect");
+		group.appendChild(elt);
+	}
+
+	@Test
+	void testDefaultValues() {
+		assertThat(elt.getStrokeWidth()).isEqualTo(1d);
+		assertThat(elt.getStrokeDasharray()).isEqualTo(SVGAttributes.SVG_VALUE_NONE);
+		assertThat(elt.getStrokeLinecap()).isEqualTo(SVGAttributes.SVG_LINECAP_VALUE_BUTT);
+		assertThat(elt.getFill()).isEqualTo(CSSColors.CSS_BLACK_NAME);
+		assertThat(elt.getStroke()).isEmpty();
+	}
+
+	@Test
+	void testInheritedValues() {
+		group.setAttribute(SVGAttributes.SVG_STROKE_WIDTH, "3");
+		group.setAttribute(SVGAttributes.SVG_STROKE_DASHARRAY, "1 2");
+		group.setAttribute(SVGAttributes.SVG_STROKE_LINECAP, SVGAttributes.SVG_LINECAP_VALUE_ROUND);
+		group.setAttribute(SVGAttributes.SVG_FILL, "red");
+		group.setAttribute(SVGAttributes.SVG_STROKE, "blue");
+		assertThat(elt.getStrokeWidth()).isEqualTo(3d);
+		assertThat(elt.getStrokeDasharray()).isEqualTo("1 2");
+		assertThat(elt.getStrokeLinecap()).isEqualTo(SVGAttributes.SVG_LINECAP_VALUE_ROUND);
+		assertThat(elt.getFill()).isEqualTo("red");
+		assertThat(elt.getStroke()).contains(CSSColors.INSTANCE.getRGBColour("blue"));
+	}
+
+	@Test
+	void testOwnValuesOverrideInheritedOnes() {
+		group.setAttribute(SVGAttributes.SVG_STROKE_WIDTH, "3");
+		elt.setAttribute(SVGAttributes.SVG_STROKE_WIDTH, "5");
+		assertThat(elt.getStrokeWidth()).isEqualTo(5d);
+		assertThat(group.getStrokeWidth()).isEqualTo(3d);
+	}
+
+	@Test
+	void testStyleCachedUntilAttributeChanges() {
+		final SVGComputedStyle style = elt.getComputedStyle();
+		assertThat(elt.getComputedStyle()).isSameAs(style);
+		elt.setAttribute(SVGAttributes.SVG_FILL, "green");
+		assertThat(elt.getComputedStyle()).isNotSameAs(style);
+		assertThat(elt.getFill()).isEqualTo("green");
+	}
+
+	@Test
+	void testAncestorChangeFlushesDescendants() {
+		assertThat(elt.getStrokeWidth()).isEqualTo(1d);
+		group.setAttribute(SVGAttributes.SVG_STROKE_WIDTH, "4");
+		assertThat(elt.getStrokeWidth()).isEqualTo(4d);
+		group.removeAttribute(SVGAttributes.SVG_STROKE_WIDTH);
+		assertThat(elt.getStrokeWidth()).isEqualTo(1d);
+	}
+
+	@Test
+	void testAttributeValueChangeFlushesStyle() {
+		group.setAttribute(SVGAttributes.SVG_FILL, "red");
+		assertThat(elt.getFill()).isEqualTo("red");
+		((SVGAttr) group.getAttributeNode(SVGAttributes.SVG_FILL)).setValue("blue");
+		assertThat(elt.getFill()).isEqualTo("blue");
+	}
+
+	@Test
+	void testAttributesListChangeFlushesStyle() {
+		assertThat(elt.getFill()).isEqualTo(CSSColors.CSS_BLACK_NAME);
+		((SVGNamedNodeMap) elt.getAttributes()).getAttributes().add(new SVGAttr(SVGAttributes.SVG_FILL, "green", elt));
+		assertThat(elt.getFill()).isEqualTo("green");
+	}
+
+	@Test
+	void testAncestorAttributesListChangeFlushesDescendants() {
+		assertThat(elt.getStrokeWidth()).isEqualTo(1d);
+		((SVGNamedNodeMap) group.getAttributes()).getAttributes().add(new SVGAttr(SVGAttributes.SVG_STROKE_WIDTH, "4", group));
+		assertThat(elt.getStrokeWidth()).isEqualTo(4d);
+		((SVGNamedNodeMap) group.getAttributes()).getAttributes().clear();
+		assertThat(elt.getStrokeWidth()).isEqualTo(1d);
+	}
+
+	@Test
+	void testParentChangeFlushesStyle() {
+		final SVGElement other = (SVGElement) doc.createElement("g");
+		other.setAttribute(SVGAttributes.SVG_FILL, "yellow");
+		assertThat(elt.getFill()).isEqualTo(CSSColors.CSS_BLACK_NAME);
+		elt.setParent(other);
+		assertThat(elt.getFill()).isEqualTo("yellow");
+	}
+
+	@Test
+	void testStrokeOpacity() {
+		elt.setAttribute(SVGAttributes.SVG_STROKE, "blue");
+		elt.setAttribute(SVGAttributes.SVG_STROKE_OPACITY, "0.5");
+		assertThat(elt.getStroke()).hasValueSatisfying(col -> assertThat(col.getO()).isEqualTo(0.5));
+	}
+
+	@Test
+	void testReturnedStrokeNotShared() {
+		elt.setAttribute(SVGAttributes.SVG_STROKE, "blue");
+		final Color col = elt.getStroke().orElseThrow();
+		col.setO(0.2);
+		assertThat(elt.getStroke()).hasValueSatisfying(c -> assertThat(c.getO()).isEqualTo(1d));
+	}
+}
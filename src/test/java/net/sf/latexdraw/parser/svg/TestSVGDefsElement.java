@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -44,6 +45,108 @@ public class TestSVGDefsElement extends TestBaseSVGElement {
 		assertEquals(mark, defs.getDef("id"));
 	}
 
+	@Test
+	void testGetDefIndexedOK() {
+		final SVGDefsElement docDefs = new SVGDefsElement(doc);
+		final SVGMarkerElement mark = new SVGMarkerElement(doc);
+		mark.setAttribute(SVGAttributes.SVG_ID, "foo");
+		docDefs.appendChild(mark);
+		assertEquals(mark, docDefs.getDef("foo"));
+	}
+
+	@Test
+	void testGetDefIndexedIdChanged() {
+		final SVGDefsElement docDefs = new SVGDefsElement(doc);
+		final SVGMarkerElement mark = new SVGMarkerElement(doc);
+		mark.setAttribute(SVGAttributes.SVG_ID, "foo");
+		docDefs.appendChild(mark);
+		mark.setAttribute(SVGAttributes.SVG_ID, "bar");
+		assertNull(docDefs.getDef("foo"));
+		assertEquals(mark, docDefs.getDef("bar"));
+	}
+
+	@Test
+	void testGetDefIndexedIdRemoved() {
+		final SVGDefsElement docDefs = new SVGDefsElement(doc);
+		final SVGMarkerElement mark = new SVGMarkerElement(doc);
+		mark.setAttribute(SVGAttributes.SVG_ID, "foo");
+		docDefs.appendChild(mark);
+		mark.removeAttribute(SVGAttributes.SVG_ID);
+		assertNull(docDefs.getDef("foo"));
+	}
+
+	@Test
+	void testGetDefIndexedChildRemoved() {
+		final SVGDefsElement docDefs = new SVGDefsElement(doc);
+		final SVGMarkerElement mark = new SVGMarkerElement(doc);
+		mark.setAttribute(SVGAttributes.SVG_ID, "foo");
+		docDefs.appendChild(mark);
+		docDefs.removeChild(mark);
+		assertNull(docDefs.getDef("foo"));
+		assertNull(mark.getParent());
+	}
+
+	@Test
+	void testGetDefIndexedNotAChild() {
+		final SVGDefsElement docDefs = new SVGDefsElement(doc);
+		final SVGDefsElement otherDefs = new SVGDefsElement(doc);
+		final SVGMarkerElement mark = new SVGMarkerElement(doc);
+		mark.setAttribute(SVGAttributes.SVG_ID, "foo");
+		otherDefs.appendChild(mark);
+		assertNull(docDefs.getDef("foo"));
+		assertEquals(mark, otherDefs.getDef("foo"));
+	}
+
+	@Test
+	void testGetDefIndexedInsertBefore() {
+		final SVGDefsElement docDefs = new SVGDefsElement(doc);
+		final SVGMarkerElement mark1 = new SVGMarkerElement(doc);
+		final SVGMarkerElement mark2 = new SVGMarkerElement(doc);
+		mark2.setAttribute(SVGAttributes.SVG_ID, "foo");
+		docDefs.appendChild(mark1);
+		docDefs.insertBefore(mark2, mark1);
+		assertEquals(mark2, docDefs.getDef("foo"));
+		assertEquals(mark2, docDefs.getFirstChild());
+	}
+
+	@Test
+	void testAddSharedDef() {
+		final SVGMarkerElement mark = new SVGMarkerElement(node.getOwnerDocument());
+		mark.setAttribute(SVGAttributes.SVG_ORIENT, SVGAttributes.SVG_VALUE_AUTO);
+		final String id = defs.addSharedDef(mark, "arrow");
+		assertEquals(mark, defs.getDef(id));
+		assertEquals(1, defs.getChildNodes().getLength());
+	}
+
+	@Test
+	void testAddSharedDefIdenticalShared() {
+		final SVGMarkerElement mark1 = new SVGMarkerElement(node.getOwnerDocument());
+		mark1.setAttribute(SVGAttributes.SVG_ORIENT, SVGAttributes.SVG_VALUE_AUTO);
+		final SVGMarkerElement mark2 = new SVGMarkerElement(node.getOwnerDocument());
+		mark2.setAttribute(SVGAttributes.SVG_ORIENT, SVGAttributes.SVG_VALUE_AUTO);
+		assertEquals(defs.addSharedDef(mark1, "arrow"), defs.addSharedDef(mark2, "arrow"));
+		assertEquals(1, defs.getChildNodes().getLength());
+	}
+
+	@Test
+	void testAddSharedDefDifferentNotShared() {
+		final SVGMarkerElement mark1 = new SVGMarkerElement(node.getOwnerDocument());
+		mark1.setAttribute(SVGAttributes.SVG_ORIENT, SVGAttributes.SVG_VALUE_AUTO);
+		final SVGMarkerElement mark2 = new SVGMarkerElement(node.getOwnerDocument());
+		mark2.setAttribute(SVGAttributes.SVG_ORIENT, "10");
+		assertNotEquals(defs.addSharedDef(mark1, "arrow"), defs.addSharedDef(mark2, "arrow"));
+		assertEquals(2, defs.getChildNodes().getLength());
+	}
+
+	@Test
+	void testAddSharedDefIdNotAlreadyUsed() {
+		final SVGMarkerElement mark1 = new SVGMarkerElement(node.getOwnerDocument());
+		mark1.setAttribute(SVGAttributes.SVG_ID, "arrow0");
+		defs.appendChild(mark1);
+		final SVGMarkerElement mark2 = new SVGMarkerElement(node.getOwnerDocument());
+		assertEquals("arrow1", defs.addSharedDef(mark2, "arrow"));
+	}
+
 	@Test
 	void testContructorKO() {
 		assertThrows(IllegalArgumentException.class, () -> new SVGDefsElement(null, null));
@@ -214,4 +214,57 @@ public class TestSVGDocument {
 		assertEquals("test", elt.getData());
 		assertEquals(doc1, elt.getOwnerDocument());
 	}
+
+	@Test
+	void testGetElementByIdNULL() {
+		assertNull(doc1.getElementById(null));
+	}
+
+	@Test
+	void testGetElementByIdUnknown() {
+		assertNull(doc1.getElementById("foo"));
+	}
+
+	@Test
+	void testGetElementByIdLoaded() {
+		final SVGElement elt = doc2.getElementById("id2");
+		assertNotNull(elt);
+		assertEquals("id2", elt.getId());
+		assertEquals(doc2, elt.getOwnerDocument());
+	}
+
+	@Test
+	void testGetElementByIdNotAttached() {
+		final SVGElement elt = (SVGElement) doc1.createElement("g");
+		elt.setAttribute(SVGAttributes.SVG_ID, "foo");
+		assertNull(doc1.getElementById("foo"));
+	}
+
+	@Test
+	void testGetElementByIdAttached() {
+		final SVGElement elt = (SVGElement) doc1.createElement("g");
+		elt.setAttribute(SVGAttributes.SVG_ID, "foo");
+		doc1.getFirstChild().appendChild(elt);
+		assertEquals(elt, doc1.getElementById("foo"));
+	}
+
+	@Test
+	void testGetElementByIdDescendantAttached() {
+		final SVGElement elt = (SVGElement) doc1.createElement("g");
+		final SVGElement child = new SVGGElement(doc2);
+		child.setAttribute(SVGAttributes.SVG_ID, "foo");
+		elt.appendChild(child);
+		doc1.getFirstChild().appendChild(elt);
+		assertEquals(child, doc1.getElementById("foo"));
+		assertNull(doc2.getElementById("foo"));
+	}
+
+	@Test
+	void testGetElementByIdDetached() {
+		final SVGElement elt = (SVGElement) doc1.createElement("g");
+		elt.setAttribute(SVGAttributes.SVG_ID, "foo");
+		doc1.getFirstChild().appendChild(elt);
+		doc1.getFirstChild().removeChild(elt);
+		assertNull(doc1.getElementById("foo"));
+	}
 }
@@ -151,6 +151,90 @@ public class TestSVGNamedNodeMap {
 		assertTrue(map.getNamedItem("test2").isEqualNode(map2.getNamedItem("test2")));
 	}
 
+	@Test
+	void testSetNamedItemReplacesInPlace() {
+		final SVGAttr attr1 = new SVGAttr("test1", "v1", doc.createElement("elt1"));
+		final SVGAttr attr2 = new SVGAttr("test2", "v2", doc.createElement("elt1"));
+		final SVGAttr attr3 = new SVGAttr("test1", "v3", doc.createElement("elt1"));
+		map.setNamedItem(attr1);
+		map.setNamedItem(attr2);
+		map.setNamedItem(attr3);
+		assertEquals(attr3, map.item(0));
+		assertEquals(attr3, map.getNamedItem("test1"));
+		assertEquals(2, map.getLength());
+	}
+
+	@Test
+	void testGetNamedItemAfterListReplacement() {
+		final SVGAttr attr1 = new SVGAttr("test1", "v1", doc.createElement("elt1"));
+		final SVGAttr attr2 = new SVGAttr("test2", "v2", doc.createElement("elt1"));
+		map.setNamedItem(attr1);
+		assertEquals(attr1, map.getNamedItem("test1"));
+		map.getAttributes().set(0, attr2);
+		assertNull(map.getNamedItem("test1"));
+		assertEquals(attr2, map.getNamedItem("test2"));
+	}
+
+	@Test
+	void testGetNamedItemAfterListRemoval() {
+		final SVGAttr attr1 = new SVGAttr("test1", "v1", doc.createElement("elt1"));
+		map.setNamedItem(attr1);
+		assertEquals(attr1, map.getNamedItem("test1"));
+		map.getAttributes().clear();
+		assertNull(map.getNamedItem("test1"));
+	}
+
+	@Test
+	void testGetNamedItemDuplicatedNameFirstOne() {
+		final SVGAttr attr1 = new SVGAttr("test1", "v1", doc.createElement("elt1"));
+		final SVGAttr attr2 = new SVGAttr("test1", "v2", doc.createElement("elt1"));
+		map.getAttributes().add(attr1);
+		map.getAttributes().add(attr2);
+		assertEquals(attr1, map.getNamedItem("test1"));
+	}
+
+	@Test
+	void testGetNamedItemManyAttributes() {
+		final SVGElement elt = (SVGElement) doc.createElement("elt1");
+		for(int i = 0; i < 1000; i++) {
+			map.setNamedItem(new SVGAttr("test" + i, "v" + i, elt));
+		}
+		assertEquals(1000, map.getLength());
+		for(int i = 0; i < 1000; i++) {
+			assertEquals("v" + i, map.getNamedItem("test" + i).getNodeValue());
+		}
+	}
+
+	@Test
+	void testSetNamedItemAfterListAddition() {
+		final SVGAttr attr1 = new SVGAttr("test1", "v1", doc.createElement("elt1"));
+		final SVGAttr attr2 = new SVGAttr("test2", "v2", doc.createElement("elt1"));
+		assertNull(map.getNamedItem("test1"));
+		map.getAttributes().add(attr1);
+		map.setNamedItem(attr2);
+		assertEquals(attr1, map.getNamedItem("test1"));
+		assertEquals(attr2, map.getNamedItem("test2"));
+	}
+
+	@Test
+	void testRemoveNamedItemDuplicatedNameNextOne() {
+		final SVGAttr attr1 = new SVGAttr("test1", "v1", doc.createElement("elt1"));
+		final SVGAttr attr2 = new SVGAttr("test1", "v2", doc.createElement("elt1"));
+		map.getAttributes().add(attr1);
+		map.getAttributes().add(attr2);
+		assertEquals(attr1, map.removeNamedItem("test1"));
+		assertEquals(attr2, map.getNamedItem("test1"));
+		assertEquals(attr2, map.removeNamedItem("test1"));
+		assertNull(map.getNamedItem("test1"));
+	}
+
+	@Test
+	void testModCountChangesOnListModification() {
+		final int modCount = map.getModCount();
+		map.getAttributes().add(new SVGAttr("test1", "v1", doc.createElement("elt1")));
+		assertTrue(modCount != map.getModCount());
+	}
+
 	@Test
 	void testGetAttributes() {
 		assertNotNull(map.getAttributes());
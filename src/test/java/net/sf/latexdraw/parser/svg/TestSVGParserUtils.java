@@ -29,11 +29,35 @@ class TestSVGParserUtils {
 	}
 
 	@ParameterizedTest
-	@ValueSource(strings = {"", "1m", "m", "1p", "1e1i", "1ci", "1 c "})
+	@ValueSource(strings = {" \turl( #id2)", "url(#a b)"})
+	void testParseURIRerefenceOKSpaces(final String code) {
+		assertEquals(code.substring(code.indexOf('#') + 1, code.length() - 1), SVGParserUtils.INSTANCE.parseURIRerefence(code));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"url(#id) ", "url(#i\nd)", " url (#id)"})
+	void testParseURIRerefenceKOSpaces(final String code) {
+		assertTrue(SVGParserUtils.INSTANCE.parseURIRerefence(code).isEmpty());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "1m", "m", "1p", "1e1i", "1ci", "1 c ", "1.", "-", "1cmcm", "1 2"})
 	void testParseLengthKO(final String data) {
 		assertTrue(SVGParserUtils.INSTANCE.parseLength(data).isEmpty());
 	}
 
+	@Test
+	void testParseLengthOKPT() {
+		final SVGLength length = SVGParserUtils.INSTANCE.parseLength(" .5pt ").orElseThrow();
+		assertEquals(".5", length.getValueAsString());
+		assertEquals(SVGParserUtils.INSTANCE.toUserUnit(0.5, SVGLength.LengthType.PT), length.getValue(), 0.001);
+	}
+
+	@Test
+	void testParseLengthNull() {
+		assertTrue(SVGParserUtils.INSTANCE.parseLength(null).isEmpty());
+	}
+
 	@Test
 	void testParseLengthOKMM() {
 		final SVGLength length = SVGParserUtils.INSTANCE.parseLength("0.65mm").orElseThrow();
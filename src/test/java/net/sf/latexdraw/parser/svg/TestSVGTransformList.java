@@ -79,6 +79,24 @@ public class TestSVGTransformList {
 		assertEquals(2, t.size());
 	}
 
+	@ParameterizedTest
+	@ValueSource(strings = {"translate(1 1) matrix(1 2 3) scale(2)", "translate(1 1) foo(1) scale(2)", "translate(1 1), rotate(1 2), scale(2)",
+		"translate(1 1) skewX(a) scale(2)"})
+	void testAddTransformationsInvalidOneSkipped(final String data) {
+		t.addTransformations(data);
+		assertEquals(2, t.size());
+		assertTrue(t.get(0) instanceof SVGTransform.SVGTranslateTransformation);
+		assertTrue(t.get(1) instanceof SVGTransform.SVGScaleTransformation);
+	}
+
+	@Test
+	void testAddTransformationsValues() {
+		t.addTransformations("translate(-1.5.5) scale(2)");
+		assertEquals(-1.5, ((SVGTransform.SVGTranslateTransformation) t.get(0)).getTx());
+		assertEquals(0.5, ((SVGTransform.SVGTranslateTransformation) t.get(0)).getTy());
+		assertEquals(2d, ((SVGTransform.SVGScaleTransformation) t.get(1)).getYScaleFactor());
+	}
+
 	@Test
 	void testAddTransformationsOK4() {
 		t.addTransformations("rotate ( 2, 3 5), \n skewX( 2	\n)");
@@ -0,0 +1,177 @@
+package net.sf.latexdraw.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.sf.latexdraw.LatexdrawExtension;
+import net.sf.latexdraw.model.api.shape.Shape;
+import net.sf.latexdraw.parser.svg.SVGDocument;
+import net.sf.latexdraw.parser.svg.SVGElement;
+import net.sf.latexdraw.view.jfx.ViewFactory;
+import net.sf.latexdraw.view.svg.SVGShapesFactory;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(LatexdrawExtension.class)
+class TestPSTImportService {
+	PSTImportService service;
+	LaTeXDataService latexData;
+	@TempDir Path dir;
+
+	@BeforeEach
+	void setUp() {
+		latexData = new LaTeXDataService();
+		service = new PSTImportService(new SVGShapesFactory(new ViewFactory(latexData)));
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.flush();
+		latexData.flush();
+	}
+
+	Path createFile(final String name, final String code) throws IOException {
+		final Path file = dir.resolve(name);
+		Files.createDirectories(file.getParent());
+		return Files.writeString(file, code, StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void testImportFile() throws IOException {
+		final PSTImportService.FileImport imp = service.importFile(createFile("fig.tex", "\\begin{pspicture}(0,0)(2,2)\\psframe(0,0)(2,2)\\pscircle(1,1){1}\\end{pspicture}"));
+		assertThat(imp.isReadable()).isTrue();
+		assertThat(imp.getDrawing().size()).isEqualTo(2);
+		assertThat(imp.getParseTime()).isPositive();
+		assertThat(imp.getUnknownCommands()).isEmpty();
+		assertThat(imp.getErrors()).isEmpty();
+		assertThat(imp.getSVGFile()).isEmpty();
+	}
+
+	@Test
+	void testImportFileUnknownCommands() throws IOException {
+		final PSTImportService.FileImport imp = service.importFile(createFile("fig.pst", "\\psframe(0,0)(2,2)\\psfoo(1,1)\\psbar"));
+		assertThat(imp.getUnknownCommands()).containsExactly("\\psfoo", "\\psbar");
+	}
+
+	@Test
+	void testImportFileNotReadable() {
+		final PSTImportService.FileImport imp = service.importFile(dir.resolve("nothere.tex"));
+		assertThat(imp.isReadable()).isFalse();
+		assertThat(imp.getErrors()).hasSize(1);
+		assertThat(imp.getDrawing().isEmpty()).isTrue();
+	}
+
+	@Test
+	void testImportFileLatin1() throws IOException {
+		final Path file = dir.resolve("latin.tex");
+		Files.write(file, "\\rput(1,1){\u00e9t\u00e9}".getBytes(StandardCharsets.ISO_8859_1));
+		assertThat(service.importFile(file).isReadable()).isTrue();
+	}
+
+	@Test
+	void testImportFilesKeepOrder() throws IOException, InterruptedException {
+		final List<Path> files = IntStream.range(0, 30)
+			.mapToObj(i -> {
+				try {
+					return createFile("fig" + i + ".tex", "\\psline(0,0)(1,1)".repeat(i + 1));
+				}catch(final IOException ex) {
+					throw new IllegalStateException(ex);
+				}
+			})
+			.collect(Collectors.toList());
+
+		final List<PSTImportService.FileImport> imports = service.importFiles(files);
+		assertThat(imports).hasSize(30);
+		for(int i = 0; i < imports.size(); i++) {
+			assertThat(imports.get(i).getFile()).isEqualTo(files.get(i));
+			assertThat(imports.get(i).getDrawing().size()).isEqualTo(i + 1);
+		}
+	}
+
+	@Test
+	void testImportFolder() throws IOException, InterruptedException {
+		createFile("a.tex", "\\psframe(0,0)(2,2)");
+		createFile("sub/b.PST", "\\pscircle(1,1){1}");
+		createFile("c.txt", "\\pscircle(1,1){1}");
+
+		final List<PSTImportService.FileImport> imports = service.importFolder(dir);
+		assertThat(imports).extracting(imp -> imp.getFile().getFileName().toString()).containsExactly("a.tex", "b.PST");
+	}
+
+	@Test
+	void testImportFilesAsSVG() throws IOException, InterruptedException {
+		final Path out = Files.createDirectory(dir.resolve("out"));
+		final List<PSTImportService.FileImport> imports = service.importFilesAsSVG(List.of(createFile("a.tex", "\\psframe(0,0)(2,2)"),
+			createFile("b.pst", "\\pscircle(1,1){1}")), out);
+
+		assertThat(imports).allMatch(imp -> imp.getSVGFile().isPresent());
+		assertThat(out.resolve("a.svg")).exists();
+		assertThat(out.resolve("b.svg")).exists();
+		assertThat(Files.readString(out.resolve("a.svg"))).contains("svg");
+	}
+
+	@Test
+	void testImportFilesAsSVGSameNameInSubFolders() throws IOException, InterruptedException {
+		final Path out = Files.createDirectory(dir.resolve("out"));
+		final List<PSTImportService.FileImport> imports = service.importFilesAsSVG(List.of(createFile("in/a/fig.tex", "\\psframe(0,0)(2,2)"),
+			createFile("in/b/fig.tex", "\\pscircle(1,1){1}"), createFile("in/b/fig.pst", "\\psline(0,0)(1,1)")), out);
+
+		assertThat(imports).allMatch(imp -> imp.getErrors().isEmpty());
+		assertThat(imports).extracting(imp -> imp.getSVGFile().orElseThrow())
+			.containsExactly(out.resolve("a/fig.svg"), out.resolve("b/fig.tex.svg"), out.resolve("b/fig.pst.svg"));
+		assertThat(Files.readString(out.resolve("a/fig.svg"))).contains("rect").doesNotContain("circle");
+		assertThat(Files.readString(out.resolve("b/fig.tex.svg"))).contains("circle");
+	}
+
+	@Test
+	void testImportFilesAsSVGSameFileReported() throws IOException, InterruptedException {
+		final Path out = Files.createDirectory(dir.resolve("out"));
+		final Path file = createFile("fig.tex", "\\psframe(0,0)(2,2)");
+		final List<PSTImportService.FileImport> imports = service.importFilesAsSVG(List.of(file, file), out);
+
+		assertThat(imports).allMatch(imp -> imp.getSVGFile().isEmpty());
+		assertThat(imports).allMatch(imp -> imp.getErrors().size() == 1);
+		assertThat(out.resolve("fig.svg")).doesNotExist();
+	}
+
+	@Test
+	void testImportFilesAsSVGExportedInTheCallingThread() throws IOException, InterruptedException {
+		final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		service.flush();
+		service = new PSTImportService(new SVGShapesFactory(new ViewFactory(latexData)) {
+			@Override
+			public SVGElement createSVGElement(final @NotNull Shape shape, final @NotNull SVGDocument doc) {
+				threads.add(Thread.currentThread());
+				return super.createSVGElement(shape, doc);
+			}
+		});
+		final List<Path> files = new ArrayList<>();
+		for(int i = 0; i < 20; i++) {
+			files.add(createFile("fig" + i + ".tex", "\\psframe(0,0)(2,2)\\pscircle(1,1){1}".repeat(i + 1)));
+		}
+
+		final List<PSTImportService.FileImport> imports = service.importFilesAsSVG(files, Files.createDirectory(dir.resolve("out")));
+
+		assertThat(imports).allMatch(imp -> imp.getSVGFile().isPresent());
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	void testGetSVGPathsRelativeToTheCommonFolder() {
+		assertThat(PSTImportService.getSVGPaths(List.of(dir.resolve("x/a/f.tex"), dir.resolve("x/g.pst"))))
+			.containsExactly(Path.of("a/f.svg"), Path.of("g.svg"));
+	}
+}
@@ -42,6 +42,7 @@ class TestPreferencesService {
 		assertEquals(p1.getPathExport(), p2.getPathExport());
 		assertEquals(p1.getPathOpen(), p2.getPathOpen());
 		assertEquals(p1.gridGapProperty().get(), p2.gridGapProperty().get());
+		assertEquals(p1.getExportDPI(), p2.getExportDPI());
 		assertEquals(p1.getRecentFiles(), p2.getRecentFiles());
 		assertEquals(p1.gridStyleProperty().get(), p2.gridStyleProperty().get());
 		assertEquals(p1.isMagneticGrid(), p2.isMagneticGrid());
@@ -101,6 +102,11 @@ class TestPreferencesService {
 			assertEquals(10, prefs.gridGapProperty().get());
 		}
 
+		@Test
+		void testExportDPI() {
+			assertEquals(288, prefs.getExportDPI());
+		}
+
 		@Test
 		void testIsMagneticGrid() {
 			assertFalse(prefs.isMagneticGrid());
@@ -242,6 +248,7 @@ class TestPreferencesService {
 			prefs.setCurrentFolder(tempDir.toFile());
 			prefs.setCurrentFile(file);
 			prefs.gridGapProperty().set(prefs.gridGapProperty().get() * 2);
+			prefs.exportDPIProperty().set(600);
 			prefs.addRecentFile("fooRecent");
 			prefs.addRecentFile("barFile");
 			prefs.gridStyleProperty().set(GridStyle.CUSTOMISED);
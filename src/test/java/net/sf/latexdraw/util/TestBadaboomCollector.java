@@ -0,0 +1,157 @@
+package net.sf.latexdraw.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javafx.collections.ListChangeListener;
+import net.sf.latexdraw.LatexdrawExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(LatexdrawExtension.class)
+public class TestBadaboomCollector {
+	BadaboomCollector collector;
+
+	@BeforeEach
+	void setUp() {
+		collector = new BadaboomCollector(3, 10_000L);
+	}
+
+	/**
+	 * @return An error always thrown at the same place.
+	 */
+	static IllegalArgumentException createError(final String msg) {
+		return new IllegalArgumentException(msg);
+	}
+
+	@Test
+	void testInvalidCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> new BadaboomCollector(0, 10L));
+	}
+
+	@Test
+	void testInvalidDelay() {
+		assertThrows(IllegalArgumentException.class, () -> new BadaboomCollector(10, -1L));
+	}
+
+	@Test
+	void testAddNotPublishedImmediately() {
+		collector.add(new IllegalArgumentException("foo"));
+		assertThat(collector.errorsProperty()).isEmpty();
+	}
+
+	@Test
+	void testPublishPendingErrors() {
+		final IllegalArgumentException ex = new IllegalArgumentException("foo");
+		collector.add(ex);
+		collector.publishPendingErrors();
+		assertThat(collector.errorsProperty()).containsExactly(ex);
+	}
+
+	@Test
+	void testPublishedByBatch() {
+		final AtomicInteger nbChanges = new AtomicInteger();
+		collector.errorsProperty().addListener((ListChangeListener<Throwable>) c -> nbChanges.incrementAndGet());
+		collector.add(new IllegalArgumentException("foo"));
+		collector.add(new IllegalStateException("foo"));
+		collector.add(new IllegalArgumentException("bar"));
+		collector.publishPendingErrors();
+		assertThat(collector.errorsProperty()).hasSize(3);
+		assertThat(nbChanges.get()).isEqualTo(1);
+	}
+
+	@Test
+	void testRepeatedErrorsCollectedOnce() {
+		final IllegalArgumentException ex = createError("foo");
+		collector.add(ex);
+		IntStream.range(0, 4).forEach(i -> collector.add(createError("foo")));
+		collector.publishPendingErrors();
+		assertThat(collector.errorsProperty()).containsExactly(ex);
+		assertThat(collector.getOccurrences(ex)).isEqualTo(5);
+	}
+
+	@Test
+	void testRepeatedErrorAfterPublicationNotifies() {
+		final IllegalArgumentException ex = createError("foo");
+		collector.add(ex);
+		collector.publishPendingErrors();
+		final AtomicInteger nbChanges = new AtomicInteger();
+		collector.errorsProperty().addListener((ListChangeListener<Throwable>) c -> nbChanges.incrementAndGet());
+		collector.add(createError("foo"));
+		collector.publishPendingErrors();
+		assertThat(collector.errorsProperty()).containsExactly(ex);
+		assertThat(collector.getOccurrences(ex)).isEqualTo(2);
+		assertThat(nbChanges.get()).isEqualTo(1);
+	}
+
+	@Test
+	void testErrorsWithoutMessageThrownAtDifferentPlacesDistinguished() {
+		collector.add(new NullPointerException());
+		collector.add(new NullPointerException());
+		collector.publishPendingErrors();
+		assertThat(collector.errorsProperty()).hasSize(2);
+	}
+
+	@Test
+	void testOccurrencesUnknownError() {
+		assertThat(collector.getOccurrences(new IllegalArgumentException("foo"))).isZero();
+	}
+
+	@Test
+	void testCapacityBounded() {
+		IntStream.range(0, 5).forEach(i -> collector.add(new IllegalArgumentException(String.valueOf(i))));
+		collector.publishPendingErrors();
+		assertThat(collector.errorsProperty()).hasSize(3);
+		assertThat(collector.getDroppedErrors()).isEqualTo(2);
+	}
+
+	@Test
+	void testRepeatedErrorCountedWhenFull() {
+		final IllegalArgumentException ex = createError("0");
+		collector.add(ex);
+		IntStream.range(1, 5).forEach(i -> collector.add(createError(String.valueOf(i))));
+		collector.add(createError("0"));
+		assertThat(collector.getOccurrences(ex)).isEqualTo(2);
+	}
+
+	@Test
+	void testClear() {
+		collector.add(createError("foo"));
+		collector.publishPendingErrors();
+		collector.add(createError("bar"));
+		collector.clear();
+		collector.publishPendingErrors();
+		assertThat(collector.errorsProperty()).isEmpty();
+		assertThat(collector.getOccurrences(createError("foo"))).isZero();
+	}
+
+	@Test
+	void testConcurrentAdds() throws InterruptedException {
+		collector = new BadaboomCollector(100, 10_000L);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		IntStream.range(0, 4).forEach(t -> executor.submit(() ->
+			IntStream.range(0, 500).forEach(i -> collector.add(new IllegalArgumentException(String.valueOf(i % 10))))));
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		collector.publishPendingErrors();
+		assertThat(collector.errorsProperty()).hasSize(10);
+		assertThat(collector.errorsProperty().stream().mapToInt(ex -> collector.getOccurrences(ex)).sum()).isEqualTo(2000);
+	}
+
+	@Test
+	void testAutomaticPublication() throws TimeoutException {
+		collector = new BadaboomCollector(10, 10L);
+		collector.add(new IllegalArgumentException("foo"));
+		assertThat(collector.isPublicationPending()).isTrue();
+		WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> !collector.isPublicationPending());
+		assertThat(collector.errorsProperty()).hasSize(1);
+	}
+}
@@ -1,7 +1,15 @@
 package net.sf.latexdraw.util;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Handler;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import net.sf.latexdraw.HelperTest;
 import net.sf.latexdraw.LatexdrawExtension;
 import org.junit.jupiter.api.AfterEach;
@@ -17,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 @ExtendWith(LatexdrawExtension.class)
@@ -296,6 +305,177 @@ public class TestInjector implements HelperTest {
 		injector.initialise();
 	}
 
+	@Test
+	void testLazySingletonNotCreatedAtConfiguration() {
+		injector = new Injector() {
+			@Override
+			protected void configure() throws NoSuchMethodException {
+				bindAsLazySingleton(I.class);
+			}
+		};
+		injector.initialise();
+		assertEquals(0, I.cpt);
+		assertTrue(injector.getInstances().isEmpty());
+	}
+
+	@Test
+	void testLazySingletonCreatedOnce() {
+		injector = new Injector() {
+			@Override
+			protected void configure() throws NoSuchMethodException {
+				bindAsLazySingleton(I.class);
+			}
+		};
+		injector.initialise();
+		final I i = injector.getInstance(I.class);
+		assertNotNull(i);
+		assertSame(i, injector.getInstance(I.class));
+		assertEquals(1, I.cpt);
+		assertSame(i, injector.getInstances().iterator().next());
+	}
+
+	@Test
+	void testLazySingletonConcurrentCreation() throws InterruptedException, ExecutionException {
+		injector = new Injector() {
+			@Override
+			protected void configure() throws NoSuchMethodException {
+				bindAsLazySingleton(I.class);
+			}
+		};
+		injector.initialise();
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final List<Callable<I>> tasks = IntStream.range(0, 64).mapToObj(index -> (Callable<I>) () -> injector.getInstance(I.class)).collect(Collectors.toList());
+			final List<Future<I>> results = executor.invokeAll(tasks);
+			final I i = results.get(0).get();
+			assertNotNull(i);
+			for(final Future<I> res : results) {
+				assertSame(i, res.get());
+			}
+			assertEquals(1, I.cpt);
+		}finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testLazySingletonInjectedInEagerSingleton() {
+		injector = new Injector() {
+			@Override
+			protected void configure() throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+				bindAsLazySingleton(B.class);
+				bindAsEagerSingleton(X.class);
+			}
+		};
+		injector.initialise();
+		final X x = injector.getInstance(X.class);
+		assertNotNull(x.b);
+		assertSame(injector.getInstance(B.class), x.b);
+	}
+
+	@Test
+	void testLazySingletonWithLazyDependencies() {
+		injector = new Injector() {
+			@Override
+			protected void configure() throws NoSuchMethodException {
+				bindAsLazySingleton(E.class);
+				bindAsLazySingleton(D.class);
+			}
+		};
+		injector.initialise();
+		final E e = injector.getInstance(E.class);
+		assertNotNull(e);
+		assertSame(injector.getInstance(D.class), e.d);
+		Mockito.verify(handler, Mockito.never()).publish(Mockito.any());
+	}
+
+	@Test
+	void testLazySingletonCanBeSourceOfBinding() {
+		injector = new Injector() {
+			@Override
+			protected void configure() throws NoSuchMethodException {
+				bindAsLazySingleton(D.class);
+				bindWithCommand(F.class, D.class, d -> new G());
+			}
+		};
+		injector.initialise();
+		assertNotNull(injector.getInstance(F.class));
+		Mockito.verify(handler, Mockito.never()).publish(Mockito.any());
+	}
+
+	@Test
+	void testLazySingletonCyclicDependencies() {
+		injector = new Injector() {
+			@Override
+			protected void configure() throws NoSuchMethodException {
+				bindAsLazySingleton(Cycle1.class);
+				bindAsLazySingleton(Cycle2.class);
+			}
+		};
+		injector.initialise();
+		final Cycle1 cycle = injector.getInstance(Cycle1.class);
+		assertNotNull(cycle);
+		assertNotNull(cycle.other);
+		assertNull(cycle.other.other);
+		Mockito.verify(handler, Mockito.atLeastOnce()).publish(Mockito.any());
+	}
+
+	@Test
+	void testLazySingletonFailsOnPrivateConstructor() {
+		injector = new Injector() {
+			@Override
+			protected void configure() throws NoSuchMethodException {
+				bindAsLazySingleton(K.class);
+			}
+		};
+		injector.initialise();
+		assertNull(injector.getInstance(K.class));
+		Mockito.verify(handler, Mockito.atLeastOnce()).publish(Mockito.any());
+	}
+
+	@Test
+	void testLazySingletonNoConstructorToInject() {
+		injector = new Injector() {
+			@Override
+			protected void configure() {
+				assertThrows(NoSuchMethodException.class, () -> bindAsLazySingleton(J.class));
+			}
+		};
+		injector.initialise();
+	}
+
+	@Test
+	void testLazySingletonNullClass() throws NoSuchMethodException {
+		injector = new Injector() {
+			@Override
+			protected void configure() {
+			}
+		};
+		injector.initialise();
+		injector.bindAsLazySingleton(null);
+		assertTrue(injector.getInstances().isEmpty());
+	}
+
+	static class Cycle1 {
+		final Cycle2 other;
+
+		@Inject
+		Cycle1(final Cycle2 other) {
+			super();
+			this.other = other;
+		}
+	}
+
+	static class Cycle2 {
+		final Cycle1 other;
+
+		@Inject
+		Cycle2(final Cycle1 other) {
+			super();
+			this.other = other;
+		}
+	}
+
 	static class J {
 		B b;
 
@@ -0,0 +1,166 @@
+package net.sf.latexdraw.util;
+
+import io.github.interacto.command.CommandsRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import net.sf.latexdraw.LatexdrawExtension;
+import net.sf.latexdraw.command.LatexProperties;
+import net.sf.latexdraw.command.ModifyLatexProperties;
+import net.sf.latexdraw.service.LaTeXDataService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(LatexdrawExtension.class)
+public class TestPerfMetrics {
+	PerfMetrics metrics;
+
+	@BeforeEach
+	void setUp() {
+		metrics = PerfMetrics.INSTANCE;
+		metrics.clear();
+		metrics.setEnabled(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		metrics.setEnabled(false);
+		metrics.clear();
+	}
+
+	@Test
+	void testDisabledRecordsNothing() {
+		metrics.setEnabled(false);
+		try(PerfMetrics.Timing ignored = metrics.start("foo")) {
+			metrics.increment("bar");
+			metrics.record("yo", 10L);
+		}
+		assertThat(metrics.getMetrics()).isEmpty();
+	}
+
+	@Test
+	void testDisabledTimeStillRunsOperation() {
+		metrics.setEnabled(false);
+		assertEquals("foo", metrics.time("t", () -> "foo"));
+		assertThat(metrics.getMetrics()).isEmpty();
+	}
+
+	@Test
+	void testTimer() {
+		assertEquals(Integer.valueOf(3), metrics.time("timer", () -> 3));
+		final List<PerfMetrics.Metric> list = metrics.getMetrics();
+		assertEquals(1, list.size());
+		assertEquals("timer", list.get(0).getName());
+		assertEquals(PerfMetrics.Metric.Kind.TIMER, list.get(0).getKind());
+		assertEquals(1L, list.get(0).getCount());
+		assertTrue(list.get(0).getMax() >= 0L);
+	}
+
+	@Test
+	void testCounter() {
+		metrics.increment("c");
+		metrics.increment("c");
+		final PerfMetrics.Metric metric = metrics.getMetrics().get(0);
+		assertEquals(PerfMetrics.Metric.Kind.COUNTER, metric.getKind());
+		assertEquals(2L, metric.getCount());
+	}
+
+	@Test
+	void testHistogramStats() {
+		metrics.record("h", 2L);
+		metrics.record("h", 4L);
+		metrics.record("h", 6L);
+		final PerfMetrics.Metric metric = metrics.getMetrics().get(0);
+		assertEquals(PerfMetrics.Metric.Kind.HISTOGRAM, metric.getKind());
+		assertEquals(3L, metric.getCount());
+		assertEquals(12L, metric.getSum());
+		assertEquals(2L, metric.getMin());
+		assertEquals(6L, metric.getMax());
+		assertEquals(4d, metric.getMean(), 0.00001);
+	}
+
+	@Test
+	void testPercentileBoundedByMax() {
+		for(int i = 0; i < 100; i++) {
+			metrics.record("h", 1000L);
+		}
+		assertEquals(1000L, metrics.getMetrics().get(0).getPercentile(0.95));
+	}
+
+	@Test
+	void testPercentileUsesLog2Buckets() {
+		for(int i = 0; i < 99; i++) {
+			metrics.record("h", 3L);
+		}
+		metrics.record("h", 5000L);
+		final PerfMetrics.Metric metric = metrics.getMetrics().get(0);
+		assertEquals(3L, metric.getPercentile(0.5));
+		assertEquals(5000L, metric.getPercentile(1d));
+	}
+
+	@Test
+	void testMetricsSortedByName() {
+		metrics.increment("b");
+		metrics.increment("a");
+		assertEquals("a", metrics.getMetrics().get(0).getName());
+		assertEquals("b", metrics.getMetrics().get(1).getName());
+	}
+
+	@Test
+	void testClear() {
+		metrics.increment("a");
+		metrics.clear();
+		assertThat(metrics.getMetrics()).isEmpty();
+	}
+
+	@Test
+	void testToJSON() {
+		metrics.increment("foo\"bar");
+		metrics.record("h", 12L);
+		assertThat(metrics.toJSON()).contains("\"foo\\\"bar\"", "\"h\"", "\"HISTOGRAM\"", "\"COUNTER\"");
+	}
+
+	@Test
+	void testExportJSON(@TempDir final Path dir) throws IOException {
+		metrics.increment("foo");
+		final Path path = dir.resolve("metrics.json");
+		metrics.exportJSON(path);
+		assertEquals(metrics.toJSON(), Files.readString(path));
+	}
+
+	void executeCommand() {
+		final LaTeXDataService data = new LaTeXDataService();
+		final ModifyLatexProperties cmd = new ModifyLatexProperties(data, LatexProperties.CAPTION, "foo");
+		cmd.doIt();
+		cmd.done();
+		CommandsRegistry.getInstance().addCommand(cmd);
+		data.flush();
+	}
+
+	@Test
+	void testCommandsCountedWhenEnabled() {
+		// Enabling twice must not subscribe twice.
+		metrics.setEnabled(true);
+		executeCommand();
+		assertThat(metrics.getMetrics()).extracting(PerfMetrics.Metric::getName).containsExactly("command.ModifyLatexProperties");
+		assertEquals(1L, metrics.getMetrics().get(0).getCount());
+	}
+
+	@Test
+	void testCommandsNotObservedWhenDisabled() {
+		metrics.setEnabled(false);
+		metrics.setEnabled(true);
+		metrics.setEnabled(false);
+		executeCommand();
+		metrics.setEnabled(true);
+		assertThat(metrics.getMetrics()).isEmpty();
+	}
+}
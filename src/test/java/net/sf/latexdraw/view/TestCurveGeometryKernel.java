@@ -0,0 +1,199 @@
+package net.sf.latexdraw.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.FreeHandStyle;
+import net.sf.latexdraw.model.api.shape.Freehand;
+import net.sf.latexdraw.model.api.shape.Point;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class TestCurveGeometryKernel {
+	Freehand fh;
+
+	@BeforeEach
+	void setUp() {
+		fh = ShapeFactory.INST.createFreeHand(List.of(
+			ShapeFactory.INST.createPoint(10, 20),
+			ShapeFactory.INST.createPoint(30, 40),
+			ShapeFactory.INST.createPoint(50, 10),
+			ShapeFactory.INST.createPoint(70, 60),
+			ShapeFactory.INST.createPoint(90, 30)));
+		fh.setInterval(1);
+	}
+
+	static List<String> segments(final CurveGeometry geometry) {
+		final List<String> segs = new ArrayList<>();
+		geometry.forEach(new CurveGeometry.SegmentHandler() {
+			@Override
+			public void moveTo(final double x, final double y) {
+				segs.add("M " + x + " " + y);
+			}
+
+			@Override
+			public void lineTo(final double x, final double y) {
+				segs.add("L " + x + " " + y);
+			}
+
+			@Override
+			public void curveTo(final double x1, final double y1, final double x2, final double y2, final double x, final double y) {
+				segs.add("C " + x1 + " " + y1 + " " + x2 + " " + y2 + " " + x + " " + y);
+			}
+		});
+		return segs;
+	}
+
+	@Test
+	void testToCoordinates() {
+		assertThat(CurveGeometryKernel.toCoordinates(fh.getPoints())).containsExactly(10, 20, 30, 40, 50, 10, 70, 60, 90, 30);
+	}
+
+	@Test
+	void testComputeFreehandGeometryEmpty() {
+		assertThat(CurveGeometryKernel.INST.computeFreehandGeometry(new double[0], 1, FreeHandStyle.CURVES).isEmpty()).isTrue();
+	}
+
+	@Test
+	void testComputeFreehandGeometryLines() {
+		assertThat(segments(CurveGeometryKernel.INST.computeFreehandGeometry(new double[] {0, 0, 1, 1, 2, 2}, 1, FreeHandStyle.LINES)))
+			.containsExactly("M 0.0 0.0", "L 1.0 1.0", "L 2.0 2.0");
+	}
+
+	@Test
+	void testComputeFreehandGeometryLinesIntervalLastPointAdded() {
+		assertThat(segments(CurveGeometryKernel.INST.computeFreehandGeometry(new double[] {0, 0, 1, 1, 2, 2, 3, 3}, 2, FreeHandStyle.LINES)))
+			.containsExactly("M 0.0 0.0", "L 2.0 2.0", "L 3.0 3.0");
+	}
+
+	@Test
+	void testComputeFreehandGeometryLinesIntervalLastPointNotDuplicated() {
+		assertThat(segments(CurveGeometryKernel.INST.computeFreehandGeometry(new double[] {0, 0, 1, 1, 2, 2}, 2, FreeHandStyle.LINES)))
+			.containsExactly("M 0.0 0.0", "L 2.0 2.0");
+	}
+
+	@Test
+	void testComputeFreehandGeometryCurves() {
+		assertThat(segments(CurveGeometryKernel.INST.computeFreehandGeometry(new double[] {0, 0, 4, 0, 8, 4}, 1, FreeHandStyle.CURVES)))
+			.containsExactly("M 0.0 0.0", "L 2.0 0.0", "C 3.0 0.0 5.0 1.0 6.0 2.0");
+	}
+
+	@Test
+	void testComputeFreehandGeometryCurvesLastPointAdded() {
+		assertThat(segments(CurveGeometryKernel.INST.computeFreehandGeometry(new double[] {0, 0, 4, 0, 8, 4, 12, 4}, 2, FreeHandStyle.CURVES)))
+			.containsExactly("M 0.0 0.0", "L 4.0 2.0", "C 6.0 3.0 9.0 4.0 12.0 4.0");
+	}
+
+	@Test
+	void testGetFreehandGeometryCached() {
+		assertThat(CurveGeometryKernel.INST.getFreehandGeometry(fh)).isSameAs(CurveGeometryKernel.INST.getFreehandGeometry(fh));
+	}
+
+	@Test
+	void testGetFreehandGeometrySameAsComputed() {
+		assertThat(segments(CurveGeometryKernel.INST.getFreehandGeometry(fh))).isEqualTo(segments(CurveGeometryKernel.INST.
+			computeFreehandGeometry(CurveGeometryKernel.toCoordinates(fh.getPoints()), fh.getInterval(), fh.getType())));
+	}
+
+	@Test
+	void testGetFreehandGeometryPointMoved() {
+		final CurveGeometry geometry = CurveGeometryKernel.INST.getFreehandGeometry(fh);
+		fh.getPtAt(2).setX(55d);
+		assertThat(CurveGeometryKernel.INST.getFreehandGeometry(fh)).isNotSameAs(geometry);
+		assertThat(segments(CurveGeometryKernel.INST.getFreehandGeometry(fh))).isNotEqualTo(segments(geometry));
+	}
+
+	@Test
+	void testGetFreehandGeometryPointAdded() {
+		final CurveGeometry geometry = CurveGeometryKernel.INST.getFreehandGeometry(fh);
+		final List<Point> pts = new ArrayList<>(fh.getPoints());
+		pts.add(ShapeFactory.INST.createPoint(100, 100));
+		fh.setPoints(pts);
+		assertThat(CurveGeometryKernel.INST.getFreehandGeometry(fh).getNbSegments()).isGreaterThan(geometry.getNbSegments());
+	}
+
+	@Test
+	void testGetFreehandGeometryIntervalChanged() {
+		final CurveGeometry geometry = CurveGeometryKernel.INST.getFreehandGeometry(fh);
+		fh.setInterval(2);
+		assertThat(CurveGeometryKernel.INST.getFreehandGeometry(fh).getNbSegments()).isLessThan(geometry.getNbSegments());
+	}
+
+	@Test
+	void testGetFreehandGeometryTypeChanged() {
+		fh.setType(FreeHandStyle.CURVES);
+		final CurveGeometry geometry = CurveGeometryKernel.INST.getFreehandGeometry(fh);
+		fh.setType(FreeHandStyle.LINES);
+		assertThat(segments(CurveGeometryKernel.INST.getFreehandGeometry(fh))).isNotEqualTo(segments(geometry));
+	}
+
+	@Test
+	void testPointsVersionIncreasedOnMove() {
+		final long version = fh.getPointsVersion();
+		fh.translate(1d, 1d);
+		assertThat(fh.getPointsVersion()).isGreaterThan(version);
+	}
+
+	@Test
+	void testComputeCurveFirstControlPointsStraightLine() {
+		assertThat(CurveGeometryKernel.INST.computeCurveFirstControlPoints(new double[] {0, 0, 100, 0, 200, 0}))
+			.containsExactly(new double[] {33d, 0d, 67d, 0d, 167d, 0d}, within(0.0001));
+	}
+
+	@Test
+	void testComputeCurveFirstControlPointsSameNeighbours() {
+		final double[] ctrls = CurveGeometryKernel.INST.computeCurveFirstControlPoints(new double[] {0, 0, 100, 50, 0, 0});
+		assertThat(ctrls[2]).isEqualTo(100d);
+		assertThat(ctrls[3]).isEqualTo(50d);
+	}
+
+	@Test
+	void testComputeCurveFirstControlPointsOnePoint() {
+		assertThat(CurveGeometryKernel.INST.computeCurveFirstControlPoints(new double[] {1, 2})).containsExactly(1d, 2d);
+	}
+
+	@Test
+	void testSimplifyStraightLine() {
+		assertThat(CurveGeometryKernel.INST.simplify(new double[] {0, 0, 1, 0.1, 2, 0, 3, 0.1, 4, 0}, 0.5)).containsExactly(0, 4);
+	}
+
+	@Test
+	void testSimplifyKeepsDetails() {
+		assertThat(CurveGeometryKernel.INST.simplify(new double[] {0, 0, 1, 10, 2, 0}, 0.5)).containsExactly(0, 1, 2);
+	}
+
+	@Test
+	void testSimplifyNoTolerance() {
+		assertThat(CurveGeometryKernel.INST.simplify(new double[] {0, 0, 1, 0, 2, 0}, 0d)).containsExactly(0, 1, 2);
+	}
+
+	@Test
+	void testResample() {
+		assertThat(CurveGeometryKernel.INST.resample(new double[] {0, 0, 10, 0}, 2.5)).containsExactly(0, 0, 2.5, 0, 5, 0, 7.5, 0, 10, 0);
+	}
+
+	@Test
+	void testResampleSeveralSegments() {
+		assertThat(CurveGeometryKernel.INST.resample(new double[] {0, 0, 1, 0, 1, 3}, 2)).containsExactly(0, 0, 1, 1, 1, 3);
+	}
+
+	@Test
+	void testResampleKeepsLastPoint() {
+		assertThat(CurveGeometryKernel.INST.resample(new double[] {0, 0, 5, 0}, 2)).containsExactly(0, 0, 2, 0, 4, 0, 5, 0);
+	}
+
+	@Test
+	void testResampleNoStep() {
+		final double[] xy = {0, 0, 5, 0};
+		assertThat(CurveGeometryKernel.INST.resample(xy, 0d)).isSameAs(xy);
+	}
+
+	@Test
+	void testResampleSamePoints() {
+		final double[] xy = {1, 1, 1, 1};
+		assertThat(CurveGeometryKernel.INST.resample(xy, 1d)).isSameAs(xy);
+	}
+}
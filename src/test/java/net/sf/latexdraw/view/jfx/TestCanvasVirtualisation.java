@@ -0,0 +1,164 @@
+package net.sf.latexdraw.view.jfx;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javafx.application.Platform;
+import javafx.geometry.Bounds;
+import javafx.scene.Scene;
+import javafx.scene.control.ScrollPane;
+import javafx.stage.Stage;
+import net.sf.latexdraw.LatexdrawExtension;
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.Shape;
+import net.sf.latexdraw.service.LaTeXDataService;
+import net.sf.latexdraw.service.PreferencesService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(LatexdrawExtension.class)
+@ExtendWith(ApplicationExtension.class)
+public class TestCanvasVirtualisation {
+	Canvas canvas;
+	ScrollPane scrollPane;
+	List<Shape> nearShapes;
+	List<Shape> farShapes;
+
+	@Start
+	void start(final Stage stage) {
+		canvas = new Canvas(new PreferencesService(), new ViewFactory(Mockito.mock(LaTeXDataService.class)));
+		scrollPane = new ScrollPane(canvas);
+		stage.setScene(new Scene(scrollPane, 400, 300));
+		stage.show();
+	}
+
+	@BeforeEach
+	void setUp() {
+		Platform.runLater(() -> canvas.setVirtualisationThreshold(10));
+		nearShapes = IntStream.range(0, 10).mapToObj(i -> (Shape) ShapeFactory.INST.createRectangle(
+			ShapeFactory.INST.createPoint(-Canvas.ORIGIN.getX() + 50d + i * 10d, -Canvas.ORIGIN.getY() + 50d), 20d, 20d)).collect(Collectors.toList());
+		farShapes = IntStream.range(0, 10).mapToObj(i -> (Shape) ShapeFactory.INST.createRectangle(
+			ShapeFactory.INST.createPoint(1500d + i * 10d, 1500d), 20d, 20d)).collect(Collectors.toList());
+		Platform.runLater(() -> {
+			scrollPane.setHvalue(0d);
+			scrollPane.setVvalue(0d);
+		});
+		WaitForAsyncUtils.waitForFxEvents();
+	}
+
+	@AfterEach
+	void tearDown() {
+		canvas.flush();
+	}
+
+	void addShapes() {
+		Platform.runLater(() -> {
+			IntStream.range(0, nearShapes.size()).forEach(i -> {
+				canvas.getDrawing().addShape(nearShapes.get(i));
+				canvas.getDrawing().addShape(farShapes.get(i));
+			});
+		});
+		WaitForAsyncUtils.waitForFxEvents();
+	}
+
+	void scroll(final double value) {
+		Platform.runLater(() -> {
+			scrollPane.setHvalue(value);
+			scrollPane.setVvalue(value);
+		});
+		WaitForAsyncUtils.waitForFxEvents();
+		WaitForAsyncUtils.sleep(100, TimeUnit.MILLISECONDS);
+		WaitForAsyncUtils.waitForFxEvents();
+	}
+
+	List<Object> getViewedShapes() {
+		return canvas.getViews().getChildren().stream().map(view -> view.getUserData()).collect(Collectors.toList());
+	}
+
+	@Test
+	void testOnlyShapesCloseToViewportHaveViews() {
+		addShapes();
+		assertThat(getViewedShapes()).containsExactlyElementsOf(nearShapes);
+	}
+
+	@Test
+	void testSmallDrawingAllViews() {
+		Platform.runLater(() -> canvas.setVirtualisationThreshold(Canvas.DEFAULT_VIRTUALISATION_THRESHOLD));
+		addShapes();
+		assertThat(getViewedShapes()).containsExactlyElementsOf(canvas.getDrawing().getShapes());
+	}
+
+	@Test
+	void testViewCreatedOnDemand() {
+		addShapes();
+		final AtomicReference<Optional<ViewShape<?>>> view = new AtomicReference<>();
+		Platform.runLater(() -> view.set(canvas.getViewFromShape(farShapes.get(3))));
+		WaitForAsyncUtils.waitForFxEvents();
+		assertThat(view.get()).isPresent();
+		assertThat(getViewedShapes()).contains(farShapes.get(3));
+		assertThat(getViewedShapes().indexOf(farShapes.get(3))).isEqualTo(4);
+	}
+
+	@Test
+	void testSelectedShapesHaveViews() {
+		addShapes();
+		Platform.runLater(() -> {
+			canvas.getDrawing().getSelection().addShape(farShapes.get(5));
+			canvas.update();
+		});
+		WaitForAsyncUtils.waitForFxEvents();
+		assertThat(getViewedShapes()).contains(farShapes.get(5));
+	}
+
+	@Test
+	void testAllViewsRequired() {
+		addShapes();
+		Platform.runLater(() -> canvas.setAllViewsRequired(true));
+		WaitForAsyncUtils.waitForFxEvents();
+		assertThat(getViewedShapes()).containsExactlyElementsOf(canvas.getDrawing().getShapes());
+	}
+
+	@Test
+	void testViewsReleasedWhenNoMoreRequired() {
+		addShapes();
+		Platform.runLater(() -> {
+			canvas.setAllViewsRequired(true);
+			canvas.setAllViewsRequired(false);
+		});
+		WaitForAsyncUtils.waitForFxEvents();
+		assertThat(getViewedShapes()).containsExactlyElementsOf(nearShapes);
+	}
+
+	@Test
+	void testScrollingMaterialisesViews() {
+		// The far shapes are moved into the viewport scrolled to the bottom-right corner of the canvas
+		scroll(1d);
+		final Bounds scrolled = canvas.getVisibleDrawingBounds().orElseThrow();
+		scroll(0d);
+		farShapes.forEach(sh -> sh.translate(scrolled.getMinX() + 50d - 1500d, scrolled.getMinY() + 50d - 1500d));
+		addShapes();
+		assertThat(getViewedShapes()).containsExactlyElementsOf(nearShapes);
+		scroll(1d);
+		assertThat(getViewedShapes()).containsExactlyElementsOf(farShapes);
+	}
+
+	@Test
+	void testRemoveVirtualisedShape() {
+		addShapes();
+		Platform.runLater(() -> canvas.getDrawing().removeShape(farShapes.get(0)));
+		WaitForAsyncUtils.waitForFxEvents();
+		assertThat(canvas.getDrawing().getShapes()).doesNotContain(farShapes.get(0));
+		assertThat(getViewedShapes()).containsExactlyElementsOf(nearShapes);
+	}
+}
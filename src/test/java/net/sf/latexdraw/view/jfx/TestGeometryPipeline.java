@@ -0,0 +1,154 @@
+package net.sf.latexdraw.view.jfx;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javafx.application.Platform;
+import net.sf.latexdraw.LatexdrawExtension;
+import net.sf.latexdraw.NoBadaboomCheck;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(LatexdrawExtension.class)
+@ExtendWith(ApplicationExtension.class)
+public class TestGeometryPipeline {
+	List<String> applied;
+	List<Boolean> appliedInFxThread;
+	GeometryPipeline<String> pipeline;
+
+	@BeforeEach
+	void setUp() {
+		applied = new CopyOnWriteArrayList<>();
+		appliedInFxThread = new CopyOnWriteArrayList<>();
+		pipeline = new GeometryPipeline<>("test", geometry -> { //NON-NLS
+			applied.add(geometry);
+			appliedInFxThread.add(Platform.isFxApplicationThread());
+		});
+	}
+
+	@Test
+	void testNotPendingInitially() {
+		assertThat(pipeline.isPending()).isFalse();
+	}
+
+	@Test
+	void testCheapGeometryAppliedAtOnce() {
+		pipeline.request(10d, () -> "foo");
+		assertThat(applied).containsExactly("foo");
+		assertThat(pipeline.isPending()).isFalse();
+	}
+
+	@Test
+	void testHeavyGeometryAppliedInFxThread() throws TimeoutException {
+		pipeline.request(GeometryPipeline.ASYNC_COST, () -> "foo");
+		WaitForAsyncUtils.waitFor(5L, TimeUnit.SECONDS, () -> !pipeline.isPending());
+		assertThat(applied).containsExactly("foo");
+		assertThat(appliedInFxThread).containsExactly(true);
+	}
+
+	@Test
+	void testHeavyGeometryNotComputedInCallerThread() throws TimeoutException {
+		final Thread caller = Thread.currentThread();
+		pipeline.request(GeometryPipeline.ASYNC_COST, () -> String.valueOf(Thread.currentThread() == caller));
+		WaitForAsyncUtils.waitFor(5L, TimeUnit.SECONDS, () -> !pipeline.isPending());
+		assertThat(applied).containsExactly("false");
+	}
+
+	@Test
+	void testStaleGeometryDroppedByCheapRequest() throws InterruptedException {
+		final CountDownLatch computing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		pipeline.request(GeometryPipeline.ASYNC_COST, () -> {
+			computing.countDown();
+			awaitQuietly(release);
+			return "stale";
+		});
+		assertThat(computing.await(5L, TimeUnit.SECONDS)).isTrue();
+		pipeline.request(1d, () -> "latest");
+		release.countDown();
+		WaitForAsyncUtils.sleep(200L, TimeUnit.MILLISECONDS);
+		WaitForAsyncUtils.waitForFxEvents();
+		assertThat(applied).containsExactly("latest");
+	}
+
+	@Test
+	void testOnlyLatestHeavyGeometryApplied() throws TimeoutException, InterruptedException {
+		final CountDownLatch computing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		pipeline.request(GeometryPipeline.ASYNC_COST, () -> {
+			computing.countDown();
+			awaitQuietly(release);
+			return "stale";
+		});
+		assertThat(computing.await(5L, TimeUnit.SECONDS)).isTrue();
+		pipeline.request(GeometryPipeline.ASYNC_COST, () -> "latest");
+		release.countDown();
+		WaitForAsyncUtils.waitFor(5L, TimeUnit.SECONDS, () -> !pipeline.isPending());
+		WaitForAsyncUtils.waitForFxEvents();
+		assertThat(applied).containsExactly("latest");
+	}
+
+	@Test
+	void testDisposeDropsPendingGeometry() throws InterruptedException {
+		final CountDownLatch computing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		pipeline.request(GeometryPipeline.ASYNC_COST, () -> {
+			computing.countDown();
+			awaitQuietly(release);
+			return "foo";
+		});
+		assertThat(computing.await(5L, TimeUnit.SECONDS)).isTrue();
+		pipeline.dispose();
+		release.countDown();
+		WaitForAsyncUtils.sleep(200L, TimeUnit.MILLISECONDS);
+		WaitForAsyncUtils.waitForFxEvents();
+		assertThat(applied).isEmpty();
+		assertThat(pipeline.isPending()).isFalse();
+	}
+
+	@Test
+	@NoBadaboomCheck
+	void testFailedHeavyGeometryNotPending() throws TimeoutException {
+		pipeline.request(GeometryPipeline.ASYNC_COST, () -> {
+			throw new IllegalArgumentException();
+		});
+		WaitForAsyncUtils.waitFor(5L, TimeUnit.SECONDS, () -> !pipeline.isPending());
+		assertThat(applied).isEmpty();
+	}
+
+	@Test
+	void testCompleteAppliesPendingGeometryAtOnce() throws InterruptedException {
+		final CountDownLatch computing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		pipeline.request(GeometryPipeline.ASYNC_COST, () -> {
+			if(!Platform.isFxApplicationThread()) {
+				computing.countDown();
+				awaitQuietly(release);
+			}
+			return "foo";
+		});
+		assertThat(computing.await(5L, TimeUnit.SECONDS)).isTrue();
+		WaitForAsyncUtils.waitForAsyncFx(5000L, () -> pipeline.complete());
+		assertThat(pipeline.isPending()).isFalse();
+		assertThat(applied).containsExactly("foo");
+		release.countDown();
+		WaitForAsyncUtils.sleep(200L, TimeUnit.MILLISECONDS);
+		WaitForAsyncUtils.waitForFxEvents();
+		assertThat(applied).containsExactly("foo");
+	}
+
+	private static void awaitQuietly(final CountDownLatch latch) {
+		try {
+			latch.await(5L, TimeUnit.SECONDS);
+		}catch(final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package net.sf.latexdraw.view.jfx;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.Point;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestLevelOfDetail {
+	@Test
+	void testFullDetailAtNormalZoom() {
+		assertThat(LevelOfDetail.getTolerance(0d, 1d)).isZero();
+	}
+
+	@Test
+	void testLowDetailBelowThreshold() {
+		assertThat(LevelOfDetail.getTolerance(0d, 0.4)).isEqualTo(2.5);
+	}
+
+	@Test
+	void testHysteresisDoesNotEnterLowDetail() {
+		assertThat(LevelOfDetail.getTolerance(0d, 0.55)).isZero();
+	}
+
+	@Test
+	void testHysteresisStaysInLowDetail() {
+		assertThat(LevelOfDetail.getTolerance(2.5, 0.55)).isEqualTo(1d / 0.55);
+	}
+
+	@Test
+	void testLeavesLowDetailAboveThreshold() {
+		assertThat(LevelOfDetail.getTolerance(2.5, 0.7)).isZero();
+	}
+
+	@Test
+	void testInvalidZoomKeepsTolerance() {
+		assertThat(LevelOfDetail.getTolerance(2.5, 0d)).isEqualTo(2.5);
+	}
+
+	@Test
+	void testPlaceholderFullDetail() {
+		assertThat(LevelOfDetail.isPlaceholder(0.1, 0d)).isFalse();
+	}
+
+	@Test
+	void testPlaceholderTinyDetail() {
+		assertThat(LevelOfDetail.isPlaceholder(2d, 1d)).isTrue();
+	}
+
+	@Test
+	void testPlaceholderLargeDetail() {
+		assertThat(LevelOfDetail.isPlaceholder(20d, 1d)).isFalse();
+	}
+
+	@Test
+	void testSimplifyFullDetail() {
+		final List<Point> pts = List.of(ShapeFactory.INST.createPoint(0d, 0d), ShapeFactory.INST.createPoint(1d, 0.1),
+			ShapeFactory.INST.createPoint(2d, 0d));
+		assertThat(LevelOfDetail.simplify(pts, 0d)).isSameAs(pts);
+	}
+
+	@Test
+	void testSimplifyStraightLine() {
+		final List<Point> pts = IntStream.range(0, 100).mapToObj(i -> ShapeFactory.INST.createPoint(i, i * 2d)).collect(Collectors.toList());
+		assertThat(LevelOfDetail.simplify(pts, 1d)).containsExactly(pts.get(0), pts.get(99));
+	}
+
+	@Test
+	void testSimplifyKeepsCorners() {
+		final List<Point> pts = List.of(ShapeFactory.INST.createPoint(0d, 0d), ShapeFactory.INST.createPoint(5d, 0.2),
+			ShapeFactory.INST.createPoint(10d, 0d), ShapeFactory.INST.createPoint(10d, 5d), ShapeFactory.INST.createPoint(10d, 10d));
+		assertThat(LevelOfDetail.simplify(pts, 1d)).containsExactly(pts.get(0), pts.get(2), pts.get(4));
+	}
+
+	@Test
+	void testSimplifyWithinTolerance() {
+		final List<Point> pts = IntStream.range(0, 200).mapToObj(i -> ShapeFactory.INST.createPoint(i, Math.sin(i / 10d) * 50d)).collect(Collectors.toList());
+		final List<Point> simplified = LevelOfDetail.simplify(pts, 1d);
+		assertThat(simplified.size()).isLessThan(pts.size());
+		assertThat(simplified.get(0)).isSameAs(pts.get(0));
+		assertThat(simplified.get(simplified.size() - 1)).isSameAs(pts.get(199));
+	}
+}
@@ -0,0 +1,189 @@
+package net.sf.latexdraw.view.jfx;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javax.imageio.ImageIO;
+import net.sf.latexdraw.LatexdrawExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(LatexdrawExtension.class)
+@ExtendWith(ApplicationExtension.class)
+public class TestTiledSnapshot {
+	Group views;
+
+	@BeforeEach
+	void setUp() {
+		final javafx.scene.shape.Rectangle rec1 = new javafx.scene.shape.Rectangle(10d, 20d, 30d, 25d);
+		rec1.setFill(Color.RED);
+		rec1.setStroke(null);
+		final javafx.scene.shape.Rectangle rec2 = new javafx.scene.shape.Rectangle(40d, 45d, 20d, 15d);
+		rec2.setFill(Color.BLUE);
+		rec2.setStroke(null);
+		views = new Group(rec1, rec2);
+	}
+
+	<T> T runFX(final Supplier<T> supplier) {
+		final AtomicReference<T> result = new AtomicReference<>();
+		Platform.runLater(() -> result.set(supplier.get()));
+		WaitForAsyncUtils.waitForFxEvents();
+		return result.get();
+	}
+
+	static int[] getPixels(final Raster raster) {
+		return raster.getPixels(raster.getMinX(), raster.getMinY(), raster.getWidth(), raster.getHeight(), (int[]) null);
+	}
+
+	@Test
+	void testInvalidScale() {
+		assertThrows(IllegalArgumentException.class, () -> new TiledSnapshot(views, 0d, true, 10));
+	}
+
+	@Test
+	void testInvalidTileSize() {
+		assertThrows(IllegalArgumentException.class, () -> new TiledSnapshot(views, 1d, true, 0));
+	}
+
+	@Test
+	void testSizeScaled() {
+		final TiledSnapshot snapshot = new TiledSnapshot(views, 2d, true, 16);
+		assertEquals(100, snapshot.getWidth());
+		assertEquals(80, snapshot.getHeight());
+	}
+
+	@Test
+	void testNbTiles() {
+		final TiledSnapshot snapshot = new TiledSnapshot(views, 2d, true, 16);
+		assertEquals(7, snapshot.getNumXTiles());
+		assertEquals(5, snapshot.getNumYTiles());
+		assertEquals(16, snapshot.getTileHeight());
+		assertEquals(16, snapshot.getTileWidth());
+	}
+
+	@Test
+	void testStripsOfWideImagesLimited() {
+		final TiledSnapshot snapshot = new TiledSnapshot(views, 4d, true, 16);
+		assertEquals(16, snapshot.getTileWidth());
+		assertThat(snapshot.getWidth() * snapshot.getTileHeight()).isLessThanOrEqualTo(8 * 16 * 16);
+		assertEquals((snapshot.getHeight() + snapshot.getTileHeight() - 1) / snapshot.getTileHeight(), snapshot.getNumYTiles());
+	}
+
+	@Test
+	void testTilesOfWideImagesSameAsOneSnapshot() {
+		final int[] tiled = runFX(() -> getPixels(new TiledSnapshot(views, 4d, false, 16).getData()));
+		final int[] single = runFX(() -> getPixels(new TiledSnapshot(views, 4d, false, 4096).getData()));
+		assertArrayEquals(single, tiled);
+	}
+
+	@Test
+	void testAlphaColorModel() {
+		assertThat(new TiledSnapshot(views, 1d, true, 16).getColorModel().hasAlpha()).isTrue();
+		assertThat(new TiledSnapshot(views, 1d, false, 16).getColorModel().hasAlpha()).isFalse();
+	}
+
+	@Test
+	void testTilesSameAsOneSnapshot() {
+		final int[] tiled = runFX(() -> getPixels(new TiledSnapshot(views, 2d, false, 16).getData()));
+		final int[] single = runFX(() -> getPixels(new TiledSnapshot(views, 2d, false, 4096).getData()));
+		assertArrayEquals(single, tiled);
+	}
+
+	@Test
+	void testColoursAtTheirPosition() {
+		final BufferedImage img = runFX(() -> {
+			final TiledSnapshot snapshot = new TiledSnapshot(views, 2d, false, 16);
+			final BufferedImage bi = new BufferedImage(snapshot.getWidth(), snapshot.getHeight(), BufferedImage.TYPE_INT_RGB);
+			snapshot.copyData(bi.getRaster());
+			return bi;
+		});
+		assertEquals(java.awt.Color.RED.getRGB(), img.getRGB(10, 10));
+		assertEquals(java.awt.Color.BLUE.getRGB(), img.getRGB(90, 70));
+		assertEquals(java.awt.Color.WHITE.getRGB(), img.getRGB(90, 10));
+	}
+
+	@Test
+	void testGetDataOfARegion() {
+		final Raster raster = runFX(() -> new TiledSnapshot(views, 2d, false, 16).getData(new Rectangle(5, 30, 20, 20)));
+		assertEquals(5, raster.getMinX());
+		assertEquals(30, raster.getMinY());
+		assertEquals(20, raster.getWidth());
+		assertEquals(20, raster.getHeight());
+	}
+
+	@Test
+	void testGetTileLocatedInTheImage() {
+		final Raster raster = runFX(() -> new TiledSnapshot(views, 2d, false, 16).getTile(1, 2));
+		assertEquals(16, raster.getMinX());
+		assertEquals(32, raster.getMinY());
+		assertEquals(16, raster.getHeight());
+		assertEquals(16, raster.getWidth());
+	}
+
+	@Test
+	void testGetLastTileCropped() {
+		final Raster raster = runFX(() -> new TiledSnapshot(views, 2d, false, 16).getTile(6, 4));
+		assertEquals(96, raster.getMinX());
+		assertEquals(64, raster.getMinY());
+		assertEquals(4, raster.getWidth());
+		assertEquals(16, raster.getHeight());
+	}
+
+	@Test
+	void testWriteJPGDoesNotGetTheWholeImage(@TempDir final Path dir) throws IOException {
+		final TiledSnapshot snapshot = spy(new TiledSnapshot(views, 2d, false, 16));
+		final File file = dir.resolve("export.jpg").toFile();
+		assertThat(runFX(() -> {
+			try {
+				return snapshot.write("jpg", file);
+			}catch(final IOException ex) {
+				return false;
+			}
+		})).isTrue();
+		verify(snapshot, never()).getData();
+		verify(snapshot, never()).getData(new Rectangle(0, 0, 100, 80));
+		verify(snapshot, never()).copyData(any());
+		final BufferedImage img = ImageIO.read(file);
+		assertEquals(100, img.getWidth());
+		assertEquals(80, img.getHeight());
+		assertThat(new java.awt.Color(img.getRGB(20, 20)).getRed()).isGreaterThan(200);
+		assertThat(new java.awt.Color(img.getRGB(20, 20)).getBlue()).isLessThan(50);
+		assertThat(new java.awt.Color(img.getRGB(80, 65)).getBlue()).isGreaterThan(200);
+		assertThat(new java.awt.Color(img.getRGB(80, 65)).getRed()).isLessThan(50);
+	}
+
+	@Test
+	void testWritePNGSameAsOneSnapshot(@TempDir final Path dir) throws IOException {
+		final File file = dir.resolve("export.png").toFile();
+		final int[] single = runFX(() -> getPixels(new TiledSnapshot(views, 2d, true, 4096).getData()));
+		assertThat(runFX(() -> {
+			try {
+				return new TiledSnapshot(views, 2d, true, 16).write("png", file);
+			}catch(final IOException ex) {
+				return false;
+			}
+		})).isTrue();
+		assertArrayEquals(single, getPixels(ImageIO.read(file).getRaster()));
+	}
+}
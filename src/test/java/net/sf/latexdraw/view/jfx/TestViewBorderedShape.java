@@ -8,6 +8,7 @@ import javafx.scene.shape.Shape;
 import javafx.scene.shape.StrokeLineCap;
 import net.sf.latexdraw.instrument.CmdFXVoid;
 import net.sf.latexdraw.instrument.Cmds;
+import net.sf.latexdraw.model.ModelTransaction;
 import net.sf.latexdraw.model.ShapeFactory;
 import net.sf.latexdraw.model.api.shape.BorderPos;
 import net.sf.latexdraw.model.api.shape.FillingStyle;
@@ -56,6 +57,27 @@ abstract class TestViewBorderedShape<T extends ViewSingleShape<S, R>, S extends
 		assertEquals(10d, border.getStrokeWidth(), 0.001);
 	}
 
+	@Test
+	void testLineThicknessDeferredInTransaction() {
+		assumeTrue(model.isThicknessable());
+		final double thickness = border.getStrokeWidth();
+		ModelTransaction.INST.run(() -> {
+			model.setThickness(10d);
+			assertEquals(thickness, border.getStrokeWidth(), 0.001);
+		});
+		assertEquals(10d, border.getStrokeWidth(), 0.001);
+	}
+
+	@Test
+	void testFillingDeferredInTransaction() {
+		assumeTrue(model.isFillable());
+		ModelTransaction.INST.run(() -> {
+			model.setFillingStyle(FillingStyle.PLAIN);
+			model.setFillingCol(DviPsColors.CARNATIONPINK);
+		});
+		assertEquals(DviPsColors.CARNATIONPINK.toJFX(), border.getFill());
+	}
+
 	@Test
 	void testBorderAdded() {
 		assertTrue(view.getChildren().stream().anyMatch(c -> c == border));
@@ -41,6 +41,36 @@ public class TestViewDot extends TestViewShape<ViewDot, Dot> {
 		return (Path) view.getChildren().get(1);
 	}
 
+	@Test
+	void testLowDetailTinyDotPlaceholder() {
+		model.setDotStyle(DotStyle.ASTERISK);
+		model.setDiametre(2d);
+		view.setLowDetailTolerance(1d);
+		assertFalse(getPathView().isVisible());
+		assertTrue(getDotView().isVisible());
+		assertEquals(1d, getDotView().getRadiusX(), 0.0001);
+	}
+
+	@Test
+	void testLowDetailLargeDotUnchanged() {
+		model.setDotStyle(DotStyle.ASTERISK);
+		final List<PathElement> elements = duplicatePath(getPathView().getElements());
+		view.setLowDetailTolerance(model.getDiametre() / 10d);
+		assertTrue(getPathView().isVisible());
+		assertEquals(elements, getPathView().getElements());
+	}
+
+	@Test
+	void testFullDetailRestoresDot() {
+		model.setDotStyle(DotStyle.ASTERISK);
+		model.setDiametre(2d);
+		final List<PathElement> elements = duplicatePath(getPathView().getElements());
+		view.setLowDetailTolerance(1d);
+		view.setLowDetailTolerance(0d);
+		assertTrue(getPathView().isVisible());
+		assertEquals(elements, getPathView().getElements());
+	}
+
 	@Test
 	void testOnDotStyleDot() {
 		checkDot();
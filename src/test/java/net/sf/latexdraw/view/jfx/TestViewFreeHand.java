@@ -2,6 +2,12 @@ package net.sf.latexdraw.view.jfx;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
 import net.sf.latexdraw.model.ShapeFactory;
@@ -9,9 +15,13 @@ import net.sf.latexdraw.model.api.shape.FreeHandStyle;
 import net.sf.latexdraw.model.api.shape.Freehand;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.testfx.util.WaitForAsyncUtils;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 public class TestViewFreeHand extends TestViewBorderedShape<ViewFreeHand, Freehand, Path> {
 	List<PathElement> before;
@@ -54,6 +64,42 @@ public class TestViewFreeHand extends TestViewBorderedShape<ViewFreeHand, Freeha
 		assertNotEquals(border.getElements(), before);
 	}
 
+	@Test
+	void testSetPointsUpdatesPath() {
+		model.setPoints(Arrays.asList(ShapeFactory.INST.createPoint(1, 2), ShapeFactory.INST.createPoint(30, 40), ShapeFactory.INST.createPoint(50, 10)));
+		assertNotEquals(border.getElements(), before);
+	}
+
+	@Test
+	void testTranslateAfterSetPoints() {
+		model.setPoints(Arrays.asList(ShapeFactory.INST.createPoint(1, 2), ShapeFactory.INST.createPoint(30, 40), ShapeFactory.INST.createPoint(50, 10)));
+		final List<PathElement> pathBefore = duplicatePath(border.getElements());
+		model.translate(11d, 0d);
+		assertPathSameButNotEqual(pathBefore, border.getElements());
+	}
+
+	@Test
+	void testLowDetailSimplifiesPath() {
+		model.setType(FreeHandStyle.LINES);
+		model.setInterval(1);
+		model.getPoints().forEach(pt -> pt.setY(10d));
+		model.setOpened(true);
+		final int nbElements = border.getElements().size();
+		view.setLowDetailTolerance(2d);
+		assertTrue(border.getElements().size() < nbElements);
+		view.setLowDetailTolerance(0d);
+		assertEquals(nbElements, border.getElements().size());
+	}
+
+	@Test
+	void testLowDetailKeepsVisibleDetails() {
+		model.setType(FreeHandStyle.LINES);
+		model.setInterval(1);
+		final int nbElements = border.getElements().size();
+		view.setLowDetailTolerance(0.5d);
+		assertEquals(nbElements, border.getElements().size());
+	}
+
 	@Override
 	@Test
 	void testShadowPositionSameThanBorder() {
@@ -73,4 +119,35 @@ public class TestViewFreeHand extends TestViewBorderedShape<ViewFreeHand, Freeha
 		model.translate(0d, 11d);
 		assertPathSameButNotEqual(before, border.getElements());
 	}
+
+	@Test
+	void testLargeFreehandComputedInBackground() throws TimeoutException {
+		model.setType(FreeHandStyle.LINES);
+		model.setInterval(1);
+		model.setOpened(true);
+		model.setPoints(IntStream.range(0, 30_000).mapToObj(i -> ShapeFactory.INST.createPoint(i, i % 7)).collect(Collectors.toList()));
+		WaitForAsyncUtils.waitFor(10L, TimeUnit.SECONDS, () -> !view.isGeometryPending());
+		WaitForAsyncUtils.waitForFxEvents();
+		assertEquals(30_000, border.getElements().size());
+		assertEquals(border.getElements(), view.getShadow().orElseThrow().getElements());
+	}
+
+	@Test
+	void testLargeFreehandPathElementsNotCreatedInBackground() throws TimeoutException {
+		final Set<String> threads = ConcurrentHashMap.newKeySet();
+		final PathElementProducer producer = mock(PathElementProducer.class, invocation -> {
+			threads.add(Thread.currentThread().getName());
+			return invocation.getMethod().invoke(factory, invocation.getArguments());
+		});
+		model.setType(FreeHandStyle.LINES);
+		model.setInterval(1);
+		model.setOpened(false);
+		model.setPoints(IntStream.range(0, 30_000).mapToObj(i -> ShapeFactory.INST.createPoint(i, i % 7)).collect(Collectors.toList()));
+		final ViewFreeHand freehandView = new ViewFreeHand(model, producer);
+		WaitForAsyncUtils.waitFor(10L, TimeUnit.SECONDS, () -> !freehandView.isGeometryPending());
+		WaitForAsyncUtils.waitForFxEvents();
+		assertEquals(30_001, freehandView.border.getElements().size());
+		assertThat(threads).isNotEmpty().noneMatch(name -> name.startsWith("view-geometry"));
+		freehandView.flush();
+	}
 }
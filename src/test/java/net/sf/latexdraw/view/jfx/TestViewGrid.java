@@ -2,7 +2,13 @@ package net.sf.latexdraw.view.jfx;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.PathElement;
 import javafx.scene.shape.Shape;
@@ -16,7 +22,9 @@ import org.junit.jupiter.api.Test;
 import org.testfx.util.WaitForAsyncUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestViewGrid extends TestViewStdGrid<ViewGrid, Grid> {
 	List<PathElement> mainGridBefore;
@@ -71,6 +79,30 @@ public class TestViewGrid extends TestViewStdGrid<ViewGrid, Grid> {
 		assertEquals(mainGridBefore, view.getMaingrid().getElements());
 	}
 
+	@Test
+	void testChangeGridDotsDoesNotRecomputeLabels() {
+		final List<Node> labelsBefore = new ArrayList<>(view.getLabels().getChildren());
+		model.setGridDots(12);
+		WaitForAsyncUtils.waitForFxEvents();
+		assertEquals(labelsBefore, view.getLabels().getChildren());
+	}
+
+	@Test
+	void testChangeLabelsSizeDoesNotRecomputeGrids() {
+		model.setLabelsSize(model.getLabelsSize() + 5);
+		WaitForAsyncUtils.waitForFxEvents();
+		assertEquals(mainGridBefore, view.getMaingrid().getElements());
+		assertEquals(subGridBefore, view.getSubgrid().getElements());
+	}
+
+	@Test
+	void testFlushRemovesOriginListeners() {
+		view.flush();
+		model.setOriginX(model.getOriginX() + 2d);
+		WaitForAsyncUtils.waitForFxEvents();
+		assertTrue(view.getLabels().getChildren().isEmpty());
+	}
+
 	@Test
 	void testChangeSubGridDiv() {
 		model.setSubGridDiv(11);
@@ -195,4 +227,40 @@ public class TestViewGrid extends TestViewStdGrid<ViewGrid, Grid> {
 		model.translate(0d, 13d);
 		assertEquals(y + 13d, view.getTranslateY(), 0.0000001);
 	}
+
+	@Test
+	void testLargeDottedGridAppliedInFxThread() throws TimeoutException {
+		final List<Boolean> inFxThread = new CopyOnWriteArrayList<>();
+		model.setGridEndX(30d);
+		model.setGridEndY(30d);
+		view.getMaingrid().getElements().addListener((ListChangeListener<PathElement>) evt -> inFxThread.add(Platform.isFxApplicationThread()));
+		model.setGridDots(10);
+		WaitForAsyncUtils.waitFor(10L, TimeUnit.SECONDS, () -> !view.isGeometryPending());
+		WaitForAsyncUtils.waitForFxEvents();
+		assertEquals(37_202, view.getMaingrid().getElements().size());
+		assertEquals(List.of(true), inFxThread);
+	}
+
+	@Test
+	void testLargeDottedGridLatestChangeApplied() throws TimeoutException {
+		model.setGridEndX(30d);
+		model.setGridEndY(30d);
+		model.setGridDots(10);
+		model.setGridDots(12);
+		WaitForAsyncUtils.waitFor(10L, TimeUnit.SECONDS, () -> !view.isGeometryPending());
+		WaitForAsyncUtils.waitForFxEvents();
+		assertEquals(44_642, view.getMaingrid().getElements().size());
+	}
+
+	@Test
+	void testFlushDropsLargeGridComputation() {
+		model.setGridEndX(30d);
+		model.setGridEndY(30d);
+		model.setGridDots(10);
+		view.flush();
+		WaitForAsyncUtils.sleep(200L, TimeUnit.MILLISECONDS);
+		WaitForAsyncUtils.waitForFxEvents();
+		assertTrue(view.getMaingrid().getElements().isEmpty());
+		assertFalse(view.isGeometryPending());
+	}
 }
@@ -1,6 +1,8 @@
 package net.sf.latexdraw.view.jfx;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javafx.scene.shape.Ellipse;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
@@ -194,4 +196,15 @@ public class TestViewPlot extends TestViewShape<ViewPlot, Plot> {
 		WaitForAsyncUtils.waitForFxEvents();
 		assertEquals(y + 13d, view.getTranslateY(), 0.0000001);
 	}
+
+	@Test
+	void testManyPlottedPointsComputedInBackground() throws TimeoutException {
+		model.setPlotStyle(PlotStyle.LINE);
+		model.setNbPlottedPoints(25_000);
+		WaitForAsyncUtils.waitFor(10L, TimeUnit.SECONDS, () -> !view.isGeometryPending());
+		WaitForAsyncUtils.waitForFxEvents();
+		assertEquals(1, view.getChildren().size());
+		assertEquals(25_000, ((ViewPolyline) view.getChildren().get(0)).getModel().getNbPoints());
+		assertEquals(25_000, ((ViewPolyline) view.getChildren().get(0)).getBorder().getElements().size());
+	}
 }
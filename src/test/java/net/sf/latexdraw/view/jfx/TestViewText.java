@@ -93,6 +93,7 @@ public class TestViewText extends TestViewShape<ViewText, Text> {
 		model.setText("$hello$");
 		view.getCurrentCompilation().get(5, TimeUnit.SECONDS);
 		WaitForAsyncUtils.waitForFxEvents();
+		BadaboomCollector.INSTANCE.publishPendingErrors();
 		assertTrue(BadaboomCollector.INSTANCE.errorsProperty().isEmpty(), () -> HelperTest.getBadaboomMessages());
 		assertNull(getTooltip(), () -> getTooltip().getText());
 	}
@@ -102,6 +103,7 @@ public class TestViewText extends TestViewShape<ViewText, Text> {
 		model.setText("$hello$");
 		view.getCurrentCompilation().get(5, TimeUnit.SECONDS);
 		WaitForAsyncUtils.waitForFxEvents();
+		BadaboomCollector.INSTANCE.publishPendingErrors();
 		assertTrue(BadaboomCollector.INSTANCE.errorsProperty().isEmpty(), () -> HelperTest.getBadaboomMessages());
 		assertTrue(view.getCompilationData().isPresent());
 	}
@@ -113,6 +115,7 @@ public class TestViewText extends TestViewShape<ViewText, Text> {
 		model.setText("hello");
 		view.getCurrentCompilation().get(5, TimeUnit.SECONDS);
 		WaitForAsyncUtils.waitForFxEvents();
+		BadaboomCollector.INSTANCE.publishPendingErrors();
 		assertTrue(BadaboomCollector.INSTANCE.errorsProperty().isEmpty(), () -> HelperTest.getBadaboomMessages());
 		assertFalse(getImage().isDisable());
 		assertTrue(getImage().isVisible());
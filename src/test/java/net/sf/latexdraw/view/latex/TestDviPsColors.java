@@ -10,6 +10,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -260,4 +261,32 @@ public class TestDviPsColors {
 	void testGray2RBGKO(final double value) {
 		assertThrows(IllegalArgumentException.class, () -> DviPsColors.INSTANCE.convertgray2rgb(value));
 	}
+
+	@Test
+	void testAddUserColorSameColourSameName() {
+		final Optional<String> name1 = DviPsColors.INSTANCE.addUserColour(ShapeFactory.INST.createColor(11d / 255d, 29d / 255d, 78d / 255d, 1d));
+		final Optional<String> name2 = DviPsColors.INSTANCE.addUserColour(ShapeFactory.INST.createColor(11d / 255d, 29d / 255d, 78d / 255d, 1d));
+		assertEquals(name1.orElseThrow(), name2.orElseThrow());
+	}
+
+	@Test
+	void testAddUserColorDifferentColoursDifferentNames() {
+		final Optional<String> name1 = DviPsColors.INSTANCE.addUserColour(ShapeFactory.INST.createColor(12d / 255d, 29d / 255d, 78d / 255d, 1d));
+		final Optional<String> name2 = DviPsColors.INSTANCE.addUserColour(ShapeFactory.INST.createColor(13d / 255d, 29d / 255d, 78d / 255d, 1d));
+		assertNotEquals(name1.orElseThrow(), name2.orElseThrow());
+	}
+
+	@Test
+	void testAddUserColorNamedReplaced() {
+		DviPsColors.INSTANCE.addUserColour(ShapeFactory.INST.createColor(14d / 255d, 29d / 255d, 78d / 255d, 1d), "testReplaced");
+		DviPsColors.INSTANCE.addUserColour(ShapeFactory.INST.createColor(15d / 255d, 29d / 255d, 78d / 255d, 1d), "testReplaced");
+		assertEquals(Optional.empty(), DviPsColors.INSTANCE.getColourName(ShapeFactory.INST.createColor(14d / 255d, 29d / 255d, 78d / 255d, 1d)));
+		assertEquals("testReplaced", DviPsColors.INSTANCE.getColourName(ShapeFactory.INST.createColor(15d / 255d, 29d / 255d, 78d / 255d, 1d)).orElseThrow());
+	}
+
+	@Test
+	void testGetColorNameNotSameValuesButEquals() {
+		final Color col = ShapeFactory.INST.createColor(DviPsColors.APRICOT.getR() - 0.0001, DviPsColors.APRICOT.getG(), DviPsColors.APRICOT.getB());
+		assertEquals(DviPsColors.N_APRICOT, DviPsColors.INSTANCE.getColourName(col).orElseThrow());
+	}
 }
@@ -0,0 +1,87 @@
+package net.sf.latexdraw.view.latex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestLaTeXArtefactCache {
+	@TempDir Path dir;
+	Path cacheDir;
+	String toolchain;
+	LaTeXArtefactCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cacheDir = dir.resolve("cache");
+		toolchain = "latex 1; dvips 2; gs 3";
+		cache = new LaTeXArtefactCache(cacheDir, () -> toolchain, 3);
+	}
+
+	File createArtefact(final String name, final String content) throws IOException {
+		return Files.writeString(dir.resolve(name), content).toFile();
+	}
+
+	@Test
+	void testInvalidMaxArtefacts() {
+		assertThrows(IllegalArgumentException.class, () -> new LaTeXArtefactCache(cacheDir, () -> toolchain, 0));
+	}
+
+	@Test
+	void testKeyDependsOnDocument() {
+		assertThat(cache.getKey("doc1")).isNotEqualTo(cache.getKey("doc2"));
+	}
+
+	@Test
+	void testKeyDependsOnToolchain() {
+		final String key = cache.getKey("doc");
+		toolchain = "latex 2";
+		assertThat(new LaTeXArtefactCache(cacheDir, () -> toolchain, 3).getKey("doc")).isNotEqualTo(key);
+	}
+
+	@Test
+	void testMissingArtefact() {
+		assertThat(cache.copyTo(cache.getKey("doc"), ".pdf", dir.resolve("out.pdf").toFile())).isEmpty();
+	}
+
+	@Test
+	void testStoredArtefactCopied() throws IOException {
+		final String key = cache.getKey("doc");
+		cache.store(key, ".pdf", createArtefact("foo.pdf", "pdf content"));
+		final File target = dir.resolve("out.pdf").toFile();
+		assertThat(cache.copyTo(key, ".pdf", target)).contains(target);
+		assertThat(target).hasContent("pdf content");
+	}
+
+	@Test
+	void testArtefactsSeparatedByExtension() throws IOException {
+		final String key = cache.getKey("doc");
+		cache.store(key, ".ps", createArtefact("foo.ps", "ps content"));
+		assertThat(cache.copyTo(key, ".pdf", dir.resolve("out.pdf").toFile())).isEmpty();
+	}
+
+	@Test
+	void testLeastRecentlyUsedEvicted() throws IOException {
+		cache.store("k1", ".ps", createArtefact("1.ps", "1"));
+		Files.setLastModifiedTime(cacheDir.resolve("k1.ps"), FileTime.fromMillis(1000L));
+		cache.store("k2", ".ps", createArtefact("2.ps", "2"));
+		Files.setLastModifiedTime(cacheDir.resolve("k2.ps"), FileTime.fromMillis(2000L));
+		cache.store("k3", ".ps", createArtefact("3.ps", "3"));
+		Files.setLastModifiedTime(cacheDir.resolve("k3.ps"), FileTime.fromMillis(3000L));
+		// Using k1 makes k2 the least recently used artefact
+		cache.copyTo("k1", ".ps", dir.resolve("out.ps").toFile());
+		cache.store("k4", ".ps", createArtefact("4.ps", "4"));
+
+		assertThat(cacheDir.resolve("k2.ps")).doesNotExist();
+		assertThat(cacheDir.resolve("k1.ps")).exists();
+		assertThat(cacheDir.resolve("k3.ps")).exists();
+		assertThat(cacheDir.resolve("k4.ps")).exists();
+	}
+}
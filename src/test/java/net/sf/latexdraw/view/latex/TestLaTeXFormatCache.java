@@ -0,0 +1,145 @@
+package net.sf.latexdraw.view.latex;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import net.sf.latexdraw.util.OperatingSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class TestLaTeXFormatCache {
+	static final String DOC = "\\documentclass{article}\n\\usepackage{pstricks}\n\\begin{document}\nfoo\n\\end{document}";
+
+	@TempDir Path dir;
+	Path latex;
+	String version;
+	LaTeXFormatCache cache;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		version = "pdfTeX 3.14";
+		// A stand-in latex that dumps an empty format in ini mode and logs the format it uses otherwise
+		latex = dir.resolve("latex");
+		Files.writeString(latex, "#!/bin/sh\n" +
+			"job=\"\"; out=\"\"; fmt=\"\"\n" +
+			"for a in \"$@\"; do case \"$a\" in -jobname=*) job=\"${a#-jobname=}\";; -output-directory=*) out=\"${a#-output-directory=}\";; " +
+			"-fmt=*) fmt=\"${a#-fmt=}\";; esac; done\n" +
+			"if [ -n \"$job\" ]; then echo dump > \"$out/$job.fmt\"; fi\n" +
+			"echo \"fmt:$fmt\"\n");
+		latex.toFile().setExecutable(true);
+		cache = new LaTeXFormatCache(dir.resolve("formats"), () -> latex.toString(), () -> version);
+	}
+
+	@Test
+	void testPreambleUntilBeginDocument() {
+		assertThat(LaTeXFormatCache.getPreamble(DOC)).isEqualTo("\\documentclass{article}\n\\usepackage{pstricks}\n");
+	}
+
+	@Test
+	void testPreambleUntilEndOfDump() {
+		assertThat(LaTeXFormatCache.getPreamble("\\documentclass{article}\n" + LaTeXFormatCache.END_OF_DUMP + "\n\\usepackage{geometry}\n\\begin{document}"))
+			.isEqualTo("\\documentclass{article}\n");
+	}
+
+	@Test
+	void testPreambleNoDocument() {
+		assertThat(LaTeXFormatCache.getPreamble("\\usepackage{pstricks}")).isEqualTo("\\usepackage{pstricks}");
+	}
+
+	@Test
+	void testKeyDependsOnPreamble() {
+		assertThat(cache.getKey("\\usepackage{pstricks}")).isNotEqualTo(cache.getKey("\\usepackage{pst-plot}"));
+	}
+
+	@Test
+	void testKeyDependsOnLaTeXVersion() {
+		final String key = cache.getKey("\\usepackage{pstricks}");
+		version = "pdfTeX 4.0";
+		final LaTeXFormatCache other = new LaTeXFormatCache(dir.resolve("formats"), () -> latex.toString(), () -> version);
+		assertThat(other.getKey("\\usepackage{pstricks}")).isNotEqualTo(key);
+	}
+
+	@Test
+	void testKeyStable() {
+		assertThat(cache.getKey("\\usepackage{pstricks}")).isEqualTo(cache.getKey("\\usepackage{pstricks}"));
+	}
+
+	@Test
+	void testFormatBuiltInBackground() throws TimeoutException {
+		assumeTrue(OperatingSystem.isLinux());
+		assertThat(cache.getFormat(DOC)).isEmpty();
+		WaitForAsyncUtils.waitFor(10L, TimeUnit.SECONDS, () -> cache.getFormat(DOC).isPresent());
+		assertThat(Path.of(cache.getFormat(DOC).orElseThrow() + ".fmt")).exists();
+	}
+
+	@Test
+	void testPrepare() throws TimeoutException {
+		assumeTrue(OperatingSystem.isLinux());
+		cache.prepare(DOC);
+		WaitForAsyncUtils.waitFor(10L, TimeUnit.SECONDS, () -> Files.isRegularFile(Path.of(
+			dir.resolve("formats").resolve(cache.getKey(LaTeXFormatCache.getPreamble(DOC))) + ".fmt")));
+	}
+
+	@Test
+	void testExecuteWithoutFormat() {
+		assumeTrue(OperatingSystem.isLinux());
+		assertThat(cache.execute(new String[] {latex.toString(), "doc.tex"}, DOC, dir.toFile()).b).contains("fmt:\n");
+	}
+
+	@Test
+	void testExecuteUsesFormat() throws TimeoutException {
+		assumeTrue(OperatingSystem.isLinux());
+		cache.getFormat(DOC);
+		WaitForAsyncUtils.waitFor(10L, TimeUnit.SECONDS, () -> cache.getFormat(DOC).isPresent());
+		assertThat(cache.execute(new String[] {latex.toString(), "doc.tex"}, DOC, dir.toFile()).b).contains("fmt:" + cache.getFormat(DOC).orElseThrow());
+	}
+
+	@Test
+	void testFormatErrorDetected() {
+		assertThat(LaTeXFormatCache.isFormatError("---! ldfmt.fmt was written by pdftex")).isTrue();
+		assertThat(LaTeXFormatCache.isFormatError("(Fatal format file error; I'm stymied)")).isTrue();
+	}
+
+	@Test
+	void testDocumentErrorNotFormatError() {
+		assertThat(LaTeXFormatCache.isFormatError("! Undefined control sequence.")).isFalse();
+		assertThat(LaTeXFormatCache.isFormatError(null)).isFalse();
+	}
+
+	@Test
+	void testExecuteKeepsFormatOnDocumentError() throws TimeoutException, IOException {
+		assumeTrue(OperatingSystem.isLinux());
+		cache.getFormat(DOC);
+		WaitForAsyncUtils.waitFor(10L, TimeUnit.SECONDS, () -> cache.getFormat(DOC).isPresent());
+		Files.writeString(latex, "#!/bin/sh\necho '! Undefined control sequence.'\nexit 1\n");
+		assertThat(cache.execute(new String[] {latex.toString(), "doc.tex"}, DOC, dir.toFile()).a).isFalse();
+		assertThat(cache.getFormat(DOC)).isPresent();
+	}
+
+	@Test
+	void testExecuteDropsFormatOnFormatError() throws TimeoutException, IOException {
+		assumeTrue(OperatingSystem.isLinux());
+		cache.getFormat(DOC);
+		WaitForAsyncUtils.waitFor(10L, TimeUnit.SECONDS, () -> cache.getFormat(DOC).isPresent());
+		final Path fmt = Path.of(cache.getFormat(DOC).orElseThrow() + ".fmt");
+		Files.writeString(latex, "#!/bin/sh\ncase \"$1\" in -fmt=*) echo '---! bad.fmt was written by tex'; exit 1;; esac\necho ok\n");
+		assertThat(cache.execute(new String[] {latex.toString(), "doc.tex"}, DOC, dir.toFile()).a).isTrue();
+		assertThat(fmt).doesNotExist();
+	}
+
+	@Test
+	void testNoFormatWhenBuildFails() throws IOException, InterruptedException {
+		assumeTrue(OperatingSystem.isLinux());
+		Files.writeString(latex, "#!/bin/sh\nexit 1\n");
+		cache.getFormat(DOC);
+		Thread.sleep(500L);
+		assertThat(cache.getFormat(DOC)).isEmpty();
+	}
+}
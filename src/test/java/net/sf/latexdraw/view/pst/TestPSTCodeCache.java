@@ -0,0 +1,144 @@
+package net.sf.latexdraw.view.pst;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.ResourceBundle;
+import net.sf.latexdraw.LatexdrawExtension;
+import net.sf.latexdraw.data.ConfigureInjection;
+import net.sf.latexdraw.data.InjectionExtension;
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.ArrowStyle;
+import net.sf.latexdraw.model.api.shape.Freehand;
+import net.sf.latexdraw.model.api.shape.Group;
+import net.sf.latexdraw.model.api.shape.Point;
+import net.sf.latexdraw.model.api.shape.Polyline;
+import net.sf.latexdraw.model.api.shape.Rectangle;
+import net.sf.latexdraw.service.PreferencesService;
+import net.sf.latexdraw.util.Injector;
+import net.sf.latexdraw.view.latex.DviPsColors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(LatexdrawExtension.class)
+@ExtendWith(InjectionExtension.class)
+public class TestPSTCodeCache {
+	PSTCodeCache cache;
+	Point origin;
+	int nbViews;
+
+	@ConfigureInjection
+	Injector configureInjection() {
+		return new Injector() {
+			@Override
+			protected void configure() throws IllegalAccessException, InstantiationException, NoSuchMethodException, InvocationTargetException {
+				bindAsEagerSingleton(PreferencesService.class);
+				bindWithCommand(ResourceBundle.class, PreferencesService.class, pref -> pref.getBundle());
+				bindAsEagerSingleton(PSTViewsFactory.class);
+			}
+		};
+	}
+
+	@BeforeEach
+	void setUp(final PSTViewsFactory factory) {
+		nbViews = 0;
+		origin = ShapeFactory.INST.createPoint();
+		cache = new PSTCodeCache(sh -> {
+			nbViews++;
+			return factory.createView(sh);
+		});
+	}
+
+	@Test
+	void testCodeMemoised() {
+		final Rectangle rec = ShapeFactory.INST.createRectangle();
+		final String code = cache.get(rec, origin, 50f).orElseThrow().code;
+		assertThat(cache.get(rec, origin, 50f).orElseThrow().code).isEqualTo(code);
+		assertThat(nbViews).isEqualTo(1);
+	}
+
+	@Test
+	void testCodeInvalidatedOnPropertyChange() {
+		final Rectangle rec = ShapeFactory.INST.createRectangle();
+		final String code = cache.get(rec, origin, 50f).orElseThrow().code;
+		rec.setLineColour(DviPsColors.APRICOT);
+		assertThat(cache.get(rec, origin, 50f).orElseThrow().code).isNotEqualTo(code);
+		assertThat(nbViews).isEqualTo(2);
+	}
+
+	@Test
+	void testCodeInvalidatedOnPointChange() {
+		final Rectangle rec = ShapeFactory.INST.createRectangle();
+		final String code = cache.get(rec, origin, 50f).orElseThrow().code;
+		rec.translate(10d, 20d);
+		assertThat(cache.get(rec, origin, 50f).orElseThrow().code).isNotEqualTo(code);
+	}
+
+	@Test
+	void testCodeInvalidatedOnPointsReplaced() {
+		final Freehand fh = ShapeFactory.INST.createFreeHand(List.of(ShapeFactory.INST.createPoint(), ShapeFactory.INST.createPoint(10d, 20d)));
+		final String code = cache.get(fh, origin, 50f).orElseThrow().code;
+		fh.setPoints(List.of(ShapeFactory.INST.createPoint(30d, 40d), ShapeFactory.INST.createPoint(50d, 60d)));
+		assertThat(cache.get(fh, origin, 50f).orElseThrow().code).isNotEqualTo(code);
+	}
+
+	@Test
+	void testCodeInvalidatedOnArrowChange() {
+		final Polyline line = ShapeFactory.INST.createPolyline(List.of(ShapeFactory.INST.createPoint(), ShapeFactory.INST.createPoint(10d, 20d)));
+		final String code = cache.get(line, origin, 50f).orElseThrow().code;
+		line.getArrowAt(0).setArrowStyle(ArrowStyle.LEFT_ARROW);
+		assertThat(cache.get(line, origin, 50f).orElseThrow().code).isNotEqualTo(code);
+	}
+
+	@Test
+	void testCodeInvalidatedOnGroupChange() {
+		final Group gp = ShapeFactory.INST.createGroup();
+		final Rectangle rec = ShapeFactory.INST.createRectangle();
+		gp.addShape(rec);
+		final String code = cache.get(gp, origin, 50f).orElseThrow().code;
+		rec.setThickness(12d);
+		assertThat(cache.get(gp, origin, 50f).orElseThrow().code).isNotEqualTo(code);
+	}
+
+	@Test
+	void testCodeInvalidatedOnShapeAddedInGroup() {
+		final Group gp = ShapeFactory.INST.createGroup();
+		gp.addShape(ShapeFactory.INST.createRectangle());
+		final String code = cache.get(gp, origin, 50f).orElseThrow().code;
+		gp.addShape(ShapeFactory.INST.createCircle());
+		assertThat(cache.get(gp, origin, 50f).orElseThrow().code).isNotEqualTo(code);
+	}
+
+	@Test
+	void testCodeInvalidatedOnPPCChange() {
+		final Rectangle rec = ShapeFactory.INST.createRectangle(ShapeFactory.INST.createPoint(10d, 10d), 100d, 50d);
+		final String code = cache.get(rec, origin, 50f).orElseThrow().code;
+		assertThat(cache.get(rec, origin, 20f).orElseThrow().code).isNotEqualTo(code);
+	}
+
+	@Test
+	void testCodeInvalidatedOnOriginChange() {
+		final Rectangle rec = ShapeFactory.INST.createRectangle(ShapeFactory.INST.createPoint(10d, 10d), 100d, 50d);
+		final String code = cache.get(rec, origin, 50f).orElseThrow().code;
+		assertThat(cache.get(rec, ShapeFactory.INST.createPoint(5d, 5d), 50f).orElseThrow().code).isNotEqualTo(code);
+	}
+
+	@Test
+	void testRetainAll() {
+		final Rectangle rec1 = ShapeFactory.INST.createRectangle();
+		final Rectangle rec2 = ShapeFactory.INST.createRectangle();
+		cache.get(rec1, origin, 50f);
+		cache.get(rec2, origin, 50f);
+		cache.retainAll(List.of(rec2));
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void testClear() {
+		cache.get(ShapeFactory.INST.createRectangle(), origin, 50f);
+		cache.clear();
+		assertThat(cache.size()).isZero();
+	}
+}
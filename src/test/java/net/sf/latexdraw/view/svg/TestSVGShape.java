@@ -1,7 +1,65 @@
 package net.sf.latexdraw.view.svg;
 
+import net.sf.latexdraw.model.ShapeFactory;
+import net.sf.latexdraw.model.api.shape.FillingStyle;
+import net.sf.latexdraw.model.api.shape.Rectangle;
 import net.sf.latexdraw.model.api.shape.Shape;
+import net.sf.latexdraw.parser.svg.SVGAttributes;
+import net.sf.latexdraw.parser.svg.SVGElement;
+import net.sf.latexdraw.parser.svg.SVGElements;
+import net.sf.latexdraw.parser.svg.SVGPatternElement;
 import net.sf.latexdraw.view.PolymorphShapeTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class TestSVGShape extends TestSVGBase<Shape> implements PolymorphShapeTest {
+	Rectangle createHatchedRectangle(final double x) {
+		final Rectangle rec = ShapeFactory.INST.createRectangle(ShapeFactory.INST.createPoint(x, 10d), 200d, 300d);
+		rec.setFillingStyle(FillingStyle.CLINES);
+		rec.setHatchingsSep(8d);
+		rec.setHatchingsWidth(2d);
+		rec.setHatchingsAngle(0.5);
+		return rec;
+	}
+
+	@Test
+	void testSameHatchingsShareOnePattern() {
+		factory.createSVGElement(createHatchedRectangle(10d), doc);
+		factory.createSVGElement(createHatchedRectangle(500d), doc);
+		assertThat(doc.getFirstChild().getDefs().getChildren(SVGElements.SVG_PATTERN).getLength()).isEqualTo(1);
+	}
+
+	@Test
+	void testDifferentHatchingsDoNotSharePattern() {
+		final Rectangle rec = createHatchedRectangle(500d);
+		rec.setHatchingsSep(20d);
+		factory.createSVGElement(createHatchedRectangle(10d), doc);
+		factory.createSVGElement(rec, doc);
+		assertThat(doc.getFirstChild().getDefs().getChildren(SVGElements.SVG_PATTERN).getLength()).isEqualTo(2);
+	}
+
+	@Test
+	void testHatchingsPatternIsATile() {
+		factory.createSVGElement(createHatchedRectangle(10d), doc);
+		final SVGPatternElement pattern = (SVGPatternElement) doc.getFirstChild().getDefs().getChildren(SVGElements.SVG_PATTERN).item(0);
+		assertThat(pattern.getAttribute(SVGAttributes.SVG_WIDTH)).isEqualTo("10");
+		assertThat(pattern.getAttribute(SVGAttributes.SVG_HEIGHT)).isEqualTo("10");
+		assertThat(pattern.getAttribute(SVGAttributes.SVG_PATTERN_TRANSFORM)).startsWith("rotate(");
+	}
+
+	@Test
+	void testSharedHatchingsLoaded() {
+		final Rectangle rec1 = createHatchedRectangle(10d);
+		final Rectangle rec2 = createHatchedRectangle(500d);
+		final SVGElement elt1 = factory.createSVGElement(rec1, doc);
+		final SVGElement elt2 = factory.createSVGElement(rec2, doc);
+		doc.getFirstChild().appendChild(elt1);
+		doc.getFirstChild().appendChild(elt2);
+		final Shape sh = factory.createShape(elt2);
+		assertThat(sh.getFillingStyle()).isEqualTo(FillingStyle.CLINES);
+		assertThat(sh.getHatchingsSep()).isEqualTo(8d);
+		assertThat(sh.getHatchingsWidth()).isEqualTo(2d);
+		assertThat(sh.getHatchingsAngle()).isEqualTo(0.5);
+	}
 }